@@ -0,0 +1,68 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Formats failure counts per reason for result summaries, most frequent reason first.
+ */
+public final class FailureCounts {
+
+  private static final Comparator<Map.Entry<String, Long>> MOST_FREQUENT_FIRST =
+      Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+  private FailureCounts() {
+  }
+
+  /**
+   * Renders one {@code " - <count>x <reason>"} line per reason, ordered by count descending and then by reason.
+   *
+   * @param counts number of failures per reason
+   * @return formatted lines, empty without failures
+   */
+  public static List<String> lines(Map<String, Long> counts) {
+    return counts.entrySet().stream()
+        .sorted(MOST_FREQUENT_FIRST)
+        .map(entry -> " - " + entry.getValue() + "x " + entry.getKey())
+        .toList();
+  }
+
+  /**
+   * Renders a summary line followed by the {@linkplain #lines(Map) failure lines}, separated by the platform line
+   * separator.
+   *
+   * @param summary first line of the description
+   * @param counts  number of failures per reason
+   * @return multi-line description
+   */
+  public static String describe(String summary, Map<String, Long> counts) {
+    return String.join(System.lineSeparator(),
+        Stream.concat(Stream.of(summary), lines(counts).stream()).toList());
+  }
+}
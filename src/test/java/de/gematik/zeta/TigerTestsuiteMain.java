@@ -54,6 +54,7 @@ public final class TigerTestsuiteMain {
   private static final String DEFAULT_GLUE = "de.gematik.test.tiger.glue,de.gematik.zeta";
   private static final String CUCUMBER_OUTPUT_DIR_PROPERTY = "zeta.cucumber.outputDirectory";
   private static final String DEFAULT_CUCUMBER_OUTPUT_DIR = "target/cucumber-parallel";
+  private static final String PARALLELISM_PROPERTY = "zeta.cucumber.parallelism";
 
   private TigerTestsuiteMain() {
     // utility class
@@ -111,6 +112,8 @@ public final class TigerTestsuiteMain {
       builder.configurationParameter("cucumber.filter.tags", tags);
     }
 
+    configureParallelExecution(builder);
+
     var request = builder
         .selectors(selectors)
         .build();
@@ -131,6 +134,36 @@ public final class TigerTestsuiteMain {
     }
   }
 
+  /**
+   * Enable parallel scenario execution when more than one thread is configured. Scenarios tagged with a mutating or
+   * load tag still run alone via the exclusive resources declared in {@code junit-platform.properties}, and scenarios
+   * tagged {@code @tiger_proxy} never overlap with any other scenario, so only {@code @no_proxy} scenarios run in
+   * parallel.
+   *
+   * @param builder discovery request to configure
+   */
+  private static void configureParallelExecution(LauncherDiscoveryRequestBuilder builder) {
+    var configured = System.getProperty(PARALLELISM_PROPERTY);
+    if (!isNonBlank(configured)) {
+      return;
+    }
+
+    int parallelism;
+    try {
+      parallelism = Integer.parseInt(configured.trim());
+    } catch (NumberFormatException ex) {
+      throw new IllegalArgumentException("Invalid " + PARALLELISM_PROPERTY + ": " + configured, ex);
+    }
+    if (parallelism <= 1) {
+      return;
+    }
+
+    builder.configurationParameter("cucumber.execution.parallel.enabled", "true")
+        .configurationParameter("cucumber.execution.parallel.config.strategy", "fixed")
+        .configurationParameter("cucumber.execution.parallel.config.fixed.parallelism", String.valueOf(parallelism))
+        .configurationParameter("cucumber.execution.parallel.config.fixed.max-pool-size", String.valueOf(parallelism));
+  }
+
   /**
    * Map common environment variables to system properties expected by Tiger/Cucumber.
    */
@@ -145,6 +178,7 @@ public final class TigerTestsuiteMain {
     setIfAbsent("PROFILE", env.get("PROFILE"));
     setIfAbsent("cucumber.filter.tags",
         firstNonEmpty(env.get("CUCUMBER_FILTER_TAGS"), env.get("CUCUMBER_TAGS")));
+    setIfAbsent(PARALLELISM_PROPERTY, env.get("CUCUMBER_PARALLELISM"));
     setIfAbsent("tiger.testenv.cfgfile",
         firstNonEmpty(env.get("TIGER_TESTENV_CFGFILE"), existingTigerConfigPath()));
     setIfAbsent("serenity.outputDirectory",
@@ -177,7 +211,8 @@ public final class TigerTestsuiteMain {
         + ",json:" + cucumberOutputDir + "/main.json"
         + ",junit:" + cucumberOutputDir + "/cucumber.xml"
         + ",io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
-        + ",de.gematik.zeta.traceability.RuntimeCoveragePlugin";
+        + ",de.gematik.zeta.traceability.RuntimeCoveragePlugin"
+        + ",de.gematik.zeta.traceability.StepTimingProfilerPlugin";
   }
 
   /**
@@ -0,0 +1,338 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Paced background reset of load-driver instances running alongside a JMeter load phase.
+ *
+ * <p>A single pacer thread releases one reset per slot of {@code 1 / targetPerSecond} seconds and
+ * walks the instances round-robin; resets run on virtual threads, bounded by {@code concurrency}.
+ * Slots that cannot be served because all permits are busy are dropped instead of being caught up
+ * in a burst, and counted as missed. Every reset is recorded as a sample that can be written to a
+ * companion JTL file next to the run JTL; {@link JtlSummarizer} adds them to the run summary under
+ * their own label without shifting the load window or the rows of the run itself.</p>
+ */
+@Slf4j
+public class BackgroundResetScheduler {
+
+  /**
+   * Label used for reset samples in JTL and summary files.
+   */
+  public static final String LABEL = "Background Reset";
+
+  private final HttpClient client;
+  private final List<URI> targets;
+  private final int targetPerSecond;
+  private final int concurrency;
+  private final Duration requestTimeout;
+  private final Semaphore permits;
+  private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+  private final ConcurrentLinkedQueue<ResetSample> samples = new ConcurrentLinkedQueue<>();
+  private final LongAdder missedSlots = new LongAdder();
+
+  private volatile boolean stopped;
+  private Thread pacer;
+  private long startedMs;
+
+  /**
+   * Creates a scheduler for the given reset targets.
+   *
+   * @param client          HTTP client of the load driver
+   * @param targets         reset URIs, visited round-robin
+   * @param targetPerSecond target resets per second; {@code 0} runs unpaced, limited only by concurrency
+   * @param concurrency     maximum number of resets in flight
+   * @param requestTimeout  timeout of a single reset request
+   */
+  public BackgroundResetScheduler(
+      HttpClient client,
+      List<URI> targets,
+      int targetPerSecond,
+      int concurrency,
+      Duration requestTimeout) {
+    if (targets.isEmpty()) {
+      throw new IllegalArgumentException("Background reset requires at least one target");
+    }
+    this.client = client;
+    this.targets = List.copyOf(targets);
+    this.targetPerSecond = Math.max(0, targetPerSecond);
+    this.concurrency = Math.max(1, Math.min(concurrency, targets.size()));
+    this.requestTimeout = requestTimeout;
+    this.permits = new Semaphore(this.concurrency);
+  }
+
+  /**
+   * Starts the pacer thread.
+   */
+  public synchronized void start() {
+    if (pacer != null) {
+      throw new IllegalStateException("Background reset scheduler already started");
+    }
+    startedMs = System.currentTimeMillis();
+    pacer = Thread.ofVirtual().name("background-reset").start(this::pace);
+    log.info("Background reset started: instances={}, targetPerSecond={}, concurrency={}",
+        targets.size(), targetPerSecond == 0 ? "unpaced" : targetPerSecond, concurrency);
+  }
+
+  /**
+   * Stops pacing, waits for in-flight resets and returns the collected statistics.
+   *
+   * @return reset statistics
+   */
+  public synchronized ResetStats stop() {
+    stopped = true;
+    if (pacer != null) {
+      pacer.interrupt();
+      try {
+        pacer.join(Duration.ofSeconds(5));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(requestTimeout.toMillis() + 1000L, TimeUnit.MILLISECONDS)) {
+        workers.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      workers.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+
+    ResetStats stats = ResetStats.of(List.copyOf(samples), missedSlots.sum(),
+        Math.max(1L, System.currentTimeMillis() - startedMs));
+    log.info("Background reset stopped: {}", stats.describe());
+    return stats;
+  }
+
+  /**
+   * Returns a snapshot of all samples recorded so far.
+   *
+   * @return recorded samples
+   */
+  public List<ResetSample> samples() {
+    return List.copyOf(samples);
+  }
+
+  /**
+   * Returns the companion JTL file that holds the reset samples of a run.
+   *
+   * @param runJtl JTL file written by JMeter
+   * @return sibling file named {@code <run>-background-reset.jtl}
+   */
+  public static Path companionJtl(Path runJtl) {
+    String fileName = runJtl.getFileName().toString();
+    int dot = fileName.lastIndexOf('.');
+    String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+    return runJtl.resolveSibling(baseName + "-background-reset.jtl");
+  }
+
+  /**
+   * Writes all recorded samples to the {@linkplain #companionJtl(Path) companion JTL} of a run,
+   * using the header of the run JTL and filling only the columns the summarizer reads. The run JTL
+   * itself is left untouched.
+   *
+   * @param runJtl existing JTL file written by JMeter
+   * @return the written companion file, or {@code null} if there was nothing to write
+   * @throws IOException if the run JTL cannot be read or the companion file cannot be written
+   */
+  public Path writeJtl(Path runJtl) throws IOException {
+    List<ResetSample> sorted = new ArrayList<>(samples);
+    if (sorted.isEmpty() || !Files.exists(runJtl)) {
+      return null;
+    }
+    sorted.sort(Comparator.comparingLong(ResetSample::timestamp));
+
+    String headerLine;
+    try (var reader = Files.newBufferedReader(runJtl, StandardCharsets.UTF_8)) {
+      headerLine = reader.readLine();
+    }
+    if (headerLine == null || headerLine.isBlank()) {
+      return null;
+    }
+    String separator = headerLine.contains(",") ? "," : headerLine.contains(";") ? ";" : "\t";
+    String[] headers = headerLine.split(separator, -1);
+
+    StringBuilder rows = new StringBuilder(headerLine).append(System.lineSeparator());
+    for (ResetSample sample : sorted) {
+      String[] cells = new String[headers.length];
+      for (int i = 0; i < headers.length; i++) {
+        cells[i] = switch (headers[i].trim()) {
+          case "timeStamp" -> Long.toString(sample.timestamp());
+          case "elapsed", "Latency" -> Long.toString(sample.elapsedMs());
+          case "label" -> LABEL;
+          case "responseCode" -> sample.responseCode();
+          case "success" -> Boolean.toString(sample.success());
+          case "threadName" -> "background-reset";
+          default -> "";
+        };
+      }
+      rows.append(String.join(separator, cells)).append(System.lineSeparator());
+    }
+    Path companion = companionJtl(runJtl);
+    Files.writeString(companion, rows, StandardCharsets.UTF_8);
+    log.info("Wrote {} background reset samples to {}", sorted.size(), companion.getFileName());
+    return companion;
+  }
+
+  private void pace() {
+    long intervalNanos = targetPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / targetPerSecond : 0L;
+    long nextSlot = System.nanoTime();
+    int index = 0;
+
+    while (!stopped) {
+      if (intervalNanos > 0) {
+        long waitNanos = nextSlot - System.nanoTime();
+        if (waitNanos > 0) {
+          LockSupport.parkNanos(waitNanos);
+          continue;
+        }
+        long slotsBehind = -waitNanos / intervalNanos;
+        if (slotsBehind > 0) {
+          missedSlots.add(slotsBehind);
+          nextSlot += slotsBehind * intervalNanos;
+        }
+        nextSlot += intervalNanos;
+        if (!permits.tryAcquire()) {
+          // All resets in flight: drop the slot instead of bursting later.
+          missedSlots.increment();
+          continue;
+        }
+      } else {
+        try {
+          permits.acquire();
+        } catch (InterruptedException e) {
+          break;
+        }
+      }
+      if (stopped) {
+        permits.release();
+        break;
+      }
+
+      URI target = targets.get(index);
+      index = (index + 1) % targets.size();
+      workers.execute(() -> {
+        try {
+          reset(target);
+        } finally {
+          permits.release();
+        }
+      });
+    }
+  }
+
+  private void reset(URI target) {
+    long timestamp = System.currentTimeMillis();
+    long startedNanos = System.nanoTime();
+    try {
+      HttpRequest request = HttpRequest.newBuilder(target).timeout(requestTimeout).GET().build();
+      int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      samples.add(new ResetSample(timestamp, elapsedMs(startedNanos), Integer.toString(status),
+          status >= 200 && status < 300));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      samples.add(new ResetSample(timestamp, elapsedMs(startedNanos), e.getClass().getSimpleName(), false));
+      log.debug("Background reset failed for {}: {}", target, e.getMessage());
+    }
+  }
+
+  private static long elapsedMs(long startedNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+  }
+
+  /**
+   * One reset request.
+   *
+   * @param timestamp    request start in epoch millis
+   * @param elapsedMs    request duration
+   * @param responseCode HTTP status or exception name
+   * @param success      whether the reset returned 2xx
+   */
+  public record ResetSample(long timestamp, long elapsedMs, String responseCode, boolean success) {
+
+  }
+
+  /**
+   * Aggregated reset statistics.
+   *
+   * @param count       number of completed resets
+   * @param errors      number of failed resets
+   * @param avgMs       average latency
+   * @param p95Ms       95th percentile latency
+   * @param maxMs       maximum latency
+   * @param perSecond   achieved resets per second
+   * @param missedSlots pacing slots dropped because all permits were busy
+   */
+  public record ResetStats(long count, long errors, double avgMs, double p95Ms, long maxMs, double perSecond,
+                           long missedSlots) {
+
+    static ResetStats of(List<ResetSample> samples, long missedSlots, long runtimeMs) {
+      double[] elapsed = samples.stream().mapToDouble(ResetSample::elapsedMs).toArray();
+      long errors = samples.stream().filter(s -> !s.success()).count();
+      return new ResetStats(
+          samples.size(),
+          errors,
+          samples.stream().mapToLong(ResetSample::elapsedMs).average().orElse(0d),
+          elapsed.length == 0 ? 0d : CsvUtils.percentile(elapsed, 0.95),
+          samples.stream().mapToLong(ResetSample::elapsedMs).max().orElse(0L),
+          samples.size() / (runtimeMs / 1000d),
+          missedSlots);
+    }
+
+    /**
+     * Returns a one-line description for logs and reports.
+     *
+     * @return human-readable statistics
+     */
+    public String describe() {
+      return String.format(Locale.ROOT,
+          "resets=%d, errors=%d, rate=%.1f/s, avg=%.1f ms, p95=%.1f ms, max=%d ms, missedSlots=%d",
+          count, errors, perSecond, avgMs, p95Ms, maxMs, missedSlots);
+    }
+  }
+}
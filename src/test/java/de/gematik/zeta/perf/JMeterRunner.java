@@ -25,10 +25,12 @@
 package de.gematik.zeta.perf;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -45,6 +47,7 @@ public class JMeterRunner {
 
   private static final String JMETER_HOME = "tools/apache-jmeter-5.6.3";
   private final String jmeterCommand;
+  private final JtlSummarizer jtlSummarizer = new JtlSummarizer();
 
   /**
    * Constructor which sets the jmeterCommand.
@@ -57,9 +60,11 @@ public class JMeterRunner {
    * Executes a JMeter test with the given configuration.
    *
    * @param config test configuration including plan template, properties, and output settings
+   * @return wall-clock interval of the load phase; taken from the JTL samples when available, else
+   *     from the JMeter process lifetime
    * @throws Exception if template rendering, execution, or I/O operations fail
    */
-  public void runTest(JMeterTestConfig config) throws Exception {
+  public LoadWindow runTest(JMeterTestConfig config) throws Exception {
     log.info("Starting JMeter test: plan={}, targetRps={}",
         config.getPlanTemplate().getFileName(), config.getTargetRps());
 
@@ -67,11 +72,16 @@ public class JMeterRunner {
     List<String> command = buildCommand(renderedPlan, config);
 
     createOutputDirectories(config);
+    Instant processStarted = Instant.now();
     executeJMeter(command);
+    LoadWindow processWindow = new LoadWindow(processStarted, Instant.now());
     verifyExpectedOutputs(config);
     logResults(config);
 
-    log.info("JMeter test completed successfully");
+    LoadWindow loadWindow = resolveLoadWindow(config, processWindow);
+    log.info("JMeter test completed successfully: loadStart={}, loadEnd={}, duration={}",
+        loadWindow.start(), loadWindow.end(), loadWindow.duration());
+    return loadWindow;
   }
 
   /**
@@ -410,6 +420,23 @@ public class JMeterRunner {
     }
   }
 
+  /**
+   * Narrows the process lifetime to the sampled interval of the JTL, which excludes JVM startup and
+   * plan parsing.
+   */
+  private LoadWindow resolveLoadWindow(JMeterTestConfig config, LoadWindow processWindow) {
+    if (config.getJtlOutput() == null || !Files.exists(config.getJtlOutput())) {
+      return processWindow;
+    }
+    try {
+      return jtlSummarizer.loadWindow(config.getJtlOutput());
+    } catch (IOException | IllegalArgumentException e) {
+      log.warn("Could not derive load window from {} ({}); using JMeter process lifetime",
+          config.getJtlOutput().getFileName(), e.getMessage());
+      return processWindow;
+    }
+  }
+
   private void verifyExpectedOutputs(JMeterTestConfig config) {
     if (config.getJtlOutput() == null) {
       return;
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,7 +48,9 @@ public class JtlSummarizer {
   private static final String[] REQUIRED_HEADERS = {"timeStamp", "elapsed", "label", "success"};
 
   /**
-   * Summarizes a JTL file into a compact per-label CSV.
+   * Summarizes a JTL file into a compact per-label CSV. Samples of a background reset written to the
+   * {@linkplain BackgroundResetScheduler#companionJtl(Path) companion JTL} of the run are added under their own
+   * label, so the reset load is reported without entering the rows or the load window of the run itself.
    *
    * @param jtlFile     source JTL file
    * @param summaryFile target CSV (created/overwritten)
@@ -56,7 +59,11 @@ public class JtlSummarizer {
   public void summarize(Path jtlFile, Path summaryFile) throws IOException {
     FileUtils.requireFileExists(jtlFile);
 
-    List<JtlRecord> records = parseJtlFile(jtlFile);
+    List<JtlRecord> records = new ArrayList<>(parseJtlFile(jtlFile));
+    Path resetJtl = BackgroundResetScheduler.companionJtl(jtlFile);
+    if (!resetJtl.equals(jtlFile) && Files.exists(resetJtl)) {
+      records.addAll(parseJtlFile(resetJtl));
+    }
     if (records.isEmpty()) {
       log.warn("No valid records found in JTL file: {}", jtlFile);
       return;
@@ -71,6 +78,27 @@ public class JtlSummarizer {
         jtlFile.getFileName(), summaryFile.getFileName(), byLabel.size(), records.size());
   }
 
+  /**
+   * Determines the wall-clock interval covered by a JTL file, from the first sample start to the
+   * latest sample completion.
+   *
+   * @param jtlFile source JTL file
+   * @return exact load window of the run
+   * @throws IOException if reading fails or the file contains no valid records
+   */
+  public LoadWindow loadWindow(Path jtlFile) throws IOException {
+    FileUtils.requireFileExists(jtlFile);
+
+    List<JtlRecord> records = parseJtlFile(jtlFile);
+    if (records.isEmpty()) {
+      throw new IOException("No valid records found in JTL file: " + jtlFile);
+    }
+
+    long startMs = records.stream().mapToLong(JtlRecord::timestamp).min().orElseThrow();
+    long endMs = records.stream().mapToLong(r -> r.timestamp() + r.elapsed()).max().orElseThrow();
+    return new LoadWindow(Instant.ofEpochMilli(startMs), Instant.ofEpochMilli(endMs));
+  }
+
   /**
    * Parses a JTL file (CSV/TSV) into records.
    *
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import de.gematik.zeta.Metric;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Response-time distributions grouped by a key such as the request path, one {@link LatencyHistogram} per group.
+ *
+ * <p>Samples are recorded in a single pass over a message history; assertions and reports are evaluated from the
+ * histograms afterwards. Not thread-safe.</p>
+ */
+public final class LatencyDistribution {
+
+  private final Map<String, LatencyHistogram> groups = new TreeMap<>();
+  private long skipped;
+
+  /**
+   * Records one response time.
+   *
+   * @param group    group key, e.g. request path
+   * @param duration measured response time
+   */
+  public void record(String group, Duration duration) {
+    groups.computeIfAbsent(group, key -> new LatencyHistogram()).record(duration.toNanos() / 1_000);
+  }
+
+  /**
+   * Counts a pair that could not be measured, e.g. because a timing facet is missing.
+   */
+  public void skip() {
+    skipped++;
+  }
+
+  /**
+   * Returns the histograms by group.
+   *
+   * @return groups sorted by key
+   */
+  public Map<String, LatencyHistogram> groups() {
+    return groups;
+  }
+
+  /**
+   * Returns the number of pairs that could not be measured.
+   *
+   * @return skipped pair count
+   */
+  public long skipped() {
+    return skipped;
+  }
+
+  /**
+   * Returns the total number of recorded samples.
+   *
+   * @return sample count over all groups
+   */
+  public long count() {
+    return groups.values().stream().mapToLong(LatencyHistogram::count).sum();
+  }
+
+  /**
+   * Lists all groups whose metric exceeds the threshold.
+   *
+   * @param metric pNN, min, max or avg
+   * @param maxMs  maximum allowed value in milliseconds
+   * @return one description per violating group, empty if all groups comply
+   */
+  public List<String> violations(Metric metric, double maxMs) {
+    var violations = new ArrayList<String>();
+    groups.forEach((group, histogram) -> {
+      var value = histogram.millis(metric);
+      if (value > maxMs) {
+        violations.add(String.format(Locale.ROOT, "%s: %s = %.1f ms > %.1f ms (%d samples)",
+            group, metricName(metric), value, maxMs, histogram.count()));
+      }
+    });
+    return violations;
+  }
+
+  /**
+   * Renders one line per group with count, mean, p50, p90, p95, p99 and max.
+   *
+   * @return human-readable table
+   */
+  public String describe() {
+    var lines = new ArrayList<String>();
+    lines.add(String.format(Locale.ROOT, "%d response times in %d groups (%d pairs without timing)",
+        count(), groups.size(), skipped));
+    groups.forEach((group, histogram) -> lines.add(String.format(Locale.ROOT,
+        "%s: n=%d avg=%.1f p50=%.1f p90=%.1f p95=%.1f p99=%.1f max=%.1f ms",
+        group, histogram.count(), histogram.millis(Metric.avg()), histogram.millis(Metric.percentile(0.50)),
+        histogram.millis(Metric.percentile(0.90)), histogram.millis(Metric.percentile(0.95)),
+        histogram.millis(Metric.percentile(0.99)), histogram.millis(Metric.max()))));
+    return String.join(System.lineSeparator(), lines);
+  }
+
+  private static String metricName(Metric metric) {
+    return switch (metric.type()) {
+      case PERCENTILE -> "p" + Math.round(metric.percentile() * 100);
+      case AVG -> "avg";
+      case MAX -> "max";
+      case MIN -> "min";
+    };
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import de.gematik.zeta.Metric;
+import java.util.Arrays;
+
+/**
+ * Log-linear latency histogram over microsecond values, backed by a single {@code long[]}.
+ *
+ * <p>Values below 128 µs are counted exactly; above that every power of two is split into 64 buckets, so a
+ * reported percentile is at most 1.6% above the recorded value. Count, sum, minimum and maximum are exact. Recording
+ * allocates only when the value range grows, so millions of samples can be aggregated in one pass. Not
+ * thread-safe.</p>
+ */
+public final class LatencyHistogram {
+
+  private static final int EXACT_LIMIT = 128;
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int FIRST_LOG_EXPONENT = 7;
+
+  private long[] counts = new long[EXACT_LIMIT];
+  private long count;
+  private long sumMicros;
+  private long minMicros = Long.MAX_VALUE;
+  private long maxMicros;
+
+  /**
+   * Records one latency sample.
+   *
+   * @param micros latency in microseconds; negative values are recorded as zero
+   */
+  public void record(long micros) {
+    var value = Math.max(0, micros);
+    var index = bucketIndex(value);
+    if (index >= counts.length) {
+      counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+    }
+    counts[index]++;
+    count++;
+    sumMicros += value;
+    minMicros = Math.min(minMicros, value);
+    maxMicros = Math.max(maxMicros, value);
+  }
+
+  /**
+   * Adds all samples of another histogram, e.g. to combine per-thread histograms.
+   *
+   * @param other histogram to add; not modified
+   */
+  public void merge(LatencyHistogram other) {
+    if (other.count == 0) {
+      return;
+    }
+    if (other.counts.length > counts.length) {
+      counts = Arrays.copyOf(counts, other.counts.length);
+    }
+    for (int i = 0; i < other.counts.length; i++) {
+      counts[i] += other.counts[i];
+    }
+    count += other.count;
+    sumMicros += other.sumMicros;
+    minMicros = Math.min(minMicros, other.minMicros);
+    maxMicros = Math.max(maxMicros, other.maxMicros);
+  }
+
+  /**
+   * Returns the number of recorded samples.
+   *
+   * @return sample count
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Returns the smallest recorded sample.
+   *
+   * @return minimum in microseconds, 0 if empty
+   */
+  public long minMicros() {
+    return count == 0 ? 0 : minMicros;
+  }
+
+  /**
+   * Returns the largest recorded sample.
+   *
+   * @return maximum in microseconds, 0 if empty
+   */
+  public long maxMicros() {
+    return maxMicros;
+  }
+
+  /**
+   * Returns the arithmetic mean of all samples.
+   *
+   * @return mean in microseconds, 0 if empty
+   */
+  public double meanMicros() {
+    return count == 0 ? 0 : (double) sumMicros / count;
+  }
+
+  /**
+   * Returns the value at or below which the given fraction of samples lies (nearest rank).
+   *
+   * @param percentile fraction in [0..1], e.g. 0.95
+   * @return upper bound of the bucket holding the sample of that rank, capped at the maximum; 0 if empty
+   */
+  public long percentileMicros(double percentile) {
+    if (count == 0) {
+      return 0;
+    }
+    var rank = Math.max(1, (long) Math.ceil(percentile * count));
+    if (rank >= count) {
+      return maxMicros;
+    }
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(Math.max(bucketUpperBound(i), minMicros), maxMicros);
+      }
+    }
+    return maxMicros;
+  }
+
+  /**
+   * Evaluates a statistical metric.
+   *
+   * @param metric pNN, min, max or avg
+   * @return metric value in milliseconds
+   */
+  public double millis(Metric metric) {
+    double micros = switch (metric.type()) {
+      case PERCENTILE -> percentileMicros(metric.percentile());
+      case MAX -> maxMicros();
+      case MIN -> minMicros();
+      case AVG -> meanMicros();
+    };
+    return micros / 1_000.0;
+  }
+
+  private static int bucketIndex(long value) {
+    if (value < EXACT_LIMIT) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BUCKET_BITS;
+    return EXACT_LIMIT + (exponent - FIRST_LOG_EXPONENT) * SUB_BUCKETS + (int) ((value >> shift) - SUB_BUCKETS);
+  }
+
+  private static long bucketUpperBound(int index) {
+    if (index < EXACT_LIMIT) {
+      return index;
+    }
+    int exponent = FIRST_LOG_EXPONENT + (index - EXACT_LIMIT) / SUB_BUCKETS;
+    int shift = exponent - SUB_BUCKET_BITS;
+    long subBucket = SUB_BUCKETS + (index - EXACT_LIMIT) % SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Wall-clock interval during which a load run actually produced traffic.
+ *
+ * <p>A window merged from several waves still covers first request to last response, but its
+ * {@code activeDuration} only sums the waves themselves, so idle time between waves does not dilute
+ * rates derived from it.</p>
+ *
+ * @param start          first request sent by the load driver
+ * @param end            last response received by the load driver
+ * @param activeDuration time during which load was actually applied, at most {@code end - start}
+ */
+public record LoadWindow(Instant start, Instant end, Duration activeDuration) {
+
+  /**
+   * Configuration key holding the start of the last load run in epoch milliseconds.
+   */
+  public static final String START_MS_KEY = "perf.loadWindow.startMs";
+
+  /**
+   * Configuration key holding the end of the last load run in epoch milliseconds.
+   */
+  public static final String END_MS_KEY = "perf.loadWindow.endMs";
+
+  /**
+   * Configuration key holding the active duration of the last load run in whole seconds (rounded up).
+   */
+  public static final String DURATION_S_KEY = "perf.loadWindow.durationS";
+
+  /**
+   * Configuration key holding the active duration of the last load run in milliseconds.
+   */
+  public static final String ACTIVE_MS_KEY = "perf.loadWindow.activeMs";
+
+  /**
+   * Validates that the window is not reversed and the active duration fits into it.
+   *
+   * @param start          window start
+   * @param end            window end
+   * @param activeDuration time during which load was applied
+   */
+  public LoadWindow {
+    Objects.requireNonNull(start, "start");
+    Objects.requireNonNull(end, "end");
+    Objects.requireNonNull(activeDuration, "activeDuration");
+    if (end.isBefore(start)) {
+      throw new IllegalArgumentException("Load window end " + end + " is before start " + start);
+    }
+    if (activeDuration.isNegative() || activeDuration.compareTo(Duration.between(start, end)) > 0) {
+      throw new IllegalArgumentException("Active duration " + activeDuration + " does not fit into load window "
+          + start + ".." + end);
+    }
+  }
+
+  /**
+   * Creates a window of a single continuous run, active for its whole length.
+   *
+   * @param start window start
+   * @param end   window end
+   */
+  public LoadWindow(Instant start, Instant end) {
+    this(start, end, start != null && end != null && !end.isBefore(start) ? Duration.between(start, end) : Duration.ZERO);
+  }
+
+  /**
+   * Returns the wall-clock length of the window, including idle time between merged waves.
+   *
+   * @return window duration
+   */
+  public Duration duration() {
+    return Duration.between(start, end);
+  }
+
+  /**
+   * Returns the active duration in whole seconds, rounded up and at least one.
+   *
+   * @return active duration in seconds
+   */
+  public long durationSecondsCeil() {
+    long millis = activeDuration.toMillis();
+    return Math.max(1L, (millis + 999L) / 1000L);
+  }
+
+  /**
+   * Returns the smallest window covering both this and the other window, active for the sum of both
+   * active durations.
+   *
+   * @param other window to merge
+   * @return merged window
+   */
+  public LoadWindow span(LoadWindow other) {
+    if (other == null) {
+      return this;
+    }
+    Instant mergedStart = start.isBefore(other.start) ? start : other.start;
+    Instant mergedEnd = end.isAfter(other.end) ? end : other.end;
+    Duration mergedActive = activeDuration.plus(other.activeDuration);
+    Duration mergedLength = Duration.between(mergedStart, mergedEnd);
+    return new LoadWindow(mergedStart, mergedEnd,
+        mergedActive.compareTo(mergedLength) > 0 ? mergedLength : mergedActive);
+  }
+}
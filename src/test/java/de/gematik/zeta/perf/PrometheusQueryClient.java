@@ -0,0 +1,428 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+
+package de.gematik.zeta.perf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prometheus instant-query client that evaluates all queries of one snapshot at the same timestamp.
+ *
+ * <p>The evaluation time is pinned by the first query (or explicitly via
+ * {@link #pinEvaluationTime(Instant)}) and passed as {@code time=} parameter, so every assertion of a
+ * scenario sees the same data. Identical PromQL expressions are sent only once per snapshot;
+ * independent expressions are sent concurrently.</p>
+ *
+ * <p>Range queries ({@code query_range}) take an explicit interval and are sent concurrently as well;
+ * their endpoint is derived from the instant-query endpoint.</p>
+ */
+@Slf4j
+public class PrometheusQueryClient {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private final HttpClient httpClient;
+  private final Supplier<String> endpointSupplier;
+  private final Duration requestTimeout;
+  private final Clock clock;
+  private final Map<String, CompletableFuture<Double>> scalarCache = new ConcurrentHashMap<>();
+
+  private Instant evaluationTime;
+
+  /**
+   * Creates a client resolving the query endpoint lazily for every request.
+   *
+   * @param httpClient       HTTP client used for all requests
+   * @param endpointSupplier supplier of the instant-query endpoint, e.g. {@code .../api/v1/query}
+   * @param requestTimeout   timeout applied to every request
+   */
+  public PrometheusQueryClient(HttpClient httpClient, Supplier<String> endpointSupplier, Duration requestTimeout) {
+    this(httpClient, endpointSupplier, requestTimeout, Clock.systemUTC());
+  }
+
+  /**
+   * Creates a client with an explicit clock for pinning evaluation times.
+   *
+   * @param httpClient       HTTP client used for all requests
+   * @param endpointSupplier supplier of the instant-query endpoint
+   * @param requestTimeout   timeout applied to every request
+   * @param clock            clock used when the first query pins the evaluation time
+   */
+  public PrometheusQueryClient(
+      HttpClient httpClient,
+      Supplier<String> endpointSupplier,
+      Duration requestTimeout,
+      Clock clock) {
+    this.httpClient = httpClient;
+    this.endpointSupplier = endpointSupplier;
+    this.requestTimeout = requestTimeout;
+    this.clock = clock;
+  }
+
+  /**
+   * Returns the evaluation time of the current snapshot, pinning it to "now" if not yet set.
+   *
+   * @return evaluation timestamp used for all cached queries
+   */
+  public synchronized Instant evaluationTime() {
+    if (evaluationTime == null) {
+      evaluationTime = clock.instant();
+    }
+    return evaluationTime;
+  }
+
+  /**
+   * Starts a new snapshot at the given evaluation time and drops all cached results.
+   *
+   * @param time evaluation timestamp for subsequent queries
+   */
+  public synchronized void pinEvaluationTime(Instant time) {
+    evaluationTime = time;
+    scalarCache.clear();
+  }
+
+  /**
+   * Drops the current snapshot; the next query pins a fresh evaluation time.
+   */
+  public synchronized void resetSnapshot() {
+    evaluationTime = null;
+    scalarCache.clear();
+  }
+
+  /**
+   * Executes (or reuses) a single scalar instant query.
+   *
+   * @param promQl PromQL expression
+   * @return scalar value, or {@code null} if Prometheus returned no series
+   * @throws IOException if the request or parsing fails
+   */
+  public Double queryScalar(String promQl) throws IOException {
+    return queryScalars(List.of(promQl)).get(promQl);
+  }
+
+  /**
+   * Executes the given queries concurrently, reusing results already fetched for this snapshot.
+   *
+   * @param promQls PromQL expressions; duplicates are sent only once
+   * @return results keyed by expression in input order; values may be {@code null}
+   * @throws IOException if any request or parsing fails
+   */
+  public Map<String, Double> queryScalars(Collection<String> promQls) throws IOException {
+    var distinct = new LinkedHashSet<>(promQls);
+    Map<String, CompletableFuture<Double>> pending = new LinkedHashMap<>();
+    for (String promQl : distinct) {
+      pending.put(promQl, queryScalarAsync(promQl));
+    }
+
+    Map<String, Double> results = new LinkedHashMap<>();
+    for (var entry : pending.entrySet()) {
+      results.put(entry.getKey(), await(entry.getValue()));
+    }
+    return results;
+  }
+
+  /**
+   * Starts (or reuses) an asynchronous scalar instant query for the current snapshot.
+   *
+   * @param promQl PromQL expression
+   * @return future completing with the scalar value or {@code null}
+   */
+  public CompletableFuture<Double> queryScalarAsync(String promQl) {
+    var time = evaluationTime();
+    var future = scalarCache.computeIfAbsent(promQl, key -> sendScalarQuery(key, time));
+    // Failed queries must not poison the snapshot; a later assertion may retry.
+    future.whenComplete((value, error) -> {
+      if (error != null) {
+        scalarCache.remove(promQl, future);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Executes a scalar instant query at an explicit time, bypassing the snapshot cache.
+   *
+   * @param promQl PromQL expression
+   * @param time   evaluation timestamp
+   * @return scalar value, or {@code null} if Prometheus returned no series
+   * @throws IOException if the request or parsing fails
+   */
+  public Double queryScalarAt(String promQl, Instant time) throws IOException {
+    return await(sendScalarQuery(promQl, time));
+  }
+
+  /**
+   * Executes several range queries concurrently over the same interval and step.
+   *
+   * <p>Range queries are independent of the instant snapshot: their interval is given explicitly, so
+   * results are not cached.</p>
+   *
+   * @param promQls PromQL expressions keyed by a caller-chosen name
+   * @param start   first evaluation timestamp
+   * @param end     last evaluation timestamp (inclusive)
+   * @param step    resolution step
+   * @return series keyed like the input; each series maps epoch millis to the sample value
+   * @throws IOException if any request or parsing fails
+   */
+  public Map<String, NavigableMap<Long, Double>> queryRanges(
+      Map<String, String> promQls,
+      Instant start,
+      Instant end,
+      Duration step) throws IOException {
+    Map<String, CompletableFuture<NavigableMap<Long, Double>>> pending = new LinkedHashMap<>();
+    for (var entry : promQls.entrySet()) {
+      pending.put(entry.getKey(), sendRangeQuery(entry.getValue(), start, end, step));
+    }
+
+    Map<String, NavigableMap<Long, Double>> results = new LinkedHashMap<>();
+    for (var entry : pending.entrySet()) {
+      results.put(entry.getKey(), await(entry.getValue()));
+    }
+    return results;
+  }
+
+  private CompletableFuture<NavigableMap<Long, Double>> sendRangeQuery(
+      String promQl, Instant start, Instant end, Duration step) {
+    String endpoint = rangeEndpoint(endpointSupplier.get());
+    log.info("[PROMETHEUS RANGE QUERY] endpoint={} start={} end={} step={} query={}", endpoint, start, end, step, promQl);
+    var uri = URI.create(endpoint
+        + "?query=" + URLEncoder.encode(promQl, StandardCharsets.UTF_8)
+        + "&start=" + formatTime(start)
+        + "&end=" + formatTime(end)
+        + "&step=" + formatTime(Instant.EPOCH.plus(step)));
+    return send(uri, promQl).thenApply(body -> {
+      try {
+        return parseMatrix(body, promQl);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  private CompletableFuture<String> send(URI uri, String promQl) {
+    var request = HttpRequest.newBuilder(uri)
+        .timeout(requestTimeout)
+        .header("Accept-Encoding", "gzip")
+        .GET()
+        .build();
+
+    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+        .thenApply(response -> {
+          if (response.statusCode() != 200) {
+            throw new IllegalStateException(
+                "Prometheus returned HTTP " + response.statusCode() + " for query: " + promQl);
+          }
+          try {
+            return decodeBody(response.body(), response.headers().firstValue("Content-Encoding").orElse(""));
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  /**
+   * Derives the {@code query_range} endpoint from the configured instant-query endpoint.
+   *
+   * @param instantEndpoint endpoint ending in {@code /query}
+   * @return matching range endpoint
+   */
+  static String rangeEndpoint(String instantEndpoint) {
+    if (instantEndpoint.endsWith("/query")) {
+      return instantEndpoint + "_range";
+    }
+    throw new IllegalStateException("Cannot derive Prometheus range endpoint from " + instantEndpoint);
+  }
+
+  private CompletableFuture<Double> sendScalarQuery(String promQl, Instant time) {
+    String endpoint = endpointSupplier.get();
+    log.info("[PROMETHEUS QUERY] endpoint={} time={} query={}", endpoint, time, promQl);
+    var uri = URI.create(endpoint
+        + "?query=" + URLEncoder.encode(promQl, StandardCharsets.UTF_8)
+        + "&time=" + formatTime(time));
+    return send(uri, promQl).thenApply(body -> {
+      try {
+        return parseScalar(body, promQl);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Formats an instant as Prometheus timestamp (Unix seconds with millisecond fraction).
+   *
+   * @param time timestamp to format
+   * @return formatted timestamp
+   */
+  public static String formatTime(Instant time) {
+    return String.format(Locale.ROOT, "%d.%03d", time.getEpochSecond(), time.getNano() / 1_000_000);
+  }
+
+  /**
+   * Extracts the scalar value of an instant-query response.
+   *
+   * @param responseBody JSON response of {@code /api/v1/query}
+   * @param promQl       query text for error messages
+   * @return scalar value, or {@code null} if the result vector is empty
+   * @throws IOException if the body is not valid JSON
+   */
+  static Double parseScalar(String responseBody, String promQl) throws IOException {
+    JsonNode root = JSON.readTree(responseBody);
+    if (!"success".equals(root.path("status").asText())) {
+      throw new IllegalStateException("Prometheus query failed: " + root);
+    }
+
+    JsonNode result = root.path("data").path("result");
+    if ("scalar".equals(root.path("data").path("resultType").asText()) && result.isArray() && result.size() >= 2) {
+      return parseSampleValue(result.get(1).asText());
+    }
+    if (!result.isArray() || result.isEmpty()) {
+      return null;
+    }
+    if (result.size() != 1) {
+      throw new IllegalStateException(
+          "Expected exactly one Prometheus result but got " + result.size() + " for query: " + promQl);
+    }
+
+    JsonNode valueNode = result.get(0).path("value");
+    if (!valueNode.isArray() || valueNode.size() < 2) {
+      throw new IllegalStateException("Prometheus result has no scalar value: " + result.get(0));
+    }
+
+    return parseSampleValue(valueNode.get(1).asText());
+  }
+
+  /**
+   * Extracts the single series of a range-query response.
+   *
+   * @param responseBody JSON response of {@code /api/v1/query_range}
+   * @param promQl       query text for error messages
+   * @return samples keyed by epoch millis; empty if Prometheus returned no series
+   * @throws IOException if the body is not valid JSON
+   */
+  static NavigableMap<Long, Double> parseMatrix(String responseBody, String promQl) throws IOException {
+    JsonNode root = JSON.readTree(responseBody);
+    if (!"success".equals(root.path("status").asText())) {
+      throw new IllegalStateException("Prometheus query failed: " + root);
+    }
+
+    NavigableMap<Long, Double> samples = new TreeMap<>();
+    JsonNode result = root.path("data").path("result");
+    if (!result.isArray() || result.isEmpty()) {
+      return samples;
+    }
+    if (result.size() != 1) {
+      throw new IllegalStateException(
+          "Expected exactly one Prometheus series but got " + result.size() + " for query: " + promQl);
+    }
+
+    for (JsonNode point : result.get(0).path("values")) {
+      long epochMillis = new BigDecimal(point.get(0).asText()).movePointRight(3).longValue();
+      samples.put(epochMillis, parseSampleValue(point.get(1).asText()));
+    }
+    return samples;
+  }
+
+  /**
+   * Parses a Prometheus sample value, including the {@code +Inf}/{@code -Inf} spellings.
+   *
+   * @param value sample value as sent by Prometheus
+   * @return parsed value
+   */
+  static double parseSampleValue(String value) {
+    return switch (value) {
+      case "+Inf" -> Double.POSITIVE_INFINITY;
+      case "-Inf" -> Double.NEGATIVE_INFINITY;
+      default -> Double.parseDouble(value);
+    };
+  }
+
+  /**
+   * Decodes a Prometheus response body, handling optional gzip compression.
+   *
+   * @param bodyBytes       the raw response body
+   * @param contentEncoding the response content encoding header value
+   * @return the decoded UTF-8 response body
+   * @throws IOException if gzip decoding fails
+   */
+  static String decodeBody(byte[] bodyBytes, String contentEncoding) throws IOException {
+    if (contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+      try (var gzipStream = new GZIPInputStream(new ByteArrayInputStream(bodyBytes))) {
+        return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
+      }
+    }
+    return new String(bodyBytes, StandardCharsets.UTF_8);
+  }
+
+  private <T> T await(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for Prometheus", e);
+    } catch (ExecutionException | CompletionException e) {
+      Throwable cause = e.getCause() == null ? e : e.getCause();
+      if (cause instanceof UncheckedIOException unchecked) {
+        throw unchecked.getCause();
+      }
+      if (cause instanceof IOException io) {
+        throw io;
+      }
+      if (cause instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IOException("Prometheus query failed: " + cause.getMessage(), cause);
+    }
+  }
+}
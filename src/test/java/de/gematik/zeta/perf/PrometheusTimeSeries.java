@@ -0,0 +1,318 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import de.gematik.zeta.perf.CsvUtils.CsvData;
+import de.gematik.zeta.perf.CsvUtils.CsvRow;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Column-oriented Prometheus time series sampled on a fixed step grid.
+ *
+ * <p>All columns share one timestamp axis; windows without data are stored as {@code NaN} and
+ * written as empty CSV cells. Aggregations (min, max, quantile) ignore missing windows.</p>
+ */
+@Slf4j
+public final class PrometheusTimeSeries {
+
+  /**
+   * Name of the timestamp column (Unix seconds with millisecond fraction).
+   */
+  public static final String TIMESTAMP_COLUMN = "timestamp";
+
+  private final long[] timestamps;
+  private final Map<String, double[]> columns;
+
+  private PrometheusTimeSeries(long[] timestamps, Map<String, double[]> columns) {
+    this.timestamps = timestamps;
+    this.columns = columns;
+  }
+
+  /**
+   * Aligns range-query results onto the grid {@code start, start + step, ..., <= end}.
+   *
+   * @param start  first grid timestamp
+   * @param end    last allowed grid timestamp
+   * @param step   grid resolution
+   * @param series samples per column keyed by epoch millis
+   * @return aligned time series
+   */
+  public static PrometheusTimeSeries align(
+      Instant start,
+      Instant end,
+      Duration step,
+      Map<String, NavigableMap<Long, Double>> series) {
+    if (step.isZero() || step.isNegative()) {
+      throw new IllegalArgumentException("step must be > 0");
+    }
+    long stepMs = step.toMillis();
+    long startMs = start.toEpochMilli();
+    int size = end.isBefore(start) ? 0 : (int) ((end.toEpochMilli() - startMs) / stepMs) + 1;
+
+    long[] grid = new long[size];
+    for (int i = 0; i < size; i++) {
+      grid[i] = startMs + i * stepMs;
+    }
+
+    Map<String, double[]> aligned = new LinkedHashMap<>();
+    for (var entry : series.entrySet()) {
+      double[] values = new double[size];
+      Arrays.fill(values, Double.NaN);
+      for (int i = 0; i < size; i++) {
+        Double value = entry.getValue().get(grid[i]);
+        if (value != null) {
+          values[i] = value;
+        }
+      }
+      aligned.put(entry.getKey(), values);
+    }
+    return new PrometheusTimeSeries(grid, aligned);
+  }
+
+  /**
+   * Reads a time series previously written by {@link #writeCsv(Path)}.
+   *
+   * @param csvFile CSV path
+   * @return parsed time series
+   * @throws IOException if the file is missing or has no timestamp column
+   */
+  public static PrometheusTimeSeries readCsv(Path csvFile) throws IOException {
+    CsvData csv = CsvUtils.readCsv(csvFile);
+    if (!csv.headers().contains(TIMESTAMP_COLUMN)) {
+      throw new IOException("Time series CSV has no '" + TIMESTAMP_COLUMN + "' column: " + csvFile);
+    }
+
+    List<CsvRow> rows = csv.rows();
+    long[] grid = new long[rows.size()];
+    for (int i = 0; i < rows.size(); i++) {
+      grid[i] = new BigDecimal(rows.get(i).get(TIMESTAMP_COLUMN).trim()).movePointRight(3).longValue();
+    }
+
+    Map<String, double[]> columns = new LinkedHashMap<>();
+    for (String header : csv.headers()) {
+      if (TIMESTAMP_COLUMN.equals(header)) {
+        continue;
+      }
+      double[] values = new double[rows.size()];
+      for (int i = 0; i < rows.size(); i++) {
+        values[i] = parseCell(rows.get(i).get(header));
+      }
+      columns.put(header, values);
+    }
+    return new PrometheusTimeSeries(grid, columns);
+  }
+
+  /**
+   * Writes the series as CSV with one row per grid timestamp and one column per metric.
+   *
+   * @param csvFile target path (created/overwritten)
+   * @throws IOException on write errors
+   */
+  public void writeCsv(Path csvFile) throws IOException {
+    FileUtils.ensureParentDirectories(csvFile);
+
+    List<String> headers = new ArrayList<>();
+    headers.add(TIMESTAMP_COLUMN);
+    headers.addAll(columns.keySet());
+    CSVFormat csvFormat = CSVFormat.DEFAULT.builder()
+        .setHeader(headers.toArray(String[]::new))
+        .build();
+
+    try (Writer writer = Files.newBufferedWriter(csvFile, StandardCharsets.UTF_8);
+        CSVPrinter printer = csvFormat.print(writer)) {
+      List<String> record = new ArrayList<>(headers.size());
+      for (int i = 0; i < timestamps.length; i++) {
+        record.clear();
+        record.add(PrometheusQueryClient.formatTime(Instant.ofEpochMilli(timestamps[i])));
+        for (double[] values : columns.values()) {
+          record.add(Double.isNaN(values[i]) ? "" : String.format(Locale.ROOT, "%.3f", values[i]));
+        }
+        printer.printRecord(record);
+      }
+    }
+    log.debug("Wrote {} windows x {} columns to {}", timestamps.length, columns.size(), csvFile.getFileName());
+  }
+
+  /**
+   * Returns the number of grid windows.
+   *
+   * @return window count
+   */
+  public int size() {
+    return timestamps.length;
+  }
+
+  /**
+   * Returns the grid timestamps in epoch millis.
+   *
+   * @return copy of the timestamp axis
+   */
+  public long[] timestamps() {
+    return timestamps.clone();
+  }
+
+  /**
+   * Returns the metric column names in insertion order.
+   *
+   * @return column names (without the timestamp column)
+   */
+  public List<String> columnNames() {
+    return List.copyOf(columns.keySet());
+  }
+
+  /**
+   * Returns all values of a column, {@code NaN} marking windows without data.
+   *
+   * @param column column name
+   * @return copy of the column values
+   */
+  public double[] column(String column) {
+    return requireColumn(column).clone();
+  }
+
+  /**
+   * Returns the values of a column with missing windows removed.
+   *
+   * @param column column name
+   * @return present values in time order
+   */
+  public double[] presentValues(String column) {
+    return Arrays.stream(requireColumn(column)).filter(v -> !Double.isNaN(v)).toArray();
+  }
+
+  /**
+   * Counts windows without data in a column.
+   *
+   * @param column column name
+   * @return number of {@code NaN} windows
+   */
+  public int missingCount(String column) {
+    return size() - presentValues(column).length;
+  }
+
+  /**
+   * Returns the smallest present value of a column.
+   *
+   * @param column column name
+   * @return minimum or {@code NaN} if the column has no data
+   */
+  public double min(String column) {
+    return Arrays.stream(presentValues(column)).min().orElse(Double.NaN);
+  }
+
+  /**
+   * Returns the largest present value of a column.
+   *
+   * @param column column name
+   * @return maximum or {@code NaN} if the column has no data
+   */
+  public double max(String column) {
+    return Arrays.stream(presentValues(column)).max().orElse(Double.NaN);
+  }
+
+  /**
+   * Returns a linear-interpolated quantile over the present values of a column.
+   *
+   * @param column   column name
+   * @param quantile fraction in [0..1]
+   * @return quantile or {@code NaN} if the column has no data
+   */
+  public double quantile(String column, double quantile) {
+    if (quantile < 0d || quantile > 1d) {
+      throw new IllegalArgumentException("quantile must be within [0..1]: " + quantile);
+    }
+    return CsvUtils.percentile(presentValues(column), quantile);
+  }
+
+  /**
+   * Returns the timestamp of the first window whose value exceeds the limit.
+   *
+   * @param column column name
+   * @param limit  upper limit
+   * @return first offending timestamp or {@code null} if no window exceeds the limit
+   */
+  public Instant firstWindowAbove(String column, double limit) {
+    double[] values = requireColumn(column);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] > limit) {
+        return Instant.ofEpochMilli(timestamps[i]);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns the timestamp of the first window whose value is below the limit.
+   *
+   * @param column column name
+   * @param limit  lower limit
+   * @return first offending timestamp or {@code null} if no window is below the limit
+   */
+  public Instant firstWindowBelow(String column, double limit) {
+    double[] values = requireColumn(column);
+    for (int i = 0; i < values.length; i++) {
+      if (values[i] < limit) {
+        return Instant.ofEpochMilli(timestamps[i]);
+      }
+    }
+    return null;
+  }
+
+  private double[] requireColumn(String column) {
+    double[] values = columns.get(column);
+    if (values == null) {
+      throw new IllegalArgumentException("Unknown time series column '" + column + "'. Available: " + columns.keySet());
+    }
+    return values;
+  }
+
+  private static double parseCell(String value) {
+    if (value == null || value.isBlank()) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(value.trim());
+    } catch (NumberFormatException e) {
+      return Double.NaN;
+    }
+  }
+}
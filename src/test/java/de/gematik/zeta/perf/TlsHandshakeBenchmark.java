@@ -0,0 +1,324 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import de.gematik.zeta.Metric;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures TLS handshake throughput and latency against a TLS endpoint with JSSE client sockets.
+ *
+ * <p>Every connection is simulated by its own worker thread and its own {@link SSLContext}, so each worker has a
+ * private client session cache like an independent client. In {@link Mode#FULL} the session is invalidated after each
+ * handshake, so every handshake is a full one. In {@link Mode#RESUMPTION} each worker primes its cache with one
+ * unmeasured handshake before the measured phase starts; the following handshakes offer the cached session (TLS 1.2
+ * session id or ticket, TLS 1.3 PSK). TLS 1.3 tickets are single-use, so every TLS 1.3 handshake in this mode collects
+ * the ticket for the next one after its timing has stopped. Only the TLS handshake is timed, not the TCP connect.
+ * Throughput is derived from the timed handshakes as well, so neither connects nor ticket collection lower it.</p>
+ */
+@Slf4j
+public final class TlsHandshakeBenchmark {
+
+  private static final int TICKET_WAIT_MILLIS = 200;
+  private static final String PRIMED_SESSION_MARKER = TlsHandshakeBenchmark.class.getName() + ".primed";
+
+  private final String host;
+  private final int port;
+  private final Supplier<SSLContext> contextFactory;
+  private final List<String> protocols;
+  private final List<String> cipherSuites;
+  private final Duration timeout;
+
+  /**
+   * Creates a benchmark for one endpoint.
+   *
+   * @param host           host name, also sent as SNI
+   * @param port           TLS port
+   * @param contextFactory creates a fresh client context per worker
+   * @param protocols      enabled protocols, e.g. {@code TLSv1.2}
+   * @param cipherSuites   offered cipher suites (IANA names); suites unknown to the provider are skipped
+   * @param timeout        connect and handshake timeout
+   */
+  public TlsHandshakeBenchmark(String host, int port, Supplier<SSLContext> contextFactory, List<String> protocols,
+      List<String> cipherSuites, Duration timeout) {
+    this.host = host;
+    this.port = port;
+    this.contextFactory = contextFactory;
+    this.protocols = List.copyOf(protocols);
+    this.cipherSuites = List.copyOf(cipherSuites);
+    this.timeout = timeout;
+  }
+
+  /**
+   * Runs the benchmark.
+   *
+   * @param mode                    full or resumed handshakes
+   * @param connections             number of concurrent workers
+   * @param handshakesPerConnection measured handshakes per worker
+   * @return aggregated result
+   */
+  public Result run(Mode mode, int connections, int handshakesPerConnection) {
+    if (connections < 1 || handshakesPerConnection < 1) {
+      throw new IllegalArgumentException("connections and handshakesPerConnection must be at least 1");
+    }
+    var ready = new CountDownLatch(connections);
+    var start = new CountDownLatch(1);
+    var futures = new ArrayList<Future<WorkerResult>>();
+    long startNanos;
+    long endNanos;
+    try (var executor = Executors.newFixedThreadPool(connections)) {
+      for (int i = 0; i < connections; i++) {
+        futures.add(executor.submit(() -> runWorker(mode, handshakesPerConnection, ready, start)));
+      }
+      try {
+        ready.await();
+      } finally {
+        startNanos = System.nanoTime();
+        start.countDown();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("TLS handshake benchmark was interrupted", e);
+    }
+    endNanos = System.nanoTime();
+
+    var latencies = new LatencyHistogram();
+    var negotiated = new TreeSet<String>();
+    long errors = 0;
+    long resumed = 0;
+    double handshakesPerSecond = 0;
+    String firstError = null;
+    for (var future : futures) {
+      WorkerResult worker;
+      try {
+        worker = future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("TLS handshake benchmark was interrupted", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("TLS handshake benchmark worker failed", e.getCause());
+      }
+      latencies.merge(worker.latencies());
+      negotiated.addAll(worker.negotiated());
+      errors += worker.errors();
+      resumed += worker.resumed();
+      if (worker.handshakeNanos() > 0) {
+        handshakesPerSecond += worker.latencies().count() * 1e9 / worker.handshakeNanos();
+      }
+      if (firstError == null) {
+        firstError = worker.firstError();
+      }
+    }
+    var result = new Result(mode, latencies, errors, resumed, Duration.ofNanos(endNanos - startNanos), handshakesPerSecond,
+        negotiated, firstError);
+    log.info("TLS handshake benchmark against {}:{}: {}", host, port, result.describe());
+    return result;
+  }
+
+  private WorkerResult runWorker(Mode mode, int handshakes, CountDownLatch ready, CountDownLatch start) throws InterruptedException {
+    SSLContext context;
+    String[] enabledSuites;
+    var worker = new WorkerState();
+    try {
+      context = contextFactory.get();
+      var supported = Set.of(context.getSupportedSSLParameters().getCipherSuites());
+      enabledSuites = cipherSuites.stream().filter(supported::contains).toArray(String[]::new);
+      if (enabledSuites.length == 0) {
+        throw new IllegalStateException("None of the cipher suites " + cipherSuites + " is supported by the TLS provider");
+      }
+      if (mode == Mode.RESUMPTION) {
+        var primed = handshake(context, enabledSuites, worker, false, false, true);
+        if (primed != null) {
+          primed.putValue(PRIMED_SESSION_MARKER, Boolean.TRUE);
+        }
+      }
+    } finally {
+      ready.countDown();
+    }
+    start.await();
+
+    for (int i = 0; i < handshakes; i++) {
+      var session = handshake(context, enabledSuites, worker, true, mode == Mode.FULL, mode == Mode.RESUMPTION);
+      if (session != null && mode == Mode.RESUMPTION && session.getValue(PRIMED_SESSION_MARKER) != null) {
+        worker.resumed++;
+      }
+    }
+    return new WorkerResult(worker.latencies, worker.handshakeNanos, worker.negotiated, worker.errors, worker.resumed, worker.firstError);
+  }
+
+  /**
+   * Performs one handshake. If requested, a TLS 1.3 handshake then waits for the NewSessionTicket, which JSSE only
+   * processes while reading, so that the next handshake can resume; the wait is not part of the measured latency.
+   *
+   * @return the negotiated session, or {@code null} on failure
+   */
+  private SSLSession handshake(SSLContext context, String[] enabledSuites, WorkerState worker, boolean measured, boolean invalidate,
+      boolean collectTicket) {
+    var timeoutMillis = (int) timeout.toMillis();
+    try (var plain = new Socket()) {
+      plain.connect(new InetSocketAddress(host, port), timeoutMillis);
+      plain.setTcpNoDelay(true);
+      plain.setSoTimeout(timeoutMillis);
+      try (var socket = (SSLSocket) context.getSocketFactory().createSocket(plain, host, port, false)) {
+        socket.setEnabledProtocols(protocols.toArray(String[]::new));
+        socket.setEnabledCipherSuites(enabledSuites);
+        var begin = System.nanoTime();
+        socket.startHandshake();
+        var nanos = System.nanoTime() - begin;
+        var session = socket.getSession();
+        if (measured) {
+          worker.latencies.record(nanos / 1_000);
+          worker.handshakeNanos += nanos;
+          worker.negotiated.add(session.getProtocol() + " " + session.getCipherSuite());
+        }
+        if (collectTicket && "TLSv1.3".equals(session.getProtocol())) {
+          awaitSessionTicket(socket);
+        }
+        if (invalidate) {
+          session.invalidate();
+        }
+        return session;
+      }
+    } catch (IOException | RuntimeException e) {
+      if (measured) {
+        worker.errors++;
+      }
+      if (worker.firstError == null) {
+        worker.firstError = e.toString();
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Half-closes the connection and reads until the server closes it or the wait expires. A server sends its session
+   * tickets before answering the close_notify, so the ticket is processed without waiting out the full timeout.
+   */
+  private static void awaitSessionTicket(SSLSocket socket) throws IOException {
+    socket.setSoTimeout(TICKET_WAIT_MILLIS);
+    try {
+      socket.shutdownOutput();
+      socket.getInputStream().read();
+    } catch (SocketTimeoutException e) {
+      // No application data expected; the ticket, if any, has been processed.
+    }
+  }
+
+  /**
+   * Handshake kind to measure.
+   */
+  public enum Mode {
+    FULL,
+    RESUMPTION;
+
+    /**
+     * Resolves a mode from a feature file token.
+     *
+     * @param value {@code full}/{@code voll} or {@code resumption}/{@code wiederaufnahme}
+     * @return matching mode
+     */
+    public static Mode fromValue(String value) {
+      return switch (value.trim().toLowerCase(Locale.ROOT)) {
+        case "full", "voll", "vollständig" -> FULL;
+        case "resumption", "resumed", "wiederaufnahme" -> RESUMPTION;
+        default -> throw new IllegalArgumentException("Unsupported TLS handshake benchmark mode: " + value);
+      };
+    }
+  }
+
+  /**
+   * Aggregated benchmark result.
+   *
+   * @param mode       measured handshake kind
+   * @param latencies  handshake latencies of all successful measured handshakes
+   * @param errors     failed measured handshakes
+   * @param resumed    measured handshakes that resumed the primed session (TLS 1.2 session id or ticket, TLS 1.3 PSK)
+   * @param elapsed    wall-clock time of the measured phase, including TCP connects and TLS 1.3 ticket collection
+   * @param handshakesPerSecond throughput of successful handshakes: the sum of each worker's handshakes divided by the
+   *                   time it spent in timed handshakes
+   * @param negotiated distinct negotiated protocol and cipher suite combinations
+   * @param firstError first failure seen, or {@code null}
+   */
+  public record Result(Mode mode, LatencyHistogram latencies, long errors, long resumed, Duration elapsed, double handshakesPerSecond,
+                       Set<String> negotiated, String firstError) {
+
+    /**
+     * Returns the number of successful measured handshakes.
+     *
+     * @return handshake count
+     */
+    public long handshakes() {
+      return latencies.count();
+    }
+
+    /**
+     * Renders the result for logs and reports.
+     *
+     * @return multi-line summary
+     */
+    public String describe() {
+      return String.format(Locale.ROOT,
+          "%s handshakes: %d ok, %d failed in %d ms = %.1f handshakes/s%n"
+              + "latency ms: p50=%.2f p90=%.2f p95=%.2f p99=%.2f max=%.2f%n"
+              + "resumed: %d%nnegotiated: %s%s",
+          mode, handshakes(), errors, elapsed.toMillis(), handshakesPerSecond(),
+          latencies.millis(Metric.percentile(0.5)), latencies.millis(Metric.percentile(0.9)),
+          latencies.millis(Metric.percentile(0.95)), latencies.millis(Metric.percentile(0.99)), latencies.millis(Metric.max()),
+          resumed, negotiated, firstError != null ? "\nfirst error: " + firstError : "");
+    }
+  }
+
+  private record WorkerResult(LatencyHistogram latencies, long handshakeNanos, Set<String> negotiated, long errors, long resumed, String firstError) {
+
+  }
+
+  private static final class WorkerState {
+
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final Set<String> negotiated = new TreeSet<>();
+    private long handshakeNanos;
+    private long errors;
+    private long resumed;
+    private String firstError;
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.SignedJWT;
+import de.gematik.zeta.FailureCounts;
+import de.gematik.zeta.perf.TrafficMessageParser.TrafficMessage;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline audit of all tokens captured in a Tiger trace (.tgr) of a load run.
+ *
+ * <p>The trace is streamed with {@link TrafficMessageParser}. Access tokens are taken from {@code Authorization}
+ * headers and token endpoint responses, DPoP proofs from {@code DPoP} headers and client assertions from token
+ * requests. Every token must be a well-formed JWT and pass the configured {@link TokenCheck}s; DPoP-bound requests
+ * additionally need a proof whose {@code ath} matches the access token and whose key matches the token's
+ * {@code cnf.jkt}. Checks run on a worker pool while the trace is still being read; a bounded number of queued
+ * tasks keeps memory flat. Failures are aggregated per token kind and reason.</p>
+ */
+@Slf4j
+public final class TokenTraceAuditor {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final int QUEUED_TASKS_PER_WORKER = 64;
+  private static final int MAX_PENDING_TOKEN_REQUESTS = 10_000;
+  private static final String BINDING = "DPOP_BINDING";
+
+  private final TrafficMessageParser parser = new TrafficMessageParser();
+  private final Map<TokenKind, List<TokenCheck>> checks;
+  private final int workers;
+
+  /**
+   * Creates an auditor.
+   *
+   * @param checks  additional checks per token kind, e.g. signature and schema validation
+   * @param workers number of worker threads
+   */
+  public TokenTraceAuditor(Map<TokenKind, List<TokenCheck>> checks, int workers) {
+    this.checks = Map.copyOf(checks);
+    this.workers = Math.max(1, workers);
+  }
+
+  /**
+   * Audits all tokens of one trace file.
+   *
+   * @param traceFile Tiger trace (.tgr)
+   * @return token counts and failure counts per reason
+   * @throws IOException if the trace cannot be read
+   */
+  public AuditResult audit(Path traceFile) throws IOException {
+    FileUtils.requireFileExists(traceFile);
+    var run = new AuditRun();
+    var start = System.nanoTime();
+    long messages;
+    var permits = new Semaphore(workers * QUEUED_TASKS_PER_WORKER);
+    try (var executor = Executors.newFixedThreadPool(workers)) {
+      Consumer<Runnable> submit = task -> {
+        permits.acquireUninterruptibly();
+        executor.execute(() -> {
+          try {
+            task.run();
+          } finally {
+            permits.release();
+          }
+        });
+      };
+      messages = parser.streamMessages(traceFile, "trace", (message, body) -> run.extract(message, body, submit));
+    }
+    var result = run.result(messages, Duration.ofNanos(System.nanoTime() - start));
+    log.info("Token audit of {}: {}", traceFile.getFileName(), result.summaryLine());
+    return result;
+  }
+
+  /**
+   * Base64url encoded SHA-256 of a token, as used for the DPoP {@code ath} claim.
+   */
+  private static String sha256Base64Url(String value) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Finds a header value by name (case-insensitive).
+   */
+  private static String header(TrafficMessage message, String name) {
+    for (var entry : message.headers().entrySet()) {
+      if (entry.getKey().equalsIgnoreCase(name) && !entry.getValue().isBlank()) {
+        return entry.getValue().trim();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads one parameter of an {@code application/x-www-form-urlencoded} body.
+   */
+  private static String formParameter(String body, String name) {
+    if (body.isEmpty() || !body.contains(name + "=")) {
+      return null;
+    }
+    for (var pair : body.trim().split("&")) {
+      var separator = pair.indexOf('=');
+      if (separator > 0 && pair.substring(0, separator).equals(name)) {
+        return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Reads the {@code access_token} of a token endpoint response body.
+   */
+  private static String accessTokenFromResponse(String body) {
+    var trimmed = body.trim();
+    if (!trimmed.startsWith("{") || !trimmed.contains("\"access_token\"")) {
+      return null;
+    }
+    try {
+      var node = JSON.readTree(trimmed).path("access_token");
+      return node.isTextual() ? node.asText() : null;
+    } catch (IOException e) {
+      return null;
+    }
+  }
+
+  private static String firstLine(Throwable throwable) {
+    return String.valueOf(throwable.getMessage()).lines().findFirst().orElse(throwable.getClass().getSimpleName());
+  }
+
+  /**
+   * Mutable state of one audit; extraction runs on the reading thread, checks on the workers.
+   */
+  private final class AuditRun {
+
+    private final Map<TokenKind, LongAdder> tokens = new EnumMap<>(TokenKind.class);
+    private final LongAdder bindings = new LongAdder();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final Set<String> seenAccessTokens = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> pendingTokenRequestProofs = new LinkedHashMap<>(16, 0.75f, false) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+        return size() > MAX_PENDING_TOKEN_REQUESTS;
+      }
+    };
+
+    private AuditRun() {
+      for (var kind : TokenKind.values()) {
+        tokens.put(kind, new LongAdder());
+      }
+    }
+
+    /**
+     * Extracts the tokens of one message and submits their checks.
+     */
+    private void extract(TrafficMessage message, String body, Consumer<Runnable> submit) {
+      if (!message.isRequest()) {
+        var accessToken = accessTokenFromResponse(body);
+        if (accessToken == null) {
+          return;
+        }
+        submit.accept(() -> checkToken(TokenKind.ACCESS_TOKEN, accessToken));
+        var proof = message.pairedRequestsUuid() == null ? null
+            : pendingTokenRequestProofs.remove(message.pairedRequestsUuid());
+        if (proof != null) {
+          submit.accept(() -> checkBinding(accessToken, proof, false));
+        }
+        return;
+      }
+
+      var proof = header(message, "DPoP");
+      if (proof != null) {
+        submit.accept(() -> checkToken(TokenKind.DPOP_PROOF, proof));
+      }
+      var authorization = header(message, "Authorization");
+      var separator = authorization == null ? -1 : authorization.indexOf(' ');
+      if (separator > 0) {
+        var scheme = authorization.substring(0, separator);
+        var accessToken = authorization.substring(separator + 1).trim();
+        if ("DPoP".equalsIgnoreCase(scheme)) {
+          submit.accept(() -> checkToken(TokenKind.ACCESS_TOKEN, accessToken));
+          submit.accept(() -> checkBinding(accessToken, proof, true));
+        } else if ("Bearer".equalsIgnoreCase(scheme)) {
+          submit.accept(() -> checkToken(TokenKind.ACCESS_TOKEN, accessToken));
+        }
+      }
+      var clientAssertion = formParameter(body, "client_assertion");
+      if (clientAssertion != null) {
+        submit.accept(() -> checkToken(TokenKind.CLIENT_ASSERTION, clientAssertion));
+      }
+      if (proof != null && message.uuid() != null && formParameter(body, "grant_type") != null) {
+        pendingTokenRequestProofs.put(message.uuid(), proof);
+      }
+    }
+
+    /**
+     * Checks one token; repeated access tokens are checked only once.
+     */
+    private void checkToken(TokenKind kind, String token) {
+      if (kind == TokenKind.ACCESS_TOKEN && !seenAccessTokens.add(sha256Base64Url(token))) {
+        return;
+      }
+      tokens.get(kind).increment();
+      try {
+        SignedJWT.parse(token);
+      } catch (ParseException e) {
+        fail(kind.name(), "not a well-formed signed JWT");
+        return;
+      }
+      for (var check : checks.getOrDefault(kind, List.of())) {
+        try {
+          check.failures(token).forEach(reason -> fail(kind.name(), reason));
+        } catch (RuntimeException | AssertionError e) {
+          fail(kind.name(), "check error: " + firstLine(e));
+        }
+      }
+    }
+
+    /**
+     * Checks the {@code ath} and {@code cnf.jkt} binding between an access token and its DPoP proof.
+     */
+    private void checkBinding(String accessToken, String proof, boolean requireAth) {
+      bindings.increment();
+      if (proof == null) {
+        fail(BINDING, "DPoP access token sent without DPoP proof");
+        return;
+      }
+      try {
+        var proofJwt = SignedJWT.parse(proof);
+        if (requireAth) {
+          var ath = proofJwt.getJWTClaimsSet().getStringClaim("ath");
+          if (ath == null) {
+            fail(BINDING, "DPoP proof without ath");
+          } else if (!ath.equals(sha256Base64Url(accessToken))) {
+            fail(BINDING, "ath does not match the access token");
+          }
+        }
+        var confirmation = SignedJWT.parse(accessToken).getJWTClaimsSet().getJSONObjectClaim("cnf");
+        var jkt = confirmation == null ? null : confirmation.get("jkt");
+        var jwk = proofJwt.getHeader().getJWK();
+        if (jkt == null) {
+          fail(BINDING, "access token without cnf.jkt");
+        } else if (jwk == null) {
+          fail(BINDING, "DPoP proof without jwk");
+        } else if (!jkt.equals(jwk.computeThumbprint().toString())) {
+          fail(BINDING, "cnf.jkt does not match the DPoP proof key");
+        }
+      } catch (ParseException | JOSEException e) {
+        fail(BINDING, "binding not checkable: " + firstLine(e));
+      }
+    }
+
+    private void fail(String kind, String reason) {
+      failures.computeIfAbsent(kind + ": " + reason, key -> new LongAdder()).increment();
+    }
+
+    private AuditResult result(long messages, Duration elapsed) {
+      var tokenCounts = new EnumMap<TokenKind, Long>(TokenKind.class);
+      tokens.forEach((kind, count) -> tokenCounts.put(kind, count.sum()));
+      var failureCounts = new TreeMap<String, Long>();
+      failures.forEach((reason, count) -> failureCounts.put(reason, count.sum()));
+      return new AuditResult(messages, tokenCounts, bindings.sum(), failureCounts, elapsed);
+    }
+  }
+
+  /**
+   * Kind of token found in the trace.
+   */
+  public enum TokenKind {
+    ACCESS_TOKEN,
+    DPOP_PROOF,
+    CLIENT_ASSERTION
+  }
+
+  /**
+   * Check applied to every token of one kind; must be thread-safe.
+   */
+  @FunctionalInterface
+  public interface TokenCheck {
+
+    /**
+     * Checks one token.
+     *
+     * @param token compact serialized JWT
+     * @return failure reasons, empty if the token passes
+     */
+    List<String> failures(String token);
+  }
+
+  /**
+   * Aggregated outcome of a token audit.
+   *
+   * @param messages      number of parsed trace messages
+   * @param tokens        number of checked tokens per kind; access tokens are counted once per distinct token
+   * @param bindings      number of checked DPoP bindings
+   * @param failureCounts number of failures per kind and reason
+   * @param elapsed       wall-clock time of the audit
+   */
+  public record AuditResult(long messages, Map<TokenKind, Long> tokens, long bindings,
+                            Map<String, Long> failureCounts, Duration elapsed) {
+
+    /**
+     * Freezes the token and failure counts of the finished audit.
+     */
+    public AuditResult {
+      tokens = Map.copyOf(tokens);
+      failureCounts = Map.copyOf(failureCounts);
+    }
+
+    /**
+     * Returns the total number of checked tokens.
+     *
+     * @return sum over all kinds
+     */
+    public long totalTokens() {
+      return tokens.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the total number of failures.
+     *
+     * @return sum over all reasons
+     */
+    public long totalFailures() {
+      return failureCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Renders the result with the most frequent failures first.
+     *
+     * @return human-readable summary
+     */
+    public String describe() {
+      var lines = new ArrayList<String>();
+      lines.add(summaryLine());
+      for (var kind : TokenKind.values()) {
+        lines.add(" " + kind + ": " + tokens.getOrDefault(kind, 0L));
+      }
+      lines.add(" " + BINDING + ": " + bindings);
+      lines.addAll(FailureCounts.lines(failureCounts));
+      return String.join(System.lineSeparator(), lines);
+    }
+
+    private String summaryLine() {
+      return String.format(Locale.ROOT, "%d messages, %d tokens, %d bindings checked in %d ms: %d failures",
+          messages, totalTokens(), bindings, elapsed.toMillis(), totalFailures());
+    }
+  }
+}
@@ -70,41 +70,63 @@ public class TrafficMessageParser {
    */
   public List<TrafficMessage> parseFile(Path path, String gateRole) throws IOException {
     var messages = new ArrayList<TrafficMessage>();
-    var lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+    streamMessages(path, gateRole, (message, body) -> messages.add(message));
+    return messages;
+  }
+
+  /**
+   * Streams a .tgr file line by line and hands each parsed message with its HTTP body to the
+   * visitor, so traces of long load runs never have to fit into memory.
+   *
+   * @param path     input file
+   * @param gateRole "ingress" or "egress"
+   * @param visitor  receives every parsed message in file order
+   * @return number of parsed messages (errors logged and skipped)
+   * @throws IOException on I/O errors
+   */
+  public long streamMessages(Path path, String gateRole, MessageVisitor visitor) throws IOException {
+    long parsed = 0;
     int parseErrors = 0;
+    int lineNo = 0;
 
-    log.debug("Parsing {} lines from {}", lines.size(), path.getFileName());
+    log.debug("Parsing {}", path.getFileName());
 
-    for (int lineNo = 0; lineNo < lines.size(); lineNo++) {
-      String raw = lines.get(lineNo);
-      if (raw.trim().isEmpty()) {
-        continue;
-      }
+    try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String raw;
+      while ((raw = reader.readLine()) != null) {
+        lineNo++;
+        if (raw.isBlank()) {
+          continue;
+        }
 
-      try {
-        var message = parseMessage(raw.trim(), gateRole);
-        messages.add(message);
-      } catch (Exception ex) {
-        parseErrors++;
-        if (parseErrors <= 10) {
-          log.warn("Parse error at {}:{} -> {}", path.getFileName(), lineNo + 1, ex.getMessage());
+        ParsedMessage message;
+        try {
+          message = parseMessage(raw.trim(), gateRole);
+        } catch (Exception ex) {
+          parseErrors++;
+          if (parseErrors <= 10) {
+            log.warn("Parse error at {}:{} -> {}", path.getFileName(), lineNo, ex.getMessage());
+          }
+          continue;
         }
+        visitor.visit(message.message(), message.body());
+        parsed++;
       }
     }
 
-    log.info("Parsed {} messages from {} ({} errors)", messages.size(), gateRole, parseErrors);
-    return messages;
+    log.info("Parsed {} messages from {} ({} errors)", parsed, gateRole, parseErrors);
+    return parsed;
   }
 
   /**
-   * Parses a single JSON line into a {@link TrafficMessage}.
+   * Parses a single JSON line into a {@link TrafficMessage} and its HTTP body.
    *
    * @param jsonLine raw JSON of one message
    * @param gateRole "ingress" or "egress"
-   * @return populated TrafficMessage
+   * @return populated TrafficMessage with body
    * @throws Exception if JSON or HTTP extraction fails
    */
-  private TrafficMessage parseMessage(String jsonLine, String gateRole) throws Exception {
+  private ParsedMessage parseMessage(String jsonLine, String gateRole) throws Exception {
     var node = JSON.readTree(jsonLine);
 
     String uuid = getStringValue(node, "uuid");
@@ -119,8 +141,27 @@ public class TrafficMessageParser {
     var headers = parseHttpHeaders(httpContent);
     String traceId = isRequest ? getHeaderIgnoreCase(headers, H_TRACE_ID) : null;
 
-    return new TrafficMessage(gateRole, uuid, pairedUuid, isRequest,
+    var message = new TrafficMessage(gateRole, uuid, pairedUuid, isRequest,
         timestampMs, requestPath, headers, traceId);
+    return new ParsedMessage(message, parseHttpBody(httpContent));
+  }
+
+  /**
+   * Extracts the HTTP body following the first empty line.
+   *
+   * @param http raw HTTP text
+   * @return body or empty string if the message has none
+   */
+  private String parseHttpBody(String http) {
+    if (http == null) {
+      return "";
+    }
+    int crlf = http.indexOf("\r\n\r\n");
+    if (crlf >= 0) {
+      return http.substring(crlf + 4);
+    }
+    int lf = http.indexOf("\n\n");
+    return lf >= 0 ? http.substring(lf + 2) : "";
   }
 
   /**
@@ -266,6 +307,25 @@ public class TrafficMessageParser {
     return node.hasNonNull(field) ? node.get(field).asText() : null;
   }
 
+  /**
+   * Receives the messages of {@link #streamMessages(Path, String, MessageVisitor)}.
+   */
+  @FunctionalInterface
+  public interface MessageVisitor {
+
+    /**
+     * Handles one parsed message.
+     *
+     * @param message parsed message
+     * @param body    HTTP body, empty if the message has none
+     */
+    void visit(TrafficMessage message, String body);
+  }
+
+  private record ParsedMessage(TrafficMessage message, String body) {
+
+  }
+
   /**
    * TODO: javadoc.
    *
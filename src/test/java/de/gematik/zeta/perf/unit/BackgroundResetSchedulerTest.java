@@ -0,0 +1,138 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import de.gematik.zeta.perf.BackgroundResetScheduler;
+import de.gematik.zeta.perf.CsvUtils;
+import de.gematik.zeta.perf.JtlSummarizer;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link BackgroundResetScheduler}.
+ */
+class BackgroundResetSchedulerTest {
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private HttpServer server;
+  private String baseUrl;
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Starts a fake load driver; instance 2 fails every reset.
+   */
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.setExecutor(Executors.newFixedThreadPool(8));
+    server.createContext("/load", exchange -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      int status = exchange.getRequestURI().getPath().startsWith("/load/2/") ? 500 : 200;
+      exchange.sendResponseHeaders(status, -1);
+      exchange.close();
+    });
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void pacesResetsAndBoundsConcurrency() throws Exception {
+    var scheduler = newScheduler(20, 2);
+
+    scheduler.start();
+    Thread.sleep(1000);
+    var stats = scheduler.stop();
+
+    assertTrue(stats.count() >= 10 && stats.count() <= 25, "count=" + stats.count());
+    assertTrue(maxInFlight.get() <= 2, "maxInFlight=" + maxInFlight.get());
+    assertTrue(stats.errors() > 0 && stats.errors() < stats.count());
+  }
+
+  @Test
+  void samplesReachRunSummaryWithoutTouchingRunJtl() throws Exception {
+    Path jtl = tempDir.resolve("run.jtl");
+    long loadStart = System.currentTimeMillis() + 60_000L;
+    String runContent = "timeStamp,elapsed,label,responseCode,success,threadName\n"
+        + loadStart + ",12,ZetaGuard Request,200,true,t1\n";
+    Files.writeString(jtl, runContent, StandardCharsets.UTF_8);
+    var scheduler = newScheduler(0, 1);
+
+    scheduler.start();
+    Thread.sleep(300);
+    var stats = scheduler.stop();
+    Path resetJtl = scheduler.writeJtl(jtl);
+
+    assertEquals(tempDir.resolve("run-background-reset.jtl"), resetJtl);
+    assertEquals(runContent, Files.readString(jtl, StandardCharsets.UTF_8));
+    assertEquals(loadStart, new JtlSummarizer().loadWindow(jtl).start().toEpochMilli());
+
+    Path summary = tempDir.resolve("summary.csv");
+    new JtlSummarizer().summarize(jtl, summary);
+    var csv = CsvUtils.readCsv(summary);
+    assertEquals("1", csv.findRow("label", "ZetaGuard Request").get("count"));
+    var row = csv.findRow("label", BackgroundResetScheduler.LABEL);
+    assertEquals(Long.toString(stats.count()), row.get("count"));
+    assertEquals(stats.errors() / (double) stats.count(), Double.parseDouble(row.get("errorRate")), 1e-6);
+  }
+
+  private BackgroundResetScheduler newScheduler(int perSecond, int concurrency) {
+    List<URI> targets = List.of(
+        URI.create(baseUrl + "/load/1/reset"),
+        URI.create(baseUrl + "/load/2/reset"),
+        URI.create(baseUrl + "/load/3/reset"));
+    return new BackgroundResetScheduler(
+        HttpClient.newHttpClient(), targets, perSecond, concurrency, Duration.ofSeconds(2));
+  }
+}
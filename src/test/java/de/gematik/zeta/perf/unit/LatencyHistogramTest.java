@@ -0,0 +1,108 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.Metric;
+import de.gematik.zeta.perf.LatencyDistribution;
+import de.gematik.zeta.perf.LatencyHistogram;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram} and {@link LatencyDistribution}.
+ */
+class LatencyHistogramTest {
+
+  @Test
+  void percentilesStayWithinBucketPrecision() {
+    var histogram = new LatencyHistogram();
+    for (long micros = 1; micros <= 100_000; micros++) {
+      histogram.record(micros);
+    }
+
+    assertEquals(100_000, histogram.count());
+    assertEquals(1, histogram.minMicros());
+    assertEquals(100_000, histogram.maxMicros());
+    assertEquals(50_000.5, histogram.meanMicros(), 1e-9);
+    for (double percentile : new double[] {0.5, 0.9, 0.95, 0.99}) {
+      long exact = (long) Math.ceil(percentile * 100_000);
+      long reported = histogram.percentileMicros(percentile);
+      assertTrue(reported >= exact && reported <= exact * 1.016, percentile + " -> " + reported);
+    }
+    assertEquals(100_000, histogram.percentileMicros(1.0));
+  }
+
+  @Test
+  void smallValuesAreExact() {
+    var histogram = new LatencyHistogram();
+    List.of(5L, 3L, 9L, 1L, 7L).forEach(histogram::record);
+
+    assertEquals(5, histogram.percentileMicros(0.5));
+    assertEquals(1, histogram.percentileMicros(0.0));
+    assertEquals(0.009, histogram.millis(Metric.max()), 1e-12);
+    assertEquals(0.001, histogram.millis(Metric.min()), 1e-12);
+  }
+
+  @Test
+  void mergeCombinesSamplesOfBothHistograms() {
+    var small = new LatencyHistogram();
+    var large = new LatencyHistogram();
+    for (long micros = 1; micros <= 50; micros++) {
+      small.record(micros);
+      large.record(micros * 10_000);
+    }
+
+    small.merge(large);
+    small.merge(new LatencyHistogram());
+
+    assertEquals(100, small.count());
+    assertEquals(1, small.minMicros());
+    assertEquals(500_000, small.maxMicros());
+    assertEquals(50, small.percentileMicros(0.5));
+    assertEquals(50, large.count());
+  }
+
+  @Test
+  void reportsViolatingGroupsOnly() {
+    var distribution = new LatencyDistribution();
+    for (int i = 1; i <= 100; i++) {
+      distribution.record("/token", Duration.ofMillis(i));
+      distribution.record("/resource", Duration.ofMillis(i * 3L));
+    }
+    distribution.skip();
+
+    var violations = distribution.violations(Metric.percentile(0.95), 200);
+
+    assertEquals(200, distribution.count());
+    assertEquals(1, distribution.skipped());
+    assertEquals(1, violations.size());
+    assertTrue(violations.getFirst().startsWith("/resource: p95 = 28"), violations.getFirst());
+    assertTrue(distribution.describe().contains("/token: n=100"), distribution.describe());
+  }
+}
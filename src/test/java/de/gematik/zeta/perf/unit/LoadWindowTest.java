@@ -0,0 +1,85 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import de.gematik.zeta.perf.JtlSummarizer;
+import de.gematik.zeta.perf.LoadWindow;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link LoadWindow} and its derivation from JTL files.
+ */
+class LoadWindowTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void jtlWindowSpansFirstSampleStartToLatestSampleEnd() throws Exception {
+    Path jtl = tempDir.resolve("run.jtl");
+    Files.writeString(jtl, """
+        timeStamp,elapsed,label,responseCode,success
+        1700000000000,50,a,200,true
+        1700000001000,3000,a,200,true
+        1700000002000,10,a,500,false
+        """);
+
+    LoadWindow window = new JtlSummarizer().loadWindow(jtl);
+
+    assertEquals(Instant.ofEpochMilli(1_700_000_000_000L), window.start());
+    assertEquals(Instant.ofEpochMilli(1_700_000_004_000L), window.end());
+    assertEquals(4, window.durationSecondsCeil());
+  }
+
+  @Test
+  void spanMergesWaveWindowsAndSumsActiveDurations() {
+    var first = new LoadWindow(Instant.ofEpochSecond(100), Instant.ofEpochSecond(130));
+    var second = new LoadWindow(Instant.ofEpochSecond(140), Instant.ofEpochMilli(170_001));
+
+    var merged = second.span(first);
+
+    assertEquals(Instant.ofEpochSecond(100), merged.start());
+    assertEquals(Instant.ofEpochMilli(170_001), merged.end());
+    assertEquals(Duration.ofMillis(60_001), merged.activeDuration());
+    assertEquals(61, merged.durationSecondsCeil());
+    assertEquals(first, first.span(null));
+  }
+
+  @Test
+  void rejectsReversedWindow() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new LoadWindow(Instant.ofEpochSecond(2), Instant.ofEpochSecond(1)));
+    assertThrows(IllegalArgumentException.class,
+        () -> new LoadWindow(Instant.ofEpochSecond(1), Instant.ofEpochSecond(2), Duration.ofSeconds(2)));
+  }
+}
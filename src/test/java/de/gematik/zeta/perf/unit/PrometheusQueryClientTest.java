@@ -0,0 +1,174 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.gematik.zeta.perf.PrometheusQueryClient;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PrometheusQueryClient}.
+ */
+class PrometheusQueryClientTest {
+
+  private static final Instant NOW = Instant.parse("2026-03-13T10:15:30.250Z");
+
+  private final Map<String, AtomicInteger> requestsPerQuery = new ConcurrentHashMap<>();
+  private final List<String> timeParameters = new CopyOnWriteArrayList<>();
+  private final List<String> rangePaths = new CopyOnWriteArrayList<>();
+  private final List<String> rangeParameters = new CopyOnWriteArrayList<>();
+  private HttpServer server;
+  private PrometheusQueryClient client;
+
+  /**
+   * Starts a fake Prometheus answering every query with its length as scalar.
+   */
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.setExecutor(Executors.newFixedThreadPool(4));
+    server.createContext("/api/v1/query", this::answerQuery);
+    server.start();
+
+    var endpoint = "http://localhost:" + server.getAddress().getPort() + "/api/v1/query";
+    client = new PrometheusQueryClient(
+        HttpClient.newHttpClient(), () -> endpoint, Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  /**
+   * Stops the fake Prometheus server.
+   */
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void deduplicatesAndCachesQueriesWithinOneSnapshot() throws Exception {
+    var results = client.queryScalars(List.of("up", "rate(x[1m])", "up"));
+
+    assertEquals(2, results.size());
+    assertEquals(2.0, results.get("up"));
+    assertEquals(11.0, results.get("rate(x[1m])"));
+
+    assertEquals(2.0, client.queryScalar("up"));
+    assertEquals(1, requestsPerQuery.get("up").get());
+    assertTrue(timeParameters.stream().allMatch("1773396930.250"::equals));
+  }
+
+  @Test
+  void newSnapshotQueriesAgainAtPinnedTime() throws Exception {
+    client.queryScalar("up");
+    client.pinEvaluationTime(Instant.ofEpochSecond(1_700_000_000L));
+    client.queryScalar("up");
+
+    assertEquals(2, requestsPerQuery.get("up").get());
+    assertEquals("1700000000.000", timeParameters.getLast());
+  }
+
+  @Test
+  void returnsNullForEmptyResultAndRetriesFailedQueries() throws Exception {
+    assertNull(client.queryScalar("empty"));
+
+    assertThrows(IllegalStateException.class, () -> client.queryScalar("fail"));
+    assertThrows(IllegalStateException.class, () -> client.queryScalar("fail"));
+    assertEquals(2, requestsPerQuery.get("fail").get());
+  }
+
+  @Test
+  void rangeQueriesUseRangeEndpointAndParseMatrix() throws Exception {
+    var series = client.queryRanges(
+        Map.of("rate", "range"), Instant.ofEpochSecond(1_700_000_010L), Instant.ofEpochSecond(1_700_000_030L),
+        Duration.ofSeconds(10));
+
+    var samples = series.get("rate");
+    assertEquals(2, samples.size());
+    assertEquals(4.5, samples.get(1_700_000_010_000L));
+    assertEquals(Double.POSITIVE_INFINITY, samples.get(1_700_000_020_000L));
+    assertEquals("/api/v1/query_range", rangePaths.getLast());
+    assertEquals("1700000010.000|1700000030.000|10.000", rangeParameters.getLast());
+  }
+
+  private void answerQuery(HttpExchange exchange) throws IOException {
+    Map<String, String> params = new ConcurrentHashMap<>();
+    for (String pair : exchange.getRequestURI().getRawQuery().split("&")) {
+      var parts = pair.split("=", 2);
+      params.put(parts[0], URLDecoder.decode(parts[1], StandardCharsets.UTF_8));
+    }
+    var query = params.get("query");
+    if (params.containsKey("start")) {
+      rangePaths.add(exchange.getRequestURI().getPath());
+      rangeParameters.add(params.get("start") + "|" + params.get("end") + "|" + params.get("step"));
+      respond(exchange, "matrix", "[{\"metric\":{},\"values\":[[1700000010,\"4.5\"],[1700000020,\"+Inf\"]]}]");
+      return;
+    }
+    requestsPerQuery.computeIfAbsent(query, key -> new AtomicInteger()).incrementAndGet();
+    timeParameters.add(params.get("time"));
+
+    if ("fail".equals(query)) {
+      exchange.sendResponseHeaders(500, -1);
+      exchange.close();
+      return;
+    }
+    var result = "empty".equals(query)
+        ? "[]"
+        : "[{\"metric\":{},\"value\":[1773396930.25,\"" + query.length() + "\"]}]";
+    respond(exchange, "vector", result);
+  }
+
+  private void respond(HttpExchange exchange, String resultType, String result) throws IOException {
+    var body = ("{\"status\":\"success\",\"data\":{\"resultType\":\"" + resultType + "\",\"result\":" + result + "}}")
+        .getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    try (var out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}
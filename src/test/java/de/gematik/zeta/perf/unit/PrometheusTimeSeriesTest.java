@@ -0,0 +1,101 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.perf.PrometheusTimeSeries;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link PrometheusTimeSeries}.
+ */
+class PrometheusTimeSeriesTest {
+
+  private static final Instant START = Instant.ofEpochSecond(1_700_000_000L);
+  private static final Duration STEP = Duration.ofSeconds(10);
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void alignsSamplesOntoGridAndMarksGapsAsMissing() {
+    var series = sampleSeries();
+
+    assertEquals(4, series.size());
+    assertEquals(1, series.missingCount("rate_per_s"));
+    assertEquals(90.0, series.min("rate_per_s"));
+    assertEquals(120.0, series.max("rate_per_s"));
+    assertTrue(Double.isNaN(series.column("rate_per_s")[2]));
+  }
+
+  @Test
+  void reportsFirstViolatingWindowAndQuantileOverTime() {
+    var series = sampleSeries();
+
+    assertEquals(START.plus(STEP), series.firstWindowBelow("rate_per_s", 100.0));
+    assertNull(series.firstWindowAbove("rate_per_s", 120.0));
+    assertEquals(110.0, series.quantile("rate_per_s", 0.5));
+  }
+
+  @Test
+  void csvRoundTripPreservesTimestampsAndGaps() throws Exception {
+    var series = sampleSeries();
+    Path file = tempDir.resolve("series.csv");
+
+    series.writeCsv(file);
+    var read = PrometheusTimeSeries.readCsv(file);
+
+    assertEquals("timestamp,rate_per_s,p95_ms", Files.readAllLines(file).getFirst());
+    assertArrayEquals(series.timestamps(), read.timestamps());
+    assertEquals(series.columnNames(), read.columnNames());
+    assertEquals(1, read.missingCount("rate_per_s"));
+    assertEquals(42.5, read.max("p95_ms"));
+  }
+
+  private PrometheusTimeSeries sampleSeries() {
+    long t0 = START.toEpochMilli();
+    NavigableMap<Long, Double> rate = new TreeMap<>(Map.of(
+        t0, 120.0, t0 + 10_000, 90.0, t0 + 30_000, 110.0, t0 + 40_000, 1.0));
+    NavigableMap<Long, Double> p95 = new TreeMap<>(Map.of(t0, 12.0, t0 + 10_000, 42.5));
+
+    Map<String, NavigableMap<Long, Double>> columns = new LinkedHashMap<>();
+    columns.put("rate_per_s", rate);
+    columns.put("p95_ms", p95);
+    return PrometheusTimeSeries.align(START, START.plusSeconds(35), STEP, columns);
+  }
+}
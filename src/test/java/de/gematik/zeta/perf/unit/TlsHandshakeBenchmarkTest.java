@@ -0,0 +1,225 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.perf.TlsHandshakeBenchmark;
+import de.gematik.zeta.perf.TlsHandshakeBenchmark.Mode;
+import java.math.BigInteger;
+import java.net.ServerSocket;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.TrustManagerFactory;
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TlsHandshakeBenchmark} against an embedded JSSE server.
+ */
+class TlsHandshakeBenchmarkTest {
+
+  private static final char[] PASSWORD = "changeit".toCharArray();
+  private static final String ECDSA_GCM = "TLS_ECDHE_ECDSA_WITH_AES_128_GCM_SHA256";
+
+  private final AtomicInteger accepted = new AtomicInteger();
+  private volatile long firstConnectionDelayMillis;
+  private volatile long closeDelayMillis;
+  private SSLServerSocket serverSocket;
+  private ExecutorService serverPool;
+  private KeyStore trustStore;
+
+  @BeforeEach
+  void startServer() throws Exception {
+    var generator = KeyPairGenerator.getInstance("EC");
+    generator.initialize(new ECGenParameterSpec("secp256r1"));
+    var keyPair = generator.generateKeyPair();
+    var name = new X500Name("CN=localhost");
+    var now = Instant.now();
+    var certificate = new JcaX509CertificateConverter().getCertificate(new JcaX509v3CertificateBuilder(
+        name, BigInteger.ONE, Date.from(now.minus(1, ChronoUnit.DAYS)), Date.from(now.plus(1, ChronoUnit.DAYS)), name, keyPair.getPublic())
+        .build(new JcaContentSignerBuilder("SHA256withECDSA").build(keyPair.getPrivate())));
+
+    var keyStore = KeyStore.getInstance("PKCS12");
+    keyStore.load(null, null);
+    keyStore.setKeyEntry("server", keyPair.getPrivate(), PASSWORD, new Certificate[] {certificate});
+    trustStore = KeyStore.getInstance("PKCS12");
+    trustStore.load(null, null);
+    trustStore.setCertificateEntry("server", certificate);
+
+    var keyManagers = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+    keyManagers.init(keyStore, PASSWORD);
+    var serverContext = SSLContext.getInstance("TLS");
+    serverContext.init(keyManagers.getKeyManagers(), null, null);
+    serverSocket = (SSLServerSocket) serverContext.getServerSocketFactory().createServerSocket(0);
+    serverPool = Executors.newCachedThreadPool();
+    serverPool.submit(() -> {
+      while (!serverSocket.isClosed()) {
+        var socket = (SSLSocket) serverSocket.accept();
+        var first = accepted.getAndIncrement() == 0;
+        serverPool.submit(() -> {
+          try (socket) {
+            if (first) {
+              Thread.sleep(firstConnectionDelayMillis);
+            }
+            socket.startHandshake();
+            socket.getInputStream().read();
+            Thread.sleep(closeDelayMillis);
+          }
+          return null;
+        });
+      }
+      return null;
+    });
+  }
+
+  @AfterEach
+  void stopServer() throws Exception {
+    serverSocket.close();
+    serverPool.shutdownNow();
+  }
+
+  @Test
+  void measuresFullHandshakesAndSkipsUnsupportedSuites() {
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.2", List.of("TLS_UNKNOWN_SUITE", ECDSA_GCM)).run(Mode.FULL, 2, 5);
+
+    assertEquals(10, result.handshakes());
+    assertEquals(0, result.errors());
+    assertEquals(0, result.resumed());
+    assertEquals(List.of("TLSv1.2 " + ECDSA_GCM), List.copyOf(result.negotiated()));
+    assertTrue(result.handshakesPerSecond() > 0);
+    assertNull(result.firstError());
+  }
+
+  @Test
+  void resumesTls12SessionsAfterPriming() {
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.2", List.of(ECDSA_GCM)).run(Mode.RESUMPTION, 2, 5);
+
+    assertEquals(10, result.handshakes());
+    assertEquals(10, result.resumed());
+  }
+
+  @Test
+  void resumesTls13SessionsWithPsk() {
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.3", List.of("TLS_AES_128_GCM_SHA256")).run(Mode.RESUMPTION, 2, 3);
+
+    assertEquals(6, result.handshakes());
+    assertEquals(6, result.resumed());
+    assertEquals(List.of("TLSv1.3 TLS_AES_128_GCM_SHA256"), List.copyOf(result.negotiated()));
+  }
+
+  @Test
+  void fullTls13HandshakesDoNotResume() {
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.3", List.of("TLS_AES_128_GCM_SHA256")).run(Mode.FULL, 2, 3);
+
+    assertEquals(6, result.handshakes());
+    assertEquals(0, result.resumed());
+  }
+
+  @Test
+  void primingHandshakeIsNotPartOfTheMeasuredPhase() {
+    firstConnectionDelayMillis = 1_000;
+
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.2", List.of(ECDSA_GCM)).run(Mode.RESUMPTION, 1, 1);
+
+    assertEquals(1, result.handshakes());
+    assertEquals(1, result.resumed());
+    assertTrue(result.elapsed().toMillis() < firstConnectionDelayMillis, "elapsed=" + result.elapsed());
+  }
+
+  @Test
+  void primingTls13HandshakeIsNotPartOfTheMeasuredPhase() {
+    firstConnectionDelayMillis = 1_000;
+
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.3", List.of("TLS_AES_128_GCM_SHA256")).run(Mode.RESUMPTION, 1, 1);
+
+    assertEquals(1, result.handshakes());
+    assertEquals(1, result.resumed());
+    assertTrue(result.elapsed().toMillis() < firstConnectionDelayMillis, "elapsed=" + result.elapsed());
+  }
+
+  @Test
+  void throughputExcludesTls13TicketCollection() {
+    closeDelayMillis = 150;
+
+    var result = benchmark(serverSocket.getLocalPort(), "TLSv1.3", List.of("TLS_AES_128_GCM_SHA256")).run(Mode.RESUMPTION, 1, 3);
+
+    assertEquals(3, result.handshakes());
+    var wallClockRate = result.handshakes() / (result.elapsed().toNanos() / 1e9);
+    assertTrue(result.elapsed().toMillis() >= 3 * closeDelayMillis, "elapsed=" + result.elapsed());
+    assertTrue(result.handshakesPerSecond() > 2 * wallClockRate,
+        "handshakes/s=" + result.handshakesPerSecond() + ", wall-clock rate=" + wallClockRate);
+  }
+
+  @Test
+  void countsFailedHandshakes() throws Exception {
+    int closedPort;
+    try (var socket = new ServerSocket(0)) {
+      closedPort = socket.getLocalPort();
+    }
+
+    var result = benchmark(closedPort, "TLSv1.2", List.of(ECDSA_GCM)).run(Mode.FULL, 2, 2);
+
+    assertEquals(0, result.handshakes());
+    assertEquals(4, result.errors());
+    assertNotNull(result.firstError());
+  }
+
+  private TlsHandshakeBenchmark benchmark(int port, String protocol, List<String> cipherSuites) {
+    return new TlsHandshakeBenchmark("localhost", port, () -> {
+      try {
+        var trustManagers = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagers.init(trustStore);
+        var context = SSLContext.getInstance("TLS");
+        context.init(null, trustManagers.getTrustManagers(), null);
+        return context;
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    }, List.of(protocol), cipherSuites, Duration.ofSeconds(5));
+  }
+}
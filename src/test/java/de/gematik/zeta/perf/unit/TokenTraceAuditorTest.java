@@ -0,0 +1,172 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.perf.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import de.gematik.zeta.perf.TokenTraceAuditor;
+import de.gematik.zeta.perf.TokenTraceAuditor.TokenKind;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TokenTraceAuditor}.
+ */
+class TokenTraceAuditorTest {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  @TempDir
+  Path tempDir;
+
+  private ECKey clientKey;
+  private ECKey serverKey;
+  private String accessToken;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    clientKey = new ECKeyGenerator(Curve.P_256).keyID("client").generate();
+    serverKey = new ECKeyGenerator(Curve.P_256).keyID("server").generate();
+    accessToken = sign(serverKey, new JWSHeader.Builder(JWSAlgorithm.ES256).keyID("server").build(),
+        new JWTClaimsSet.Builder().subject("client")
+            .claim("cnf", Map.of("jkt", clientKey.computeThumbprint().toString())).build());
+  }
+
+  @Test
+  void extractsTokensAndChecksDpopBindings() throws Exception {
+    var trace = writeTrace(
+        message("1", null, "POST /token HTTP/1.1\r\nDPoP: " + proof(null)
+            + "\r\nContent-Type: application/x-www-form-urlencoded\r\n\r\n"
+            + "grant_type=client_credentials&client_assertion=" + clientAssertion()),
+        message("2", "1", "HTTP/1.1 200 OK\r\nContent-Type: application/json\r\n\r\n"
+            + "{\"access_token\":\"" + accessToken + "\",\"token_type\":\"DPoP\"}"),
+        message("3", null, "GET /resource HTTP/1.1\r\nauthorization: DPoP " + accessToken
+            + "\r\ndpop: " + proof(ath(accessToken)) + "\r\n\r\n"));
+
+    var result = new TokenTraceAuditor(Map.of(), 2).audit(trace);
+
+    assertEquals(3, result.messages());
+    assertEquals(1L, result.tokens().get(TokenKind.ACCESS_TOKEN));
+    assertEquals(2L, result.tokens().get(TokenKind.DPOP_PROOF));
+    assertEquals(1L, result.tokens().get(TokenKind.CLIENT_ASSERTION));
+    assertEquals(2, result.bindings());
+    assertEquals(Map.of(), result.failureCounts(), result.describe());
+  }
+
+  @Test
+  void countsFailuresPerKindAndReason() throws Exception {
+    var trace = writeTrace(
+        message("1", null, "GET /resource HTTP/1.1\r\nAuthorization: DPoP " + accessToken
+            + "\r\nDPoP: " + proof("wrong-ath") + "\r\n\r\n"),
+        message("2", null, "GET /resource HTTP/1.1\r\nAuthorization: DPoP " + accessToken + "\r\n\r\n"),
+        message("3", null, "GET /resource HTTP/1.1\r\nAuthorization: Bearer not-a-jwt\r\n\r\n"));
+
+    var result = new TokenTraceAuditor(Map.of(), 4).audit(trace);
+
+    assertEquals(Map.of(
+        "ACCESS_TOKEN: not a well-formed signed JWT", 1L,
+        "DPOP_BINDING: DPoP access token sent without DPoP proof", 1L,
+        "DPOP_BINDING: ath does not match the access token", 1L), result.failureCounts());
+    assertEquals(3, result.totalFailures());
+  }
+
+  @Test
+  void appliesConfiguredChecksOncePerDistinctAccessToken() throws Exception {
+    var lines = new ArrayList<String>();
+    for (int i = 0; i < 50; i++) {
+      lines.add(message(String.valueOf(i), null,
+          "GET /resource HTTP/1.1\r\nAuthorization: Bearer " + accessToken + "\r\n\r\n"));
+    }
+    var trace = writeTrace(lines.toArray(String[]::new));
+
+    var result = new TokenTraceAuditor(Map.of(TokenKind.ACCESS_TOKEN,
+        List.of(token -> List.of("signature rejected"))), 4).audit(trace);
+
+    assertEquals(50, result.messages());
+    assertEquals(1L, result.tokens().get(TokenKind.ACCESS_TOKEN));
+    assertEquals(Map.of("ACCESS_TOKEN: signature rejected", 1L), result.failureCounts());
+  }
+
+  private String proof(String ath) throws Exception {
+    var claims = new JWTClaimsSet.Builder().jwtID("proof").claim("htm", "GET");
+    if (ath != null) {
+      claims.claim("ath", ath);
+    }
+    return sign(clientKey, new JWSHeader.Builder(JWSAlgorithm.ES256).type(new JOSEObjectType("dpop+jwt"))
+        .jwk(clientKey.toPublicJWK()).build(), claims.build());
+  }
+
+  private String clientAssertion() throws Exception {
+    return sign(clientKey, new JWSHeader.Builder(JWSAlgorithm.ES256).jwk(clientKey.toPublicJWK()).build(),
+        new JWTClaimsSet.Builder().issuer("client").subject("client").build());
+  }
+
+  private static String sign(ECKey key, JWSHeader header, JWTClaimsSet claims) throws Exception {
+    var jwt = new SignedJWT(header, claims);
+    jwt.sign(new ECDSASigner(key));
+    return jwt.serialize();
+  }
+
+  private static String ath(String token) throws Exception {
+    var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+  }
+
+  private static String message(String uuid, String pairedUuid, String http) throws Exception {
+    var node = JSON.createObjectNode()
+        .put("uuid", uuid)
+        .put("timestamp", "2025-01-01T00:00:00Z")
+        .put("rawMessageContent", http);
+    if (pairedUuid != null) {
+      node.put("pairedMessageUuid", pairedUuid);
+    }
+    return JSON.writeValueAsString(node);
+  }
+
+  private Path writeTrace(String... lines) throws Exception {
+    var trace = tempDir.resolve("trace.tgr");
+    Files.write(trace, List.of(lines), StandardCharsets.UTF_8);
+    return trace;
+  }
+}
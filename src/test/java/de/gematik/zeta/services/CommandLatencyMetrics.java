@@ -0,0 +1,182 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Aggregates the latency of executed system commands per command label, e.g. {@code kubectl get pods}, so slow
+ * cluster calls show up in the report instead of hiding in the overall scenario duration.
+ */
+@Slf4j
+public final class CommandLatencyMetrics {
+
+  private static final int MAX_LABEL_VERBS = 2;
+  private static final Set<String> OPTIONS_WITH_VALUE = Set.of(
+      "-n", "--namespace", "-o", "--output", "-l", "--selector", "-c", "--container", "-f", "--filename",
+      "--context", "--field-selector", "--timeout");
+
+  private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+  private final Duration slowThreshold;
+
+  /**
+   * Creates empty metrics.
+   *
+   * @param slowThreshold commands taking longer are counted and logged as slow
+   */
+  public CommandLatencyMetrics(Duration slowThreshold) {
+    this.slowThreshold = slowThreshold;
+  }
+
+  /**
+   * Records one finished command.
+   *
+   * @param command   executed command including binary
+   * @param elapsed   wall-clock duration of the command
+   * @param succeeded whether the command exited with code 0
+   */
+  public void record(List<String> command, Duration elapsed, boolean succeeded) {
+    String label = label(command);
+    Stats entry = stats.computeIfAbsent(label, key -> new Stats());
+    long nanos = elapsed.toNanos();
+    entry.count.increment();
+    entry.totalNanos.add(nanos);
+    entry.maxNanos.accumulate(nanos);
+    if (!succeeded) {
+      entry.failures.increment();
+    }
+    if (elapsed.compareTo(slowThreshold) > 0) {
+      entry.slow.increment();
+      log.warn("Slow command ({} ms): {}", elapsed.toMillis(), String.join(" ", command));
+    }
+  }
+
+  /**
+   * Returns the current per-label statistics, slowest total time first.
+   *
+   * @return immutable snapshot
+   */
+  public List<CommandLatency> snapshot() {
+    List<CommandLatency> result = new ArrayList<>();
+    stats.forEach((label, entry) -> {
+      long count = entry.count.sum();
+      long totalNanos = entry.totalNanos.sum();
+      result.add(new CommandLatency(label, count, entry.failures.sum(), entry.slow.sum(),
+          Duration.ofNanos(totalNanos), Duration.ofNanos(entry.maxNanos.get())));
+    });
+    result.sort(Comparator.comparing(CommandLatency::total).reversed());
+    return List.copyOf(result);
+  }
+
+  /**
+   * Renders the snapshot as a plain-text table for logs and report attachments.
+   *
+   * @return one line per command label
+   */
+  public String describe() {
+    StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+        "%-40s %7s %8s %6s %10s %10s %10s%n", "command", "count", "failures", "slow", "avg_ms", "max_ms", "total_ms"));
+    for (CommandLatency latency : snapshot()) {
+      text.append(String.format(Locale.ROOT, "%-40s %7d %8d %6d %10.1f %10d %10d%n",
+          latency.label(), latency.count(), latency.failures(), latency.slow(), latency.averageMillis(),
+          latency.max().toMillis(), latency.total().toMillis()));
+    }
+    return text.toString();
+  }
+
+  /**
+   * Discards all recorded statistics.
+   */
+  public void reset() {
+    stats.clear();
+  }
+
+  /**
+   * Derives the aggregation label of a command: the binary followed by its first positional arguments, skipping
+   * options and their values. {@code kubectl -n zeta get pods -o json} becomes {@code kubectl get pods}.
+   *
+   * @param command executed command including binary
+   * @return label used for aggregation
+   */
+  static String label(List<String> command) {
+    if (command.isEmpty()) {
+      return "";
+    }
+    int start = SystemCommandService.WSL.equals(command.getFirst()) && command.size() > 1 ? 1 : 0;
+    StringBuilder label = new StringBuilder(command.get(start));
+    int verbs = 0;
+    for (int i = start + 1; i < command.size() && verbs < MAX_LABEL_VERBS; i++) {
+      String argument = command.get(i);
+      if (OPTIONS_WITH_VALUE.contains(argument)) {
+        i++;
+      } else if (!argument.startsWith("-")) {
+        label.append(' ').append(argument.contains("/") ? argument.substring(0, argument.indexOf('/')) : argument);
+        verbs++;
+      }
+    }
+    return label.toString();
+  }
+
+  /**
+   * Latency statistics of one command label.
+   *
+   * @param label    command label
+   * @param count    number of executions
+   * @param failures executions with a non-zero exit code or timeout
+   * @param slow     executions above the slow threshold
+   * @param total    summed duration
+   * @param max      longest duration
+   */
+  public record CommandLatency(String label, long count, long failures, long slow, Duration total, Duration max) {
+
+    /**
+     * Returns the mean duration in milliseconds.
+     *
+     * @return average duration or 0 without executions
+     */
+    public double averageMillis() {
+      return count == 0 ? 0.0 : total.toNanos() / 1_000_000.0 / count;
+    }
+  }
+
+  private static final class Stats {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+  }
+}
@@ -0,0 +1,184 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.NoSuchProviderException;
+import java.security.Signature;
+import java.security.cert.X509Certificate;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Process-wide cache for the parsed key material used by JWT signature verification.
+ *
+ * <p>Verifying every token of a load trace otherwise re-parses the same JWKS document and x5c certificates and
+ * builds a new verifier per token. Key sets are cached by the SHA-256 of their JSON content, certificates by their
+ * base64 encoding and verifiers by their key. Nimbus verifiers are thread-safe and shared; the Bouncy Castle
+ * {@link Signature} fallback is not, so each thread gets its own instance. Each map is cleared once it exceeds
+ * {@link #MAX_ENTRIES} so a long run that rotates keys cannot grow it without bound.</p>
+ */
+@Slf4j
+public final class JwtVerifierCache {
+
+  private static final int MAX_ENTRIES = 256;
+  private static final JwtVerifierCache SHARED = new JwtVerifierCache();
+
+  private final Map<String, Map<Object, Object>> keySetsByHash = new ConcurrentHashMap<>();
+  private final Map<String, X509Certificate> certificates = new ConcurrentHashMap<>();
+  private final Map<Object, JWSVerifier> verifiers = new ConcurrentHashMap<>();
+  private final ThreadLocal<Signature> bcEcdsaSignature = new ThreadLocal<>();
+
+  /**
+   * Returns the cache shared by all step definition instances.
+   *
+   * @return shared cache
+   */
+  public static JwtVerifierCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the kid-indexed keys of a JWKS document, parsing it only once per distinct content.
+   *
+   * @param jwksJson JWKS JSON
+   * @param parser   parses the JSON into a kid-to-key map
+   * @return unmodifiable kid-to-key map
+   */
+  public Map<Object, Object> keySet(String jwksJson, Function<String, Map<Object, Object>> parser) {
+    if (jwksJson == null || jwksJson.isBlank()) {
+      return Map.of();
+    }
+    var hash = sha256(jwksJson);
+    var cached = keySetsByHash.get(hash);
+    if (cached != null) {
+      return cached;
+    }
+    var parsed = Map.copyOf(parser.apply(jwksJson));
+    boundedPut(keySetsByHash, hash, parsed);
+    return parsed;
+  }
+
+  /**
+   * Returns the parsed x5c certificate for its base64 encoding.
+   *
+   * @param base64Certificate base64 DER certificate as found in an x5c header
+   * @param parser            parses the certificate on a miss
+   * @return parsed certificate
+   */
+  public X509Certificate certificate(String base64Certificate, Function<String, X509Certificate> parser) {
+    var cached = certificates.get(base64Certificate);
+    if (cached != null) {
+      return cached;
+    }
+    var parsed = parser.apply(base64Certificate);
+    boundedPut(certificates, base64Certificate, parsed);
+    return parsed;
+  }
+
+  /**
+   * Returns the verifier for a key, creating it on first use.
+   *
+   * @param key     {@link JWK} or {@link java.security.PublicKey} the verifier is bound to
+   * @param factory creates the verifier on a miss
+   * @return shared verifier
+   * @throws JOSEException if the verifier cannot be created for the key
+   */
+  public JWSVerifier verifier(Object key, VerifierFactory factory) throws JOSEException {
+    var cached = verifiers.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    var created = factory.create();
+    boundedPut(verifiers, key, created);
+    return created;
+  }
+
+  /**
+   * Returns this thread's Bouncy Castle {@code SHA256withECDSA} instance; callers must re-initialize it with
+   * {@link Signature#initVerify(java.security.PublicKey)} before each use.
+   *
+   * @return thread-confined signature instance
+   * @throws NoSuchAlgorithmException if the algorithm is unavailable
+   * @throws NoSuchProviderException  if the BC provider is not registered
+   */
+  public Signature bcEcdsaSignature() throws NoSuchAlgorithmException, NoSuchProviderException {
+    var signature = bcEcdsaSignature.get();
+    if (signature == null) {
+      signature = Signature.getInstance("SHA256withECDSA", "BC");
+      bcEcdsaSignature.set(signature);
+    }
+    return signature;
+  }
+
+  /**
+   * Drops all cached keys, certificates and verifiers.
+   */
+  public void clear() {
+    keySetsByHash.clear();
+    certificates.clear();
+    verifiers.clear();
+  }
+
+  private static <K, V> void boundedPut(Map<K, V> map, K key, V value) {
+    if (map.size() >= MAX_ENTRIES) {
+      log.debug("JWT verifier cache exceeded {} entries; clearing.", MAX_ENTRIES);
+      map.clear();
+    }
+    map.putIfAbsent(key, value);
+  }
+
+  private static String sha256(String value) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * Creates a verifier for a cache miss.
+   */
+  @FunctionalInterface
+  public interface VerifierFactory {
+
+    /**
+     * Creates the verifier.
+     *
+     * @return new verifier
+     * @throws JOSEException if the key is not usable for verification
+     */
+    JWSVerifier create() throws JOSEException;
+  }
+}
@@ -0,0 +1,279 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import de.gematik.zeta.services.model.CommandResult;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived read-through cache for {@code kubectl get} results, keyed by namespace and resource.
+ *
+ * <p>Verification steps frequently read the same pods or ConfigMaps several times within a second; every
+ * read costs a kubectl process start plus an API round trip. Results are kept for a short TTL and dropped
+ * for the whole namespace as soon as a mutating kubectl command ({@code set}, {@code patch}, {@code apply},
+ * {@code delete}, {@code rollout undo}, ...) touches it. Only successful and {@code NotFound} results are
+ * cached so transient errors are retried on the next read.</p>
+ *
+ * <p>Step classes each create their own deployment service, so the cache is shared process-wide via
+ * {@link #shared(Duration)}; a mutation made through one service then invalidates the reads of all others.</p>
+ */
+@Slf4j
+public final class KubectlSnapshotCache {
+
+  private static final Set<String> MUTATING_VERBS = Set.of(
+      "annotate", "apply", "create", "delete", "edit", "label", "patch", "replace", "scale", "set");
+  private static final Set<String> MUTATING_ROLLOUT_ACTIONS = Set.of("pause", "restart", "resume", "undo");
+  private static final Set<String> FLAGS_WITH_VALUE = Set.of(
+      "-n", "--namespace", "-o", "--output", "-f", "--filename", "-l", "--selector", "--field-selector",
+      "--context", "--kubeconfig", "-c", "--container");
+
+  private static KubectlSnapshotCache shared;
+
+  private final Duration ttl;
+  private final LongSupplier nanoClock;
+  private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Creates a cache with the given time to live.
+   *
+   * @param ttl how long a read stays valid; zero or negative disables caching
+   */
+  public KubectlSnapshotCache(Duration ttl) {
+    this(ttl, System::nanoTime);
+  }
+
+  /**
+   * Creates a cache with the given time to live and clock.
+   *
+   * @param ttl       how long a read stays valid; zero or negative disables caching
+   * @param nanoClock monotonic clock in nanoseconds
+   */
+  public KubectlSnapshotCache(Duration ttl, LongSupplier nanoClock) {
+    this.ttl = ttl;
+    this.nanoClock = nanoClock;
+  }
+
+  /**
+   * Returns the cache shared by all deployment services of this JVM, creating it with the given TTL on first use.
+   * The TTL of the first caller wins; later callers asking for a different TTL get the existing cache.
+   *
+   * @param ttl how long a read stays valid; zero or negative disables caching
+   * @return shared cache
+   */
+  public static synchronized KubectlSnapshotCache shared(Duration ttl) {
+    if (shared == null) {
+      shared = new KubectlSnapshotCache(ttl);
+    } else if (!shared.ttl.equals(ttl)) {
+      log.warn("Shared kubectl snapshot cache already uses a TTL of {}; ignoring requested TTL {}.", shared.ttl, ttl);
+    }
+    return shared;
+  }
+
+  /**
+   * Returns a cached result for the resource if it is still fresh, otherwise loads and caches it.
+   *
+   * @param namespace Kubernetes namespace
+   * @param resource  resource identifier, e.g. {@code pods} or {@code configmap/pep-well-known}
+   * @param loader    runs the kubectl read on a cache miss
+   * @return cached or freshly loaded result
+   */
+  public CommandResult read(String namespace, String resource, Supplier<CommandResult> loader) {
+    return read(namespace, resource, loader, KubectlSnapshotCache::isCacheable);
+  }
+
+  /**
+   * Returns a cached value for the resource if it is still fresh, otherwise loads it and caches it if
+   * {@code cacheable} accepts it. A resource must always be read with the same value type.
+   *
+   * @param namespace Kubernetes namespace
+   * @param resource  resource identifier
+   * @param loader    runs the kubectl read on a cache miss
+   * @param cacheable decides whether a loaded value may be reused
+   * @param <T>       type of the cached value
+   * @return cached or freshly loaded value
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T read(String namespace, String resource, Supplier<T> loader, Predicate<? super T> cacheable) {
+    Entry entry = entries.get(new Key(namespace, resource));
+    if (entry != null && entry.expiresAtNanos() - nanoClock.getAsLong() > 0) {
+      hits.increment();
+      log.trace("kubectl snapshot hit: {}/{}", namespace, resource);
+      return (T) entry.value();
+    }
+    misses.increment();
+    return refresh(namespace, resource, loader, cacheable);
+  }
+
+  /**
+   * Loads the resource unconditionally and stores the result for subsequent {@link #read} calls.
+   *
+   * @param namespace Kubernetes namespace
+   * @param resource  resource identifier
+   * @param loader    runs the kubectl read
+   * @return freshly loaded result
+   */
+  public CommandResult refresh(String namespace, String resource, Supplier<CommandResult> loader) {
+    return refresh(namespace, resource, loader, KubectlSnapshotCache::isCacheable);
+  }
+
+  /**
+   * Loads the resource unconditionally and stores the value for subsequent {@link #read} calls if
+   * {@code cacheable} accepts it.
+   *
+   * @param namespace Kubernetes namespace
+   * @param resource  resource identifier
+   * @param loader    runs the kubectl read
+   * @param cacheable decides whether the loaded value may be reused
+   * @param <T>       type of the cached value
+   * @return freshly loaded value
+   */
+  public <T> T refresh(String namespace, String resource, Supplier<T> loader, Predicate<? super T> cacheable) {
+    T value = loader.get();
+    if (!ttl.isNegative() && !ttl.isZero() && cacheable.test(value)) {
+      entries.put(new Key(namespace, resource), new Entry(value, nanoClock.getAsLong() + ttl.toNanos()));
+    }
+    return value;
+  }
+
+  /**
+   * Drops all cached reads of a namespace.
+   *
+   * @param namespace Kubernetes namespace
+   */
+  public void invalidate(String namespace) {
+    entries.keySet().removeIf(key -> key.namespace().equals(namespace));
+  }
+
+  /**
+   * Drops every cached read.
+   */
+  public void invalidateAll() {
+    entries.clear();
+  }
+
+  /**
+   * Invalidates the affected namespace if the given kubectl arguments describe a mutating command.
+   * Commands without an explicit namespace invalidate the whole cache.
+   *
+   * @param arguments kubectl arguments without the binary name
+   */
+  public void invalidateAfter(List<String> arguments) {
+    if (!isMutating(arguments)) {
+      return;
+    }
+    String namespace = namespaceOf(arguments);
+    if (namespace == null) {
+      invalidateAll();
+    } else {
+      invalidate(namespace);
+    }
+  }
+
+  /**
+   * Returns the number of reads served from the cache.
+   *
+   * @return cache hits since creation
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of reads that had to run kubectl.
+   *
+   * @return cache misses since creation
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Tells whether kubectl arguments change cluster state.
+   *
+   * @param arguments kubectl arguments without the binary name
+   * @return {@code true} for mutating verbs
+   */
+  static boolean isMutating(List<String> arguments) {
+    List<String> positional = positionalArguments(arguments);
+    if (positional.isEmpty()) {
+      return false;
+    }
+    String verb = positional.getFirst();
+    if ("rollout".equals(verb)) {
+      return positional.size() > 1 && MUTATING_ROLLOUT_ACTIONS.contains(positional.get(1));
+    }
+    return MUTATING_VERBS.contains(verb);
+  }
+
+  private static String namespaceOf(List<String> arguments) {
+    for (int i = 0; i < arguments.size(); i++) {
+      String argument = arguments.get(i);
+      if (("-n".equals(argument) || "--namespace".equals(argument)) && i + 1 < arguments.size()) {
+        return arguments.get(i + 1);
+      }
+      if (argument.startsWith("--namespace=")) {
+        return argument.substring("--namespace=".length());
+      }
+    }
+    return null;
+  }
+
+  private static List<String> positionalArguments(List<String> arguments) {
+    List<String> positional = new ArrayList<>();
+    for (int i = 0; i < arguments.size(); i++) {
+      String argument = arguments.get(i);
+      if (FLAGS_WITH_VALUE.contains(argument)) {
+        i++;
+      } else if (!argument.startsWith("-")) {
+        positional.add(argument);
+      }
+    }
+    return positional;
+  }
+
+  private static boolean isCacheable(CommandResult result) {
+    return result.exitCode() == 0 || (result.stderr() != null && result.stderr().contains("NotFound"));
+  }
+
+  private record Key(String namespace, String resource) {
+
+  }
+
+  private record Entry(Object value, long expiresAtNanos) {
+
+  }
+}
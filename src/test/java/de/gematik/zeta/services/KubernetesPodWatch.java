@@ -0,0 +1,369 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory pod state of one namespace, kept current by a long-lived Kubernetes watch stream.
+ *
+ * <p>On every (re)connect the cache is seeded from a full pod list, and the watch is opened at the
+ * {@code resourceVersion} of that list, so no change between listing and watching is lost. The seeded state
+ * replaces the previous one in a single step; readers therefore never see an empty or partially replayed pod
+ * list. The watch stream is parsed incrementally: every {@code ADDED}, {@code MODIFIED} or {@code DELETED}
+ * event updates the cache, bumps {@link PodSnapshot#version()} and wakes all threads blocked in
+ * {@link #awaitChange(long, Duration)}. When the stream ends (kubectl exits, API connection is lost, the
+ * resource version expired) the watch relists and reconnects with a growing back-off; while disconnected
+ * {@link #isStreaming()} is {@code false}, the last state stays readable, and callers are expected to fall back
+ * to a regular {@code kubectl get pods}.</p>
+ */
+@Slf4j
+public final class KubernetesPodWatch implements AutoCloseable {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+  private static final Map<String, KubernetesPodWatch> SHARED = new ConcurrentHashMap<>();
+  private static final Duration MIN_RECONNECT_DELAY = Duration.ofSeconds(1);
+  private static final Duration MAX_RECONNECT_DELAY = Duration.ofSeconds(30);
+
+  static {
+    Runtime.getRuntime().addShutdownHook(new Thread(
+        () -> SHARED.values().forEach(KubernetesPodWatch::close), "kubernetes-pod-watch-shutdown"));
+  }
+
+  private final String namespace;
+  private final PodLister lister;
+  private final EventSource source;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private final Map<String, JsonNode> podsByName = new LinkedHashMap<>();
+
+  private long version;
+  private boolean streaming;
+  private boolean closed;
+  private InputStream currentStream;
+  private Thread reader;
+
+  /**
+   * Creates a watch for one namespace. Production code uses {@link #shared(String, PodLister, EventSource)}.
+   *
+   * @param namespace Kubernetes namespace to watch
+   * @param lister    lists the pods the cache is seeded with on every (re)connect
+   * @param source    opens a new watch event stream at the resource version of that list
+   */
+  public KubernetesPodWatch(String namespace, PodLister lister, EventSource source) {
+    this.namespace = namespace;
+    this.lister = lister;
+    this.source = source;
+  }
+
+  /**
+   * Returns the process-wide watch for a namespace, starting it on first use.
+   *
+   * @param namespace Kubernetes namespace to watch
+   * @param lister    pod lister used if the watch does not exist yet
+   * @param source    event source used if the watch does not exist yet
+   * @return started shared watch
+   */
+  public static KubernetesPodWatch shared(String namespace, PodLister lister, EventSource source) {
+    return SHARED.computeIfAbsent(namespace, ns -> new KubernetesPodWatch(ns, lister, source)).start();
+  }
+
+  /**
+   * Starts the background reader if it is not running yet.
+   *
+   * @return this watch
+   */
+  public KubernetesPodWatch start() {
+    lock.lock();
+    try {
+      if (reader == null && !closed) {
+        reader = Thread.ofVirtual().name("kubernetes-pod-watch-" + namespace).start(this::readLoop);
+      }
+      return this;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Tells whether the cache currently mirrors a live watch stream.
+   *
+   * @return {@code true} once the cache was seeded and the current stream has not ended since
+   */
+  public boolean isStreaming() {
+    lock.lock();
+    try {
+      return streaming;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the current pod list together with the version it belongs to.
+   *
+   * @return consistent snapshot of the cache; only authoritative if {@link PodSnapshot#live()} is set
+   */
+  public PodSnapshot snapshot() {
+    lock.lock();
+    try {
+      return new PodSnapshot(version, streaming, List.copyOf(podsByName.values()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Blocks until the cache moved past the given version, the stream state changed or the timeout elapsed.
+   *
+   * @param seenVersion version of the snapshot the caller evaluated last
+   * @param timeout     maximum waiting time
+   * @return {@code true} if a newer version is available
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  public boolean awaitChange(long seenVersion, Duration timeout) throws InterruptedException {
+    long remainingNanos = Math.max(0L, timeout.toNanos());
+    lock.lock();
+    try {
+      while (version == seenVersion && streaming && remainingNanos > 0) {
+        remainingNanos = changed.awaitNanos(remainingNanos);
+      }
+      return version != seenVersion;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops the reader and closes the current watch stream.
+   */
+  @Override
+  public void close() {
+    InputStream stream;
+    Thread thread;
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      streaming = false;
+      stream = currentStream;
+      thread = reader;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    SHARED.remove(namespace, this);
+    closeQuietly(stream);
+    if (thread != null) {
+      thread.interrupt();
+    }
+  }
+
+  /**
+   * Applies one watch event to the cache. Other event types, such as bookmarks, are ignored.
+   *
+   * @param event watch event as emitted by the Kubernetes watch API
+   */
+  void apply(JsonNode event) {
+    String type = event.path("type").asText("");
+    JsonNode pod = event.path("object");
+    String name = pod.path("metadata").path("name").asText("");
+
+    lock.lock();
+    try {
+      switch (type) {
+        case "ADDED", "MODIFIED" -> podsByName.put(name, pod);
+        case "DELETED" -> podsByName.remove(name);
+        default -> {
+          return;
+        }
+      }
+      version++;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void readLoop() {
+    Duration delay = MIN_RECONNECT_DELAY;
+    while (!isClosed()) {
+      try {
+        JsonNode podList = lister.list();
+        String resourceVersion = podList.path("metadata").path("resourceVersion").asText("");
+        try (InputStream stream = source.open(resourceVersion)) {
+          if (!attach(stream)) {
+            return;
+          }
+          // the iterator blocks on the first event, so the seeded list must be live before it is created
+          beginStream(podList.path("items"));
+          delay = MIN_RECONNECT_DELAY;
+          try (MappingIterator<JsonNode> events = JSON.readerFor(JsonNode.class).readValues(stream)) {
+            while (events.hasNextValue()) {
+              JsonNode event = events.nextValue();
+              if ("ERROR".equals(event.path("type").asText(""))) {
+                // e.g. 410 Gone once the resource version expired; relist before watching again
+                log.warn("Pod watch for namespace {} reported an error: {}", namespace, event.path("object"));
+                break;
+              }
+              apply(event);
+            }
+          }
+        }
+      } catch (IOException | RuntimeException e) {
+        if (!isClosed()) {
+          log.debug("Pod watch for namespace {} failed: {}", namespace, e.getMessage());
+        }
+      }
+
+      endStream();
+      if (isClosed()) {
+        return;
+      }
+      log.info("Pod watch for namespace {} disconnected, reconnecting in {} ms", namespace, delay.toMillis());
+      try {
+        TimeUnit.MILLISECONDS.sleep(delay.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      delay = delay.multipliedBy(2).compareTo(MAX_RECONNECT_DELAY) > 0 ? MAX_RECONNECT_DELAY : delay.multipliedBy(2);
+    }
+  }
+
+  private boolean attach(InputStream stream) {
+    lock.lock();
+    try {
+      currentStream = stream;
+      return !closed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void beginStream(JsonNode pods) {
+    lock.lock();
+    try {
+      podsByName.clear();
+      for (JsonNode pod : pods) {
+        podsByName.put(pod.path("metadata").path("name").asText(""), pod);
+      }
+      streaming = true;
+      version++;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    log.debug("Pod watch for namespace {} connected", namespace);
+  }
+
+  private void endStream() {
+    lock.lock();
+    try {
+      currentStream = null;
+      streaming = false;
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean isClosed() {
+    lock.lock();
+    try {
+      return closed;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void closeQuietly(InputStream stream) {
+    if (stream == null) {
+      return;
+    }
+    try {
+      stream.close();
+    } catch (IOException e) {
+      log.debug("Could not close pod watch stream: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Lists the pods of the namespace the cache is seeded with.
+   */
+  @FunctionalInterface
+  public interface PodLister {
+
+    /**
+     * Lists all pods.
+     *
+     * @return pod list as returned by {@code kubectl get pods -o json}, including {@code metadata.resourceVersion}
+     * @throws IOException if the pods cannot be listed
+     */
+    JsonNode list() throws IOException;
+  }
+
+  /**
+   * Opens a stream of Kubernetes watch events; closing the stream must stop the underlying watch.
+   */
+  @FunctionalInterface
+  public interface EventSource {
+
+    /**
+     * Opens a new event stream that starts after the given resource version.
+     *
+     * @param resourceVersion resource version of the pod list the cache was seeded with; blank if unknown
+     * @return stream of concatenated watch event JSON objects
+     * @throws IOException if the watch cannot be started
+     */
+    InputStream open(String resourceVersion) throws IOException;
+  }
+
+  /**
+   * Pods of the namespace at one cache version.
+   *
+   * @param version monotonically increasing cache version
+   * @param live    whether the snapshot was taken while the watch stream was connected
+   * @param pods    pod objects as returned by the Kubernetes API
+   */
+  public record PodSnapshot(long version, boolean live, List<JsonNode> pods) {
+
+  }
+}
@@ -0,0 +1,306 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import de.gematik.rbellogger.data.RbelElement;
+import de.gematik.rbellogger.data.core.TracingMessagePairFacet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Incremental index over the recorded RBel message history.
+ *
+ * <p>Timing and lookup steps used to scan the whole history and evaluate facets and RBel paths on every message
+ * for every lookup, which is quadratic over a long recording. The index remembers the last message it has seen
+ * and, on each {@link #refresh(Collection)}, only indexes messages appended since then; lookups of the response
+ * of a request are then O(1), and path lookups only touch the messages recorded for matching paths. Tiger parses
+ * and pairs messages asynchronously, so a message may be appended before its {@code $.path} or its
+ * {@link TracingMessagePairFacet} is available. Such messages stay pending and are checked again on every refresh
+ * until they are paired; their path is indexed at their original position once it appears. When Tiger
+ * evicts the oldest messages from a bounded history, the evicted messages are pruned from the index as well, so
+ * lookups never return a message that is no longer part of the history. If the history was cleared or no longer
+ * contains the last indexed message, the index is rebuilt.</p>
+ */
+@Slf4j
+public final class RbelMessageIndex {
+
+  private static final String PATH = "$.path";
+  private static final RbelMessageIndex SHARED = new RbelMessageIndex();
+
+  private final Map<String, RbelElement> responsesByRequestUuid = new HashMap<>();
+  private final Map<String, List<IndexedMessage>> messagesByPath = new LinkedHashMap<>();
+  private final Deque<RbelElement> indexedMessages = new ArrayDeque<>();
+  private final List<PendingMessage> pending = new ArrayList<>();
+  private long nextSequence;
+
+  /**
+   * Returns the index shared by all step definition instances.
+   *
+   * @return shared index
+   */
+  public static RbelMessageIndex shared() {
+    return SHARED;
+  }
+
+  /**
+   * Brings the index up to date with the given history, indexing only messages appended since the last refresh.
+   *
+   * @param messages the recorded message history, in recording order; may be {@code null}
+   * @return this index
+   */
+  public synchronized RbelMessageIndex refresh(Collection<RbelElement> messages) {
+    if (messages == null || messages.isEmpty()) {
+      reset();
+      return this;
+    }
+    var added = pruneEvicted(messages) ? appendedSinceLastRefresh(messages) : null;
+    if (added == null) {
+      log.debug("RBel message history changed; rebuilding index over {} messages", messages.size());
+      reset();
+      added = messages;
+    }
+    recheckPending();
+    for (var message : added) {
+      if (message != null) {
+        add(message);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Returns the response paired with a request.
+   *
+   * @param request the request message
+   * @return the correlated response, or {@code null} if none has been indexed
+   */
+  public synchronized RbelElement responseFor(RbelElement request) {
+    return request.getUuid() == null ? null : responsesByRequestUuid.get(request.getUuid());
+  }
+
+  /**
+   * Returns the earliest message whose path equals {@code path} or matches {@code pathPattern} and which satisfies
+   * the filter. The filter is evaluated only on messages of matching paths.
+   *
+   * @param path        literal path
+   * @param pathPattern compiled pattern searched within each recorded path
+   * @param filter      additional condition, e.g. an RBel path value match
+   * @return the earliest matching message, or {@code null}
+   */
+  public synchronized RbelElement firstWithPath(String path, Pattern pathPattern, Predicate<RbelElement> filter) {
+    IndexedMessage first = null;
+    for (var entry : messagesByPath.entrySet()) {
+      if (!entry.getKey().equals(path) && !pathPattern.matcher(entry.getKey()).find()) {
+        continue;
+      }
+      for (var candidate : entry.getValue()) {
+        if (first != null && candidate.sequence() > first.sequence()) {
+          break;
+        }
+        if (filter.test(candidate.message())) {
+          first = candidate;
+          break;
+        }
+      }
+    }
+    return first == null ? null : first.message();
+  }
+
+  /**
+   * Returns the number of indexed messages that are still part of the history.
+   *
+   * @return indexed message count
+   */
+  public synchronized long size() {
+    return indexedMessages.size();
+  }
+
+  /**
+   * Drops the indexed messages the history has evicted since the last refresh, i.e. all indexed messages before the
+   * oldest message of the history. Only evicted messages are visited, so an unrotated history costs a single check.
+   *
+   * @return {@code false} if the oldest message of the history was never indexed and the index must be rebuilt
+   */
+  private boolean pruneEvicted(Collection<RbelElement> messages) {
+    var oldest = messages instanceof Deque<RbelElement> deque ? deque.peekFirst()
+        : messages instanceof List<RbelElement> list ? list.getFirst() : messages.iterator().next();
+    var evicted = 0;
+    while (!indexedMessages.isEmpty() && indexedMessages.peekFirst() != oldest) {
+      var message = indexedMessages.pollFirst();
+      message.getFacet(TracingMessagePairFacet.class).ifPresent(pair -> {
+        if (pair.getRequest() != null && pair.getRequest().getUuid() != null) {
+          responsesByRequestUuid.remove(pair.getRequest().getUuid());
+        }
+      });
+      evicted++;
+    }
+    if (indexedMessages.isEmpty()) {
+      return false;
+    }
+    if (evicted > 0) {
+      var firstSequence = nextSequence - indexedMessages.size();
+      pending.removeIf(message -> message.indexed().sequence() < firstSequence);
+      for (var it = messagesByPath.values().iterator(); it.hasNext(); ) {
+        var indexed = it.next();
+        var stale = 0;
+        while (stale < indexed.size() && indexed.get(stale).sequence() < firstSequence) {
+          stale++;
+        }
+        indexed.subList(0, stale).clear();
+        if (indexed.isEmpty()) {
+          it.remove();
+        }
+      }
+      log.debug("Pruned {} messages evicted from the RBel message history", evicted);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the messages appended after the last indexed message, or {@code null} if it is no longer part of the
+   * history. Deques are walked from their tail and lists are sliced, so only new messages are visited.
+   */
+  private Collection<RbelElement> appendedSinceLastRefresh(Collection<RbelElement> messages) {
+    var lastIndexed = indexedMessages.peekLast();
+    var indexedCount = indexedMessages.size();
+    if (indexedCount > messages.size()) {
+      return null;
+    }
+    if (messages instanceof Deque<RbelElement> deque) {
+      var added = new ArrayDeque<RbelElement>();
+      for (var it = deque.descendingIterator(); it.hasNext(); ) {
+        var message = it.next();
+        if (message == lastIndexed) {
+          return added;
+        }
+        added.addFirst(message);
+      }
+      return null;
+    }
+    if (messages instanceof List<RbelElement> list) {
+      return list.get(indexedCount - 1) == lastIndexed ? list.subList(indexedCount, list.size()) : null;
+    }
+    var added = new ArrayList<RbelElement>();
+    var position = 0;
+    var found = false;
+    for (var message : messages) {
+      if (found) {
+        added.add(message);
+      } else if (++position == indexedCount) {
+        found = message == lastIndexed;
+        if (!found) {
+          return null;
+        }
+      }
+    }
+    return found ? added : null;
+  }
+
+  private void add(RbelElement message) {
+    var indexed = new IndexedMessage(nextSequence++, message);
+    indexedMessages.addLast(message);
+    var pathIndexed = indexPaths(indexed);
+    if (!indexPair(message)) {
+      pending.add(new PendingMessage(indexed, pathIndexed));
+    }
+  }
+
+  /**
+   * Indexes what Tiger has parsed or paired since the pending messages were last checked. A paired message has been
+   * parsed completely, so it is settled: a path it does not carry by then, e.g. as a response, will not appear.
+   */
+  private void recheckPending() {
+    for (var it = pending.listIterator(); it.hasNext(); ) {
+      var message = it.next();
+      var pathIndexed = message.pathIndexed() || indexPaths(message.indexed());
+      if (indexPair(message.indexed().message())) {
+        it.remove();
+      } else if (pathIndexed != message.pathIndexed()) {
+        it.set(new PendingMessage(message.indexed(), true));
+      }
+    }
+  }
+
+  private boolean indexPair(RbelElement message) {
+    var pair = message.getFacet(TracingMessagePairFacet.class).orElse(null);
+    if (pair == null) {
+      return false;
+    }
+    if (pair.getRequest() != null && pair.getRequest().getUuid() != null && pair.getResponse() != null) {
+      responsesByRequestUuid.putIfAbsent(pair.getRequest().getUuid(), pair.getResponse());
+    }
+    return true;
+  }
+
+  /**
+   * Records the message under each of its paths, keeping every path list in recording order even for pending
+   * messages whose path is only parsed after later messages were indexed.
+   *
+   * @return {@code true} if the message carries a path
+   */
+  private boolean indexPaths(IndexedMessage indexed) {
+    var paths = indexed.message().findRbelPathMembers(PATH).stream()
+        .map(RbelElement::getRawStringContent)
+        .filter(Objects::nonNull)
+        .map(String::trim)
+        .distinct()
+        .toList();
+    for (var path : paths) {
+      var messages = messagesByPath.computeIfAbsent(path, key -> new ArrayList<>());
+      var position = messages.size();
+      while (position > 0 && messages.get(position - 1).sequence() > indexed.sequence()) {
+        position--;
+      }
+      messages.add(position, indexed);
+    }
+    return !paths.isEmpty();
+  }
+
+  private void reset() {
+    responsesByRequestUuid.clear();
+    messagesByPath.clear();
+    indexedMessages.clear();
+    pending.clear();
+    nextSequence = 0;
+  }
+
+  private record IndexedMessage(long sequence, RbelElement message) {
+
+  }
+
+  private record PendingMessage(IndexedMessage indexed, boolean pathIndexed) {
+
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import de.gematik.rbellogger.data.RbelElement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memoizes RBel-path evaluations and parsed JSON trees for the message a scenario is currently looking at.
+ *
+ * <p>Consecutive steps of a scenario evaluate the same RBel paths against the current request and parse the same
+ * resolved JSON or header text again and again. Path results are cached by path and JSON trees by their text; both
+ * belong to the message they were computed for and are dropped as soon as a lookup is made for a message with a
+ * different UUID, or when {@link #invalidate()} is called at the start of a scenario. The JSON cache is additionally
+ * cleared once it exceeds {@link #MAX_JSON_TREES} entries. Cached trees are shared between callers and must be
+ * treated as read-only.</p>
+ */
+@Slf4j
+public final class RbelPathMemo {
+
+  private static final int MAX_JSON_TREES = 256;
+  private static final RbelPathMemo SHARED = new RbelPathMemo();
+
+  private final Map<String, List<RbelElement>> membersByPath = new HashMap<>();
+  private final Map<String, Optional<String>> valuesByPath = new HashMap<>();
+  private final Map<JsonKey, JsonNode> jsonTrees = new HashMap<>();
+  private String messageUuid;
+
+  /**
+   * Returns the memo shared by all step definition instances.
+   *
+   * @return shared memo
+   */
+  public static RbelPathMemo shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the elements matching an RBel path in the given message, evaluating the path only once per message.
+   *
+   * @param message  message to evaluate the path against
+   * @param rbelPath RBel path expression
+   * @return unmodifiable list of matching elements, empty if the path does not match
+   */
+  public synchronized List<RbelElement> members(RbelElement message, String rbelPath) {
+    Objects.requireNonNull(message, "message");
+    switchTo(message.getUuid());
+    return membersByPath.computeIfAbsent(rbelPath, path -> List.copyOf(message.findRbelPathMembers(path)));
+  }
+
+  /**
+   * Returns the trimmed raw string contents of all elements matching an RBel path, concatenated in document order.
+   *
+   * @param message  message to evaluate the path against
+   * @param rbelPath RBel path expression
+   * @return the concatenated value, or empty if the path does not match
+   */
+  public synchronized Optional<String> joinedValue(RbelElement message, String rbelPath) {
+    Objects.requireNonNull(message, "message");
+    switchTo(message.getUuid());
+    var cached = valuesByPath.get(rbelPath);
+    if (cached != null) {
+      return cached;
+    }
+    var members = members(message, rbelPath);
+    var value = members.isEmpty()
+        ? Optional.<String>empty()
+        : Optional.of(members.stream()
+            .map(RbelElement::getRawStringContent)
+            .filter(Objects::nonNull)
+            .map(String::trim)
+            .collect(Collectors.joining()));
+    valuesByPath.put(rbelPath, value);
+    return value;
+  }
+
+  /**
+   * Returns the parsed tree for a JSON or header text, parsing each distinct text only once while the given message
+   * stays current. Parse failures are not cached.
+   *
+   * @param currentMessage message the text was taken from; {@code null} if no message is selected
+   * @param text           JSON or header text
+   * @param isHeader       whether the text may be a raw header block
+   * @param parser         parses the text on a miss
+   * @return shared, read-only tree
+   */
+  public synchronized JsonNode jsonTree(RbelElement currentMessage, String text, boolean isHeader, Function<String, JsonNode> parser) {
+    if (currentMessage != null) {
+      switchTo(currentMessage.getUuid());
+    }
+    var key = new JsonKey(isHeader, text);
+    var cached = jsonTrees.get(key);
+    if (cached != null) {
+      return cached;
+    }
+    var parsed = parser.apply(text);
+    if (jsonTrees.size() >= MAX_JSON_TREES) {
+      log.debug("Parsed JSON memo exceeded {} entries; clearing.", MAX_JSON_TREES);
+      jsonTrees.clear();
+    }
+    jsonTrees.put(key, parsed);
+    return parsed;
+  }
+
+  /**
+   * Drops all memoized path results and JSON trees.
+   */
+  public synchronized void invalidate() {
+    membersByPath.clear();
+    valuesByPath.clear();
+    jsonTrees.clear();
+    messageUuid = null;
+  }
+
+  private void switchTo(String uuid) {
+    if (!Objects.equals(messageUuid, uuid)) {
+      invalidate();
+      messageUuid = uuid;
+    }
+  }
+
+  private record JsonKey(boolean isHeader, String text) {
+
+  }
+}
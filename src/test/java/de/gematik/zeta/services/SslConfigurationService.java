@@ -52,27 +52,36 @@ public class SslConfigurationService {
   public static synchronized SSLContext getTrustAllSslContext() throws Exception {
     if (trustAllSslContext == null) {
       log.info("Creating TrustAll SSLContext (once)");
+      trustAllSslContext = newTrustAllSslContext();
+      log.info("TrustAll SSLContext created and cached");
+    }
+    return trustAllSslContext;
+  }
 
-      TrustManager[] trustAllCerts = new TrustManager[]{
-          new X509TrustManager() {
-            public X509Certificate[] getAcceptedIssuers() {
-              return null;
-            }
-
-            public void checkClientTrusted(X509Certificate[] certs, String authType) {
-            }
+  /**
+   * Creates a new, uncached TrustAll SSLContext. Each context has its own client session cache,
+   * so callers can simulate independent TLS clients.
+   *
+   * @return new TrustAll SSLContext
+   */
+  public static SSLContext newTrustAllSslContext() throws Exception {
+    TrustManager[] trustAllCerts = new TrustManager[]{
+        new X509TrustManager() {
+          public X509Certificate[] getAcceptedIssuers() {
+            return null;
+          }
 
-            public void checkServerTrusted(X509Certificate[] certs, String authType) {
-            }
+          public void checkClientTrusted(X509Certificate[] certs, String authType) {
           }
-      };
 
-      trustAllSslContext = SSLContext.getInstance("TLS");
-      trustAllSslContext.init(null, trustAllCerts, new SecureRandom());
+          public void checkServerTrusted(X509Certificate[] certs, String authType) {
+          }
+        }
+    };
 
-      log.info("TrustAll SSLContext created and cached");
-    }
-    return trustAllSslContext;
+    SSLContext sslContext = SSLContext.getInstance("TLS");
+    sslContext.init(null, trustAllCerts, new SecureRandom());
+    return sslContext;
   }
 
   /**
@@ -0,0 +1,301 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+
+package de.gematik.zeta.services;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Process-wide task scheduler for STOMP heartbeats.
+ *
+ * <p>All STOMP clients created by {@link WebSocketClientFactory} share one small scheduler pool.
+ * The pool is started on the first {@link #acquire(HeartbeatMonitor)} and shut down when the last holder calls
+ * {@link #release()}. Every fixed-delay heartbeat task is instrumented so that late ticks (the scheduler could not keep
+ * up) and missed server heartbeats become visible in the report. The metrics are kept in the {@link HeartbeatMonitor}
+ * passed on acquisition rather than in the shared pool, so scenarios running in parallel only see their own
+ * heartbeats.</p>
+ */
+@Slf4j
+public final class StompHeartbeatScheduler {
+
+  private static final int POOL_SIZE = 2;
+  /**
+   * Message prefix of the failure Spring's STOMP session reports when its read-inactivity check fires.
+   */
+  private static final String READ_INACTIVITY_MESSAGE = "Server has gone quiet";
+  private static final StompHeartbeatScheduler SHARED = new StompHeartbeatScheduler(POOL_SIZE);
+
+  private final int poolSize;
+
+  private ThreadPoolTaskScheduler scheduler;
+  private int references;
+
+  /**
+   * Creates a scheduler holder with the given pool size. Production code uses {@link #shared()}.
+   *
+   * @param poolSize number of scheduler threads used while at least one client holds a reference
+   */
+  public StompHeartbeatScheduler(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  /**
+   * Returns the process-wide heartbeat scheduler.
+   *
+   * @return shared scheduler instance
+   */
+  public static StompHeartbeatScheduler shared() {
+    return SHARED;
+  }
+
+  /**
+   * Acquires a reference to the shared scheduler, starting it if necessary.
+   *
+   * @param monitor metrics the heartbeat tasks scheduled through the returned scheduler report to
+   * @return task scheduler to hand to a STOMP client
+   */
+  public synchronized TaskScheduler acquire(HeartbeatMonitor monitor) {
+    if (scheduler == null) {
+      scheduler = new ThreadPoolTaskScheduler();
+      scheduler.setPoolSize(poolSize);
+      scheduler.setThreadNamePrefix("stomp-heartbeat-");
+      scheduler.setDaemon(true);
+      scheduler.afterPropertiesSet();
+      log.debug("Started shared STOMP heartbeat scheduler with {} threads", poolSize);
+    }
+    references++;
+    return new MonitoredTaskScheduler(scheduler, monitor);
+  }
+
+  /**
+   * Releases a reference obtained by {@link #acquire(HeartbeatMonitor)} and shuts the pool down once unused.
+   */
+  public synchronized void release() {
+    if (references == 0) {
+      log.warn("STOMP heartbeat scheduler released more often than acquired");
+      return;
+    }
+    references--;
+    if (references == 0 && scheduler != null) {
+      scheduler.shutdown();
+      scheduler = null;
+      log.info("Shut down shared STOMP heartbeat scheduler");
+    }
+  }
+
+  /**
+   * Returns the number of clients currently holding the scheduler.
+   *
+   * @return active reference count
+   */
+  public synchronized int getReferenceCount() {
+    return references;
+  }
+
+  /**
+   * Tells whether a STOMP transport error was caused by a read-inactivity timeout. Other connection losses, such as
+   * a server closing the WebSocket or a network reset, are not heartbeat failures.
+   *
+   * @param error error reported to the STOMP session handler
+   * @return {@code true} if the error or one of its causes reports a missed server heartbeat
+   */
+  public static boolean isHeartbeatTimeout(Throwable error) {
+    for (var current = error; current != null; current = current.getCause() == current ? null : current.getCause()) {
+      var message = current.getMessage();
+      if (message != null && message.startsWith(READ_INACTIVITY_MESSAGE)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Heartbeat metrics of one owner, typically the {@link WebSocketClientFactory} of a single scenario.
+   */
+  public static final class HeartbeatMonitor {
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder lateTicks = new LongAdder();
+    private final LongAdder totalLagMs = new LongAdder();
+    private final LongAccumulator maxLagMs = new LongAccumulator(Math::max, 0L);
+    private final LongAdder missedHeartbeats = new LongAdder();
+
+    /**
+     * Records a read-inactivity timeout, i.e. the server did not send a heartbeat in time.
+     */
+    public void recordMissedHeartbeat() {
+      missedHeartbeats.increment();
+    }
+
+    /**
+     * Returns the heartbeat metrics collected since creation or the last {@link #reset()}.
+     *
+     * @return immutable metrics snapshot
+     */
+    public HeartbeatMetrics snapshot() {
+      return new HeartbeatMetrics(
+          ticks.sum(),
+          lateTicks.sum(),
+          totalLagMs.sum(),
+          maxLagMs.get(),
+          missedHeartbeats.sum());
+    }
+
+    /**
+     * Clears all collected heartbeat metrics.
+     */
+    public void reset() {
+      ticks.reset();
+      lateTicks.reset();
+      totalLagMs.reset();
+      maxLagMs.reset();
+      missedHeartbeats.reset();
+    }
+
+    /**
+     * Records the lag of one heartbeat tick.
+     *
+     * @param lagMs    delay between the planned and the actual execution
+     * @param periodMs configured tick period
+     */
+    void recordTick(long lagMs, long periodMs) {
+      var lag = Math.max(0L, lagMs);
+      ticks.increment();
+      totalLagMs.add(lag);
+      maxLagMs.accumulate(lag);
+      // Heartbeat checks run at half the heartbeat interval; lagging a full period risks a timeout.
+      if (lag >= periodMs) {
+        lateTicks.increment();
+      }
+    }
+
+    /**
+     * Wraps a periodic task so every execution reports its lag against the planned schedule.
+     *
+     * @param task     heartbeat task provided by the STOMP client
+     * @param periodMs fixed delay between two executions
+     * @return instrumented task
+     */
+    Runnable instrument(Runnable task, long periodMs) {
+      var lastCompletion = new AtomicLong(System.nanoTime());
+      return () -> {
+        var started = System.nanoTime();
+        recordTick(Duration.ofNanos(started - lastCompletion.get()).toMillis() - periodMs, periodMs);
+        try {
+          task.run();
+        } finally {
+          lastCompletion.set(System.nanoTime());
+        }
+      };
+    }
+  }
+
+  /**
+   * Aggregated heartbeat scheduling metrics.
+   *
+   * @param ticks            number of executed heartbeat checks
+   * @param lateTicks        checks that ran at least one full period late
+   * @param totalLagMs       summed scheduling lag in milliseconds
+   * @param maxLagMs         largest observed scheduling lag in milliseconds
+   * @param missedHeartbeats read-inactivity timeouts reported by STOMP sessions
+   */
+  public record HeartbeatMetrics(
+      long ticks, long lateTicks, long totalLagMs, long maxLagMs, long missedHeartbeats) {
+
+    /**
+     * Returns the mean scheduling lag.
+     *
+     * @return average lag in milliseconds, {@code 0} without ticks
+     */
+    public double avgLagMs() {
+      return ticks == 0 ? 0.0 : (double) totalLagMs / ticks;
+    }
+
+    /**
+     * Formats the metrics for logs and report entries.
+     *
+     * @return single-line description
+     */
+    public String describe() {
+      return String.format(
+          Locale.ROOT,
+          "ticks=%d, lateTicks=%d, avgLagMs=%.1f, maxLagMs=%d, missedHeartbeats=%d",
+          ticks, lateTicks, avgLagMs(), maxLagMs, missedHeartbeats);
+    }
+  }
+
+  /**
+   * View on the shared pool that instruments the fixed-delay tasks used by Spring's STOMP heartbeat handling and
+   * reports them to one {@link HeartbeatMonitor}.
+   */
+  private record MonitoredTaskScheduler(ThreadPoolTaskScheduler delegate, HeartbeatMonitor monitor) implements TaskScheduler {
+
+    @Override
+    public Clock getClock() {
+      return delegate.getClock();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+      return delegate.schedule(task, trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Instant startTime) {
+      return delegate.schedule(task, startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Instant startTime, Duration period) {
+      return delegate.scheduleAtFixedRate(task, startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Duration period) {
+      return delegate.scheduleAtFixedRate(task, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Instant startTime, Duration delay) {
+      return delegate.scheduleWithFixedDelay(monitor.instrument(task, delay.toMillis()), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Duration delay) {
+      return delegate.scheduleWithFixedDelay(monitor.instrument(task, delay.toMillis()), delay);
+    }
+  }
+}
@@ -63,6 +63,7 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketHttpHeaders;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
 
 /**
  * Manages STOMP session lifecycle, subscriptions, and message handling.
@@ -112,6 +113,10 @@ public class StompSessionManager {
    * Persistent raw WebSocket connection for transport-level scenarios.
    */
   private WebSocketSession rawWebSocket;
+  /**
+   * STOMP client of the current session; holds a reference on the shared heartbeat scheduler.
+   */
+  private WebSocketStompClient stompClient;
 
   /**
    * Performs a transport-level WebSocket upgrade probe without STOMP.
@@ -155,8 +160,11 @@ public class StompSessionManager {
     stompConnectHeaders.setAcceptVersion(STOMP_ACCEPT_VERSION);
     stompConnectHeaders.setHost(URI.create(sanitizedUrl).getHost());
 
-    // Create WebSocket client directly before connect to keep declaration close to usage.
-    var stompClient = clientFactory.create();
+    // Create WebSocket client directly before connect to keep declaration close to usage. A previous session must be
+    // disconnected first, otherwise releasing its client could shut down the scheduler its heartbeats still run on.
+    disconnectSession();
+    releaseStompClient();
+    stompClient = clientFactory.create();
     // Keep handshake state so we can block until the asynchronous connect attempt finishes.
     var connectLatch = new CountDownLatch(1);
     var connectionError = new AtomicReference<Throwable>();
@@ -365,6 +373,9 @@ public class StompSessionManager {
       public void handleTransportError(@NotNull StompSession activeSession,
           @NotNull Throwable exception) {
         log.error("Transport error during WebSocket handshake", exception);
+        if (StompHeartbeatScheduler.isHeartbeatTimeout(exception)) {
+          clientFactory.getHeartbeatMonitor().recordMissedHeartbeat();
+        }
         connectionError.compareAndSet(null, exception);
         connectLatch.countDown();
       }
@@ -492,6 +503,14 @@ public class StompSessionManager {
    * Closes the WebSocket connection.
    */
   public void close() {
+    disconnectSession();
+    closeRawConnectionArtifacts();
+    releaseStompClient();
+
+    messageQueue.clear();
+  }
+
+  private void disconnectSession() {
     if (session != null && session.isConnected()) {
       log.info("Closing WebSocket...");
 
@@ -505,9 +524,11 @@ public class StompSessionManager {
     } else {
       log.info("WebSocket was already closed or not connected");
     }
-    closeRawConnectionArtifacts();
+  }
 
-    messageQueue.clear();
+  private void releaseStompClient() {
+    clientFactory.release(stompClient);
+    stompClient = null;
   }
 
   private void closeRawConnectionArtifacts() {
@@ -27,20 +27,33 @@ package de.gematik.zeta.services;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import de.gematik.zeta.services.model.CommandResult;
+import de.gematik.zeta.services.model.StreamingCommandResult;
 import java.io.BufferedReader;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
-import org.jspecify.annotations.NonNull;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Provides functionality to execute system commands in a separate process.
+ *
+ * <p>Stdout and stderr are drained by virtual threads, so many short-lived services do not pin platform threads.
+ * Stdout can either be collected as text or handed to a {@link StdoutReader} that consumes it incrementally, e.g. a
+ * Jackson parser for large {@code kubectl get -o json} outputs. Only the tail of stderr is retained, and the latency of
+ * every command is recorded in {@link #metrics()}, scoped to the current scenario once
+ * {@link #startScenarioMetrics()} was called.
  */
 @Slf4j
 public class SystemCommandService implements AutoCloseable {
@@ -49,7 +62,13 @@ public class SystemCommandService implements AutoCloseable {
   public static final String WSL_PATH_USERS = "/mnt/c/Users/";
   public static final String WSL = "wsl";
 
-  private final ThreadPoolTaskExecutor executor = setupExecutor();
+  static final int MAX_STDERR_CHARS = 16 * 1024;
+  private static final int STDOUT_CHUNK_BYTES = 8 * 1024;
+  private static final Duration SLOW_COMMAND_THRESHOLD = Duration.ofSeconds(5);
+  private static final CommandLatencyMetrics UNSCOPED_METRICS = new CommandLatencyMetrics(SLOW_COMMAND_THRESHOLD);
+  private static final ThreadLocal<CommandLatencyMetrics> SCENARIO_METRICS = new InheritableThreadLocal<>();
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
   private final int processTimeoutSeconds;
 
   /**
@@ -61,6 +80,34 @@ public class SystemCommandService implements AutoCloseable {
     this.processTimeoutSeconds = processTimeoutSeconds;
   }
 
+  /**
+   * Returns the latency metrics commands of the current thread are recorded in. Within a scenario scope these are the
+   * scenario's own metrics, so parallel scenarios never see or reset each other's commands; outside of it all commands
+   * share one set of metrics.
+   *
+   * @return command latency metrics of the current scenario, or the unscoped metrics
+   */
+  public static CommandLatencyMetrics metrics() {
+    var scenarioMetrics = SCENARIO_METRICS.get();
+    return scenarioMetrics != null ? scenarioMetrics : UNSCOPED_METRICS;
+  }
+
+  /**
+   * Starts empty command latency metrics for the scenario running on the current thread. Threads started by the
+   * scenario afterwards record into the same metrics.
+   */
+  public static void startScenarioMetrics() {
+    SCENARIO_METRICS.set(new CommandLatencyMetrics(SLOW_COMMAND_THRESHOLD));
+  }
+
+  /**
+   * Ends the scenario scope started by {@link #startScenarioMetrics()}; later commands of the thread are recorded in the
+   * unscoped metrics again.
+   */
+  public static void endScenarioMetrics() {
+    SCENARIO_METRICS.remove();
+  }
+
   /**
    * Executes the given command in a new process and returns the result.
    *
@@ -79,25 +126,29 @@ public class SystemCommandService implements AutoCloseable {
    * @return Execution result of given command
    */
   public CommandResult executeCommand(List<String> command, boolean verbose) {
-    String commandLine = String.join(" ", command);
-
-    boolean isWindows = System.getProperty("os.name").toLowerCase().contains("win");
-
-    if (isWindows) {
-      command.add(0, WSL);
-
-      // adapt path in command
-      command = command.stream()
-          .map(s -> s.contains(WIN_PATH_USERS)
-              ? s.replace(WIN_PATH_USERS, WSL_PATH_USERS).replace("\\", "/")
-              : s)
-          .toList();
-
-      // adapt path in logging string
-      commandLine = String.join(" ", command);
+    StreamingCommandResult<String> result = executeCommand(command, verbose, SystemCommandService::readStream);
+    if (!result.value().isBlank() && verbose) {
+      log.trace("Command stdout:\n{}", result.value());
     }
+    return new CommandResult(result.command(), result.exitCode(), result.value(), result.stderr());
+  }
+
+  /**
+   * Executes the given command in a new process and hands its stdout to {@code stdoutReader} while the process is
+   * still running. Output the reader leaves unread is drained, so the process never blocks on a full pipe.
+   *
+   * @param command      Full command to be passed to process
+   * @param verbose      logging of error messages
+   * @param stdoutReader consumer of the stdout stream
+   * @param <T>          type of the value produced from stdout
+   * @return Execution result of given command carrying the value produced by {@code stdoutReader}
+   */
+  public <T> StreamingCommandResult<T> executeCommand(List<String> command, boolean verbose, StdoutReader<T> stdoutReader) {
+    command = adaptToPlatform(command);
+    String commandLine = String.join(" ", command);
     log.debug("Trying to execute: {}", commandLine);
 
+    long startNanos = System.nanoTime();
     Process process;
     try {
       process = new ProcessBuilder(command).start();
@@ -105,13 +156,13 @@ public class SystemCommandService implements AutoCloseable {
       throw new AssertionError("Failed to start command: " + commandLine, e);
     }
 
-    Future<String> stdoutFuture;
+    Future<T> stdoutFuture;
     Future<String> stderrFuture;
     int exitCode;
 
     try {
-      stdoutFuture = executor.submit(() -> readStream(process.getInputStream()));
-      stderrFuture = executor.submit(() -> readStream(process.getErrorStream()));
+      stdoutFuture = executor.submit(() -> readFully(process.getInputStream(), stdoutReader));
+      stderrFuture = executor.submit(() -> readStreamTail(process.getErrorStream(), MAX_STDERR_CHARS));
 
       boolean completed = process.waitFor(processTimeoutSeconds, TimeUnit.SECONDS);
       if (completed) {
@@ -121,6 +172,7 @@ public class SystemCommandService implements AutoCloseable {
         if (process.isAlive()) {
           process.destroyForcibly();
         }
+        metrics().record(command, Duration.ofNanos(System.nanoTime() - startNanos), false);
         throw new AssertionError(String.format("Process exceeded timeout limit of %d seconds", processTimeoutSeconds));
       }
     } catch (AssertionError e) {
@@ -134,13 +186,12 @@ public class SystemCommandService implements AutoCloseable {
       throw new AssertionError(String.format("Unexpected error executing command: %s", commandLine), e);
     }
 
-    String stdout = getFutureValue(stdoutFuture, "stdout", commandLine);
+    T stdout = getFutureValue(stdoutFuture, "stdout", commandLine);
     String stderr = getFutureValue(stderrFuture, "stderr", commandLine);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+    metrics().record(command, elapsed, exitCode == 0);
 
-    log.debug("Command exit code: {}", exitCode);
-    if (!stdout.isBlank() && verbose) {
-      log.trace("Command stdout:\n{}", stdout);
-    }
+    log.debug("Command exit code: {} after {} ms", exitCode, elapsed.toMillis());
     if (!stderr.isBlank() && verbose) {
       if (exitCode == 0) {
         log.warn("Command stderr:\n{}", stderr);
@@ -149,7 +200,66 @@ public class SystemCommandService implements AutoCloseable {
       }
     }
 
-    return new CommandResult(List.copyOf(command), exitCode, stdout, stderr);
+    return new StreamingCommandResult<>(List.copyOf(command), exitCode, stdout, stderr, elapsed);
+  }
+
+  /**
+   * Creates a {@link StdoutReader} that passes stdout to {@code consumer} in chunks as it arrives. The buffer is reused
+   * between calls, so the consumer must not retain it.
+   *
+   * @param consumer receiver of stdout chunks
+   * @return reader producing the total number of bytes read
+   */
+  public static StdoutReader<Long> chunked(Consumer<ByteBuffer> consumer) {
+    return stdout -> {
+      byte[] buffer = new byte[STDOUT_CHUNK_BYTES];
+      long total = 0;
+      int read;
+      while ((read = stdout.read(buffer)) != -1) {
+        consumer.accept(ByteBuffer.wrap(buffer, 0, read).asReadOnlyBuffer());
+        total += read;
+      }
+      return total;
+    };
+  }
+
+  /**
+   * Starts a long-running command whose stdout is consumed by the caller, e.g. a {@code kubectl --watch}
+   * stream. Stderr is discarded; destroying the process ends the stream.
+   *
+   * @param command Full command to be passed to process
+   * @return Started process
+   * @throws IOException if the process cannot be started
+   */
+  public static Process startStreamingCommand(List<String> command) throws IOException {
+    List<String> platformCommand = adaptToPlatform(command);
+    log.debug("Starting streaming command: {}", String.join(" ", platformCommand));
+    return new ProcessBuilder(platformCommand)
+        .redirectError(ProcessBuilder.Redirect.DISCARD)
+        .start();
+  }
+
+  /**
+   * Prefixes the command with WSL on Windows and maps Windows user paths to their WSL mount.
+   *
+   * @param command Full command to be passed to process
+   * @return Command to run on the current platform
+   */
+  private static List<String> adaptToPlatform(List<String> command) {
+    boolean isWindows = System.getProperty("os.name").toLowerCase().contains("win");
+    if (!isWindows) {
+      return command;
+    }
+
+    List<String> wslCommand = new ArrayList<>();
+    wslCommand.add(WSL);
+    // adapt path in command
+    command.stream()
+        .map(s -> s.contains(WIN_PATH_USERS)
+            ? s.replace(WIN_PATH_USERS, WSL_PATH_USERS).replace("\\", "/")
+            : s)
+        .forEach(wslCommand::add);
+    return wslCommand;
   }
 
   /**
@@ -159,32 +269,15 @@ public class SystemCommandService implements AutoCloseable {
   public void close() {
     executor.shutdown();
     try {
-      if (!executor.getThreadPoolExecutor().awaitTermination(processTimeoutSeconds, TimeUnit.SECONDS)) {
-        executor.getThreadPoolExecutor().shutdownNow();
+      if (!executor.awaitTermination(processTimeoutSeconds, TimeUnit.SECONDS)) {
+        executor.shutdownNow();
       }
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-      executor.getThreadPoolExecutor().shutdownNow();
+      executor.shutdownNow();
     }
   }
 
-  /**
-   * Configure executor for command processes.
-   *
-   * @return Configured ThreadPoolTaskExecutor
-   */
-  private ThreadPoolTaskExecutor setupExecutor() {
-    var e = new ThreadPoolTaskExecutor();
-    e.setCorePoolSize(2);
-    e.setMaxPoolSize(2);
-    e.setQueueCapacity(25);
-    e.setThreadNamePrefix("SystemCommandProcess-");
-    e.setWaitForTasksToCompleteOnShutdown(true);
-    e.setAwaitTerminationSeconds(120);
-    e.initialize();
-    return e;
-  }
-
   /**
    * Get the actual value from a Future object.
    *
@@ -193,7 +286,7 @@ public class SystemCommandService implements AutoCloseable {
    * @param commandLine Original command for context reference
    * @return Value of the given Future object
    */
-  private String getFutureValue(Future<String> future, String streamName, String commandLine) throws AssertionError {
+  private <T> T getFutureValue(Future<T> future, String streamName, String commandLine) throws AssertionError {
     try {
       return future.get();
     } catch (InterruptedException e) {
@@ -204,6 +297,27 @@ public class SystemCommandService implements AutoCloseable {
     }
   }
 
+  /**
+   * Hands the stream to the reader and drains whatever it left unread.
+   *
+   * @param inputStream  Target InputStream
+   * @param stdoutReader Consumer of the stream
+   * @return Value produced by the reader
+   * @throws IOException if InputStream could not be read
+   */
+  private static <T> T readFully(InputStream inputStream, StdoutReader<T> stdoutReader) throws IOException {
+    try (inputStream) {
+      // readers such as Jackson close the stream they were given; keep it open for draining
+      T value = stdoutReader.read(new FilterInputStream(inputStream) {
+        @Override
+        public void close() {
+        }
+      });
+      inputStream.transferTo(OutputStream.nullOutputStream());
+      return value;
+    }
+  }
+
   /**
    * Reads the content of given InputStream.
    *
@@ -211,7 +325,7 @@ public class SystemCommandService implements AutoCloseable {
    * @return String content of given InputStream
    * @throws IOException if InputStream could not be read
    */
-  private String readStream(InputStream inputStream) throws IOException {
+  private static String readStream(InputStream inputStream) throws IOException {
     try (BufferedReader reader = new BufferedReader(
         new InputStreamReader(inputStream, UTF_8))) {
       StringBuilder content = new StringBuilder();
@@ -225,4 +339,60 @@ public class SystemCommandService implements AutoCloseable {
       return content.toString();
     }
   }
+
+  /**
+   * Reads the given InputStream but keeps only its last {@code maxChars} characters, so a chatty process cannot fill
+   * the heap with diagnostics.
+   *
+   * @param inputStream Target InputStream
+   * @param maxChars    Number of trailing characters to retain
+   * @return Tail of the stream content, prefixed with a note if earlier output was dropped
+   * @throws IOException if InputStream could not be read
+   */
+  static String readStreamTail(InputStream inputStream, int maxChars) throws IOException {
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(inputStream, UTF_8))) {
+      StringBuilder content = new StringBuilder();
+      long dropped = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!content.isEmpty()) {
+          content.append('\n');
+        }
+        content.append(line);
+        if (content.length() > 2 * maxChars) {
+          int excess = content.length() - maxChars;
+          content.delete(0, excess);
+          dropped += excess;
+        }
+      }
+      if (content.length() > maxChars) {
+        int excess = content.length() - maxChars;
+        content.delete(0, excess);
+        dropped += excess;
+      }
+      if (dropped > 0) {
+        content.insert(0, "[" + dropped + " earlier characters truncated]\n");
+      }
+      return content.toString();
+    }
+  }
+
+  /**
+   * Consumes the stdout stream of a running command.
+   *
+   * @param <T> type of the value produced from stdout
+   */
+  @FunctionalInterface
+  public interface StdoutReader<T> {
+
+    /**
+     * Reads the stdout stream. The stream is closed by the caller.
+     *
+     * @param stdout stdout of the running process
+     * @return value derived from the output
+     * @throws IOException if the stream could not be read or parsed
+     */
+    T read(InputStream stdout) throws IOException;
+  }
 }
@@ -0,0 +1,344 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Structured view of TLS test tool output, built in a single pass while the output is read.
+ *
+ * <p>Every line is inspected once when it is {@link #accept(String) accepted}. The parser records known status messages,
+ * the first value of every {@code Record.field=value} line (ClientHello/ServerHello fields, extensions, certificates,
+ * alerts), the alerts seen and a summary of the handshake phase that is relevant for failure reports. Assertions query
+ * this model instead of scanning the raw text again; the raw text is only kept for reports.</p>
+ *
+ * <p>Instances are not thread-safe; a log is filled by one reader and queried after reading completed.</p>
+ */
+public final class TlsTestToolLog {
+
+  /**
+   * Status messages that can be queried with {@link #contains(String)}.
+   */
+  public static final List<String> MESSAGES = List.of(
+      "Handshake successful",
+      "TLS handshake failed",
+      "Handshake aborted",
+      "Alert message received",
+      "Bad ServerKeyExchange message received",
+      "Performing renegotiation.",
+      "Valid Finished message received.",
+      "<= handshake",
+      "<= renegotiate");
+
+  private static final Pattern FIELD_PATTERN = Pattern.compile("([A-Za-z][A-Za-z0-9_]*(?:\\.[A-Za-z0-9_\\[\\]]+)+)\\s*=\\s*(.*)$");
+  private static final Pattern HEX_BYTES_PATTERN = Pattern.compile("[0-9a-fA-F]{2}(?:\\s+[0-9a-fA-F]{2})*");
+  private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
+  private static final Pattern PHASE_BOUNDARY_PATTERN = Pattern.compile("=>\\s*(?:renegotiate|write client hello)");
+  private static final Pattern CIPHER_SUITE_PATTERN = Pattern.compile("Cipher suite:\\s*(.+)");
+  private static final Pattern HASH_ALGORITHM_PATTERN = Pattern.compile("Server used HashAlgorithm\\s+(\\d+)");
+  private static final Pattern SIGNATURE_ALGORITHM_PATTERN = Pattern.compile("Server used SignatureAlgorithm\\s+(\\d+)");
+  private static final String HANDSHAKE_FAILED = "TLS handshake failed:";
+  private static final String CLIENT_HELLO_SENT = "ClientHello message transmitted.";
+
+  private final StringBuilder text = new StringBuilder();
+  private final Map<String, Integer> firstMessageLine = new HashMap<>();
+  private final Map<String, Integer> lastMessageLine = new HashMap<>();
+  private final Map<String, String> fields = new HashMap<>();
+  private final Set<String> alertLevels = new LinkedHashSet<>();
+  private final Set<String> alertDescriptions = new LinkedHashSet<>();
+  private Integer serverHashAlgorithm;
+  private PhaseBuilder currentPhase = new PhaseBuilder();
+  private Phase failedPhase;
+  private int lineCount;
+  private boolean hasContent;
+
+  /**
+   * Parses a complete log text.
+   *
+   * @param text log text, may be {@code null}
+   * @return parsed log
+   */
+  public static TlsTestToolLog parse(String text) {
+    var log = new TlsTestToolLog();
+    if (text != null && !text.isEmpty()) {
+      text.lines().forEach(log::accept);
+    }
+    return log;
+  }
+
+  /**
+   * Consumes the next output line.
+   *
+   * @param line output line without line terminator
+   */
+  public void accept(String line) {
+    if (lineCount > 0) {
+      text.append('\n');
+    }
+    text.append(line);
+    var index = lineCount++;
+    hasContent |= !line.isBlank();
+
+    for (var message : MESSAGES) {
+      if (line.contains(message)) {
+        firstMessageLine.putIfAbsent(message, index);
+        lastMessageLine.put(message, index);
+      }
+    }
+    if (line.indexOf('=') >= 0) {
+      acceptField(line);
+    }
+    if (line.contains("Server used ")) {
+      var hashMatcher = HASH_ALGORITHM_PATTERN.matcher(line);
+      if (hashMatcher.find()) {
+        var hash = Integer.valueOf(hashMatcher.group(1));
+        if (serverHashAlgorithm == null) {
+          serverHashAlgorithm = hash;
+        }
+        currentPhase.hashAlgorithm = hash;
+      }
+      var signatureMatcher = SIGNATURE_ALGORITHM_PATTERN.matcher(line);
+      if (signatureMatcher.find()) {
+        currentPhase.signatureAlgorithm = Integer.valueOf(signatureMatcher.group(1));
+      }
+    }
+    acceptPhaseLine(line);
+  }
+
+  private void acceptField(String line) {
+    var matcher = FIELD_PATTERN.matcher(line);
+    if (!matcher.find()) {
+      return;
+    }
+    var key = matcher.group(1);
+    var value = matcher.group(2).trim();
+    fields.putIfAbsent(key, value);
+    if ("Alert.level".equals(key)) {
+      var level = firstToken(value);
+      alertLevels.add(level);
+      currentPhase.alertLevel = level;
+    } else if ("Alert.description".equals(key)) {
+      var description = firstToken(value);
+      alertDescriptions.add(description);
+      currentPhase.alertDescription = description;
+    }
+  }
+
+  private static String firstToken(String value) {
+    var end = 0;
+    while (end < value.length() && !Character.isWhitespace(value.charAt(end))) {
+      end++;
+    }
+    return value.substring(0, end);
+  }
+
+  private void acceptPhaseLine(String line) {
+    if (line.contains(CLIENT_HELLO_SENT) || (line.contains("=>") && PHASE_BOUNDARY_PATTERN.matcher(line).find())) {
+      currentPhase = new PhaseBuilder();
+      return;
+    }
+    var trimmed = line.trim();
+    if (!trimmed.isEmpty()) {
+      currentPhase.lastLine = trimmed;
+      if (trimmed.contains("Handshake successful.")) {
+        currentPhase.handshakeSuccessful = true;
+      }
+    }
+    if (line.contains("Cipher suite:")) {
+      var cipherSuiteMatcher = CIPHER_SUITE_PATTERN.matcher(line);
+      if (cipherSuiteMatcher.find()) {
+        currentPhase.cipherSuite = cipherSuiteMatcher.group(1).trim();
+      }
+    }
+    var failureIndex = line.indexOf(HANDSHAKE_FAILED);
+    if (failureIndex >= 0) {
+      currentPhase.handshakeFailure = line.substring(failureIndex);
+      failedPhase = currentPhase.build();
+    }
+  }
+
+  /**
+   * Returns the raw log text.
+   *
+   * @return lines joined with {@code \n}
+   */
+  public String text() {
+    return text.toString();
+  }
+
+  /**
+   * Checks whether no non-blank output was read.
+   *
+   * @return {@code true} if the log is blank
+   */
+  public boolean isBlank() {
+    return !hasContent;
+  }
+
+  /**
+   * Checks whether a status message occurred. Messages in {@link #MESSAGES} are answered from the index; any other
+   * message, e.g. a prefix of a tracked one, falls back to a substring search over the raw text.
+   *
+   * @param message message to look for
+   * @return {@code true} if a line contained the message
+   */
+  public boolean contains(String message) {
+    if (MESSAGES.contains(message)) {
+      return firstMessageLine.containsKey(message);
+    }
+    return message != null && !message.isEmpty() && text.indexOf(message) >= 0;
+  }
+
+  /**
+   * Checks whether a status message occurred on a line after the first occurrence of another one.
+   *
+   * @param message   message expected later, one of {@link #MESSAGES}
+   * @param preceding message expected first, one of {@link #MESSAGES}
+   * @return {@code true} if {@code message} occurs after {@code preceding}
+   */
+  public boolean containsAfter(String message, String preceding) {
+    requireTracked(message);
+    requireTracked(preceding);
+    var first = firstMessageLine.get(preceding);
+    var last = lastMessageLine.get(message);
+    return first != null && last != null && last > first;
+  }
+
+  private static void requireTracked(String message) {
+    if (!MESSAGES.contains(message)) {
+      throw new IllegalArgumentException("TLS log message is not tracked: " + message);
+    }
+  }
+
+  /**
+   * Returns the first value logged for a record field such as {@code ClientHello.extensions}.
+   *
+   * @param key field key
+   * @return trimmed value of the first occurrence
+   */
+  public Optional<String> field(String key) {
+    return Optional.ofNullable(fields.get(key));
+  }
+
+  /**
+   * Returns the first value of a record field decoded as whitespace-separated hex bytes.
+   *
+   * @param key field key
+   * @return decoded leading hex dump, empty for an empty value, or {@code null} if the field is absent or not a hex dump
+   */
+  public byte[] hexField(String key) {
+    var value = fields.get(key);
+    if (value == null) {
+      return null;
+    }
+    if (value.isEmpty()) {
+      return new byte[0];
+    }
+    var matcher = HEX_BYTES_PATTERN.matcher(value);
+    if (!matcher.lookingAt()) {
+      return null;
+    }
+    return HexFormat.of().parseHex(WHITESPACE_PATTERN.matcher(matcher.group()).replaceAll(""));
+  }
+
+  /**
+   * Returns all logged alert levels.
+   *
+   * @return alert levels in order of first occurrence
+   */
+  public Set<String> alertLevels() {
+    return Collections.unmodifiableSet(alertLevels);
+  }
+
+  /**
+   * Returns all logged alert descriptions.
+   *
+   * @return alert descriptions in order of first occurrence
+   */
+  public Set<String> alertDescriptions() {
+    return Collections.unmodifiableSet(alertDescriptions);
+  }
+
+  /**
+   * Returns the first hash algorithm the server reported for the key exchange.
+   *
+   * @return TLS hash algorithm id, or {@code null}
+   */
+  public Integer serverHashAlgorithm() {
+    return serverHashAlgorithm;
+  }
+
+  /**
+   * Returns the handshake phase relevant for failure reports: the phase that ended with the last handshake failure, or
+   * the latest phase if no handshake failed.
+   *
+   * @return phase summary
+   */
+  public Phase relevantPhase() {
+    return failedPhase != null ? failedPhase : currentPhase.build();
+  }
+
+  /**
+   * Summary of one handshake phase.
+   *
+   * @param alertLevel          last alert level
+   * @param alertDescription    last alert description
+   * @param handshakeFailure    handshake failure message
+   * @param cipherSuite         negotiated cipher suite
+   * @param hashAlgorithm       hash algorithm id used by the server
+   * @param signatureAlgorithm  signature algorithm id used by the server
+   * @param handshakeSuccessful whether the handshake completed
+   * @param lastLine            last non-blank line of the phase
+   */
+  public record Phase(String alertLevel, String alertDescription, String handshakeFailure, String cipherSuite,
+                      Integer hashAlgorithm, Integer signatureAlgorithm, boolean handshakeSuccessful, String lastLine) {
+
+  }
+
+  private static final class PhaseBuilder {
+
+    private String alertLevel;
+    private String alertDescription;
+    private String handshakeFailure;
+    private String cipherSuite;
+    private Integer hashAlgorithm;
+    private Integer signatureAlgorithm;
+    private boolean handshakeSuccessful;
+    private String lastLine;
+
+    private Phase build() {
+      return new Phase(alertLevel, alertDescription, handshakeFailure, cipherSuite, hashAlgorithm, signatureAlgorithm,
+          handshakeSuccessful, lastLine);
+    }
+  }
+}
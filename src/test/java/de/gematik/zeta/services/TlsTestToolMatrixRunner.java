@@ -0,0 +1,174 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs many TLS test tool client processes concurrently, one per matrix case.
+ *
+ * <p>Every case gets its own temporary working directory holding its configuration file, so relative outputs such
+ * as the {@code tlsSecretFile} of parallel runs do not collide. The merged process output is written to a log file
+ * in that directory, so no reader thread is needed per process and the output written so far is still reported
+ * for a case that is killed. At most {@code maxParallel} processes run at the same time; each is killed after the
+ * case timeout. Results are returned in case order.</p>
+ */
+@Slf4j
+public final class TlsTestToolMatrixRunner {
+
+  private static final String CONFIG_FILE = "tls-test-tool.conf";
+  private static final String LOG_FILE = "tls-test-tool.log";
+
+  private final int maxParallel;
+  private final Duration caseTimeout;
+  private final Function<Path, List<String>> commandFactory;
+
+  /**
+   * Creates a runner.
+   *
+   * @param maxParallel    maximum number of concurrently running processes
+   * @param caseTimeout    maximum run time of one process
+   * @param commandFactory builds the command line for a configuration file
+   */
+  public TlsTestToolMatrixRunner(int maxParallel, Duration caseTimeout, Function<Path, List<String>> commandFactory) {
+    if (maxParallel < 1) {
+      throw new IllegalArgumentException("maxParallel must be at least 1: " + maxParallel);
+    }
+    this.maxParallel = maxParallel;
+    this.caseTimeout = caseTimeout;
+    this.commandFactory = commandFactory;
+  }
+
+  /**
+   * Runs all cases and waits for their completion.
+   *
+   * @param cases matrix cases
+   * @return one result per case, in case order
+   */
+  public List<CaseResult> run(List<MatrixCase> cases) {
+    var start = System.nanoTime();
+    var futures = new ArrayList<Future<CaseResult>>();
+    try (var executor = Executors.newFixedThreadPool(Math.min(maxParallel, Math.max(1, cases.size())))) {
+      for (var matrixCase : cases) {
+        futures.add(executor.submit(() -> runCase(matrixCase)));
+      }
+    }
+    var results = new ArrayList<CaseResult>();
+    for (int i = 0; i < futures.size(); i++) {
+      results.add(resultOf(cases.get(i), futures.get(i)));
+    }
+    log.info("TLS test tool matrix: {} cases with up to {} parallel processes in {} ms",
+        cases.size(), maxParallel, Duration.ofNanos(System.nanoTime() - start).toMillis());
+    return results;
+  }
+
+  private CaseResult runCase(MatrixCase matrixCase) throws IOException, InterruptedException {
+    var start = System.nanoTime();
+    var workDir = Files.createTempDirectory("tls-test-tool-matrix");
+    try {
+      var configFile = Files.writeString(workDir.resolve(CONFIG_FILE), matrixCase.config(), StandardCharsets.UTF_8);
+      var logFile = workDir.resolve(LOG_FILE);
+      var process = new ProcessBuilder(commandFactory.apply(configFile))
+          .directory(workDir.toFile())
+          .redirectErrorStream(true)
+          .redirectOutput(logFile.toFile())
+          .start();
+      if (!process.waitFor(caseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+        process.destroyForcibly().waitFor();
+        return new CaseResult(matrixCase.name(), readLogs(logFile), -1, elapsedSince(start),
+            "timed out after " + caseTimeout.toSeconds() + " s");
+      }
+      var logs = readLogs(logFile);
+      var error = process.exitValue() == 0 ? null : "Exit=" + process.exitValue();
+      return new CaseResult(matrixCase.name(), logs, process.exitValue(), elapsedSince(start), error);
+    } finally {
+      deleteRecursively(workDir);
+    }
+  }
+
+  private static String readLogs(Path logFile) throws IOException {
+    return Files.exists(logFile) ? new String(Files.readAllBytes(logFile), StandardCharsets.UTF_8) : "";
+  }
+
+  private static CaseResult resultOf(MatrixCase matrixCase, Future<CaseResult> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new CaseResult(matrixCase.name(), "", -1, Duration.ZERO, "interrupted");
+    } catch (ExecutionException e) {
+      return new CaseResult(matrixCase.name(), "", -1, Duration.ZERO, String.valueOf(e.getCause()));
+    }
+  }
+
+  private static Duration elapsedSince(long startNanos) {
+    return Duration.ofNanos(System.nanoTime() - startNanos);
+  }
+
+  private static void deleteRecursively(Path dir) {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (IOException e) {
+      log.debug("Could not delete TLS test tool working directory {}: {}", dir, e.getMessage());
+    }
+  }
+
+  /**
+   * One configuration of the matrix.
+   *
+   * @param name   case name used in the result table
+   * @param config TLS test tool configuration content
+   */
+  public record MatrixCase(String name, String config) {
+
+  }
+
+  /**
+   * Outcome of one process run.
+   *
+   * @param name     case name
+   * @param logs     merged stdout/stderr of the process
+   * @param exitCode process exit code, -1 if it did not finish
+   * @param elapsed  wall-clock time of the case
+   * @param error    reason the process did not complete normally, or {@code null}
+   */
+  public record CaseResult(String name, String logs, int exitCode, Duration elapsed, String error) {
+
+  }
+}
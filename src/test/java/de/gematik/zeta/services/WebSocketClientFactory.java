@@ -24,6 +24,7 @@
 
 package de.gematik.zeta.services;
 
+import de.gematik.zeta.services.StompHeartbeatScheduler.HeartbeatMonitor;
 import java.util.List;
 import javax.net.ssl.SSLContext;
 import lombok.extern.slf4j.Slf4j;
@@ -33,21 +34,51 @@ import org.glassfish.tyrus.client.SslEngineConfigurator;
 import org.springframework.messaging.converter.CompositeMessageConverter;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.StringMessageConverter;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
 import org.springframework.web.socket.messaging.WebSocketStompClient;
 
 /**
  * Factory for creating configured WebSocket STOMP clients. Uses native WebSocket connections with Tyrus (JSR 356 reference
  * implementation).
+ *
+ * <p>STOMP clients share the process-wide {@link StompHeartbeatScheduler}. Every client returned by
+ * {@link #create()} holds a reference on it until it is handed back via {@link #release(WebSocketStompClient)}. The
+ * heartbeats of those clients are reported to the factory's own {@link HeartbeatMonitor}.</p>
  */
 @Slf4j
 public class WebSocketClientFactory {
 
   // Configuration constants
-  private static final int TASK_SCHEDULER_POOL_SIZE = 10;
   private static final long[] HEARTBEAT_MS = {30000, 30000};
 
+  private final StompHeartbeatScheduler heartbeatScheduler;
+  private final HeartbeatMonitor heartbeatMonitor = new HeartbeatMonitor();
+
+  /**
+   * Creates a factory backed by the shared heartbeat scheduler.
+   */
+  public WebSocketClientFactory() {
+    this(StompHeartbeatScheduler.shared());
+  }
+
+  /**
+   * Creates a factory backed by the given heartbeat scheduler.
+   *
+   * @param heartbeatScheduler scheduler holder used for STOMP heartbeats
+   */
+  public WebSocketClientFactory(StompHeartbeatScheduler heartbeatScheduler) {
+    this.heartbeatScheduler = heartbeatScheduler;
+  }
+
+  /**
+   * Returns the heartbeat metrics of the clients created by this factory.
+   *
+   * @return heartbeat monitor of this factory
+   */
+  public HeartbeatMonitor getHeartbeatMonitor() {
+    return heartbeatMonitor;
+  }
+
   /**
    * Creates a configured WebSocketStompClient with native WebSocket support.
    *
@@ -57,6 +88,19 @@ public class WebSocketClientFactory {
     return configureStompClient(createRawClient());
   }
 
+  /**
+   * Releases the heartbeat scheduler reference held by a client created via {@link #create()}.
+   *
+   * @param stompClient client to release, {@code null} is ignored
+   */
+  public void release(WebSocketStompClient stompClient) {
+    if (stompClient == null || stompClient.getTaskScheduler() == null) {
+      return;
+    }
+    stompClient.setTaskScheduler(null);
+    heartbeatScheduler.release();
+  }
+
   /**
    * Creates a configured native WebSocket client (without STOMP wrappers).
    *
@@ -95,13 +139,8 @@ public class WebSocketClientFactory {
         new MappingJackson2MessageConverter()
     )));
 
-    // Task Scheduler for Heartbeats
-    ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
-    taskScheduler.setPoolSize(TASK_SCHEDULER_POOL_SIZE);
-    taskScheduler.setThreadNamePrefix("stomp-");
-    taskScheduler.setDaemon(true);
-    taskScheduler.afterPropertiesSet();
-    stompClient.setTaskScheduler(taskScheduler);
+    // Shared Task Scheduler for Heartbeats
+    stompClient.setTaskScheduler(heartbeatScheduler.acquire(heartbeatMonitor));
 
     // Heartbeat settings
     stompClient.setDefaultHeartbeat(HEARTBEAT_MS);
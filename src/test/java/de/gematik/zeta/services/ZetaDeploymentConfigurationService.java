@@ -28,12 +28,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.gematik.zeta.services.model.CommandResult;
 import de.gematik.zeta.services.model.KubectlPatchCommandResult;
+import de.gematik.zeta.services.model.StreamingCommandResult;
 import de.gematik.zeta.services.model.ZetaAslToggleResult;
 import de.gematik.zeta.services.model.ZetaDeploymentDetails;
 import de.gematik.zeta.services.model.ZetaDisableAslRequest;
 import de.gematik.zeta.services.model.ZetaEnableAslRequest;
 import de.gematik.zeta.services.model.ZetaPoppTokenToggleRequest;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -44,9 +48,11 @@ import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
@@ -57,14 +63,17 @@ import org.apache.commons.text.StringEscapeUtils;
 @Slf4j
 public class ZetaDeploymentConfigurationService {
 
+  public static final Duration DEFAULT_READ_CACHE_TTL = Duration.ofSeconds(2);
   private static final ObjectMapper JSON = new ObjectMapper();
   private static final String KUBECTL_COMMAND = "kubectl";
   private static final String K8S_SUFFIX_ORIGINAL_RESOURCE = "tiger-original-backup";
   private static final int K8S_POD_STATUS_CHECK_INTERVAL = 2;
   private static final int MAX_OBSERVATION_ENTRIES = 8;
+  private static final String PODS_RESOURCE = "pods";
   private final int processTimeoutSeconds;
   @Getter
   private final int podReadyTimeoutSeconds;
+  private final KubectlSnapshotCache snapshotCache;
 
   /**
    * Constructor for ZetaDeploymentConfigurationService.
@@ -72,8 +81,34 @@ public class ZetaDeploymentConfigurationService {
    * @param processTimeoutSeconds max timeout for system commands
    */
   public ZetaDeploymentConfigurationService(int processTimeoutSeconds, int podReadyTimeoutSeconds) {
+    this(processTimeoutSeconds, podReadyTimeoutSeconds, DEFAULT_READ_CACHE_TTL);
+  }
+
+  /**
+   * Constructor for ZetaDeploymentConfigurationService.
+   *
+   * @param processTimeoutSeconds max timeout for system commands
+   * @param podReadyTimeoutSeconds max timeout for pod readiness checks
+   * @param readCacheTtl how long kubectl reads of a namespace are reused; zero disables the cache
+   */
+  public ZetaDeploymentConfigurationService(int processTimeoutSeconds, int podReadyTimeoutSeconds,
+      Duration readCacheTtl) {
+    this(processTimeoutSeconds, podReadyTimeoutSeconds, KubectlSnapshotCache.shared(readCacheTtl));
+  }
+
+  /**
+   * Constructor for ZetaDeploymentConfigurationService with an explicit read cache, e.g. an isolated one in tests.
+   *
+   * @param processTimeoutSeconds max timeout for system commands
+   * @param podReadyTimeoutSeconds max timeout for pod readiness checks
+   * @param snapshotCache cache for kubectl reads; the process-wide {@link KubectlSnapshotCache#shared(Duration)}
+   *     cache unless a caller needs isolation
+   */
+  protected ZetaDeploymentConfigurationService(int processTimeoutSeconds, int podReadyTimeoutSeconds,
+      KubectlSnapshotCache snapshotCache) {
     this.processTimeoutSeconds = processTimeoutSeconds;
     this.podReadyTimeoutSeconds = podReadyTimeoutSeconds;
+    this.snapshotCache = snapshotCache;
 
     if (K8S_POD_STATUS_CHECK_INTERVAL < 1) {
       throw new IllegalArgumentException("value of K8S_POD_STATUS_CHECK_INTERVAL can not be < 1");
@@ -209,7 +244,8 @@ public class ZetaDeploymentConfigurationService {
    * @throws AssertionError if the kubectl could not be executed successfully
    */
   public void verifyRequirements(String namespace) throws AssertionError {
-    CommandResult r = executeKubectlCommand(Arrays.asList("-n", namespace, "get", "all"));
+    CommandResult r = snapshotCache.read(namespace, "all",
+        () -> executeKubectlCommand(Arrays.asList("-n", namespace, "get", "all")));
     if (r.exitCode() != 0 || !r.stderr().isBlank()) {
       throw new AssertionError(String.format("Requirement check failed: cannot execute kubectl command. "
           + "stderr output:\n%s", r.stderr()));
@@ -317,113 +353,62 @@ public class ZetaDeploymentConfigurationService {
       return rolloutResult;
     }
 
-    String podName;
+    // the rollout just finished: take one fresh snapshot and evaluate image, state and readiness from it
+    List<String> podsCommand = List.of(KUBECTL_COMMAND, "get", "pods", "-n", namespace, "-o", "json");
+    JsonNode pod;
     try {
-      podName = getPodNameByPrefix(namespace, deploymentName);
-    } catch (Exception e) {
+      readPodsForNamespaceInternal(namespace, false, true);
+      pod = findPodByPrefix(namespace, deploymentName);
+    } catch (AssertionError | IllegalArgumentException e) {
       return new CommandResult(
-          List.of(KUBECTL_COMMAND, "get", "pods", "-n", namespace),
+          podsCommand,
           1,
           "",
           "Pod not found for deployment prefix: " + deploymentName + "\n" + e.getMessage()
       );
     }
 
-    String imageJsonPath = String.format("{.spec.containers[?(@.name==\"%s\")].image}", containerName);
-    CommandResult imageResult;
-    try {
-      imageResult = executeKubectlCommand("get", "pod", podName, "-n", namespace,
-          "-o", "jsonpath='" + imageJsonPath + "'");
-      if (imageResult.exitCode() != 0) {
-        return imageResult;
-      }
-    } catch (Exception e) {
-      return new CommandResult(
-          List.of(KUBECTL_COMMAND, "get", "pod", podName, "-n", namespace, "-o", "jsonpath='" + imageJsonPath + "'"),
-          1,
-          "",
-          "Could not query container image for deployment: " + deploymentName + ", container: " + containerName + "\n"
-              + e.getMessage()
-      );
-    }
-
-    String foundImage = imageResult.stdout() == null ? "" : imageResult.stdout().trim();
+    String foundImage = findContainer(pod.path("spec").path("containers"), containerName).path("image").asText("").trim();
     if (foundImage.isBlank()) {
       return new CommandResult(
-          imageResult.command(),
+          podsCommand,
           1,
-          imageResult.stdout(),
+          "",
           "Container not found in pod spec: " + containerName
       );
     }
 
     if (!newImage.equals(foundImage)) {
       return new CommandResult(
-          imageResult.command(),
+          podsCommand,
           1,
-          imageResult.stdout(),
+          foundImage,
           "Expected image not found for container " + containerName + ". expected=" + newImage + ", actual=" + foundImage
       );
     }
 
-    String stateJsonPath =
-        String.format("{.status.containerStatuses[?(@.name==\"%s\")].state.running.startedAt}", containerName);
-    CommandResult stateResult;
-    try {
-      stateResult = executeKubectlCommand("get", "pod", podName, "-n", namespace,
-          "-o", "jsonpath='" + stateJsonPath + "'");
-      if (stateResult.exitCode() != 0) {
-        return stateResult;
-      }
-    } catch (Exception e) {
-      return new CommandResult(
-          List.of(KUBECTL_COMMAND, "get", "pod", podName, "-n", namespace, "-o", "jsonpath='" + stateJsonPath + "'"),
-          1,
-          "",
-          "Could not query container running state for deployment: " + deploymentName + ", container: " + containerName + "\n"
-              + e.getMessage()
-      );
-    }
-
-    String runningStartedAt = stateResult.stdout() == null ? "" : stateResult.stdout().trim();
+    JsonNode containerStatus = findContainer(pod.path("status").path("containerStatuses"), containerName);
+    String runningStartedAt = containerStatus.path("state").path("running").path("startedAt").asText("").trim();
     if (runningStartedAt.isBlank()) {
       return new CommandResult(
-          stateResult.command(),
-          1,
-          stateResult.stdout(),
-          "Container state is not Running: " + containerName
-      );
-    }
-
-    String readyJsonPath = String.format("{.status.containerStatuses[?(@.name==\"%s\")].ready}", containerName);
-    CommandResult readyResult;
-    try {
-      readyResult = executeKubectlCommand("get", "pod", podName, "-n", namespace,
-          "-o", "jsonpath='" + readyJsonPath + "'");
-      if (readyResult.exitCode() != 0) {
-        return readyResult;
-      }
-    } catch (Exception e) {
-      return new CommandResult(
-          List.of(KUBECTL_COMMAND, "get", "pod", podName, "-n", namespace, "-o", "jsonpath='" + readyJsonPath + "'"),
+          podsCommand,
           1,
           "",
-          "Could not query container readiness for deployment: " + deploymentName + ", container: " + containerName + "\n"
-              + e.getMessage()
+          "Container state is not Running: " + containerName
       );
     }
 
-    String readyState = readyResult.stdout() == null ? "" : readyResult.stdout().trim();
+    String readyState = containerStatus.path("ready").asText("").trim();
     if (!"true".equalsIgnoreCase(readyState)) {
       return new CommandResult(
-          readyResult.command(),
+          podsCommand,
           1,
-          readyResult.stdout(),
+          readyState,
           "Container is not Ready=true: " + containerName + " (actual=" + readyState + ")"
       );
     }
 
-    return readyResult;
+    return new CommandResult(podsCommand, 0, readyState, "");
   }
 
   /**
@@ -458,17 +443,13 @@ public class ZetaDeploymentConfigurationService {
    * @return Command result containing the full image reference in stdout when successful
    */
   private CommandResult getContainerImageReference(String namespace, String deploymentName, String podName, String containerName) {
-    String imageJsonPath = String.format("{.spec.containers[?(@.name==\"%s\")].image}", containerName);
-    CommandResult imageResult;
+    List<String> podsCommand = List.of(KUBECTL_COMMAND, "get", "pods", "-n", namespace, "-o", "json");
+    JsonNode pod;
     try {
-      imageResult = executeKubectlCommand("get", "pod", podName, "-n", namespace,
-          "-o", "jsonpath='" + imageJsonPath + "'");
-      if (imageResult.exitCode() != 0) {
-        return imageResult;
-      }
-    } catch (Exception e) {
+      pod = findPod(readPodsForNamespaceInternal(namespace, false, false), podName);
+    } catch (AssertionError e) {
       return new CommandResult(
-          List.of(KUBECTL_COMMAND, "get", "pod", podName, "-n", namespace, "-o", "jsonpath='" + imageJsonPath + "'"),
+          podsCommand,
           1,
           "",
           "Could not query container image for deployment: " + deploymentName + ", container: " + containerName + "\n"
@@ -476,17 +457,18 @@ public class ZetaDeploymentConfigurationService {
       );
     }
 
-    String foundImage = imageResult.stdout() == null ? "" : imageResult.stdout().trim();
+    String foundImage = pod == null ? "" : findContainer(pod.path("spec").path("containers"), containerName)
+        .path("image").asText("").trim();
     if (foundImage.isBlank()) {
       return new CommandResult(
-          imageResult.command(),
+          podsCommand,
           1,
-          imageResult.stdout(),
+          "",
           "Container not found in pod spec: " + containerName
       );
     }
 
-    return new CommandResult(imageResult.command(), 0, foundImage, "");
+    return new CommandResult(podsCommand, 0, foundImage, "");
   }
 
   /**
@@ -725,6 +707,9 @@ public class ZetaDeploymentConfigurationService {
    * <p>This is used to demonstrate that Kubernetes has started creating or updating a pod for the
    * target image while traffic may still be served by the previous revision.</p>
    *
+   * <p>Pods are re-evaluated on every event of the namespace pod watch; while the watch is not streaming,
+   * they are polled with kubectl instead.</p>
+   *
    * @param namespace Kubernetes namespace
    * @param deploymentName deployment name used as pod prefix
    * @param containerName target container name
@@ -746,10 +731,12 @@ public class ZetaDeploymentConfigurationService {
     long deadlineNanos = startNanos + maxDuration.toNanos();
     List<String> stateSnapshots = new ArrayList<>();
 
+    KubernetesPodWatch watch = podWatch(namespace);
+
     while (System.nanoTime() <= deadlineNanos) {
-      JsonNode pods;
+      KubernetesPodWatch.PodSnapshot pods;
       try {
-        pods = readPodsForNamespaceInternal(namespace, false);
+        pods = observePods(watch, namespace);
       } catch (AssertionError e) {
         return new CommandResult(
             List.of(KUBECTL_COMMAND, "get", "pods", "-n", namespace, "-o", "json"),
@@ -762,7 +749,7 @@ public class ZetaDeploymentConfigurationService {
       boolean observedExpectedImage = false;
       List<String> currentSnapshot = new ArrayList<>();
 
-      for (JsonNode pod : pods) {
+      for (JsonNode pod : pods.pods()) {
         String podName = pod.path("metadata").path("name").asText("");
         if (!podName.startsWith(deploymentName + "-")) {
           continue;
@@ -795,7 +782,7 @@ public class ZetaDeploymentConfigurationService {
       }
 
       try {
-        sleepForPodStatusCheckInterval();
+        awaitNextPodState(watch, pods.version(), deadlineNanos);
       } catch (InterruptedException ie) {
         Thread.currentThread().interrupt();
         return new CommandResult(
@@ -855,7 +842,7 @@ public class ZetaDeploymentConfigurationService {
     while (System.nanoTime() <= deadlineNanos) {
       DeploymentObservation observation;
       try {
-        JsonNode pods = readPodsForNamespaceInternal(namespace, false);
+        JsonNode pods = readPodsForNamespaceInternal(namespace, false, true);
         observation = observeDeploymentState(pods, deploymentName, containerName, expectedStableImage);
       } catch (AssertionError e) {
         return new CommandResult(
@@ -980,7 +967,7 @@ public class ZetaDeploymentConfigurationService {
 
     JsonNode pods;
     try {
-      pods = readPodsForNamespaceInternal(namespace, false);
+      pods = readPodsForNamespaceInternal(namespace, false, false);
     } catch (AssertionError e) {
       return new CommandResult(
           List.of(KUBECTL_COMMAND, "get", "pods", "-n", namespace, "-o", "json"),
@@ -1250,10 +1237,12 @@ public class ZetaDeploymentConfigurationService {
   /**
    * Waits until a deployment rollout succeeds and the number of active pods matches the deployment replicas.
    *
-   * <p>The method polls {@code kubectl rollout status} and, after a successful rollout check, validates
+   * <p>The method checks {@code kubectl rollout status} and, after a successful rollout check, validates
    * the number of pods with names starting with {@code deploymentName-}. The expected pod count is read
    * from {@code kubectl get deploy ... -o jsonpath='{.spec.replicas}'} in the target namespace. If the
-   * replicas field is empty, Kubernetes default {@code 1} is assumed.</p>
+   * replicas field is empty, Kubernetes default {@code 1} is assumed. While the namespace pod watch is
+   * streaming, the pod count is taken from the watch cache and the rollout is re-checked as soon as a pod
+   * changes; otherwise both are polled every {@code K8S_POD_STATUS_CHECK_INTERVAL} seconds.</p>
    *
    * @param namespace Kubernetes namespace containing the deployment
    * @param deploymentName Name of the deployment to monitor
@@ -1285,16 +1274,17 @@ public class ZetaDeploymentConfigurationService {
     }
 
     final int maxTimeout = Math.abs(timeoutSeconds);
-    int elapsedSeconds = 0;
+    final long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(maxTimeout);
+    KubernetesPodWatch watch = podWatch(namespace);
     CommandResult lastResult = null;
 
-    while (elapsedSeconds < maxTimeout) {
+    while (System.nanoTime() < deadlineNanos) {
+      KubernetesPodWatch.PodSnapshot snapshot = watch.snapshot();
       lastResult = executeKubectlCommand(false, "rollout", "status", "deployment/" + deploymentName, "-n", namespace,
           "--timeout=5s");
 
       if (lastResult.exitCode() == 0) {
-        CommandResult podListResult = executeKubectlCommand("-n", namespace, "get", "pods",
-            "--no-headers", "-o", "custom-columns=NAME:.metadata.name");
+        CommandResult podListResult = listPodNames(watch, namespace);
         if (podListResult.exitCode() != 0) {
           return podListResult;
         }
@@ -1319,7 +1309,7 @@ public class ZetaDeploymentConfigurationService {
       }
 
       try {
-        sleepForPodStatusCheckInterval();
+        awaitNextPodState(watch, snapshot.version(), deadlineNanos);
       } catch (InterruptedException ie) {
         Thread.currentThread().interrupt();
         return new CommandResult(
@@ -1329,7 +1319,6 @@ public class ZetaDeploymentConfigurationService {
             "Rollout wait interrupted"
         );
       }
-      elapsedSeconds += K8S_POD_STATUS_CHECK_INTERVAL;
     }
 
     String timeoutMessage = "Rollout and replica check did not complete within " + maxTimeout + " seconds";
@@ -1436,18 +1425,34 @@ public class ZetaDeploymentConfigurationService {
    * @throws IllegalArgumentException Thrown if Pod could not be found
    */
   private String getPodNameByPrefix(String namespace, String podNamePrefix) throws IllegalArgumentException {
-    CommandResult getPodsResult = executeKubectlCommand("-n", namespace, "get", "pods");
-
-    Matcher matcher = Pattern.compile("(" + Pattern.quote(podNamePrefix) + "-[^ ]+)").matcher(getPodsResult.stdout());
+    return findPodByPrefix(namespace, podNamePrefix)
+        .path("metadata").path("name").asText();
+  }
 
-    String capture;
-    if (matcher.find()) {
-      capture = matcher.group(0);
-    } else {
+  /**
+   * Finds the first pod whose name starts with the given prefix in the namespace pod snapshot.
+   *
+   * @param namespace Namespace the Pod is running in
+   * @param podNamePrefix Prefix of target Pod
+   * @return Pod JSON as returned by the Kubernetes API
+   * @throws IllegalArgumentException Thrown if Pod could not be found
+   */
+  private JsonNode findPodByPrefix(String namespace, String podNamePrefix) throws IllegalArgumentException {
+    JsonNode pods;
+    try {
+      pods = readPodsForNamespaceInternal(namespace, false, false);
+    } catch (AssertionError e) {
       log.error("Pod {} was not found in namespace {}", podNamePrefix, namespace);
-      throw new IllegalArgumentException("Could not find pod with name (prefix) " + podNamePrefix);
+      throw new IllegalArgumentException("Could not find pod with name (prefix) " + podNamePrefix, e);
     }
-    return capture;
+
+    for (JsonNode pod : pods) {
+      if (pod.path("metadata").path("name").asText("").startsWith(podNamePrefix + "-")) {
+        return pod;
+      }
+    }
+    log.error("Pod {} was not found in namespace {}", podNamePrefix, namespace);
+    throw new IllegalArgumentException("Could not find pod with name (prefix) " + podNamePrefix);
   }
 
   /**
@@ -1597,6 +1602,10 @@ public class ZetaDeploymentConfigurationService {
   /**
    * Wait for Kubernetes Pod to be in a ready state. Throws when set timeout is exceeded.
    *
+   * <p>While the namespace pod watch is streaming, readiness is evaluated on every pod event; otherwise the
+   * pods are polled with kubectl every {@code K8S_POD_STATUS_CHECK_INTERVAL} seconds. Terminating pods are
+   * ignored.</p>
+   *
    * @param namespace Namespace the Pod is running in
    * @param podName Name of target pod
    * @param timeoutSeconds Maximum number of seconds to wait
@@ -1606,47 +1615,36 @@ public class ZetaDeploymentConfigurationService {
   private void waitForPodState(String namespace, String podName, int timeoutSeconds)
       throws TimeoutException, InterruptedException {
 
-    int maxTimeout = Math.abs(timeoutSeconds);
-    int i = 0;
-    String currentPodName;
-    CommandResult result;
+    KubernetesPodWatch watch = podWatch(namespace);
+    long startNanos = System.nanoTime();
+    long deadlineNanos = startNanos + TimeUnit.SECONDS.toNanos(Math.abs(timeoutSeconds));
 
-    while (i * K8S_POD_STATUS_CHECK_INTERVAL < maxTimeout) {
+    while (true) {
+      KubernetesPodWatch.PodSnapshot snapshot;
       try {
-        currentPodName = getPodNameByPrefix(namespace, podName);
-      } catch (IllegalArgumentException e) {
+        snapshot = observePods(watch, namespace);
+      } catch (AssertionError e) {
         log.warn("Waiting for pod state: Pod {} not found in namespace {} (yet). Continue waiting.",
             podName, namespace);
-        TimeUnit.SECONDS.sleep(K8S_POD_STATUS_CHECK_INTERVAL);
-        i++;
-        continue;
+        snapshot = new KubernetesPodWatch.PodSnapshot(watch.snapshot().version(), false, List.of());
       }
 
-      result = executeKubectlCommand("-n", namespace, "get", "pods", currentPodName, "--no-headers",
-          "-o", "jsonpath={.status.containerStatuses[*].ready}");
-
-      // by individual container state
-      if (result.exitCode() == 0 && result.stdout() != null && areContainersReady(result.stdout())) {
+      boolean ready = snapshot.pods().stream()
+          .filter(pod -> pod.path("metadata").path("name").asText("").startsWith(podName + "-"))
+          .filter(pod -> pod.path("metadata").path("deletionTimestamp").isMissingNode())
+          .anyMatch(this::isPodReady);
+      if (ready) {
         return;
       }
-      TimeUnit.SECONDS.sleep(K8S_POD_STATUS_CHECK_INTERVAL);
-      i++;
+
+      if (System.nanoTime() >= deadlineNanos) {
+        break;
+      }
+      awaitNextPodState(watch, snapshot.version(), deadlineNanos);
     }
 
     throw new TimeoutException(String.format("Waiting for pod state: ready state of pod %s timed out after %d seconds",
-        podName, i * K8S_POD_STATUS_CHECK_INTERVAL));
-  }
-
-  /**
-   * Determines if state of containers in a Pod are to be considered state ready to handle connections.
-   *
-   * @param containerList Space separated list of container status
-   * @return True if all containers in list are considered ready
-   */
-  private boolean areContainersReady(String containerList) {
-    return Arrays.stream(containerList.split(" "))
-        .map(str -> stripSingleQuotes(str.strip()))
-        .allMatch(str -> str.equalsIgnoreCase("true"));
+        podName, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos)));
   }
 
   /**
@@ -1751,9 +1749,42 @@ public class ZetaDeploymentConfigurationService {
             stripSingleQuotes(result.stdout()), result.stderr());
       }
       return result;
+    } finally {
+      invalidateSnapshotsAfter(arguments);
+    }
+  }
+
+  /**
+   * Executes a read-only kubectl command that prints JSON and parses stdout while it is streamed, so large outputs
+   * such as {@code get pods -o json} are never buffered as text.
+   *
+   * @param verbose logging of error messages
+   * @param arguments the kubectl arguments, which must request JSON output
+   * @return parsed stdout (a missing node for empty output), stderr and exit code
+   */
+  protected StreamingCommandResult<JsonNode> executeKubectlJson(boolean verbose, List<String> arguments) throws AssertionError {
+    Objects.requireNonNull(arguments, "kubectl arguments must not be null");
+    List<String> command = new ArrayList<>();
+    command.add(KUBECTL_COMMAND);
+    command.addAll(arguments);
+
+    try (var commandService = new SystemCommandService(processTimeoutSeconds)) {
+      return commandService.executeCommand(command, verbose, JSON::readTree);
+    } finally {
+      invalidateSnapshotsAfter(arguments);
     }
   }
 
+  /**
+   * Drops cached kubectl reads of the affected namespace if the arguments describe a mutating command.
+   * Subclasses replacing {@link #executeKubectlCommand(boolean, List)} must call this to keep the cache coherent.
+   *
+   * @param arguments kubectl arguments that were just executed
+   */
+  protected void invalidateSnapshotsAfter(List<String> arguments) {
+    snapshotCache.invalidateAfter(arguments);
+  }
+
   /**
    * Executes a kubectl command with the provided arguments.
    *
@@ -1779,12 +1810,14 @@ public class ZetaDeploymentConfigurationService {
   /**
    * Reads all pods from a namespace and returns the `items` array from kubectl JSON output.
    *
+   * <p>The result may be served from the short-lived namespace snapshot cache.</p>
+   *
    * @param namespace namespace for the kubectl query
    * @return pod items array from `kubectl get pods -o json`
    * @throws AssertionError when requirements fail, kubectl exits non-zero, or JSON parsing fails
    */
   public JsonNode readPodsForNamespace(String namespace) throws AssertionError {
-    return readPodsForNamespaceInternal(namespace, true);
+    return readPodsForNamespaceInternal(namespace, true, false);
   }
 
   /**
@@ -1796,8 +1829,9 @@ public class ZetaDeploymentConfigurationService {
    */
   private CommandResult getConfigMapBackup(String namespace, String configMapName) {
     String backupConfigMapName = assemblyBackupResourceName(configMapName);
-    return executeKubectlCommand(Arrays.asList("-n", namespace, "get", "configmap",
-        backupConfigMapName, "-o", "yaml"), false);
+    return snapshotCache.read(namespace, "configmap/" + backupConfigMapName,
+        () -> executeKubectlCommand(Arrays.asList("-n", namespace, "get", "configmap",
+            backupConfigMapName, "-o", "yaml"), false));
   }
 
   /**
@@ -1822,6 +1856,38 @@ public class ZetaDeploymentConfigurationService {
     return target;
   }
 
+  /**
+   * Finds a pod by its exact name.
+   *
+   * @param pods pod items array
+   * @param podName pod name
+   * @return pod JSON or {@code null} if absent
+   */
+  private static JsonNode findPod(JsonNode pods, String podName) {
+    for (JsonNode pod : pods) {
+      if (podName.equals(pod.path("metadata").path("name").asText(""))) {
+        return pod;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds a container spec or status entry by container name.
+   *
+   * @param containers {@code spec.containers} or {@code status.containerStatuses} array
+   * @param containerName container name
+   * @return matching entry or a missing node
+   */
+  private static JsonNode findContainer(JsonNode containers, String containerName) {
+    for (JsonNode container : containers) {
+      if (containerName.equals(container.path("name").asText(""))) {
+        return container;
+      }
+    }
+    return JSON.missingNode();
+  }
+
   /**
    * Checks whether all reported container statuses of a pod are ready.
    *
@@ -1851,25 +1917,156 @@ public class ZetaDeploymentConfigurationService {
     TimeUnit.SECONDS.sleep(K8S_POD_STATUS_CHECK_INTERVAL);
   }
 
-  private JsonNode readPodsForNamespaceInternal(String namespace, boolean verifyRequirements) throws AssertionError {
+  /**
+   * Returns the shared pod watch of a namespace, starting it on first use. The watch is seeded with
+   * {@code kubectl get pods -o json} and then follows the pod watch API from the resource version of that list.
+   *
+   * @param namespace Kubernetes namespace
+   * @return pod watch of the namespace
+   */
+  protected KubernetesPodWatch podWatch(String namespace) {
+    return KubernetesPodWatch.shared(namespace, () -> listPodsForWatch(namespace),
+        resourceVersion -> openPodWatchStream(namespace, resourceVersion));
+  }
+
+  /**
+   * Lists the pods of a namespace uncached, including the resource version the watch starts from.
+   *
+   * @param namespace Kubernetes namespace
+   * @return pod list JSON
+   * @throws IOException if kubectl fails
+   */
+  private JsonNode listPodsForWatch(String namespace) throws IOException {
+    StreamingCommandResult<JsonNode> result;
+    try {
+      result = executeKubectlJson(false, List.of("-n", namespace, "get", "pods", "-o", "json"));
+    } catch (AssertionError e) {
+      throw new IOException(e.getMessage(), e);
+    }
+    if (result.exitCode() != 0) {
+      throw new IOException("kubectl get pods failed with exit code " + result.exitCode() + ": " + result.stderr());
+    }
+    return result.value();
+  }
+
+  /**
+   * Starts a raw watch on the pods API after the given resource version; closing the returned stream stops kubectl.
+   * Unlike {@code kubectl get pods -w}, which lists again on its own, the raw watch continues exactly where the
+   * seeding list ended.
+   *
+   * @param namespace Kubernetes namespace
+   * @param resourceVersion resource version of the seeding pod list; blank to start from the current state
+   * @return stdout of the watch process
+   * @throws IOException if kubectl cannot be started
+   */
+  private InputStream openPodWatchStream(String namespace, String resourceVersion) throws IOException {
+    Process process = SystemCommandService.startStreamingCommand(podWatchCommand(namespace, resourceVersion));
+    return new FilterInputStream(process.getInputStream()) {
+      @Override
+      public void close() throws IOException {
+        process.destroy();
+        super.close();
+      }
+    };
+  }
+
+  private static List<String> podWatchCommand(String namespace, String resourceVersion) {
+    String path = "/api/v1/namespaces/" + URLEncoder.encode(namespace, StandardCharsets.UTF_8) + "/pods?watch=true";
+    if (!resourceVersion.isBlank()) {
+      path += "&resourceVersion=" + URLEncoder.encode(resourceVersion, StandardCharsets.UTF_8);
+    }
+    return List.of(KUBECTL_COMMAND, "get", "--raw", path);
+  }
+
+  /**
+   * Reads the pods of a namespace from the watch cache, or with kubectl while the watch is not streaming.
+   *
+   * @param watch pod watch of the namespace
+   * @param namespace Kubernetes namespace
+   * @return current pods
+   * @throws AssertionError if the kubectl fallback fails
+   */
+  private KubernetesPodWatch.PodSnapshot observePods(KubernetesPodWatch watch, String namespace) throws AssertionError {
+    KubernetesPodWatch.PodSnapshot snapshot = watch.snapshot();
+    if (snapshot.live()) {
+      return snapshot;
+    }
+
+    List<JsonNode> pods = new ArrayList<>();
+    readPodsForNamespaceInternal(namespace, false, true).forEach(pods::add);
+    return new KubernetesPodWatch.PodSnapshot(snapshot.version(), false, List.copyOf(pods));
+  }
+
+  /**
+   * Lists the pod names of a namespace, one per line, from the watch cache or with kubectl.
+   *
+   * @param watch pod watch of the namespace
+   * @param namespace Kubernetes namespace
+   * @return command result with one pod name per stdout line
+   */
+  private CommandResult listPodNames(KubernetesPodWatch watch, String namespace) {
+    KubernetesPodWatch.PodSnapshot snapshot = watch.snapshot();
+    if (!snapshot.live()) {
+      return executeKubectlCommand("-n", namespace, "get", "pods",
+          "--no-headers", "-o", "custom-columns=NAME:.metadata.name");
+    }
+
+    String names = snapshot.pods().stream()
+        .map(pod -> pod.path("metadata").path("name").asText(""))
+        .collect(Collectors.joining("\n"));
+    return new CommandResult(podWatchCommand(namespace, ""), 0, names, "");
+  }
+
+  /**
+   * Blocks until the next pod event while the watch is streaming; otherwise waits one polling interval.
+   *
+   * @param watch pod watch of the namespace
+   * @param seenVersion cache version of the last evaluated pod state
+   * @param deadlineNanos {@link System#nanoTime()} after which waiting is pointless
+   * @throws InterruptedException if the waiting thread is interrupted
+   */
+  private void awaitNextPodState(KubernetesPodWatch watch, long seenVersion, long deadlineNanos)
+      throws InterruptedException {
+    long remainingNanos = deadlineNanos - System.nanoTime();
+    if (remainingNanos <= 0) {
+      return;
+    }
+    if (watch.isStreaming()) {
+      watch.awaitChange(seenVersion, Duration.ofNanos(remainingNanos));
+      return;
+    }
+    sleepForPodStatusCheckInterval();
+  }
+
+  /**
+   * Reads all pods of a namespace, either from the snapshot cache or freshly for polling loops.
+   *
+   * @param namespace namespace for the kubectl query
+   * @param verifyRequirements whether to run the kubectl health check first
+   * @param refresh bypass the cached snapshot and store the fresh result instead
+   * @return pod items array from `kubectl get pods -o json`
+   * @throws AssertionError when requirements fail, kubectl exits non-zero, or JSON parsing fails
+   */
+  private JsonNode readPodsForNamespaceInternal(String namespace, boolean verifyRequirements, boolean refresh)
+      throws AssertionError {
     if (verifyRequirements) {
       verifyRequirements(namespace);
     }
 
-    var result = executeKubectlCommand("-n", namespace, "get", "pods", "-o", "json");
+    Supplier<StreamingCommandResult<JsonNode>> loader =
+        () -> executeKubectlJson(true, List.of("-n", namespace, "get", "pods", "-o", "json"));
+    var result = refresh
+        ? snapshotCache.refresh(namespace, PODS_RESOURCE, loader, r -> r.exitCode() == 0)
+        : snapshotCache.read(namespace, PODS_RESOURCE, loader, r -> r.exitCode() == 0);
     if (result.exitCode() != 0) {
       throw new AssertionError("kubectl get pods failed in namespace '" + namespace + "': " + result.stderr());
     }
 
-    try {
-      var items = JSON.readTree(result.stdout()).path("items");
-      if (!items.isArray() || items.isEmpty()) {
-        throw new AssertionError("kubectl get pods -o json returned no pods in namespace '" + namespace + "'.");
-      }
-      return items;
-    } catch (IOException ex) {
-      throw new AssertionError("Failed to parse kubectl pods JSON output.", ex);
+    var items = result.value().path("items");
+    if (!items.isArray() || items.isEmpty()) {
+      throw new AssertionError("kubectl get pods -o json returned no pods in namespace '" + namespace + "'.");
     }
+    return items;
   }
 
   private record DeploymentObservation(boolean isRecoveredToStableImage, boolean hasFailedRolloutEvidence,
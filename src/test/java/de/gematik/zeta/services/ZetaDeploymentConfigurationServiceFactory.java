@@ -25,6 +25,7 @@
 package de.gematik.zeta.services;
 
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
+import java.time.Duration;
 
 /**
  * Factory class for ZetaDeploymentConfigurationService.
@@ -43,6 +44,9 @@ public class ZetaDeploymentConfigurationServiceFactory {
         .orElse(PROCESS_TIMEOUT_DEFAULT);
     int podReadyTimeout = TigerGlobalConfiguration.readIntegerOptional("zetaDeploymentConfig.pod_ready_timeout")
         .orElse(POD_READY_TIMEOUT_DEFAULT);
-    return new ZetaDeploymentConfigurationService(processTimeout, podReadyTimeout);
+    Duration readCacheTtl = TigerGlobalConfiguration.readIntegerOptional("zetaDeploymentConfig.read_cache_ttl_ms")
+        .map(Duration::ofMillis)
+        .orElse(ZetaDeploymentConfigurationService.DEFAULT_READ_CACHE_TTL);
+    return new ZetaDeploymentConfigurationService(processTimeout, podReadyTimeout, readCacheTtl);
   }
 }
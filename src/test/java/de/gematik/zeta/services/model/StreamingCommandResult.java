@@ -0,0 +1,41 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a command whose stdout was consumed while the process was running.
+ *
+ * @param command  the full command list including binary name
+ * @param exitCode the process exit code
+ * @param value    value produced from stdout
+ * @param stderr   stderr output, possibly truncated to its tail
+ * @param elapsed  wall-clock time from process start until both streams were drained
+ * @param <T>      type of the value produced from stdout
+ */
+public record StreamingCommandResult<T>(List<String> command, int exitCode, T value, String stderr, Duration elapsed) {
+}
@@ -0,0 +1,72 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.SignedJWT;
+import de.gematik.zeta.services.JwtSigningService;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JwtSigningService}.
+ */
+class JwtSigningServiceTest {
+
+  private final JwtSigningService service = JwtSigningService.shared();
+
+  @Test
+  void signsManyClaimSetsInParallelKeepingTheirOrder() throws Exception {
+    var generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    var keyPair = generator.generateKeyPair();
+    var claimSets = IntStream.range(0, 32).mapToObj(i -> "{\"sub\":\"client-" + i + "\"}").toList();
+
+    var tokens = service.signAllRs256((RSAPrivateKey) keyPair.getPrivate(), claimSets);
+
+    assertEquals(claimSets.size(), tokens.size());
+    var verifier = new RSASSAVerifier((RSAPublicKey) keyPair.getPublic());
+    for (int i = 0; i < tokens.size(); i++) {
+      var jwt = SignedJWT.parse(tokens.get(i));
+      assertEquals(JWSAlgorithm.RS256, jwt.getHeader().getAlgorithm());
+      assertEquals("client-" + i, jwt.getJWTClaimsSet().getSubject());
+      assertTrue(jwt.verify(verifier));
+    }
+  }
+
+  @Test
+  void rejectsInvalidClaimsAndMissingKeyFiles() {
+    assertThrows(AssertionError.class, () -> service.signRs256((RSAPrivateKey) null, "not json"));
+    assertThrows(IllegalArgumentException.class, () -> service.privateKey("/keys/does-not-exist.pem"));
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import de.gematik.zeta.services.KubectlSnapshotCache;
+import de.gematik.zeta.services.ZetaDeploymentConfigurationService;
+import de.gematik.zeta.services.model.CommandResult;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KubectlSnapshotCache}.
+ */
+class KubectlSnapshotCacheTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final KubectlSnapshotCache cache = new KubectlSnapshotCache(Duration.ofSeconds(2), clock::get);
+
+  @Test
+  void servesReadsWithinTtlAndReloadsAfterExpiry() {
+    var loads = new AtomicInteger();
+    Supplier<CommandResult> loader = () -> result(0, "pods-" + loads.incrementAndGet(), "");
+
+    var first = cache.read("zeta-local", "pods", loader);
+    clock.addAndGet(Duration.ofMillis(1999).toNanos());
+    assertSame(first, cache.read("zeta-local", "pods", loader));
+
+    clock.addAndGet(Duration.ofMillis(1).toNanos());
+    assertEquals("pods-2", cache.read("zeta-local", "pods", loader).stdout());
+    assertEquals(2, loads.get());
+    assertEquals(1, cache.hits());
+    assertEquals(2, cache.misses());
+  }
+
+  @Test
+  void cachesNotFoundButRetriesOtherFailures() {
+    var loads = new AtomicInteger();
+
+    cache.read("zeta-local", "configmap/backup", () -> countedResult(loads, 1, "Error from server (NotFound)"));
+    cache.read("zeta-local", "configmap/backup", () -> countedResult(loads, 1, "Error from server (NotFound)"));
+    assertEquals(1, loads.get());
+
+    cache.read("zeta-local", "pods", () -> countedResult(loads, 1, "Unable to connect to the server"));
+    cache.read("zeta-local", "pods", () -> countedResult(loads, 1, "Unable to connect to the server"));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void mutatingCommandsInvalidateTheirNamespace() {
+    var loads = new AtomicInteger();
+    Supplier<CommandResult> loader = () -> countedResult(loads, 0, "");
+    cache.read("zeta-local", "pods", loader);
+    cache.read("other", "pods", loader);
+
+    cache.invalidateAfter(List.of("rollout", "status", "deployment/pep-deployment", "-n", "zeta-local"));
+    cache.invalidateAfter(List.of("-n", "zeta-local", "get", "pods", "-o", "json"));
+    cache.read("zeta-local", "pods", loader);
+    assertEquals(2, loads.get());
+
+    cache.invalidateAfter(List.of("rollout", "undo", "deployment/pep-deployment", "-n", "zeta-local"));
+    cache.read("zeta-local", "pods", loader);
+    cache.read("other", "pods", loader);
+    assertEquals(3, loads.get());
+
+    cache.invalidateAfter(List.of("-n", "zeta-local", "delete", "pod", "pep-deployment-abc"));
+    cache.invalidateAfter(List.of("patch", "configmap", "pep-well-known", "--namespace=other", "-p", "{}"));
+    cache.read("zeta-local", "pods", loader);
+    cache.read("other", "pods", loader);
+    assertEquals(5, loads.get());
+  }
+
+  @Test
+  void zeroTtlDisablesCaching() {
+    var loads = new AtomicInteger();
+    var uncached = new KubectlSnapshotCache(Duration.ZERO, clock::get);
+
+    uncached.read("zeta-local", "pods", () -> countedResult(loads, 0, ""));
+    uncached.read("zeta-local", "pods", () -> countedResult(loads, 0, ""));
+
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void sharedCacheIsProcessWideSoMutationsInvalidateEveryHolder() {
+    var loads = new AtomicInteger();
+    Supplier<CommandResult> loader = () -> countedResult(loads, 0, "");
+    var namespace = "shared-" + UUID.randomUUID();
+    var readingService = KubectlSnapshotCache.shared(ZetaDeploymentConfigurationService.DEFAULT_READ_CACHE_TTL);
+    var mutatingService = KubectlSnapshotCache.shared(ZetaDeploymentConfigurationService.DEFAULT_READ_CACHE_TTL);
+    assertSame(readingService, mutatingService);
+
+    readingService.read(namespace, "pods", loader);
+    readingService.read(namespace, "pods", loader);
+    mutatingService.invalidateAfter(List.of("-n", namespace, "rollout", "restart", "deployment/pep-deployment"));
+    readingService.read(namespace, "pods", loader);
+
+    assertEquals(2, loads.get());
+  }
+
+  private static CommandResult countedResult(AtomicInteger loads, int exitCode, String stderr) {
+    loads.incrementAndGet();
+    return result(exitCode, "", stderr);
+  }
+
+  private static CommandResult result(int exitCode, String stdout, String stderr) {
+    return new CommandResult(List.of("kubectl"), exitCode, stdout, stderr);
+  }
+}
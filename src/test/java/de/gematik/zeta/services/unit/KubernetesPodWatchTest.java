@@ -0,0 +1,274 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.gematik.zeta.services.KubernetesPodWatch;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KubernetesPodWatch}.
+ */
+class KubernetesPodWatchTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  @Test
+  void appliesWatchEventsAndWakesWaiters() throws Exception {
+    var streams = new FakeStreams(1);
+    streams.seed(0, "pep-deployment-a");
+    try (var watch = new KubernetesPodWatch("zeta-local", streams::list, streams::open).start()) {
+      var seeded = awaitSnapshot(watch, s -> names(s).equals(List.of("pep-deployment-a")));
+      assertTrue(seeded.live());
+      assertEquals(List.of("100"), streams.openedResourceVersions());
+
+      streams.write(0, event("ADDED", "pep-deployment-b", true));
+      var snapshot = awaitSnapshot(watch, s -> s.pods().size() == 2);
+
+      var woken = CompletableFuture.supplyAsync(() -> awaitChangeUnchecked(watch, snapshot.version()));
+      streams.write(0, event("MODIFIED", "pep-deployment-a", true));
+      assertTrue(woken.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+
+      streams.write(0, event("DELETED", "pep-deployment-b", true));
+      var afterDelete = awaitSnapshot(watch, s -> s.pods().size() == 1);
+      assertEquals(List.of("pep-deployment-a"), names(afterDelete));
+      assertTrue(afterDelete.pods().getFirst().path("status").path("containerStatuses").get(0).path("ready").asBoolean());
+    }
+  }
+
+  @Test
+  void staysNotLiveUntilThePodListWasApplied() throws Exception {
+    var streams = new FakeStreams(1);
+    streams.seed(0, "pep-deployment-a", "pep-deployment-b");
+    var listGate = streams.holdList(0);
+    try (var watch = new KubernetesPodWatch("zeta-local", streams::list, streams::open).start()) {
+      TimeUnit.MILLISECONDS.sleep(200);
+      assertFalse(watch.snapshot().live());
+
+      listGate.countDown();
+      var seeded = awaitSnapshot(watch, s -> true);
+      assertEquals(List.of("pep-deployment-a", "pep-deployment-b"), names(seeded));
+    }
+  }
+
+  @Test
+  void reconnectKeepsServingOldPodsUntilTheNewListReplacesThem() throws Exception {
+    var streams = new FakeStreams(2);
+    streams.seed(0, "pep-deployment-old");
+    streams.seed(1, "pep-deployment-new");
+    var relistGate = streams.holdList(1);
+    try (var watch = new KubernetesPodWatch("zeta-local", streams::list, streams::open).start()) {
+      awaitSnapshot(watch, s -> names(s).equals(List.of("pep-deployment-old")));
+
+      streams.end(0);
+      long deadline = System.nanoTime() + TIMEOUT.toNanos();
+      while (watch.isStreaming() && System.nanoTime() < deadline) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+      var reconnecting = watch.snapshot();
+      assertFalse(reconnecting.live());
+      assertEquals(List.of("pep-deployment-old"), names(reconnecting));
+
+      relistGate.countDown();
+      var replaced = awaitSnapshot(watch, s -> names(s).equals(List.of("pep-deployment-new")));
+      assertEquals(List.of("pep-deployment-new"), names(replaced));
+      assertEquals(List.of("100", "101"), streams.openedResourceVersions());
+    }
+  }
+
+  @Test
+  void errorEventRelistsBeforeWatchingAgain() throws Exception {
+    var streams = new FakeStreams(2);
+    streams.seed(0, "pep-deployment-old");
+    streams.seed(1, "pep-deployment-new");
+    try (var watch = new KubernetesPodWatch("zeta-local", streams::list, streams::open).start()) {
+      awaitSnapshot(watch, s -> names(s).equals(List.of("pep-deployment-old")));
+
+      streams.write(0, """
+          { "type": "ERROR", "object": { "kind": "Status", "code": 410, "reason": "Expired" } }
+          """);
+      var relisted = awaitSnapshot(watch, s -> names(s).equals(List.of("pep-deployment-new")));
+      assertEquals(List.of("pep-deployment-new"), names(relisted));
+      assertEquals(List.of("100", "101"), streams.openedResourceVersions());
+    }
+  }
+
+  @Test
+  void awaitChangeReturnsImmediatelyWhileNotStreaming() throws Exception {
+    try (var watch = new KubernetesPodWatch("zeta-local", () -> {
+      throw new IOException("kubectl not available");
+    }, resourceVersion -> {
+      throw new IOException("kubectl not available");
+    })) {
+      long started = System.nanoTime();
+      assertFalse(watch.awaitChange(watch.snapshot().version(), TIMEOUT));
+      assertFalse(watch.snapshot().live());
+      assertTrue(Duration.ofNanos(System.nanoTime() - started).compareTo(Duration.ofSeconds(1)) < 0);
+    }
+  }
+
+  private static KubernetesPodWatch.PodSnapshot awaitSnapshot(KubernetesPodWatch watch,
+      Predicate<KubernetesPodWatch.PodSnapshot> condition) throws InterruptedException {
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (System.nanoTime() < deadline) {
+      var snapshot = watch.snapshot();
+      if (snapshot.live() && condition.test(snapshot)) {
+        return snapshot;
+      }
+      if (!watch.awaitChange(snapshot.version(), Duration.ofMillis(100))) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+    }
+    throw new AssertionError("Pod watch did not reach expected state: " + watch.snapshot());
+  }
+
+  private static boolean awaitChangeUnchecked(KubernetesPodWatch watch, long version) {
+    try {
+      return watch.awaitChange(version, TIMEOUT);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static List<String> names(KubernetesPodWatch.PodSnapshot snapshot) {
+    return snapshot.pods().stream()
+        .map(pod -> pod.path("metadata").path("name").asText())
+        .toList();
+  }
+
+  private static String event(String type, String podName, boolean ready) {
+    return """
+        { "type": "%s", "object": %s }
+        """.formatted(type, pod(podName, ready));
+  }
+
+  private static String pod(String podName, boolean ready) {
+    return """
+        {
+          "metadata": { "name": "%s" },
+          "status": { "containerStatuses": [ { "name": "nginx", "ready": %s } ] }
+        }
+        """.formatted(podName, ready);
+  }
+
+  /**
+   * Hands out one pod list and one piped stream per connect so tests can seed pods, emit events and simulate
+   * disconnects. The list of connection {@code i} carries resource version {@code 100 + i}.
+   */
+  private static final class FakeStreams {
+
+    private final List<PipedOutputStream> outputs;
+    private final Queue<PipedInputStream> inputs = new ArrayDeque<>();
+    private final List<List<String>> seeds = new ArrayList<>();
+    private final List<CountDownLatch> listGates = new ArrayList<>();
+    private final List<String> openedResourceVersions = new ArrayList<>();
+    private int listed;
+
+    FakeStreams(int connections) throws IOException {
+      var created = new ArrayList<PipedOutputStream>();
+      for (int i = 0; i < connections; i++) {
+        var output = new PipedOutputStream();
+        inputs.add(new PipedInputStream(output, 64 * 1024));
+        created.add(output);
+        seeds.add(List.of());
+        listGates.add(new CountDownLatch(0));
+      }
+      outputs = List.copyOf(created);
+    }
+
+    synchronized void seed(int connection, String... podNames) {
+      seeds.set(connection, List.of(podNames));
+    }
+
+    synchronized CountDownLatch holdList(int connection) {
+      var gate = new CountDownLatch(1);
+      listGates.set(connection, gate);
+      return gate;
+    }
+
+    JsonNode list() throws IOException {
+      int connection;
+      synchronized (this) {
+        connection = listed++;
+      }
+      if (connection >= outputs.size()) {
+        throw new IOException("no further pod list");
+      }
+      try {
+        listGates.get(connection).await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("interrupted", e);
+      }
+      var items = String.join(",", seeds.get(connection).stream().map(name -> pod(name, true)).toList());
+      return JSON.readTree("""
+          { "metadata": { "resourceVersion": "%d" }, "items": [ %s ] }
+          """.formatted(100 + connection, items));
+    }
+
+    synchronized InputStream open(String resourceVersion) throws IOException {
+      var next = inputs.poll();
+      if (next == null) {
+        throw new IOException("no further watch connection");
+      }
+      openedResourceVersions.add(resourceVersion);
+      return next;
+    }
+
+    synchronized List<String> openedResourceVersions() {
+      return List.copyOf(openedResourceVersions);
+    }
+
+    void write(int connection, String json) throws IOException {
+      outputs.get(connection).write(json.getBytes(UTF_8));
+      outputs.get(connection).flush();
+    }
+
+    void end(int connection) throws IOException {
+      outputs.get(connection).close();
+    }
+  }
+}
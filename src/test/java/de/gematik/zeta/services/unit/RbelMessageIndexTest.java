@@ -0,0 +1,186 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.gematik.rbellogger.data.RbelElement;
+import de.gematik.rbellogger.data.core.TracingMessagePairFacet;
+import de.gematik.zeta.services.RbelMessageIndex;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RbelMessageIndex}.
+ */
+class RbelMessageIndexTest {
+
+  private final RbelMessageIndex index = new RbelMessageIndex();
+
+  @Test
+  void indexesOnlyMessagesAppendedSinceLastRefresh() {
+    var history = new ArrayDeque<RbelElement>();
+    var request = request("req-1", "/token");
+    var response = response(request);
+    history.add(request);
+    history.add(response);
+
+    assertSame(response, index.refresh(history).responseFor(request));
+
+    var secondRequest = request("req-2", "/token");
+    history.add(secondRequest);
+    index.refresh(history);
+    index.refresh(history);
+
+    assertEquals(3, index.size());
+    assertNull(index.responseFor(secondRequest));
+    verify(request, times(1)).findRbelPathMembers("$.path");
+    verify(secondRequest, times(1)).findRbelPathMembers("$.path");
+  }
+
+  @Test
+  void returnsEarliestMessageOfAllMatchingPaths() {
+    var tokenRequest = request("req-1", "/auth/token");
+    var resourceRequest = request("req-2", "/resource/1");
+    var secondTokenRequest = request("req-3", "/auth/token?retry=1");
+    index.refresh(List.of(tokenRequest, resourceRequest, secondTokenRequest));
+
+    assertSame(tokenRequest, index.firstWithPath("/auth", Pattern.compile("^/auth"), message -> true));
+    assertSame(secondTokenRequest,
+        index.firstWithPath("/auth", Pattern.compile("^/auth"), message -> message != tokenRequest));
+    assertSame(resourceRequest, index.firstWithPath("/resource/1", Pattern.compile("/resource/1"), message -> true));
+    assertNull(index.firstWithPath("/other", Pattern.compile("/other"), message -> true));
+  }
+
+  @Test
+  void rebuildsWhenHistoryWasCleared() {
+    var request = request("req-1", "/token");
+    index.refresh(List.of(request, response(request)));
+
+    var newRequest = request("req-2", "/token");
+    index.refresh(List.of(newRequest));
+
+    assertEquals(1, index.size());
+    assertNull(index.responseFor(request));
+    assertSame(newRequest, index.firstWithPath("/token", Pattern.compile("/token"), message -> true));
+  }
+
+  @Test
+  void prunesMessagesEvictedFromRotatingHistory() {
+    var history = new ArrayDeque<RbelElement>();
+    var request = request("req-1", "/token");
+    var response = response(request);
+    var resourceRequest = request("req-2", "/resource");
+    history.add(request);
+    history.add(response);
+    history.add(resourceRequest);
+    index.refresh(history);
+
+    var secondRequest = request("req-3", "/token");
+    history.pollFirst();
+    history.pollFirst();
+    history.add(secondRequest);
+    index.refresh(history);
+
+    assertEquals(2, index.size());
+    assertNull(index.responseFor(request));
+    assertSame(secondRequest, index.firstWithPath("/token", Pattern.compile("/token"), message -> true));
+    assertSame(resourceRequest, index.firstWithPath("/resource", Pattern.compile("/resource"), message -> true));
+    verify(resourceRequest, times(1)).findRbelPathMembers("$.path");
+  }
+
+  @Test
+  void indexesPairingAddedAfterTheMessagesWereIndexed() {
+    var history = new ArrayDeque<RbelElement>();
+    var request = request("req-1", "/token");
+    var response = unpairedResponse(request);
+    history.add(request);
+    history.add(response);
+    assertNull(index.refresh(history).responseFor(request));
+
+    pair(request, response);
+
+    assertSame(response, index.refresh(history).responseFor(request));
+  }
+
+  @Test
+  void indexesPathParsedAfterLaterMessagesAtItsRecordedPosition() {
+    var history = new ArrayDeque<RbelElement>();
+    var earlyRequest = mock(RbelElement.class);
+    when(earlyRequest.getUuid()).thenReturn("req-1");
+    var laterRequest = request("req-2", "/token");
+    history.add(earlyRequest);
+    history.add(laterRequest);
+    assertSame(laterRequest, index.refresh(history).firstWithPath("/token", Pattern.compile("/token"), message -> true));
+
+    withPath(earlyRequest, "/token");
+    history.add(response(earlyRequest));
+
+    assertSame(earlyRequest, index.refresh(history).firstWithPath("/token", Pattern.compile("/token"), message -> true));
+    index.refresh(history);
+    verify(earlyRequest, times(2)).findRbelPathMembers("$.path");
+  }
+
+  private static RbelElement request(String uuid, String path) {
+    var request = mock(RbelElement.class);
+    when(request.getUuid()).thenReturn(uuid);
+    withPath(request, path);
+    return request;
+  }
+
+  private static void withPath(RbelElement request, String path) {
+    var pathElement = mock(RbelElement.class);
+    when(pathElement.getRawStringContent()).thenReturn(path);
+    when(request.findRbelPathMembers("$.path")).thenReturn(List.of(pathElement));
+  }
+
+  private static RbelElement response(RbelElement request) {
+    var response = unpairedResponse(request);
+    pair(request, response);
+    return response;
+  }
+
+  private static RbelElement unpairedResponse(RbelElement request) {
+    var response = mock(RbelElement.class);
+    when(response.getUuid()).thenReturn(request.getUuid() + "-response");
+    return response;
+  }
+
+  private static void pair(RbelElement request, RbelElement response) {
+    var pair = mock(TracingMessagePairFacet.class);
+    when(pair.getRequest()).thenReturn(request);
+    when(pair.getResponse()).thenReturn(response);
+    when(response.getFacet(TracingMessagePairFacet.class)).thenReturn(Optional.of(pair));
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.gematik.rbellogger.data.RbelElement;
+import de.gematik.zeta.services.RbelPathMemo;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RbelPathMemo}.
+ */
+class RbelPathMemoTest {
+
+  private static final ObjectMapper JSON = new ObjectMapper();
+
+  private final RbelPathMemo memo = new RbelPathMemo();
+
+  @Test
+  void evaluatesEachPathOnlyOncePerMessage() {
+    var request = message("req-1");
+    var scope = element(" openid ");
+    when(request.findRbelPathMembers("$.body.scope")).thenReturn(List.of(scope));
+
+    assertEquals(Optional.of("openid"), memo.joinedValue(request, "$.body.scope"));
+    assertEquals(Optional.of("openid"), memo.joinedValue(request, "$.body.scope"));
+    assertEquals(List.of(scope), memo.members(request, "$.body.scope"));
+
+    verify(request, times(1)).findRbelPathMembers("$.body.scope");
+  }
+
+  @Test
+  void reportsMissingPathsAsEmpty() {
+    var request = message("req-1");
+    when(request.findRbelPathMembers("$.body.nonce")).thenReturn(List.of());
+
+    assertEquals(Optional.empty(), memo.joinedValue(request, "$.body.nonce"));
+    assertTrue(memo.members(request, "$.body.nonce").isEmpty());
+  }
+
+  @Test
+  void dropsPathResultsWhenTheMessageChanges() {
+    var first = message("req-1");
+    var second = message("req-2");
+    when(first.findRbelPathMembers("$.body.exp")).thenReturn(List.of(element("1")));
+    when(second.findRbelPathMembers("$.body.exp")).thenReturn(List.of(element("2")));
+
+    assertEquals(Optional.of("1"), memo.joinedValue(first, "$.body.exp"));
+    assertEquals(Optional.of("2"), memo.joinedValue(second, "$.body.exp"));
+    assertEquals(Optional.of("1"), memo.joinedValue(first, "$.body.exp"));
+
+    verify(first, times(2)).findRbelPathMembers("$.body.exp");
+    verify(second, times(1)).findRbelPathMembers("$.body.exp");
+  }
+
+  @Test
+  void parsesIdenticalJsonTextOnlyOncePerMessage() {
+    var request = message("req-1");
+    var parses = new AtomicInteger();
+    Function<String, JsonNode> parser = text -> {
+      parses.incrementAndGet();
+      return readTree(text);
+    };
+
+    var tree = memo.jsonTree(request, "{\"a\":1}", false, parser);
+    assertSame(tree, memo.jsonTree(request, "{\"a\":1}", false, parser));
+    assertEquals(1, parses.get());
+
+    memo.jsonTree(request, "{\"a\":1}", true, parser);
+    assertEquals(2, parses.get());
+
+    memo.jsonTree(message("req-2"), "{\"a\":1}", false, parser);
+    assertEquals(3, parses.get());
+
+    memo.invalidate();
+    memo.jsonTree(null, "{\"a\":1}", false, parser);
+    assertEquals(4, parses.get());
+  }
+
+  private static RbelElement message(String uuid) {
+    var message = mock(RbelElement.class);
+    when(message.getUuid()).thenReturn(uuid);
+    return message;
+  }
+
+  private static RbelElement element(String rawContent) {
+    var element = mock(RbelElement.class);
+    when(element.getRawStringContent()).thenReturn(rawContent);
+    return element;
+  }
+
+  private static JsonNode readTree(String text) {
+    try {
+      return JSON.readTree(text);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
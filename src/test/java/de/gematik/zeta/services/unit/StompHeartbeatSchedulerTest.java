@@ -0,0 +1,108 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.services.StompHeartbeatScheduler;
+import de.gematik.zeta.services.StompHeartbeatScheduler.HeartbeatMonitor;
+import de.gematik.zeta.services.WebSocketClientFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.stomp.ConnectionLostException;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * Unit tests for {@link StompHeartbeatScheduler}.
+ */
+class StompHeartbeatSchedulerTest {
+
+  @Test
+  void sharesOneSchedulerAcrossClientsAndShutsDownAfterLastRelease() {
+    var heartbeatScheduler = new StompHeartbeatScheduler(1);
+    var factory = new WebSocketClientFactory(heartbeatScheduler);
+
+    var first = factory.create();
+    var second = factory.create();
+
+    assertEquals(2, heartbeatScheduler.getReferenceCount());
+
+    var taskScheduler = first.getTaskScheduler();
+    factory.release(first);
+    factory.release(first);
+    assertEquals(1, heartbeatScheduler.getReferenceCount());
+
+    factory.release(second);
+    assertEquals(0, heartbeatScheduler.getReferenceCount());
+    assertThrows(TaskRejectedException.class, () -> taskScheduler.schedule(() -> { }, Instant.now()));
+  }
+
+  @Test
+  void recordsTicksOfFixedDelayTasksPerMonitor() throws Exception {
+    var heartbeatScheduler = new StompHeartbeatScheduler(1);
+    var monitor = new HeartbeatMonitor();
+    var otherMonitor = new HeartbeatMonitor();
+    var runs = new CountDownLatch(3);
+
+    var taskScheduler = heartbeatScheduler.acquire(monitor);
+    heartbeatScheduler.acquire(otherMonitor);
+    try {
+      taskScheduler.scheduleWithFixedDelay(runs::countDown, Duration.ofMillis(10));
+      assertTrue(runs.await(5, TimeUnit.SECONDS));
+    } finally {
+      heartbeatScheduler.release();
+      heartbeatScheduler.release();
+    }
+
+    var metrics = monitor.snapshot();
+    assertTrue(metrics.ticks() >= 3);
+    assertEquals(0, metrics.missedHeartbeats());
+    assertEquals(0, otherMonitor.snapshot().ticks());
+
+    monitor.recordMissedHeartbeat();
+    assertEquals(1, monitor.snapshot().missedHeartbeats());
+    assertEquals(0, otherMonitor.snapshot().missedHeartbeats());
+
+    monitor.reset();
+    assertEquals(0, monitor.snapshot().ticks());
+  }
+
+  @Test
+  void countsOnlyReadInactivityAsHeartbeatTimeout() {
+    var quiet = "Server has gone quiet. Closing connection in session 1.";
+
+    assertTrue(StompHeartbeatScheduler.isHeartbeatTimeout(new IllegalStateException(quiet)));
+    assertTrue(StompHeartbeatScheduler.isHeartbeatTimeout(new IllegalStateException("wrapped", new ConnectionLostException(quiet))));
+    assertFalse(StompHeartbeatScheduler.isHeartbeatTimeout(new ConnectionLostException("Connection closed")));
+    assertFalse(StompHeartbeatScheduler.isHeartbeatTimeout(null));
+  }
+}
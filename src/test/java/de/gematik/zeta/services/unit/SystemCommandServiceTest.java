@@ -0,0 +1,131 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.gematik.zeta.services.CommandLatencyMetrics;
+import de.gematik.zeta.services.SystemCommandService;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SystemCommandService} and {@link CommandLatencyMetrics}.
+ */
+class SystemCommandServiceTest {
+
+  private static final int TIMEOUT_SECONDS = 30;
+
+  @Test
+  void parsesStdoutWhileStreaming() {
+    var json = new ObjectMapper();
+    try (var service = new SystemCommandService(TIMEOUT_SECONDS)) {
+      var result = service.executeCommand(List.of("sh", "-c", "printf '{\"items\":[1,2,3]}'; printf 'trailing'"),
+          false, json::readTree);
+
+      assertEquals(0, result.exitCode());
+      assertEquals(3, result.value().path("items").size());
+    }
+  }
+
+  @Test
+  void passesStdoutChunksToConsumer() {
+    var bytes = new AtomicLong();
+    try (var service = new SystemCommandService(TIMEOUT_SECONDS)) {
+      var result = service.executeCommand(List.of("head", "-c", "200000", "/dev/zero"), false,
+          SystemCommandService.chunked(chunk -> bytes.addAndGet(chunk.remaining())));
+
+      assertEquals(200_000L, result.value());
+      assertEquals(200_000L, bytes.get());
+    }
+  }
+
+  @Test
+  void retainsOnlyTailOfStderr() {
+    try (var service = new SystemCommandService(TIMEOUT_SECONDS)) {
+      var result = service.executeCommand(List.of("sh", "-c",
+          "i=0; while [ $i -lt 5000 ]; do echo \"error line $i\" >&2; i=$((i+1)); done; exit 3"), false);
+
+      assertEquals(3, result.exitCode());
+      assertTrue(result.stderr().startsWith("["), result.stderr().substring(0, 40));
+      assertTrue(result.stderr().endsWith("error line 4999"));
+      assertTrue(result.stderr().length() < 20 * 1024, "stderr length " + result.stderr().length());
+    }
+  }
+
+  @Test
+  void aggregatesLatencyPerCommandLabel() {
+    var metrics = new CommandLatencyMetrics(Duration.ofSeconds(1));
+    metrics.record(List.of("kubectl", "-n", "zeta-local", "get", "pods", "-o", "json"), Duration.ofMillis(200), true);
+    metrics.record(List.of("kubectl", "get", "pods", "pep-0", "-n", "zeta-local"), Duration.ofMillis(1500), false);
+    metrics.record(List.of("kubectl", "rollout", "status", "deployment/pep"), Duration.ofMillis(100), true);
+
+    var snapshot = metrics.snapshot();
+
+    assertEquals(2, snapshot.size());
+    var pods = snapshot.getFirst();
+    assertEquals("kubectl get pods", pods.label());
+    assertEquals(2, pods.count());
+    assertEquals(1, pods.failures());
+    assertEquals(1, pods.slow());
+    assertEquals(Duration.ofMillis(1500), pods.max());
+    assertEquals(850.0, pods.averageMillis(), 0.001);
+    assertEquals("kubectl rollout status", snapshot.get(1).label());
+    assertTrue(metrics.describe().contains("kubectl get pods"));
+  }
+
+  @Test
+  void recordsCommandsInTheMetricsOfTheirScenario() throws InterruptedException {
+    var unscoped = SystemCommandService.metrics();
+    SystemCommandService.startScenarioMetrics();
+    try (var service = new SystemCommandService(TIMEOUT_SECONDS)) {
+      var scenario = SystemCommandService.metrics();
+      assertNotSame(unscoped, scenario);
+
+      var other = new CommandLatencyMetrics[1];
+      var worker = new Thread(() -> {
+        SystemCommandService.startScenarioMetrics();
+        service.executeCommand(List.of("true"), false);
+        other[0] = SystemCommandService.metrics();
+        SystemCommandService.endScenarioMetrics();
+      });
+      worker.start();
+      worker.join();
+      service.executeCommand(List.of("echo", "scoped"), false);
+
+      assertEquals(List.of("echo scoped"), scenario.snapshot().stream().map(CommandLatencyMetrics.CommandLatency::label).toList());
+      assertEquals(List.of("true"), other[0].snapshot().stream().map(CommandLatencyMetrics.CommandLatency::label).toList());
+    } finally {
+      SystemCommandService.endScenarioMetrics();
+    }
+    assertSame(unscoped, SystemCommandService.metrics());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.services.TlsTestToolLog;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TlsTestToolLog}.
+ */
+class TlsTestToolLogTest {
+
+  private static final String LOG = """
+      => write client hello
+      ClientHello.client_version=03 03
+      ClientHello.cipher_suites=c0 2f c0 30 00 ff
+      ClientHello.extensions=ff 01 00 01 00
+      ClientHello message transmitted.
+      ServerHello.cipher_suite=c0 2f
+      Certificate.certificate_list[0]=30 82 01 0a
+      Server used HashAlgorithm 4
+      Server used SignatureAlgorithm 3
+      Cipher suite: TLS-ECDHE-RSA-WITH-AES-128-GCM-SHA256
+      Handshake successful.
+      Performing renegotiation.
+      => renegotiate
+      Alert message received
+      Alert.level=02
+      Alert.description=28
+      TLS handshake failed: alert received
+      Valid Finished message received.
+      """;
+
+  @Test
+  void queriesRecordsAndMessagesFromOnePass() {
+    var log = TlsTestToolLog.parse(LOG);
+
+    assertTrue(log.contains("Handshake successful"));
+    assertFalse(log.contains("Handshake aborted"));
+    assertEquals("03 03", log.field("ClientHello.client_version").orElseThrow());
+    assertArrayEquals(new byte[] {(byte) 0xc0, 0x2f, (byte) 0xc0, 0x30, 0x00, (byte) 0xff}, log.hexField("ClientHello.cipher_suites"));
+    assertArrayEquals(new byte[] {0x30, (byte) 0x82, 0x01, 0x0a}, log.hexField("Certificate.certificate_list[0]"));
+    assertNull(log.hexField("ServerHello.extensions"));
+    assertEquals(4, log.serverHashAlgorithm());
+    assertEquals(Set.of("02"), log.alertLevels());
+    assertEquals(Set.of("28"), log.alertDescriptions());
+    assertTrue(log.containsAfter("Valid Finished message received.", "Performing renegotiation."));
+    assertFalse(log.containsAfter("Performing renegotiation.", "Valid Finished message received."));
+    assertEquals(LOG.strip(), log.text());
+  }
+
+  @Test
+  void relevantPhaseEndsWithLastHandshakeFailure() {
+    var phase = TlsTestToolLog.parse(LOG).relevantPhase();
+
+    assertEquals("02", phase.alertLevel());
+    assertEquals("28", phase.alertDescription());
+    assertEquals("TLS handshake failed: alert received", phase.handshakeFailure());
+    assertNull(phase.cipherSuite());
+    assertFalse(phase.handshakeSuccessful());
+  }
+
+  @Test
+  void relevantPhaseIsLatestPhaseWithoutFailure() {
+    var log = new TlsTestToolLog();
+    LOG.lines().limit(11).forEach(log::accept);
+
+    var phase = log.relevantPhase();
+
+    assertEquals("TLS-ECDHE-RSA-WITH-AES-128-GCM-SHA256", phase.cipherSuite());
+    assertEquals(4, phase.hashAlgorithm());
+    assertEquals(3, phase.signatureAlgorithm());
+    assertTrue(phase.handshakeSuccessful());
+    assertEquals("Handshake successful.", phase.lastLine());
+  }
+
+  @Test
+  void rejectsUntrackedOrderQueriesAndReportsBlankLogs() {
+    var log = TlsTestToolLog.parse("");
+
+    assertTrue(log.isBlank());
+    assertFalse(log.contains("something else"));
+    assertThrows(IllegalArgumentException.class, () -> log.containsAfter("something else", "Handshake successful"));
+  }
+
+  @Test
+  void findsUntrackedMessagesBySubstring() {
+    var log = TlsTestToolLog.parse("Performing renegotiation.\n<= renegotiate");
+
+    assertTrue(log.contains("Performing renegotiation"));
+    assertTrue(log.contains("<= renegotiate"));
+    assertFalse(log.contains("Handshake successful"));
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.services.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.services.TlsTestToolMatrixRunner;
+import de.gematik.zeta.services.TlsTestToolMatrixRunner.MatrixCase;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TlsTestToolMatrixRunner}.
+ */
+class TlsTestToolMatrixRunnerTest {
+
+  @Test
+  void runsEachCaseWithItsOwnConfigurationAndKeepsCaseOrder() {
+    var runner = new TlsTestToolMatrixRunner(4, Duration.ofSeconds(20),
+        config -> List.of("sh", "-c", "sleep 0.2; cat \"$0\"; echo; pwd", config.toString()));
+    var cases = IntStream.range(0, 8).mapToObj(i -> new MatrixCase("case-" + i, "cipherSuites=" + i)).toList();
+
+    var start = System.nanoTime();
+    var results = runner.run(cases);
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    assertEquals(cases.size(), results.size());
+    for (int i = 0; i < results.size(); i++) {
+      var result = results.get(i);
+      assertEquals("case-" + i, result.name());
+      assertEquals(0, result.exitCode());
+      assertNull(result.error());
+      assertTrue(result.logs().startsWith("cipherSuites=" + i), result.logs());
+    }
+    assertEquals(cases.size(), results.stream().map(r -> r.logs().lines().skip(1).findFirst().orElseThrow()).distinct().count(),
+        "every case must run in its own working directory");
+    assertTrue(elapsed.toMillis() < 8 * 200, "cases must run concurrently, took " + elapsed.toMillis() + " ms");
+  }
+
+  @Test
+  void reportsNonZeroExitAndTimeoutPerCase() {
+    var runner = new TlsTestToolMatrixRunner(2, Duration.ofMillis(500),
+        config -> List.of("sh", "-c", "grep -q fail \"$0\" && exit 3; grep -q hang \"$0\" && echo hanging && sleep 5; echo done", config.toString()));
+
+    var results = runner.run(List.of(new MatrixCase("ok", "ok"), new MatrixCase("fail", "fail"), new MatrixCase("hang", "hang")));
+
+    assertNull(results.get(0).error());
+    assertEquals("Exit=3", results.get(1).error());
+    assertEquals(-1, results.get(2).exitCode());
+    assertTrue(results.get(2).error().startsWith("timed out"), results.get(2).error());
+    assertEquals("hanging", results.get(2).logs().strip(), "output written before the timeout must be kept");
+  }
+
+  @Test
+  void moreParallelCasesThanCommonPoolThreadsAllCompleteWithLargeOutput() {
+    var parallel = ForkJoinPool.getCommonPoolParallelism() + 4;
+    var runner = new TlsTestToolMatrixRunner(parallel, Duration.ofSeconds(20),
+        config -> List.of("sh", "-c", "sleep 0.2; head -c 200000 /dev/zero | tr '\\0' x"));
+    var cases = IntStream.range(0, parallel).mapToObj(i -> new MatrixCase("case-" + i, "")).toList();
+
+    var results = runner.run(cases);
+
+    for (var result : results) {
+      assertNull(result.error(), result.name());
+      assertEquals(200_000, result.logs().length());
+    }
+  }
+
+  @Test
+  void rejectsNonPositiveConcurrency() {
+    assertThrows(IllegalArgumentException.class, () -> new TlsTestToolMatrixRunner(0, Duration.ofSeconds(1), config -> List.of()));
+  }
+}
@@ -30,21 +30,31 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
+import de.gematik.zeta.services.KubectlSnapshotCache;
+import de.gematik.zeta.services.KubernetesPodWatch;
 import de.gematik.zeta.services.ZetaDeploymentConfigurationService;
 import de.gematik.zeta.services.model.CommandResult;
 import de.gematik.zeta.services.model.KubectlPatchCommandResult;
+import de.gematik.zeta.services.model.StreamingCommandResult;
 import de.gematik.zeta.services.model.ZetaAslToggleResult;
 import de.gematik.zeta.services.model.ZetaDeploymentDetails;
 import de.gematik.zeta.services.model.ZetaDisableAslRequest;
 import de.gematik.zeta.services.model.ZetaEnableAslRequest;
 import de.gematik.zeta.services.model.ZetaPoppTokenToggleRequest;
 import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import org.junit.Assert;
 import org.junit.Ignore;
@@ -226,10 +236,21 @@ public class ZetaDeploymentConfigurationServiceTest {
 
   @Test
   public void getContainerImageReferenceForDeploymentReturnsFullImage() {
+    String podsJson = """
+        {
+          "items": [
+            {
+              "metadata": { "name": "pep-deployment-abc" },
+              "spec": { "containers": [
+                { "name": "sidecar", "image": "registry.example.org/zeta/sidecar:1.0.0" },
+                { "name": "nginx", "image": "registry.tas-devtools-gitlab.spree.de:443/zeta/zeta-guard/ngx_pep:0.3.0" }
+              ] }
+            }
+          ]
+        }
+        """;
     FakeZetaDeploymentConfigurationService fakeService = new FakeZetaDeploymentConfigurationService(
-        new CommandResult(List.of("kubectl"), 0, "NAME READY STATUS\npep-deployment-abc 1/1 Running", ""),
-        new CommandResult(List.of("kubectl"), 0,
-            "registry.tas-devtools-gitlab.spree.de:443/zeta/zeta-guard/ngx_pep:0.3.0", "")
+        new CommandResult(List.of("kubectl"), 0, podsJson, "")
     );
 
     CommandResult imageResult = fakeService.getContainerImageReferenceForDeployment("zeta-local", "pep-deployment", "nginx");
@@ -237,9 +258,46 @@ public class ZetaDeploymentConfigurationServiceTest {
     assertEquals(0, imageResult.exitCode());
     assertEquals("registry.tas-devtools-gitlab.spree.de:443/zeta/zeta-guard/ngx_pep:0.3.0", imageResult.stdout());
     assertTrue(imageResult.stderr().isBlank());
-    assertEquals(Arrays.asList("-n", "zeta-local", "get", "pods"), fakeService.commands.getFirst());
-    assertEquals(Arrays.asList("get", "pod", "pep-deployment-abc", "-n", "zeta-local",
-        "-o", "jsonpath='{.spec.containers[?(@.name==\"nginx\")].image}'"), fakeService.commands.get(1));
+    assertEquals(Arrays.asList("-n", "zeta-local", "get", "pods", "-o", "json"), fakeService.commands.getFirst());
+    assertEquals(1, fakeService.commands.size());
+  }
+
+  /**
+   * Verifies that read-only lookups within the cache TTL share one pod snapshot and that a mutating
+   * kubectl command forces the next lookup to query the cluster again.
+   */
+  @Test
+  public void podLookupsShareNamespaceSnapshotUntilMutation() {
+    String podsJson = """
+        {
+          "items": [
+            {
+              "metadata": { "name": "pep-deployment-abc" },
+              "spec": { "containers": [ { "name": "nginx", "image": "registry.example.org/zeta/ngx_pep:1.2.3" } ] },
+              "status": { "containerStatuses": [ { "name": "nginx", "ready": true } ] }
+            }
+          ]
+        }
+        """;
+    FakeZetaDeploymentConfigurationService fakeService = new FakeZetaDeploymentConfigurationService(
+        new CommandResult(List.of("kubectl"), 0, podsJson, ""),
+        new CommandResult(List.of("kubectl"), 0, "deployment.apps/pep-deployment image updated", ""),
+        new CommandResult(List.of("kubectl"), 0, podsJson, "")
+    );
+
+    assertEquals("pep-deployment-abc", fakeService.getSingleReadyPodNameForDeployment("zeta-local", "pep-deployment"));
+    assertEquals("registry.example.org/zeta/ngx_pep:1.2.3",
+        fakeService.getContainerImageReferenceForDeployment("zeta-local", "pep-deployment", "nginx").stdout());
+    assertEquals("registry.example.org/zeta/ngx_pep",
+        fakeService.getContainerImagePathForDeployment("zeta-local", "pep-deployment", "nginx").stdout());
+    assertEquals(1, fakeService.commands.size());
+
+    fakeService.executeKubectlCommand("set", "image", "deployment/pep-deployment", "nginx=registry.example.org/zeta/ngx_pep:1.2.4",
+        "-n", "zeta-local");
+    fakeService.getSingleReadyPodNameForDeployment("zeta-local", "pep-deployment");
+
+    assertEquals(3, fakeService.commands.size());
+    assertEquals(Arrays.asList("-n", "zeta-local", "get", "pods", "-o", "json"), fakeService.commands.get(2));
   }
 
   @Test
@@ -744,11 +802,57 @@ public class ZetaDeploymentConfigurationServiceTest {
     assertEquals(0, verifyUpdatedResult.exitCode());
   }
 
+  /**
+   * Verifies that pod readiness after a restart is taken from the pod watch without further kubectl polling.
+   *
+   * @throws Exception if the fake watch stream cannot be written or the wait fails
+   */
+  @Test
+  public void restartPodWaitsForReadyReplacementPodFromWatch() throws Exception {
+    FakeZetaDeploymentConfigurationService fakeService = new FakeZetaDeploymentConfigurationService(
+        new CommandResult(List.of("kubectl"), 0,
+            "{ \"items\": [ { \"metadata\": { \"name\": \"pep-deployment-old\" } } ] }", ""),
+        new CommandResult(List.of("kubectl"), 0, "pod \"pep-deployment-old\" deleted", "")
+    );
+    JsonNode podList = new ObjectMapper().readTree("""
+        { "metadata": { "resourceVersion": "4711" },
+          "items": [ { "metadata": { "name": "pep-deployment-old", "deletionTimestamp": "2026-03-11T08:00:00Z" },
+            "status": { "containerStatuses": [ { "name": "nginx", "ready": true } ] } } ] }
+        """);
+    PipedOutputStream events = new PipedOutputStream();
+    PipedInputStream eventStream = new PipedInputStream(events, 64 * 1024);
+    events.write("""
+        { "type": "ADDED", "object": { "metadata": { "name": "pep-deployment-new" },
+          "status": { "containerStatuses": [ { "name": "nginx", "ready": false } ] } } }
+        { "type": "MODIFIED", "object": { "metadata": { "name": "pep-deployment-new" },
+          "status": { "containerStatuses": [ { "name": "nginx", "ready": true } ] } } }
+        """.getBytes(StandardCharsets.UTF_8));
+    events.flush();
+
+    try (KubernetesPodWatch watch = new KubernetesPodWatch("zeta-local", () -> podList, resourceVersion -> eventStream).start()) {
+      fakeService.podWatch = watch;
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (!watch.isStreaming() && System.nanoTime() < deadline) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+
+      fakeService.restartPod("zeta-local", "pep-deployment", true, 5);
+    }
+
+    assertEquals(2, fakeService.commands.size());
+    assertEquals(Arrays.asList("-n", "zeta-local", "delete", "pod", "pep-deployment-old"), fakeService.commands.get(1));
+  }
+
   private static class FakeZetaDeploymentConfigurationService extends ZetaDeploymentConfigurationService {
 
     private final Queue<CommandResult> responses = new ArrayDeque<>();
     private final List<List<String>> commands = new ArrayList<>();
     private final List<Boolean> logStderrFlags = new ArrayList<>();
+    private KubernetesPodWatch podWatch = new KubernetesPodWatch("zeta-local", () -> {
+      throw new IOException("no pod list in unit tests");
+    }, resourceVersion -> {
+      throw new IOException("no pod watch in unit tests");
+    });
 
     /**
      * Creates a fake deployment configuration service with pre-seeded command results.
@@ -756,7 +860,7 @@ public class ZetaDeploymentConfigurationServiceTest {
      * @param responses command results to be returned in invocation order
      */
     FakeZetaDeploymentConfigurationService(CommandResult... responses) {
-      super(60, 120);
+      super(60, 120, new KubectlSnapshotCache(DEFAULT_READ_CACHE_TTL));
       this.responses.addAll(List.of(responses));
     }
 
@@ -785,6 +889,24 @@ public class ZetaDeploymentConfigurationServiceTest {
       return recordCommand(arguments, verbose);
     }
 
+    /**
+     * Routes streamed JSON reads through the canned responses and parses their stdout.
+     *
+     * @param verbose whether stderr logging would be enabled for the lookup
+     * @param arguments kubectl arguments
+     * @return parsed fake command result
+     */
+    @Override
+    protected StreamingCommandResult<JsonNode> executeKubectlJson(boolean verbose, List<String> arguments) {
+      CommandResult result = recordCommand(arguments, verbose);
+      try {
+        return new StreamingCommandResult<>(result.command(), result.exitCode(),
+            new ObjectMapper().readTree(result.stdout()), result.stderr(), Duration.ZERO);
+      } catch (IOException e) {
+        throw new AssertionError("Fake command result is not valid JSON: " + result.stdout(), e);
+      }
+    }
+
     /**
      * Stores one intercepted command invocation and returns the next canned result.
      *
@@ -795,6 +917,7 @@ public class ZetaDeploymentConfigurationServiceTest {
     private CommandResult recordCommand(List<String> arguments, boolean logStderr) {
       commands.add(List.copyOf(arguments));
       logStderrFlags.add(logStderr);
+      invalidateSnapshotsAfter(arguments);
       CommandResult next = responses.poll();
       if (next == null) {
         throw new AssertionError("No fake command result configured for arguments: " + arguments);
@@ -812,6 +935,18 @@ public class ZetaDeploymentConfigurationServiceTest {
       // unit tests provide canned kubectl responses and do not require a real cluster toolchain
     }
 
+    /**
+     * Returns the test-controlled pod watch; unless a test replaces it, the watch never streams and the
+     * service falls back to the canned kubectl results.
+     *
+     * @param namespace ignored test namespace
+     * @return fake pod watch
+     */
+    @Override
+    protected KubernetesPodWatch podWatch(String namespace) {
+      return podWatch;
+    }
+
     /**
      * Avoids real waiting during polling-based unit tests.
      */
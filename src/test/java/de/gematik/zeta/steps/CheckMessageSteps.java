@@ -26,6 +26,9 @@ package de.gematik.zeta.steps;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import de.gematik.rbellogger.data.RbelElement;
+import de.gematik.test.tiger.lib.rbel.RbelMessageRetriever;
+import de.gematik.zeta.services.RbelPathMemo;
 import io.cucumber.java.ParameterType;
 import io.cucumber.java.de.Dann;
 import io.cucumber.java.en.Then;
@@ -99,8 +102,8 @@ public class CheckMessageSteps {
    * @throws AssertionError if check fails
    */
   private void nodeContainsAllHeadersOf(String nodeToBeChecked, String parentOfChildren, boolean soft) {
-    JsonNode node = parseJsonString(nodeToBeChecked, true);
-    JsonNode referenceParent = parseJsonString(parentOfChildren, true);
+    JsonNode node = parseJsonString(currentRequest(), nodeToBeChecked, true);
+    JsonNode referenceParent = parseJsonString(currentRequest(), parentOfChildren, true);
 
     try {
 
@@ -195,8 +198,8 @@ public class CheckMessageSteps {
    * @throws AssertionError if check fails
    */
   public void nodeContainsAllChildNodesOf(String nodeToBeChecked, String parentOfChildren, boolean soft) {
-    JsonNode node = parseJsonString(nodeToBeChecked, false);
-    JsonNode referenceParent = parseJsonString(parentOfChildren, false);
+    JsonNode node = parseJsonString(currentRequest(), nodeToBeChecked, false);
+    JsonNode referenceParent = parseJsonString(currentRequest(), parentOfChildren, false);
 
     try {
 
@@ -244,9 +247,27 @@ public class CheckMessageSteps {
    * @throws AssertionError if the input is empty or cannot be parsed
    */
   protected static JsonNode parseJsonString(String jsonString, boolean isHeader) {
+    return parseJsonString(null, jsonString, isHeader);
+  }
+
+  /**
+   * Parses a string into a {@link JsonNode} through the shared {@link RbelPathMemo}, so repeated steps on the same
+   * message do not re-parse identical text. The returned tree is shared and must not be modified.
+   *
+   * @param currentMessage message the text was resolved from, or {@code null}
+   * @param jsonString     the input string to parse (JSON or header block)
+   * @param isHeader       whether to allow header-style parsing as a fallback
+   * @return parsed {@link JsonNode}
+   * @throws AssertionError if the input is empty or cannot be parsed
+   */
+  private static JsonNode parseJsonString(RbelElement currentMessage, String jsonString, boolean isHeader) {
     if (jsonString == null || jsonString.isBlank()) {
       throw new AssertionError("JSON text to be validated is empty.");
     }
+    return RbelPathMemo.shared().jsonTree(currentMessage, jsonString, isHeader, text -> parseUncached(text, isHeader));
+  }
+
+  private static JsonNode parseUncached(String jsonString, boolean isHeader) {
     JsonNode jsonNode;
     try {
       jsonNode = JSON.readTree(jsonString);
@@ -265,6 +286,10 @@ public class CheckMessageSteps {
     return jsonNode;
   }
 
+  private static RbelElement currentRequest() {
+    return RbelMessageRetriever.getInstance().getCurrentRequest();
+  }
+
   /**
    * Parses CR/LF-delimited header lines of the form {@code key: value} into a JSON object.
    * Lines without a colon are ignored. Returns {@code null} if no valid header lines are found.
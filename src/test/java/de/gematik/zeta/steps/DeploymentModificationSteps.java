@@ -216,22 +216,7 @@ public class DeploymentModificationSteps {
   @Und("ermittle aus den Pods im Namespace {tigerResolvedString} den Wert aus der Spalte {tigerResolvedString} der Zeile mit {tigerResolvedString} und speichere in der Variable {tigerResolvedString}")
   @And("extract from pods in namespace {tigerResolvedString} value from header {tigerResolvedString} in row containing {tigerResolvedString} and store in variable {tigerResolvedString}")
   public void extractPodWideColumnToVariable(String namespace, String headerName, String rowFilter, String varName) {
-    service.verifyRequirements(namespace);
-
-    CommandResult result = service.executeKubectlCommand("-n", namespace, "get", "pods", "-o", "json");
-    if (result.exitCode() != 0) {
-      throw new AssertionError("kubectl get pods failed: " + result.stderr());
-    }
-
-    JsonNode items;
-    try {
-      items = JSON.readTree(result.stdout()).path("items");
-    } catch (IOException e) {
-      throw new AssertionError("Failed to parse kubectl pods JSON output.", e);
-    }
-    if (!items.isArray() || items.isEmpty()) {
-      throw new AssertionError("kubectl get pods -o json returned no pods in namespace '" + namespace + "'.");
-    }
+    JsonNode items = service.readPodsForNamespace(namespace);
 
     String requestedHeader = headerName == null ? "" : headerName.trim();
     String filter = rowFilter == null ? "" : rowFilter.trim();
@@ -27,6 +27,7 @@ package de.gematik.zeta.steps;
 import de.gematik.rbellogger.data.RbelElement;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
 import de.gematik.test.tiger.lib.rbel.RbelMessageRetriever;
+import de.gematik.zeta.services.RbelPathMemo;
 import io.cucumber.java.de.Dann;
 import io.cucumber.java.de.Und;
 import io.cucumber.java.de.Wenn;
@@ -34,8 +35,6 @@ import io.cucumber.java.en.And;
 import io.cucumber.java.en.Then;
 import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.assertj.core.api.Assertions;
 
@@ -123,17 +122,12 @@ public class HelperSteps {
     if (currentRequest == null) {
       throw new AssertionError("No current request message found!");
     }
-    if (currentRequest.findRbelPathMembers(rbelPath).isEmpty()) {
+    var joinedValue = RbelPathMemo.shared().joinedValue(currentRequest, rbelPath);
+    if (joinedValue.isEmpty()) {
       return;
     }
 
-    String optionalValue = rbelMessageRetriever
-        .findElementsInCurrentRequest(rbelPath)
-        .stream()
-        .map(RbelElement::getRawStringContent)
-        .filter(Objects::nonNull)
-        .map(String::trim)
-        .collect(Collectors.joining());
+    String optionalValue = joinedValue.get();
 
     Assertions
         .assertThat(optionalValue.trim())
@@ -214,8 +208,8 @@ public class HelperSteps {
     String normalized = expectedValue == null ? "" : expectedValue.trim();
     boolean hasExpectedValue = !normalized.isBlank() && !"null".equalsIgnoreCase(normalized);
 
-    List<RbelElement> elems = rbelMessageRetriever.getCurrentRequest()
-        .findRbelPathMembers(rbelPath);
+    var currentRequest = rbelMessageRetriever.getCurrentRequest();
+    List<RbelElement> elems = RbelPathMemo.shared().members(currentRequest, rbelPath);
 
     try {
       if (!hasExpectedValue) {
@@ -231,13 +225,7 @@ public class HelperSteps {
           .as("Expected node '%s' to be present", rbelPath)
           .isNotEmpty();
 
-      String actualValue = rbelMessageRetriever
-          .findElementsInCurrentRequest(rbelPath)
-          .stream()
-          .map(RbelElement::getRawStringContent)
-          .filter(Objects::nonNull)
-          .map(String::trim)
-          .collect(Collectors.joining());
+      String actualValue = RbelPathMemo.shared().joinedValue(currentRequest, rbelPath).orElse("");
 
       Assertions
           .assertThat(actualValue)
@@ -266,17 +254,12 @@ public class HelperSteps {
     if (currentRequest == null) {
       throw new AssertionError("No current request message found!");
     }
-    if (currentRequest.findRbelPathMembers(rbelPath).isEmpty()) {
+    var joinedValue = RbelPathMemo.shared().joinedValue(currentRequest, rbelPath);
+    if (joinedValue.isEmpty()) {
       return;
     }
 
-    String optionalValue = rbelMessageRetriever
-        .findElementsInCurrentRequest(rbelPath)
-        .stream()
-        .map(RbelElement::getRawStringContent)
-        .filter(Objects::nonNull)
-        .map(String::trim)
-        .collect(Collectors.joining());
+    String optionalValue = joinedValue.get();
 
     Assertions
         .assertThat(optionalValue.trim())
@@ -298,17 +281,12 @@ public class HelperSteps {
     if (currentRequest == null) {
       throw new AssertionError("No current request message found!");
     }
-    if (currentRequest.findRbelPathMembers(rbelPath).isEmpty()) {
+    var joinedValue = RbelPathMemo.shared().joinedValue(currentRequest, rbelPath);
+    if (joinedValue.isEmpty()) {
       return;
     }
 
-    String optionalValue = rbelMessageRetriever
-        .findElementsInCurrentRequest(rbelPath)
-        .stream()
-        .map(RbelElement::getRawStringContent)
-        .filter(Objects::nonNull)
-        .map(String::trim)
-        .collect(Collectors.joining());
+    String optionalValue = joinedValue.get();
 
     long value = Instant.now().getEpochSecond();
     Assertions
@@ -330,17 +308,12 @@ public class HelperSteps {
     if (currentRequest == null) {
       throw new AssertionError("No current request message found!");
     }
-    if (currentRequest.findRbelPathMembers(rbelPath).isEmpty()) {
+    var joinedValue = RbelPathMemo.shared().joinedValue(currentRequest, rbelPath);
+    if (joinedValue.isEmpty()) {
       return;
     }
 
-    String optionalValue = rbelMessageRetriever
-        .findElementsInCurrentRequest(rbelPath)
-        .stream()
-        .map(RbelElement::getRawStringContent)
-        .filter(Objects::nonNull)
-        .map(String::trim)
-        .collect(Collectors.joining());
+    String optionalValue = joinedValue.get();
 
     long value = Instant.now().getEpochSecond();
     Assertions
@@ -27,6 +27,8 @@ package de.gematik.zeta.steps;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
 import de.gematik.test.tiger.glue.HttpGlueCode;
 import de.gematik.test.tiger.lib.rbel.RbelMessageRetriever;
+import de.gematik.zeta.services.RbelPathMemo;
+import de.gematik.zeta.services.SystemCommandService;
 import de.gematik.zeta.services.TestDriverConfigurationService;
 import de.gematik.zeta.services.TestDriverConfigurationServiceFactory;
 import de.gematik.zeta.services.TlsTestToolServiceFactory;
@@ -54,7 +56,6 @@ import org.opentest4j.TestAbortedException;
 @Slf4j
 public class Hooks {
 
-  private static final TraceabilityLookup TRACEABILITY = TraceabilityLookup.load();
   private static final String NO_PROXY_TAG = "@no_proxy";
   private static final String REQUIRE_KUBECTL_TAG = "@require_kubectl";
   private static final String JUSTIFIED_NOT_TESTED_TAG = "@nicht_getestet_begruendet";
@@ -66,7 +67,8 @@ public class Hooks {
   private static final ThreadLocal<String> CAPTURED_PEP_ORIGINAL_IMAGE = new ThreadLocal<>();
   private static final int ORDER_RESTORE_DEPLOYMENT_STATE = Integer.MIN_VALUE;
   private static final int ORDER_PREPARE_SOFT_ASSERTIONS = ORDER_RESTORE_DEPLOYMENT_STATE + 1;
-  private static final int ORDER_RESET_TIGER_PROXY_STATE = ORDER_PREPARE_SOFT_ASSERTIONS + 1;
+  private static final int ORDER_SCOPE_COMMAND_LATENCY = ORDER_PREPARE_SOFT_ASSERTIONS + 1;
+  private static final int ORDER_RESET_TIGER_PROXY_STATE = ORDER_SCOPE_COMMAND_LATENCY + 1;
   private static final int ORDER_CLEAR_RECORDED_MESSAGES = ORDER_RESET_TIGER_PROXY_STATE + 1;
   private static final int ORDER_PROXY_REQUIREMENT_GUARD = ORDER_CLEAR_RECORDED_MESSAGES + 1;
   private static final int ORDER_JUSTIFIED_NOT_TESTED_GUARD = ORDER_PROXY_REQUIREMENT_GUARD + 1;
@@ -76,6 +78,7 @@ public class Hooks {
   private static final int ORDER_APPEND_TRACEABILITY = Integer.MAX_VALUE;
   private static final int ORDER_VERIFY_SOFT_ASSERTIONS = ORDER_APPEND_TRACEABILITY - 1;
   private static final int ORDER_TLS_CLIENT_POST_HOOK = ORDER_VERIFY_SOFT_ASSERTIONS - 1;
+  private static final int ORDER_ATTACH_COMMAND_LATENCY = ORDER_TLS_CLIENT_POST_HOOK - 1;
   private final ZetaDeploymentConfigurationService deploymentConfigurationService;
   private final TigerProxyManipulationsSteps tigerProxyManipulationsSteps;
   private final TestDriverConfigurationService testDriverConfigurationService;
@@ -166,14 +169,24 @@ public class Hooks {
   }
 
   /**
-   * Clears any soft assertions before each scenario to avoid leaking state across scenarios.
+   * Replaces the soft assertion state before each scenario to avoid leaking state across scenarios. The state is
+   * created here rather than on first use so threads started by the scenario inherit it.
    */
   @Before(order = ORDER_PREPARE_SOFT_ASSERTIONS)
   public void prepareSoftAssertions() {
-    SoftAssertionsContext.reset();
+    SoftAssertionsContext.prepare();
     clearCapturedPepOriginalImage();
   }
 
+  /**
+   * Starts command latency metrics of the scenario's own, so parallel scenarios do not record into or reset each other's
+   * numbers.
+   */
+  @Before(order = ORDER_SCOPE_COMMAND_LATENCY)
+  public void scopeCommandLatency() {
+    SystemCommandService.startScenarioMetrics();
+  }
+
   /**
    * Resets TigerProxy state before each scenario to keep scenarios independent from one another.
    *
@@ -186,11 +199,14 @@ public class Hooks {
   }
 
   /**
-   * Clears RBEL messages before each scenario so scenario assertions only see data created within the scenario itself.
+   * Clears RBEL messages, the memoized path results and the published load window before each scenario so scenario assertions only see
+   * data created within the scenario itself.
    */
   @Before(order = ORDER_CLEAR_RECORDED_MESSAGES)
   public void clearRecordedMessages() {
     RbelMessageRetriever.getInstance().clearRbelMessages();
+    RbelPathMemo.shared().invalidate();
+    JMeterSteps.clearPublishedLoadWindow();
   }
 
   /**
@@ -356,7 +372,6 @@ public class Hooks {
         tlsTestToolServerUrl, scenario.getName());
   }
 
-
   /**
    * Append the traceability table after each scenario has finished.
    *
@@ -367,7 +382,7 @@ public class Hooks {
     if (scenario == null) {
       return;
     }
-    TRACEABILITY.buildReport(scenario.getName(), scenario.getSourceTagNames())
+    TraceabilityLookup.shared().buildReport(scenario.getName(), scenario.getSourceTagNames())
         .ifPresent(markdown -> {
           log.debug("Adding traceability block to scenario '{}'", scenario.getName());
           Serenity.recordReportData()
@@ -376,6 +391,30 @@ public class Hooks {
         });
   }
 
+  /**
+   * Attaches the latency of the kubectl and other system commands executed by the scenario to cluster-dependent
+   * scenarios, so slow cluster calls are visible next to the scenario that waited for them, and ends the scenario's
+   * metrics scope.
+   *
+   * @param scenario active Cucumber scenario
+   */
+  @After(order = ORDER_ATTACH_COMMAND_LATENCY)
+  public void attachCommandLatency(final Scenario scenario) {
+    var metrics = SystemCommandService.metrics();
+    SystemCommandService.endScenarioMetrics();
+    if (scenario == null
+        || !(scenario.getSourceTagNames().contains(REQUIRE_KUBECTL_TAG)
+        || scenario.getSourceTagNames().contains(DEPLOYMENT_MODIFICATION_TAG))) {
+      return;
+    }
+    if (metrics.snapshot().isEmpty()) {
+      return;
+    }
+    Serenity.recordReportData()
+        .withTitle("System command latency")
+        .andContents(metrics.describe());
+  }
+
   /**
    * Verifies all collected soft assertions at the very end of the scenario lifecycle. Runs after the traceability appendix so the report is
    * always populated even when soft assertions fail.
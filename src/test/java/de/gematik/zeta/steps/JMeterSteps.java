@@ -29,12 +29,15 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
+import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
+import de.gematik.zeta.perf.BackgroundResetScheduler;
 import de.gematik.zeta.perf.CsvUtils;
 import de.gematik.zeta.perf.CsvUtils.CsvData;
 import de.gematik.zeta.perf.CsvUtils.CsvRow;
 import de.gematik.zeta.perf.JMeterRunner;
 import de.gematik.zeta.perf.JMeterTestConfig;
 import de.gematik.zeta.perf.JtlSummarizer;
+import de.gematik.zeta.perf.LoadWindow;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.de.Dann;
 import io.cucumber.java.de.Und;
@@ -62,7 +65,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.net.ssl.SSLContext;
@@ -186,38 +188,19 @@ public class JMeterSteps {
         ? prepareLoadDriver(jmeterProps)
         : null;
 
-    AtomicBoolean backgroundResetStop = new AtomicBoolean(false);
-    Thread backgroundResetThread = null;
+    BackgroundResetScheduler backgroundReset = null;
     if (loadDriverContext != null && loadDriverContext.backgroundResetIds() != null) {
-      List<Integer> resetIds = loadDriverContext.backgroundResetIds();
-      String resetPathTemplate = loadDriverContext.backgroundResetPathTemplate();
-      Duration resetStepTimeout = loadDriverContext.backgroundResetStepTimeout();
-      HttpClient resetClient = loadDriverContext.client();
-      String resetBaseUrl = loadDriverContext.baseUrl();
-      backgroundResetThread = Thread.ofVirtual().name("background-reset").start(() -> {
-        log.info("Background reset thread started: instances={}", resetIds.size());
-        long totalResets = 0;
-        while (!backgroundResetStop.get()) {
-          for (int instanceId : resetIds) {
-            if (backgroundResetStop.get()) {
-              break;
-            }
-            String path = buildLoadInstancePath(instanceId, "/reset", resetPathTemplate);
-            URI uri = URI.create(resetBaseUrl + path);
-            try {
-              HttpRequest request = HttpRequest.newBuilder(uri).timeout(resetStepTimeout).GET().build();
-              resetClient.send(request, HttpResponse.BodyHandlers.discarding());
-              totalResets++;
-            } catch (Exception e) {
-              log.warn("Background reset failed for instanceId={}: {}", instanceId, e.getMessage());
-            }
-          }
-          if (!backgroundResetStop.get()) {
-            log.info("Background reset cycle complete: totalResets={}", totalResets);
-          }
-        }
-        log.info("Background reset thread stopped: totalResets={}", totalResets);
-      });
+      List<URI> resetTargets = loadDriverContext.backgroundResetIds().stream()
+          .map(id -> URI.create(loadDriverContext.baseUrl()
+              + buildLoadInstancePath(id, "/reset", loadDriverContext.backgroundResetPathTemplate())))
+          .collect(Collectors.toList());
+      backgroundReset = new BackgroundResetScheduler(
+          loadDriverContext.client(),
+          resetTargets,
+          loadDriverContext.backgroundResetPerSecond(),
+          loadDriverContext.backgroundResetConcurrency(),
+          loadDriverContext.backgroundResetStepTimeout());
+      backgroundReset.start();
     }
 
     try {
@@ -237,16 +220,10 @@ public class JMeterSteps {
           .build();
 
       log.info("JMeter config: targetRps={}, baseUrl={}", targetRps, baseUrl);
-      jmeterRunner.runTest(config);
+      publishLoadWindow(jmeterRunner.runTest(config));
     } finally {
-      if (backgroundResetThread != null) {
-        backgroundResetStop.set(true);
-        try {
-          backgroundResetThread.join(Duration.ofSeconds(5));
-        } catch (InterruptedException e) {
-          Thread.currentThread().interrupt();
-          log.warn("Interrupted while waiting for background reset thread to stop");
-        }
+      if (backgroundReset != null) {
+        stopBackgroundReset(backgroundReset, jtlOutput);
       }
       if (loadDriverContext != null) {
         if (loadDriverContext.cleanupAfterTest()) {
@@ -257,6 +234,56 @@ public class JMeterSteps {
     }
   }
 
+  /**
+   * Stops the background reset, reports its statistics and writes its samples to a companion JTL
+   * next to the run JTL. The JMeter summary of the run picks them up under their own label, while the
+   * load window is still derived from the run JTL alone.
+   *
+   * @param backgroundReset running scheduler
+   * @param jtlOutput JTL written by the run, may be {@code null}
+   */
+  private void stopBackgroundReset(BackgroundResetScheduler backgroundReset, Path jtlOutput) {
+    BackgroundResetScheduler.ResetStats stats = backgroundReset.stop();
+    SerenityReportUtils.addCustomData("Background reset", stats.describe());
+    if (jtlOutput == null) {
+      return;
+    }
+    try {
+      Path resetJtl = backgroundReset.writeJtl(jtlOutput);
+      if (resetJtl != null) {
+        SerenityReportUtils.addCustomData("Background reset samples", resetJtl.toString());
+      }
+    } catch (IOException e) {
+      log.warn("Could not write background reset samples next to {}: {}", jtlOutput, e.getMessage());
+    }
+  }
+
+  /**
+   * Publishes the load window of the last JMeter run so Prometheus assertions can be evaluated for
+   * exactly that interval.
+   *
+   * @param window recorded load window
+   */
+  private void publishLoadWindow(LoadWindow window) {
+    TigerGlobalConfiguration.putValue(LoadWindow.START_MS_KEY, String.valueOf(window.start().toEpochMilli()));
+    TigerGlobalConfiguration.putValue(LoadWindow.END_MS_KEY, String.valueOf(window.end().toEpochMilli()));
+    TigerGlobalConfiguration.putValue(LoadWindow.DURATION_S_KEY, String.valueOf(window.durationSecondsCeil()));
+    TigerGlobalConfiguration.putValue(LoadWindow.ACTIVE_MS_KEY, String.valueOf(window.activeDuration().toMillis()));
+    log.info("Recorded load window: start={}, end={}, duration={}, active={}",
+        window.start(), window.end(), window.duration(), window.activeDuration());
+  }
+
+  /**
+   * Clears the load window published by a previous scenario, so Prometheus alignment in the next
+   * scenario fails instead of silently reusing a stale run.
+   */
+  public static void clearPublishedLoadWindow() {
+    for (String key : List.of(LoadWindow.START_MS_KEY, LoadWindow.END_MS_KEY,
+        LoadWindow.DURATION_S_KEY, LoadWindow.ACTIVE_MS_KEY)) {
+      TigerGlobalConfiguration.putValue(key, "");
+    }
+  }
+
   private LoadDriverContext prepareLoadDriver(Map<String, String> jmeterProps) throws Exception {
     String loadDriverBaseUrl = normalizeBaseUrl(
         requireProperty(jmeterProps, "LOAD_DRIVER_BASE_URL"));
@@ -286,6 +313,10 @@ public class JMeterSteps {
     final boolean resetBetweenWaves = parseBoolean(
         jmeterProps.get("LOAD_RESET_BETWEEN_WAVES"), false);
     final boolean backgroundReset = parseBoolean(jmeterProps.get("LOAD_BACKGROUND_RESET"), false);
+    final int backgroundResetPerSecond = parseNonNegativeInt(
+        jmeterProps.get("LOAD_BACKGROUND_RESET_RPS"), 0, "LOAD_BACKGROUND_RESET_RPS");
+    final int backgroundResetConcurrency = parsePositiveInt(
+        jmeterProps.get("LOAD_BACKGROUND_RESET_CONCURRENCY"), 1, "LOAD_BACKGROUND_RESET_CONCURRENCY");
 
     if (totalClients % instanceCount != 0) {
       throw new AssertionError(
@@ -401,6 +432,7 @@ public class JMeterSteps {
         ? Path.of(jmeterProps.get("__JTL_OUTPUT__"))
         : null;
     List<Path> waveJtlOutputs = new ArrayList<>();
+    LoadWindow wavesWindow = null;
     for (int wave = 0; wave < waves; wave++) {
       final long waveStartedNanos = System.nanoTime();
       List<Integer> waveIds;
@@ -501,7 +533,8 @@ public class JMeterSteps {
           .htmlOutput(null)
           .propertiesFile(null)
           .build();
-      jmeterRunner.runTest(waveConfig);
+      LoadWindow waveWindow = jmeterRunner.runTest(waveConfig);
+      wavesWindow = waveWindow.span(wavesWindow);
       long jmeterMs = Duration.ofNanos(System.nanoTime() - jmeterStartedNanos).toMillis();
       if (jtlOutput != null) {
         waveJtlOutputs.add(jtlOutput);
@@ -517,6 +550,9 @@ public class JMeterSteps {
     if (mergedJtlOutput != null) {
       mergeWaveJtlOutputs(waveJtlOutputs, mergedJtlOutput);
     }
+    if (wavesWindow != null) {
+      publishLoadWindow(wavesWindow);
+    }
 
     boolean cleanupAfterTest = parseBoolean(
         jmeterProps.get("LOAD_DELETE_AFTER_TEST"), true);
@@ -527,7 +563,9 @@ public class JMeterSteps {
         waveInstancePathsFile,
         backgroundReset ? List.copyOf(createdIds) : null,
         initPathTemplate,
-        Duration.ofSeconds(initStepTimeoutSeconds));
+        Duration.ofSeconds(initStepTimeoutSeconds),
+        backgroundResetPerSecond,
+        backgroundResetConcurrency);
   }
 
   private void resetLoadDriverInstances(
@@ -1703,6 +1741,8 @@ public class JMeterSteps {
       Path instancePathsFile,
       List<Integer> backgroundResetIds,
       String backgroundResetPathTemplate,
-      Duration backgroundResetStepTimeout) {
+      Duration backgroundResetStepTimeout,
+      int backgroundResetPerSecond,
+      int backgroundResetConcurrency) {
   }
 }
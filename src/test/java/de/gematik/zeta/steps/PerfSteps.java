@@ -24,33 +24,37 @@
 
 package de.gematik.zeta.steps;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
 import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
 import de.gematik.zeta.Metric;
+import de.gematik.zeta.perf.JtlSummarizer;
+import de.gematik.zeta.perf.LoadWindow;
+import de.gematik.zeta.perf.PrometheusQueryClient;
+import de.gematik.zeta.perf.PrometheusTimeSeries;
 import de.gematik.zeta.services.SslConfigurationService;
+import io.cucumber.datatable.DataTable;
 import io.cucumber.java.de.Dann;
+import io.cucumber.java.de.Wenn;
 import io.cucumber.java.en.Then;
-import java.io.ByteArrayInputStream;
+import io.cucumber.java.en.When;
 import java.io.IOException;
-import java.net.URI;
-import java.net.URLEncoder;
 import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.regex.Pattern;
+import java.util.NavigableMap;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
 import lombok.extern.slf4j.Slf4j;
+import net.serenitybdd.core.Serenity;
 
 /**
  * Cucumber steps for Prometheus-based performance assertions.
@@ -58,16 +62,38 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PerfSteps {
 
-  private static final ObjectMapper JSON = new ObjectMapper();
   private static final Duration PROMETHEUS_REQUEST_TIMEOUT = Duration.ofSeconds(20);
+  private static final List<Metric> SNAPSHOT_METRICS = List.of(
+      Metric.avg(), Metric.percentile(0.90), Metric.percentile(0.95), Metric.percentile(0.99));
+  private static final String RATE_COLUMN = "rate_per_s";
+  private static final String ERROR_RATE_COLUMN = "error_rate_percent";
+  private static final String CATCH_UP_TIMEOUT_KEY = "perf.prometheus.catchUpTimeoutS";
+  private static final String CATCH_UP_POLL_KEY = "perf.prometheus.catchUpPollS";
+  private static final int DEFAULT_CATCH_UP_TIMEOUT_S = 300;
+  private static final int DEFAULT_CATCH_UP_POLL_S = 10;
+  private static final double CATCH_UP_TOLERANCE = 0.005d;
 
-  private final HttpClient httpClient;
+  /**
+   * Scenario-scoped Prometheus client; all assertions of a scenario share one evaluation snapshot.
+   */
+  private final PrometheusQueryClient prometheusClient;
+
+  /**
+   * Range selector and rate divisor of the load-aligned snapshot; {@code null} until aligned.
+   */
+  private String loadRangeSelector;
+  private int loadDivisorSeconds;
+  private LoadWindow alignedWindow;
 
   /**
    * Creates the step class with a preconfigured Prometheus HTTP client.
    */
   public PerfSteps() {
-    this.httpClient = buildPrometheusHttpClient();
+    this.prometheusClient = new PrometheusQueryClient(
+        buildPrometheusHttpClient(),
+        () -> TigerGlobalConfiguration.resolvePlaceholders(
+            "${paths.prometheus.baseUrl}${paths.prometheus.prometheusMetricsSearchPath}"),
+        PROMETHEUS_REQUEST_TIMEOUT);
   }
 
   /**
@@ -165,6 +191,445 @@ public class PerfSteps {
     assertPrometheusCombinedRateGeInternal(serviceName, spanNames, rangeSelector, resolvedDivisorSeconds, minRatePerSecond);
   }
 
+  /**
+   * Loads sample count, error count, average and p90/p95/p99 for all given spans in one concurrent
+   * round trip. Subsequent assertions with the same window are answered from this snapshot.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanNames comma-separated Prometheus span label values
+   * @param windowSeconds the histogram lookback window in seconds
+   */
+  @Wenn("der Prometheus-Snapshot für Service {string}, Spans {string}, Fenster {tigerResolvedString} Sekunden geladen wird")
+  @When("the Prometheus snapshot for service {string}, spans {string}, window {tigerResolvedString} seconds is loaded")
+  public void loadPrometheusSnapshot(String serviceName, String spanNames, String windowSeconds) {
+    String resolvedServiceName = TigerGlobalConfiguration.resolvePlaceholders(serviceName);
+    String rangeSelector = parsePositiveInteger(windowSeconds, "windowSeconds") + "s";
+    prefetchPrometheusSnapshot(resolvedServiceName, splitSpanNames(spanNames), rangeSelector);
+  }
+
+  /**
+   * Aligns the Prometheus snapshot to the load window recorded by the last JMeter run.
+   *
+   * <p>Polls the combined sample count of the given spans until two consecutive readings agree, i.e.
+   * the collector has exported everything produced during the run. The snapshot is then pinned to
+   * that time with a range reaching back exactly to the first request, and rates are divided by the
+   * recorded load duration instead of the range length. If the snapshot is already aligned to the
+   * same load run, the existing alignment is kept and only the spans are prefetched.</p>
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanNames comma-separated Prometheus span label values
+   */
+  @Wenn("der Prometheus-Snapshot für Service {string}, Spans {string} auf den letzten Lastlauf ausgerichtet wird")
+  @When("the Prometheus snapshot for service {string}, spans {string} is aligned to the last load run")
+  public void alignPrometheusSnapshotToLoadRun(String serviceName, String spanNames) {
+    Map<String, List<String>> spansByService = new LinkedHashMap<>();
+    spansByService.put(TigerGlobalConfiguration.resolvePlaceholders(serviceName), splitSpanNames(spanNames));
+    alignToLoadRun(spansByService);
+  }
+
+  /**
+   * Aligns the Prometheus snapshot to the last load run once for several services. The collector
+   * catch-up waits for the combined sample count of all listed spans, so one evaluation time and
+   * range serve every service of the scenario.
+   *
+   * @param services table rows of service name and comma-separated span names
+   */
+  @Wenn("der Prometheus-Snapshot auf den letzten Lastlauf ausgerichtet wird für:")
+  @When("the Prometheus snapshot is aligned to the last load run for:")
+  public void alignPrometheusSnapshotToLoadRunForServices(DataTable services) {
+    Map<String, List<String>> spansByService = new LinkedHashMap<>();
+    for (List<String> row : services.asLists()) {
+      if (row.size() < 2 || row.get(0) == null || row.get(0).isBlank()) {
+        throw new AssertionError("Each row must contain a service name and its span names: " + row);
+      }
+      spansByService.computeIfAbsent(TigerGlobalConfiguration.resolvePlaceholders(row.get(0).trim()),
+          key -> new ArrayList<>()).addAll(splitSpanNames(row.get(1)));
+    }
+    if (spansByService.isEmpty()) {
+      throw new AssertionError("No services given to align the Prometheus snapshot to");
+    }
+    alignToLoadRun(spansByService);
+  }
+
+  private void alignToLoadRun(Map<String, List<String>> spansByService) {
+    LoadWindow window = readRecordedLoadWindow();
+    if (loadRangeSelector != null && window.equals(alignedWindow)) {
+      log.info("[PROMETHEUS LOAD WINDOW] already aligned to {}..{}; reusing range {}",
+          window.start(), window.end(), loadRangeSelector);
+    } else {
+      Instant caughtUpAt = awaitCollectorCatchUp(spansByService, window);
+      prometheusClient.pinEvaluationTime(caughtUpAt);
+      loadRangeSelector = secondsSince(window.start(), caughtUpAt) + "s";
+      loadDivisorSeconds = (int) window.durationSecondsCeil();
+      alignedWindow = window;
+
+      String reportText = String.format(Locale.ROOT,
+          "loadStart=%s, loadEnd=%s, activeDuration=%s, evaluationTime=%s, range=%s, divisor=%ds",
+          window.start(), window.end(), window.activeDuration(), caughtUpAt, loadRangeSelector, loadDivisorSeconds);
+      log.info("[PROMETHEUS LOAD WINDOW] {}", reportText);
+      SerenityReportUtils.addCustomData("Prometheus load window", reportText);
+    }
+    spansByService.forEach((service, spans) -> prefetchPrometheusSnapshot(service, spans, loadRangeSelector));
+  }
+
+  /**
+   * Asserts an aggregated Prometheus histogram metric over the aligned load window.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanName the Prometheus span label value
+   * @param metric the metric to assert
+   * @param maxMs the maximum allowed latency in milliseconds
+   */
+  @Dann("stelle sicher, dass in Prometheus für Service {string}, Span {string} im Lastzeitraum der {metric}-Wert <= {double} ms ist")
+  @Then("ensure that in Prometheus for service {string}, span {string} during the load run the {metric} value is <= {double} ms")
+  public void assertPrometheusHistogramMetricLeDuringLoad(String serviceName, String spanName, Metric metric, Double maxMs) {
+    assertPrometheusHistogramMetricLeInternal(serviceName, spanName, requireLoadRangeSelector(), metric, maxMs);
+  }
+
+  /**
+   * Asserts the Prometheus error rate over the aligned load window.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanName the Prometheus span label value
+   * @param maxErrorRatePercentStr the maximum allowed error rate in percent
+   */
+  @Dann("stelle sicher, dass in Prometheus für Service {string}, Span {string} im Lastzeitraum die Fehlerrate <= {tigerResolvedString} Prozent ist")
+  @Then("ensure that in Prometheus for service {string}, span {string} during the load run the error rate is <= {tigerResolvedString} percent")
+  public void assertPrometheusErrorRateLeDuringLoad(String serviceName, String spanName, String maxErrorRatePercentStr) {
+    double maxErrorRatePercent = Double.parseDouble(maxErrorRatePercentStr.trim().replace(',', '.'));
+    assertPrometheusErrorRateLeInternal(serviceName, spanName, requireLoadRangeSelector(), maxErrorRatePercent);
+  }
+
+  /**
+   * Asserts the Prometheus request rate of one span, normalized by the recorded load duration.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanName the Prometheus span label value
+   * @param minRatePerSecond the minimum expected rate in requests per second
+   */
+  @Dann("stelle sicher, dass in Prometheus für Service {string}, Span {string} im Lastzeitraum die Rate >= {int} pro Sekunde ist")
+  @Then("ensure that in Prometheus for service {string}, span {string} during the load run the rate is >= {int} per second")
+  public void assertPrometheusRateGeDuringLoad(String serviceName, String spanName, Integer minRatePerSecond) {
+    String rangeSelector = requireLoadRangeSelector();
+    assertPrometheusRateGeInternal(serviceName, spanName, rangeSelector, loadDivisorSeconds, minRatePerSecond);
+  }
+
+  /**
+   * Asserts the combined Prometheus request rate of several spans, normalized by the recorded load
+   * duration.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanNames comma-separated Prometheus span label values
+   * @param minRatePerSecond the minimum expected rate in requests per second
+   */
+  @Dann("stelle sicher, dass in Prometheus für Service {string}, Spans {string} im Lastzeitraum die kombinierte Rate >= {int} pro Sekunde ist")
+  @Then("ensure that in Prometheus for service {string}, spans {string} during the load run the combined rate is >= {int} per second")
+  public void assertPrometheusCombinedRateGeDuringLoad(String serviceName, String spanNames, Integer minRatePerSecond) {
+    String rangeSelector = requireLoadRangeSelector();
+    assertPrometheusCombinedRateGeInternal(serviceName, spanNames, rangeSelector, loadDivisorSeconds, minRatePerSecond);
+  }
+
+  private void prefetchPrometheusSnapshot(String resolvedServiceName, List<String> spans, String rangeSelector) {
+    List<String> queries = new ArrayList<>();
+    for (String span : spans) {
+      queries.add(buildPrometheusHistogramCountQuery(resolvedServiceName, span, rangeSelector));
+      queries.add(buildPrometheusErrorCountQuery(resolvedServiceName, span, rangeSelector));
+      for (Metric metric : SNAPSHOT_METRICS) {
+        queries.add(buildPrometheusHistogramQuery(resolvedServiceName, span, rangeSelector, metric));
+      }
+    }
+
+    try {
+      Map<String, Double> results = prometheusClient.queryScalars(queries);
+      String reportText = String.format(Locale.ROOT, "evaluationTime=%s, service=%s, spans=%s, window=%s, queries=%d",
+          prometheusClient.evaluationTime(), resolvedServiceName, spans, rangeSelector, results.size());
+      log.info("[PROMETHEUS SNAPSHOT] {}", reportText);
+      SerenityReportUtils.addCustomData("Prometheus snapshot", reportText);
+    } catch (IOException | RuntimeException e) {
+      // Individual assertions re-query and report failures in their own context.
+      log.warn("[PROMETHEUS SNAPSHOT] prefetch failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Discards the current Prometheus snapshot so the next assertion evaluates at the current time.
+   */
+  @Wenn("ein neuer Prometheus-Snapshot begonnen wird")
+  @When("a new Prometheus snapshot is started")
+  public void startNewPrometheusSnapshot() {
+    prometheusClient.resetSnapshot();
+  }
+
+  /**
+   * Exports Prometheus range series (rate, error rate, avg and p90/p95/p99) for exactly the interval
+   * covered by a JMeter JTL file and attaches the resulting CSV to the report.
+   *
+   * <p>The first grid point lies one step after the first request, so every window is fully inside
+   * the load run and no startup buffer has to be added.</p>
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanName the Prometheus span label value
+   * @param jtlFile JMeter result file defining the load interval
+   * @param stepSeconds the series resolution (and rate window) in seconds
+   * @param outputFile target CSV file
+   */
+  @Wenn("die Prometheus-Zeitreihe für Service {string}, Span {string} im Lastzeitraum von {tigerResolvedString} "
+      + "mit Schrittweite {tigerResolvedString} Sekunden nach {tigerResolvedString} exportiert wird")
+  @When("the Prometheus time series for service {string}, span {string} during the load run of {tigerResolvedString} "
+      + "with step {tigerResolvedString} seconds is exported to {tigerResolvedString}")
+  public void exportPrometheusTimeSeries(
+      String serviceName,
+      String spanName,
+      String jtlFile,
+      String stepSeconds,
+      String outputFile) {
+    String resolvedServiceName = TigerGlobalConfiguration.resolvePlaceholders(serviceName);
+    String resolvedSpanName = TigerGlobalConfiguration.resolvePlaceholders(spanName);
+    Duration step = Duration.ofSeconds(parsePositiveInteger(stepSeconds, "stepSeconds"));
+
+    try {
+      LoadWindow window = new JtlSummarizer().loadWindow(Path.of(jtlFile));
+      Instant firstWindowEnd = window.start().plus(step);
+      if (firstWindowEnd.isAfter(window.end())) {
+        throw new AssertionError(String.format(Locale.ROOT,
+            "Load run %s..%s is shorter than one step of %ds", window.start(), window.end(), step.toSeconds()));
+      }
+
+      Map<String, NavigableMap<Long, Double>> series = prometheusClient.queryRanges(
+          buildPrometheusSeriesQueries(resolvedServiceName, resolvedSpanName, step.toSeconds() + "s"),
+          firstWindowEnd, window.end(), step);
+      PrometheusTimeSeries timeSeries = PrometheusTimeSeries.align(firstWindowEnd, window.end(), step, series);
+      Path target = Path.of(outputFile);
+      timeSeries.writeCsv(target);
+
+      String reportText = String.format(Locale.ROOT,
+          "service=%s, span=%s, loadStart=%s, loadEnd=%s, step=%ds, windows=%d, missingRateWindows=%d, file=%s",
+          resolvedServiceName, resolvedSpanName, window.start(), window.end(), step.toSeconds(),
+          timeSeries.size(), timeSeries.missingCount(RATE_COLUMN), target);
+      log.info("[PROMETHEUS SERIES] {}", reportText);
+      SerenityReportUtils.addCustomData("Prometheus time series", reportText);
+      Serenity.recordReportData()
+          .withTitle("Prometheus time series " + resolvedSpanName)
+          .andContents(Files.readString(target, StandardCharsets.UTF_8));
+    } catch (IOException e) {
+      throw new AssertionError("Prometheus time series export failed: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Asserts that the request rate stayed at or above the given value in every window of an exported
+   * time series. Windows without data count as violations.
+   *
+   * @param seriesFile time series CSV written by the export step
+   * @param minRatePerSecond minimum sustained rate
+   */
+  @Dann("stelle sicher, dass in der Prometheus-Zeitreihe {tigerResolvedString} die Rate in jedem Fenster >= {double} pro Sekunde ist")
+  @Then("ensure that in the Prometheus time series {tigerResolvedString} the rate in every window is >= {double} per second")
+  public void assertSustainedRate(String seriesFile, double minRatePerSecond) {
+    PrometheusTimeSeries series = readTimeSeries(seriesFile);
+    double observed = series.min(RATE_COLUMN);
+    int missing = series.missingCount(RATE_COLUMN);
+    Instant firstViolation = series.firstWindowBelow(RATE_COLUMN, minRatePerSecond);
+    String reportText = String.format(Locale.ROOT,
+        "file=%s, min rate=%.2f/s, threshold=%.2f/s, windows=%d, missing=%d, first violation=%s",
+        seriesFile, observed, minRatePerSecond, series.size(), missing, firstViolation);
+    log.info("[ASSERT PROMETHEUS SERIES RATE] {}", reportText);
+    SerenityReportUtils.addCustomData("Prometheus sustained rate", reportText);
+
+    if (series.size() == 0 || missing > 0 || firstViolation != null) {
+      var ex = new AssertionError("Prometheus rate was not sustained: " + reportText);
+      SoftAssertionsContext.recordSoftFailure(ex.getMessage(), ex);
+    }
+  }
+
+  /**
+   * Asserts that no window of an exported time series exceeds a latency threshold.
+   *
+   * @param seriesFile time series CSV written by the export step
+   * @param metric exported metric (avg, p90, p95, p99)
+   * @param maxMs the maximum allowed latency in milliseconds
+   */
+  @Dann("stelle sicher, dass in der Prometheus-Zeitreihe {tigerResolvedString} kein Fenster einen {metric}-Wert > {double} ms hat")
+  @Then("ensure that in the Prometheus time series {tigerResolvedString} no window has a {metric} value > {double} ms")
+  public void assertNoWindowAbove(String seriesFile, Metric metric, double maxMs) {
+    assertNoWindowAboveInternal(seriesFile, formatMetricName(metric) + "_ms", maxMs, "ms");
+  }
+
+  /**
+   * Asserts that no window of an exported time series exceeds an error rate.
+   *
+   * @param seriesFile time series CSV written by the export step
+   * @param maxErrorRatePercent the maximum allowed error rate in percent
+   */
+  @Dann("stelle sicher, dass in der Prometheus-Zeitreihe {tigerResolvedString} kein Fenster eine Fehlerrate > {double} Prozent hat")
+  @Then("ensure that in the Prometheus time series {tigerResolvedString} no window has an error rate > {double} percent")
+  public void assertNoWindowErrorRateAbove(String seriesFile, double maxErrorRatePercent) {
+    assertNoWindowAboveInternal(seriesFile, ERROR_RATE_COLUMN, maxErrorRatePercent, "%");
+  }
+
+  /**
+   * Asserts a quantile over time of an exported latency column, e.g. "the p95 latency was <= 150 ms in
+   * 90% of all windows".
+   *
+   * @param seriesFile time series CSV written by the export step
+   * @param quantile fraction of windows in [0..1]
+   * @param metric exported metric (avg, p90, p95, p99)
+   * @param maxMs the maximum allowed latency in milliseconds
+   */
+  @Dann("stelle sicher, dass in der Prometheus-Zeitreihe {tigerResolvedString} das {double}-Quantil über die Zeit des {metric}-Werts <= {double} ms ist")
+  @Then("ensure that in the Prometheus time series {tigerResolvedString} the {double} quantile over time of the {metric} value is <= {double} ms")
+  public void assertQuantileOverTime(String seriesFile, double quantile, Metric metric, double maxMs) {
+    PrometheusTimeSeries series = readTimeSeries(seriesFile);
+    String column = formatMetricName(metric) + "_ms";
+    double observed = series.quantile(column, quantile);
+    String reportText = String.format(Locale.ROOT,
+        "file=%s, column=%s, quantile=%.3f, observed=%.1f ms, threshold=%s ms, windows=%d, missing=%d",
+        seriesFile, column, quantile, observed, formatThresholdMs(maxMs), series.size(), series.missingCount(column));
+    log.info("[ASSERT PROMETHEUS SERIES QUANTILE] {}", reportText);
+    SerenityReportUtils.addCustomData("Prometheus quantile over time", reportText);
+
+    if (!Double.isFinite(observed) || observed > maxMs) {
+      var ex = new AssertionError("Prometheus quantile over time exceeded: " + reportText);
+      SoftAssertionsContext.recordSoftFailure(ex.getMessage(), ex);
+    }
+  }
+
+  private void assertNoWindowAboveInternal(String seriesFile, String column, double limit, String unit) {
+    PrometheusTimeSeries series = readTimeSeries(seriesFile);
+    double observed = series.max(column);
+    Instant firstViolation = series.firstWindowAbove(column, limit);
+    String reportText = String.format(Locale.ROOT,
+        "file=%s, column=%s, worst window=%.2f %s, threshold=%.2f %s, windows=%d, missing=%d, first violation=%s",
+        seriesFile, column, observed, unit, limit, unit, series.size(), series.missingCount(column), firstViolation);
+    log.info("[ASSERT PROMETHEUS SERIES MAX] {}", reportText);
+    SerenityReportUtils.addCustomData("Prometheus worst window", reportText);
+
+    if (Double.isNaN(observed) || firstViolation != null) {
+      var ex = new AssertionError("Prometheus window threshold exceeded: " + reportText);
+      SoftAssertionsContext.recordSoftFailure(ex.getMessage(), ex);
+    }
+  }
+
+  private PrometheusTimeSeries readTimeSeries(String seriesFile) {
+    try {
+      return PrometheusTimeSeries.readCsv(Path.of(seriesFile));
+    } catch (IOException e) {
+      throw new AssertionError("Cannot read Prometheus time series " + seriesFile + ": " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Polls the combined sample count since load start until two consecutive readings after the load
+   * end agree within {@link #CATCH_UP_TOLERANCE}, or the configured timeout expires.
+   *
+   * @param spansByService the resolved span label values per resolved service label value
+   * @param window the recorded load window
+   * @return the time at which the collector had caught up (or the timeout time)
+   */
+  private Instant awaitCollectorCatchUp(Map<String, List<String>> spansByService, LoadWindow window) {
+    Duration timeout = Duration.ofSeconds(readPositiveIntegerConfig(CATCH_UP_TIMEOUT_KEY, DEFAULT_CATCH_UP_TIMEOUT_S));
+    Duration pollInterval = Duration.ofSeconds(readPositiveIntegerConfig(CATCH_UP_POLL_KEY, DEFAULT_CATCH_UP_POLL_S));
+    Instant deadline = Instant.now().plus(timeout);
+    Double previous = null;
+
+    while (true) {
+      Instant now = Instant.now();
+      if (now.isAfter(window.end())) {
+        String rangeSelector = secondsSince(window.start(), now) + "s";
+        String promQl = spansByService.entrySet().stream()
+            .flatMap(entry -> entry.getValue().stream()
+                .map(span -> "(" + buildPrometheusHistogramCountQuery(entry.getKey(), span, rangeSelector) + " or vector(0))"))
+            .collect(Collectors.joining(" + "));
+        try {
+          Double count = prometheusClient.queryScalarAt(promQl, now);
+          log.info("[PROMETHEUS CATCH-UP] time={} samples={} previous={}", now, count, previous);
+          if (count != null && previous != null && previous > 0d
+              && Math.abs(count - previous) <= previous * CATCH_UP_TOLERANCE) {
+            return now;
+          }
+          previous = count;
+        } catch (IOException | RuntimeException e) {
+          log.warn("[PROMETHEUS CATCH-UP] poll failed: {}", e.getMessage());
+        }
+      }
+      if (now.isAfter(deadline)) {
+        log.warn("[PROMETHEUS CATCH-UP] collector did not settle within {}; evaluating at {}", timeout, now);
+        return now;
+      }
+      try {
+        Thread.sleep(pollInterval);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new AssertionError("Interrupted while waiting for the Prometheus collector", e);
+      }
+    }
+  }
+
+  private LoadWindow readRecordedLoadWindow() {
+    var startMs = readRecordedLoadWindowValue(LoadWindow.START_MS_KEY);
+    var endMs = readRecordedLoadWindowValue(LoadWindow.END_MS_KEY);
+    if (startMs == null || endMs == null) {
+      throw new AssertionError("No load window recorded in this scenario; run JMeter before aligning Prometheus assertions");
+    }
+    Instant start = Instant.ofEpochMilli(startMs);
+    Instant end = Instant.ofEpochMilli(endMs);
+    Long activeMs = readRecordedLoadWindowValue(LoadWindow.ACTIVE_MS_KEY);
+    return activeMs == null
+        ? new LoadWindow(start, end)
+        : new LoadWindow(start, end, Duration.ofMillis(activeMs));
+  }
+
+  private static Long readRecordedLoadWindowValue(String key) {
+    return TigerGlobalConfiguration.readStringOptional(key)
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(Long::valueOf)
+        .orElse(null);
+  }
+
+  private String requireLoadRangeSelector() {
+    if (loadRangeSelector == null) {
+      throw new AssertionError("Prometheus snapshot is not aligned to a load run; align it first");
+    }
+    return loadRangeSelector;
+  }
+
+  private int readPositiveIntegerConfig(String key, int defaultValue) {
+    return TigerGlobalConfiguration.readStringOptional(key)
+        .map(value -> parsePositiveInteger(value, key))
+        .orElse(defaultValue);
+  }
+
+  private static long secondsSince(Instant start, Instant time) {
+    long millis = Duration.between(start, time).toMillis();
+    return Math.max(1L, (millis + 999L) / 1000L);
+  }
+
+  /**
+   * Builds the per-window queries of an exported time series, keyed by CSV column name.
+   *
+   * @param serviceName the Prometheus service label value
+   * @param spanName the Prometheus span label value
+   * @param rangeSelector per-window lookback, equal to the series step
+   * @return PromQL expressions keyed by column
+   */
+  private Map<String, String> buildPrometheusSeriesQueries(String serviceName, String spanName, String rangeSelector) {
+    String countPromQl = buildPrometheusHistogramCountQuery(serviceName, spanName, rangeSelector);
+    String errorPromQl = buildPrometheusErrorCountQuery(serviceName, spanName, rangeSelector);
+    String matcher = buildPrometheusLabelMatcher(serviceName, spanName);
+
+    Map<String, String> queries = new LinkedHashMap<>();
+    queries.put(RATE_COLUMN,
+        "sum(rate(traces_span_metrics_duration_milliseconds_count" + matcher + "[" + rangeSelector + "]))");
+    // Without errors the error series is absent; "or vector(0)" keeps the ratio defined.
+    queries.put(ERROR_RATE_COLUMN, "100 * (" + errorPromQl + " or vector(0)) / " + countPromQl);
+    for (Metric metric : SNAPSHOT_METRICS) {
+      queries.put(formatMetricName(metric) + "_ms",
+          buildPrometheusHistogramQuery(serviceName, spanName, rangeSelector, metric));
+    }
+    return queries;
+  }
+
   private void assertPrometheusCombinedRateGeInternal(
       String serviceName,
       String spanNames,
@@ -173,32 +638,22 @@ public class PerfSteps {
       Integer minRatePerSecond) {
     String resolvedServiceName = TigerGlobalConfiguration.resolvePlaceholders(serviceName);
 
-    List<String> spans = Arrays.stream(spanNames.split(","))
-        .map(String::trim)
-        .map(TigerGlobalConfiguration::resolvePlaceholders)
-        .filter(s -> !s.isEmpty())
-        .collect(Collectors.toList());
+    List<String> spans = splitSpanNames(spanNames);
 
     // Aggregate each span to a scalar first so spans with different labels can be added safely.
-    String sumParts = spans.stream()
-        .map(span -> "sum(increase(traces_span_metrics_duration_milliseconds_count{"
-            + "service_name=\"" + resolvedServiceName + "\", "
-            + "span_name=\"" + span + "\"}["
-            + rangeSelector + "]))")
-        .collect(Collectors.joining(" + "));
-    String ratePromQl = "(" + sumParts + ") / " + divisorSeconds;
+    Map<String, String> countQueries = spans.stream()
+        .collect(Collectors.toMap(
+            span -> span,
+            span -> buildPrometheusHistogramCountQuery(resolvedServiceName, span, rangeSelector),
+            (first, second) -> first,
+            LinkedHashMap::new));
+    String ratePromQl = "(" + String.join(" + ", countQueries.values()) + ") / " + divisorSeconds;
 
     try {
-      // Compute per-span counts locally from the combined query result to avoid N+1 queries.
-      // Individual span counts are queried only for the log report.
+      // Per-span counts are fetched concurrently and summed locally; they also feed the log report.
+      Map<String, Double> results = prometheusClient.queryScalars(countQueries.values());
       Map<String, Double> spanCounts = new HashMap<>();
-      for (String span : spans) {
-        String countPromQl = "sum(increase(traces_span_metrics_duration_milliseconds_count{"
-            + "service_name=\"" + resolvedServiceName + "\", "
-            + "span_name=\"" + span + "\"}["
-            + rangeSelector + "]))";
-        spanCounts.put(span, queryPrometheusScalar(countPromQl));
-      }
+      countQueries.forEach((span, query) -> spanCounts.put(span, results.get(query)));
       double combinedCount = spanCounts.values().stream()
           .filter(v -> v != null && Double.isFinite(v))
           .mapToDouble(Double::doubleValue)
@@ -272,19 +727,13 @@ public class PerfSteps {
     String resolvedServiceName = TigerGlobalConfiguration.resolvePlaceholders(serviceName);
     String resolvedSpanName = TigerGlobalConfiguration.resolvePlaceholders(spanName);
 
-    String errorCountPromQl = "sum(increase(traces_span_metrics_duration_milliseconds_count{"
-        + "service_name=\"" + resolvedServiceName + "\", "
-        + "span_name=\"" + resolvedSpanName + "\", "
-        + "status_code=\"STATUS_CODE_ERROR\"}["
-        + rangeSelector + "]))";
-    String totalCountPromQl = "sum(increase(traces_span_metrics_duration_milliseconds_count{"
-        + "service_name=\"" + resolvedServiceName + "\", "
-        + "span_name=\"" + resolvedSpanName + "\"}["
-        + rangeSelector + "]))";
+    String errorCountPromQl = buildPrometheusErrorCountQuery(resolvedServiceName, resolvedSpanName, rangeSelector);
+    String totalCountPromQl = buildPrometheusHistogramCountQuery(resolvedServiceName, resolvedSpanName, rangeSelector);
 
     try {
-      Double errorCount = queryPrometheusScalar(errorCountPromQl);
-      Double totalCount = queryPrometheusScalar(totalCountPromQl);
+      Map<String, Double> results = prometheusClient.queryScalars(List.of(errorCountPromQl, totalCountPromQl));
+      Double errorCount = results.get(errorCountPromQl);
+      Double totalCount = results.get(totalCountPromQl);
 
       String totalCountText = totalCount == null ? "null" : String.format(Locale.ROOT, "%.1f", totalCount);
 
@@ -342,7 +791,7 @@ public class PerfSteps {
     String ratePromQl = countPromQl + " / " + divisorSeconds;
 
     try {
-      Double totalCount = queryPrometheusScalar(countPromQl);
+      Double totalCount = prometheusClient.queryScalar(countPromQl);
 
       String countText = totalCount == null ? "null" : String.format(Locale.ROOT, "%.1f", totalCount);
 
@@ -392,7 +841,9 @@ public class PerfSteps {
     String thresholdText = formatThresholdMs(maxMs);
 
     try {
-      Double sampleCountValue = queryPrometheusScalar(countPromQl);
+      // Count and metric are independent; fetch both in one concurrent round trip.
+      Map<String, Double> results = prometheusClient.queryScalars(List.of(countPromQl, promQl));
+      Double sampleCountValue = results.get(countPromQl);
       String sampleCountText = sampleCountValue == null
           ? "null"
           : String.format(Locale.ROOT, "%.1f", sampleCountValue);
@@ -420,7 +871,7 @@ public class PerfSteps {
         return;
       }
 
-      Double observedValue = queryPrometheusScalar(promQl);
+      Double observedValue = results.get(promQl);
       String metricName = formatMetricName(metric);
       String observedText = observedValue == null
           ? "null"
@@ -513,6 +964,28 @@ public class PerfSteps {
     return "sum(increase(traces_span_metrics_duration_milliseconds_count" + matcher + "[" + rangeSelector + "]))";
   }
 
+  private String buildPrometheusErrorCountQuery(String serviceName, String spanName, String rangeSelector) {
+    String matcher = buildPrometheusLabelMatcher(serviceName, spanName);
+    String errorMatcher = matcher.isEmpty()
+        ? "{status_code=\"STATUS_CODE_ERROR\"}"
+        : matcher.substring(0, matcher.length() - 1) + ", status_code=\"STATUS_CODE_ERROR\"}";
+    return "sum(increase(traces_span_metrics_duration_milliseconds_count" + errorMatcher + "[" + rangeSelector + "]))";
+  }
+
+  /**
+   * Splits a comma-separated span list and resolves Tiger placeholders per entry.
+   *
+   * @param spanNames comma-separated span names
+   * @return resolved, non-empty span names
+   */
+  private List<String> splitSpanNames(String spanNames) {
+    return Arrays.stream(spanNames.split(","))
+        .map(String::trim)
+        .map(TigerGlobalConfiguration::resolvePlaceholders)
+        .filter(s -> !s.isEmpty())
+        .collect(Collectors.toList());
+  }
+
   /**
    * Formats latency thresholds for log and assertion messages without forcing integer output.
    *
@@ -578,76 +1051,6 @@ public class PerfSteps {
         .replace("\"", "\\\"");
   }
 
-  /**
-   * Executes a Prometheus instant query and returns its scalar result.
-   *
-   * @param promQl the PromQL query to execute
-   * @return the scalar value, or {@code null} if Prometheus returned no series
-   * @throws Exception if the request or JSON parsing fails
-   */
-  private Double queryPrometheusScalar(String promQl) throws Exception {
-    String endpoint = TigerGlobalConfiguration.resolvePlaceholders(
-        "${paths.prometheus.baseUrl}${paths.prometheus.prometheusMetricsSearchPath}");
-    log.info("[PROMETHEUS QUERY] endpoint={} query={}", endpoint, promQl);
-    var uri = URI.create(endpoint + "?query=" + URLEncoder.encode(promQl, StandardCharsets.UTF_8));
-    var request = HttpRequest.newBuilder(uri)
-        .timeout(PROMETHEUS_REQUEST_TIMEOUT)
-        .header("Accept-Encoding", "gzip")
-        .GET()
-        .build();
-
-    var response = httpClient.send(
-        request,
-        HttpResponse.BodyHandlers.ofByteArray());
-
-    if (response.statusCode() != 200) {
-      throw new IllegalStateException(
-          "Prometheus returned HTTP " + response.statusCode() + " for query: " + promQl);
-    }
-
-    String responseBody = decodePrometheusResponseBody(
-        response.body(),
-        response.headers().firstValue("Content-Encoding").orElse(""));
-    JsonNode root = JSON.readTree(responseBody);
-    if (!"success".equals(root.path("status").asText())) {
-      throw new IllegalStateException("Prometheus query failed: " + root);
-    }
-
-    JsonNode result = root.path("data").path("result");
-    if (!result.isArray() || result.isEmpty()) {
-      return null;
-    }
-    if (result.size() != 1) {
-      throw new IllegalStateException(
-          "Expected exactly one Prometheus result but got " + result.size() + " for query: " + promQl);
-    }
-
-    JsonNode valueNode = result.get(0).path("value");
-    if (!valueNode.isArray() || valueNode.size() < 2) {
-      throw new IllegalStateException("Prometheus result has no scalar value: " + result.get(0));
-    }
-
-    return Double.parseDouble(valueNode.get(1).asText());
-  }
-
-  /**
-   * Decodes a Prometheus response body, handling optional gzip compression.
-   *
-   * @param bodyBytes the raw response body
-   * @param contentEncoding the response content encoding header value
-   * @return the decoded UTF-8 response body
-   * @throws IOException if gzip decoding fails
-   */
-  private String decodePrometheusResponseBody(byte[] bodyBytes, String contentEncoding)
-      throws IOException {
-    if (contentEncoding != null && contentEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
-      try (var gzipStream = new GZIPInputStream(new ByteArrayInputStream(bodyBytes))) {
-        return new String(gzipStream.readAllBytes(), StandardCharsets.UTF_8);
-      }
-    }
-    return new String(bodyBytes, StandardCharsets.UTF_8);
-  }
-
   private String formatMetricName(Metric metric) {
     return switch (metric.type()) {
       case PERCENTILE -> "p" + Math.round(metric.percentile() * 100);
@@ -34,10 +34,26 @@ import com.networknt.schema.SchemaLocation;
 import com.networknt.schema.SchemaRegistry;
 import com.networknt.schema.SpecificationVersion;
 import com.nimbusds.jwt.SignedJWT;
+import de.gematik.rbellogger.data.RbelElement;
+import de.gematik.test.tiger.lib.rbel.RbelMessageRetriever;
+import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
+import de.gematik.zeta.FailureCounts;
 import io.cucumber.java.de.Dann;
 import io.cucumber.java.en.Then;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.ParseException;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -56,17 +72,81 @@ public class SchemaValidationSteps {
       SchemaRegistry.withDefaultDialect(SpecificationVersion.DRAFT_7);
 
   /**
-   * Loads a YAML schema file from the classpath (resources directory).
+   * Classpath directories whose schemas are compiled when the class is loaded.
+   */
+  private static final List<String> PRELOADED_SCHEMA_DIRECTORIES = List.of("schemas/v_1_0", "schemas/mock");
+
+  /**
+   * Compiled schemas by normalized classpath path. Compiled schemas are immutable and shared across threads.
+   */
+  private static final Map<String, Schema> SCHEMA_CACHE = new ConcurrentHashMap<>();
+
+  static {
+    preloadSchemas();
+  }
+
+  /**
+   * Compiles every schema below {@link #PRELOADED_SCHEMA_DIRECTORIES} once. Schemas that fail to compile are only
+   * logged here; the validation step using them reports the failure.
+   */
+  private static void preloadSchemas() {
+    for (var directory : PRELOADED_SCHEMA_DIRECTORIES) {
+      for (var schemaPath : listSchemaResources(directory)) {
+        try {
+          SCHEMA_CACHE.computeIfAbsent(schemaPath, SchemaValidationSteps::compileSchema);
+        } catch (AssertionError | RuntimeException ex) {
+          log.warn("Unable to preload schema {}: {}", schemaPath, ex.getMessage());
+        }
+      }
+    }
+    log.debug("Preloaded {} JSON schemas.", SCHEMA_CACHE.size());
+  }
+
+  /**
+   * Lists the YAML and JSON schema resources of one classpath directory, whether it lives in a directory or a jar.
    *
-   * @param schemaName name or relative path of the schema on the classpath
-   * @return {@link Schema} configured with the schema's base location
+   * @param directory classpath directory, e.g. {@code schemas/v_1_0}
+   * @return classpath paths of the schema files, empty if the directory is missing or unreadable
    */
-  private Schema loadYamlSchema(String schemaName) {
-    var normalizedPath = schemaName.startsWith("/") ? schemaName.substring(1) : schemaName;
-    if (!normalizedPath.startsWith("schemas/")) {
-      normalizedPath = "schemas/v_1_0/" + normalizedPath;
+  private static List<String> listSchemaResources(String directory) {
+    var url = SchemaValidationSteps.class.getClassLoader().getResource(directory);
+    if (url == null) {
+      return List.of();
+    }
+    try {
+      var uri = url.toURI();
+      if (!"jar".equals(uri.getScheme())) {
+        return listSchemaFiles(Path.of(uri), directory);
+      }
+      try (var fileSystem = FileSystems.newFileSystem(uri, Map.of())) {
+        return listSchemaFiles(fileSystem.getPath(directory), directory);
+      } catch (FileSystemAlreadyExistsException ex) {
+        return listSchemaFiles(FileSystems.getFileSystem(uri).getPath(directory), directory);
+      }
+    } catch (IOException | URISyntaxException | RuntimeException ex) {
+      log.warn("Unable to list schemas in {}: {}", directory, ex.getMessage());
+      return List.of();
+    }
+  }
+
+  private static List<String> listSchemaFiles(Path path, String directory) throws IOException {
+    try (var files = Files.list(path)) {
+      return files.map(file -> file.getFileName().toString())
+          .filter(name -> name.endsWith(".yaml") || name.endsWith(".yml") || name.endsWith(".json"))
+          .sorted()
+          .map(name -> directory + "/" + name)
+          .toList();
     }
+  }
 
+  /**
+   * Compiles one schema from the classpath.
+   *
+   * @param normalizedPath classpath path below {@code schemas/}
+   * @return compiled schema
+   * @throws AssertionError if the schema is not on the classpath
+   */
+  private static Schema compileSchema(String normalizedPath) {
     var resource = SchemaValidationSteps.class.getClassLoader().getResource(normalizedPath);
     if (resource == null) {
       throw new AssertionError("Schema not found on the classpath: " + normalizedPath);
@@ -76,6 +156,21 @@ public class SchemaValidationSteps {
     return SCHEMA_REGISTRY.getSchema(location);
   }
 
+  /**
+   * Loads a YAML schema file from the classpath (resources directory). Schemas are compiled once and then served
+   * from {@link #SCHEMA_CACHE}.
+   *
+   * @param schemaName name or relative path of the schema on the classpath
+   * @return {@link Schema} configured with the schema's base location
+   */
+  private Schema loadYamlSchema(String schemaName) {
+    var normalizedPath = schemaName.startsWith("/") ? schemaName.substring(1) : schemaName;
+    if (!normalizedPath.startsWith("schemas/")) {
+      normalizedPath = "schemas/v_1_0/" + normalizedPath;
+    }
+    return SCHEMA_CACHE.computeIfAbsent(normalizedPath, SchemaValidationSteps::compileSchema);
+  }
+
   /**
    * Validates a JSON string against a given {@link Schema}.
    *
@@ -193,6 +288,96 @@ public class SchemaValidationSteps {
     assertValid(schema, jsonNode, schemaName, false);
   }
 
+  /**
+   * Validates every value found under an RBel path in the recorded message history against a schema, e.g. all
+   * access tokens of a load run. Values are validated in parallel and failures are reported as aggregated counts
+   * per error message.
+   *
+   * @param rbelPath   RBel path evaluated on every recorded message, e.g. {@code $.body.access_token}
+   * @param schemaPath relative path of the schema under {@code resources}
+   * @throws AssertionError if no value is found or at least one value does not match the schema
+   */
+  @Dann("prüfe alle Knoten {tigerResolvedString} der Nachrichtenhistorie gegen Schema {string}")
+  @Then("check all nodes {tigerResolvedString} of the message history against schema {string}")
+  public void validateMessageHistoryAgainstYamlSchema(String rbelPath, String schemaPath) {
+    var values = RbelMessageRetriever.getInstance().getMessageHistory().getMessages().stream()
+        .flatMap(message -> message.findRbelPathMembers(rbelPath).stream())
+        .map(RbelElement::getRawStringContent)
+        .filter(Objects::nonNull)
+        .toList();
+    if (values.isEmpty()) {
+      throw new AssertionError("No recorded message contains a node at " + rbelPath);
+    }
+
+    var result = validateAll(values, schemaPath);
+    SerenityReportUtils.addCustomData("Schema batch validation " + schemaPath, result.describe());
+    if (result.invalid() > 0) {
+      throw new AssertionError(result.describe());
+    }
+    log.info("Batch validation passed for schema {} ({} values)", schemaPath, result.validated());
+  }
+
+  /**
+   * Validates many JSON documents or JWTs against one schema in parallel.
+   *
+   * <p>Values starting with a brace or bracket are parsed as JSON; any other value is decoded as JWT, with an
+   * authorization scheme such as {@code DPoP} or {@code Bearer} stripped first.</p>
+   *
+   * @param values     JSON documents or JWTs
+   * @param schemaPath relative path of the schema under {@code resources}
+   * @return number of validated and invalid values with error counts per message
+   */
+  public BatchValidationResult validateAll(Collection<String> values, String schemaPath) {
+    var schema = loadYamlSchema(schemaPath);
+    var outcomes = values.parallelStream()
+        .map(value -> validationErrors(schema, value))
+        .toList();
+
+    var errorCounts = new TreeMap<String, Long>();
+    var invalid = 0;
+    for (var errors : outcomes) {
+      if (!errors.isEmpty()) {
+        invalid++;
+        errors.forEach(error -> errorCounts.merge(error, 1L, Long::sum));
+      }
+    }
+    return new BatchValidationResult(schemaPath, values.size(), invalid, errorCounts);
+  }
+
+  /**
+   * Validates one JSON document or JWT against a schema without failing the step.
+   *
+   * @param value      JSON document or JWT, optionally prefixed with an authorization scheme
+   * @param schemaPath relative path of the schema under {@code resources}
+   * @return distinct error messages, empty if the value is valid
+   */
+  public List<String> schemaErrors(String value, String schemaPath) {
+    return validationErrors(loadYamlSchema(schemaPath), value);
+  }
+
+  /**
+   * Validates one value and returns its distinct error messages.
+   */
+  private List<String> validationErrors(Schema schema, String value) {
+    JsonNode jsonNode;
+    try {
+      var trimmed = value.trim();
+      if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+        jsonNode = JSON.readTree(trimmed);
+      } else {
+        jsonNode = decodeJwt(trimmed.substring(trimmed.lastIndexOf(' ') + 1));
+      }
+    } catch (AssertionError | JsonProcessingException ex) {
+      return List.of("value is neither JSON nor a signed JWT");
+    }
+    return schema.validate(jsonNode).stream()
+        .map(error -> error.getEvaluationPath() == null
+            ? error.getMessage()
+            : error.getMessage() + " [path: " + error.getEvaluationPath() + "]")
+        .distinct()
+        .toList();
+  }
+
   /**
    * Decodes a Base64URL encoded JWT.
    *
@@ -215,5 +400,31 @@ public class SchemaValidationSteps {
     }
   }
 
-}
+  /**
+   * Aggregated outcome of a batch schema validation.
+   *
+   * @param schemaPath  schema the values were validated against
+   * @param validated   number of validated values
+   * @param invalid     number of values with at least one error
+   * @param errorCounts number of values per distinct error message
+   */
+  public record BatchValidationResult(String schemaPath, int validated, int invalid, Map<String, Long> errorCounts) {
 
+    /**
+     * Freezes the error counts collected while validating the batch.
+     */
+    public BatchValidationResult {
+      errorCounts = Map.copyOf(errorCounts);
+    }
+
+    /**
+     * Renders the result with the most frequent errors first.
+     *
+     * @return human-readable summary
+     */
+    public String describe() {
+      return FailureCounts.describe("Validation of " + validated + " values against " + schemaPath + ": "
+          + invalid + " invalid", errorCounts);
+    }
+  }
+}
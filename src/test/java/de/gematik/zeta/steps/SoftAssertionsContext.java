@@ -29,15 +29,23 @@ import net.serenitybdd.core.Serenity;
 import net.thucydides.core.steps.StepEventBus;
 import net.thucydides.model.domain.TestResult;
 import org.assertj.core.api.SoftAssertions;
-import org.jetbrains.annotations.NotNull;
 
 /**
- * Thread-local container for AssertJ {@link SoftAssertions} bound to the current Cucumber
- * scenario.
+ * Thread-local container for the soft assertion state bound to the current Cucumber scenario.
+ *
+ * <p>Failures recorded through {@link #recordSoftFailure(String, Throwable)} are aggregated by a
+ * {@link SoftFailureCollector} and published as a single report entry when the scenario is verified, so a failure
+ * that repeats across a bulk check does not produce one report entry per occurrence. Assertions made directly on
+ * {@link #softly()} are reported alongside.</p>
+ *
+ * <p>The state is inherited by threads started from the scenario thread. It is therefore created eagerly by
+ * {@link #prepare()} at scenario start; state created lazily on a worker thread would not be visible to the scenario
+ * thread that verifies it.</p>
  */
 public final class SoftAssertionsContext {
 
   private static final ThreadLocal<SoftAssertions> SOFT_ASSERTIONS = new InheritableThreadLocal<>();
+  private static final ThreadLocal<SoftFailureCollector> SOFT_FAILURES = new InheritableThreadLocal<>();
 
   private SoftAssertionsContext() {
   }
@@ -56,55 +64,85 @@ public final class SoftAssertionsContext {
     return softly;
   }
 
+  /**
+   * Provides the failure collector for the current scenario, creating it lazily.
+   *
+   * @return soft failure collector
+   */
+  public static SoftFailureCollector failures() {
+    var failures = SOFT_FAILURES.get();
+    if (failures == null) {
+      failures = new SoftFailureCollector();
+      SOFT_FAILURES.set(failures);
+    }
+    return failures;
+  }
+
+  /**
+   * Starts fresh soft assertion state for the current scenario, so worker threads started afterwards record into the
+   * same state as the scenario thread.
+   */
+  public static void prepare() {
+    SOFT_ASSERTIONS.set(new SoftAssertions());
+    SOFT_FAILURES.set(new SoftFailureCollector());
+  }
+
   /**
    * Clears any stored soft assertions to avoid leaking state between scenarios.
    */
   public static void reset() {
     SOFT_ASSERTIONS.remove();
+    SOFT_FAILURES.remove();
   }
 
   /**
-   * Verifies all collected soft assertions and resets the context afterward.
+   * Verifies all collected soft assertions, publishes their aggregated summary once and resets the context afterward.
    */
   public static void assertAll() {
     var softly = SOFT_ASSERTIONS.get();
+    var failures = SOFT_FAILURES.get();
     try {
-      if (softly == null || softly.errorsCollected().isEmpty()) {
+      var hasDirectErrors = softly != null && !softly.errorsCollected().isEmpty();
+      var hasFailures = failures != null && !failures.isEmpty();
+      if (!hasDirectErrors && !hasFailures) {
         return;
       }
 
-      var summary = softly.errorsCollected().stream()
-          .map(Throwable::getMessage)
-          .filter(msg -> msg != null && !msg.isBlank())
-          .map(String::trim)
-          .collect(Collectors.joining("\n - ", "Soft assertions (non-blocking) failed:\n - ", ""));
+      var summary = new StringBuilder("Soft assertions (non-blocking) failed:");
+      if (hasFailures) {
+        summary.append(' ').append(failures.describe());
+      }
+      if (hasDirectErrors) {
+        summary.append(softly.errorsCollected().stream()
+            .map(Throwable::getMessage)
+            .filter(msg -> msg != null && !msg.isBlank())
+            .map(String::trim)
+            .collect(Collectors.joining("\n - ", "\n - ", "")));
+      }
 
+      Serenity.recordReportData()
+          .withTitle("Soft assertion summary")
+          .andContents(summary.toString());
       if (hasHardFailure()) {
-        Serenity.recordReportData()
-            .withTitle("Soft assertion summary")
-            .andContents(summary);
         return;
       }
 
       // Mark scenario as failed (not compromised) after all steps have run.
-      throw new AssertionError(summary);
+      throw new AssertionError(summary.toString());
     } finally {
       reset();
     }
   }
 
   /**
-   * Records a soft assertion failure without interrupting the current step execution.
+   * Records a soft assertion failure without interrupting the current step execution. Repeated failures are only
+   * counted; see {@link SoftFailureCollector}.
    *
    * @param description human readable context
    * @param cause       root cause to summarize
    */
   public static void recordSoftFailure(String description, Throwable cause) {
-    var message = summarize(cause);
-    softly().fail("%s: %s", description, message);
-    Serenity.recordReportData()
-        .withTitle("Soft assertion (non-blocking)")
-        .andContents(description + "\n" + message);
+    failures().record(description, cause);
   }
 
   /**
@@ -123,25 +161,4 @@ public final class SoftAssertionsContext {
     var result = outcome.getResult();
     return result == TestResult.FAILURE || result == TestResult.ERROR;
   }
-
-  /**
-   * Reduces an exception to a concise, single-line description suitable for report output.
-   *
-   * @param throwable the exception to summarize, may be {@code null}
-   * @return trimmed summary string
-   */
-  private static @NotNull String summarize(Throwable throwable) {
-    if (throwable == null) {
-      return "unknown failure";
-    }
-    var root = throwable;
-    while (root.getCause() != null) {
-      root = root.getCause();
-    }
-    var message = root.getMessage();
-    var type = root.getClass().getSimpleName();
-    var summary = (message == null || message.isBlank()) ? type : type + ": " + message;
-    summary = summary.replaceAll("\\s+", " ").trim();
-    return summary.length() > 500 ? summary.substring(0, 500) + " ..." : summary;
-  }
 }
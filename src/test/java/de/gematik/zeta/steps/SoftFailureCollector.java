@@ -0,0 +1,180 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.steps;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregates soft assertion failures of one scenario.
+ *
+ * <p>Bulk checks can report the same failure thousands of times. Failures are therefore grouped by description
+ * and root cause class and only counted; a group keeps at most {@link #MAX_SAMPLES} distinct sample messages, and
+ * the (comparatively expensive) single-line summary of a failure is only built while its group still collects
+ * samples. At most {@link #MAX_GROUPS} groups are kept; failures of further groups are only counted. The collector
+ * is thread-safe so checks running on worker threads may record into the scenario's collector.</p>
+ */
+public final class SoftFailureCollector {
+
+  static final int MAX_SAMPLES = 3;
+  static final int MAX_GROUPS = 100;
+  private static final int MAX_SUMMARY_LENGTH = 500;
+
+  private final Map<Key, Group> groups = new LinkedHashMap<>();
+  private long total;
+  private long ungrouped;
+
+  /**
+   * Records one failure.
+   *
+   * @param description human readable context
+   * @param cause       root cause to summarize, may be {@code null}
+   */
+  public synchronized void record(String description, Throwable cause) {
+    total++;
+    var root = rootCause(cause);
+    var key = new Key(description, root == null ? null : root.getClass().getName());
+    var group = groups.get(key);
+    if (group == null) {
+      if (groups.size() >= MAX_GROUPS) {
+        ungrouped++;
+        return;
+      }
+      group = new Group();
+      groups.put(key, group);
+    }
+    group.count++;
+    if (group.samples.size() < MAX_SAMPLES) {
+      var sample = summarize(root);
+      if (!group.samples.contains(sample)) {
+        group.samples.add(sample);
+      }
+    }
+  }
+
+  /**
+   * Returns whether no failure was recorded.
+   *
+   * @return {@code true} if empty
+   */
+  public synchronized boolean isEmpty() {
+    return total == 0;
+  }
+
+  /**
+   * Returns the number of recorded failures, including repeated ones.
+   *
+   * @return failure count
+   */
+  public synchronized long total() {
+    return total;
+  }
+
+  /**
+   * Returns the number of distinct failure groups kept.
+   *
+   * @return group count
+   */
+  public synchronized int distinct() {
+    return groups.size();
+  }
+
+  /**
+   * Renders all groups with their occurrence count and sample messages.
+   *
+   * @return multi-line summary
+   */
+  public synchronized String describe() {
+    var text = new StringBuilder()
+        .append(total).append(total == 1 ? " failure" : " failures")
+        .append(" in ").append(groups.size()).append(groups.size() == 1 ? " group" : " groups").append(':');
+    groups.forEach((key, group) -> {
+      text.append("\n - ").append(key.description());
+      if (group.count > 1) {
+        text.append(" (").append(group.count).append("x)");
+      }
+      group.samples.forEach(sample -> text.append("\n     ").append(sample));
+    });
+    if (ungrouped > 0) {
+      text.append("\n - ").append(ungrouped).append(" further failures beyond ").append(MAX_GROUPS).append(" groups");
+    }
+    return text.toString();
+  }
+
+  private static Throwable rootCause(Throwable throwable) {
+    var root = throwable;
+    while (root != null && root.getCause() != null && root.getCause() != root) {
+      root = root.getCause();
+    }
+    return root;
+  }
+
+  /**
+   * Reduces an exception to a concise, single-line description suitable for report output.
+   *
+   * @param root the root cause to summarize, may be {@code null}
+   * @return trimmed summary string
+   */
+  private static String summarize(Throwable root) {
+    if (root == null) {
+      return "unknown failure";
+    }
+    var message = root.getMessage();
+    var type = root.getClass().getSimpleName();
+    var summary = (message == null || message.isBlank()) ? type : type + ": " + message;
+    summary = collapseWhitespace(summary);
+    return summary.length() > MAX_SUMMARY_LENGTH ? summary.substring(0, MAX_SUMMARY_LENGTH) + " ..." : summary;
+  }
+
+  private static String collapseWhitespace(String value) {
+    var text = new StringBuilder(Math.min(value.length(), MAX_SUMMARY_LENGTH + 1));
+    var pendingSpace = false;
+    for (int i = 0; i < value.length() && text.length() <= MAX_SUMMARY_LENGTH; i++) {
+      char c = value.charAt(i);
+      if (Character.isWhitespace(c)) {
+        pendingSpace = text.length() > 0;
+        continue;
+      }
+      if (pendingSpace) {
+        text.append(' ');
+        pendingSpace = false;
+      }
+      text.append(c);
+    }
+    return text.toString();
+  }
+
+  private record Key(String description, String causeType) {
+
+  }
+
+  private static final class Group {
+
+    private final List<String> samples = new ArrayList<>(MAX_SAMPLES);
+    private long count;
+  }
+}
@@ -29,11 +29,17 @@ import de.gematik.rbellogger.data.core.TracingMessagePairFacet;
 import de.gematik.rbellogger.facets.timing.RbelMessageTimingFacet;
 import de.gematik.test.tiger.lib.rbel.RbelMessageRetriever;
 import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
+import de.gematik.zeta.Metric;
+import de.gematik.zeta.perf.LatencyDistribution;
+import de.gematik.zeta.services.RbelMessageIndex;
 import io.cucumber.java.de.Dann;
 import io.cucumber.java.en.Then;
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -45,6 +51,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TimingGlue {
 
+  private final RbelMessageIndex messageIndex = RbelMessageIndex.shared();
+
   /**
    * Helper to extract the required timing facet from an {@link RbelElement} or throw a concise
    * assertion error.
@@ -200,9 +208,110 @@ public class TimingGlue {
     }
   }
 
+  /**
+   * Verifies the response-time distribution of all recorded request/response pairs whose path
+   * matches the given path or regex, separately for each path (query string ignored). A latency
+   * table of all groups is attached to the report.
+   *
+   * @param pathPattern path value or regex to select requests
+   * @param metric      pNN, min, max or avg
+   * @param maxMs       maximum allowed value in milliseconds per path
+   * @throws AssertionError if no pair was measured or a path exceeds the threshold
+   */
+  @Dann("prüfe, dass für alle Nachrichtenpaare mit Pfad {tigerResolvedString} je Pfad der {metric}-Wert der Antwortzeit höchstens {double} ms beträgt")
+  @Then("verify that for all message pairs with path {tigerResolvedString} the {metric} response time per path is at most {double} ms")
+  public void verifyResponseTimeDistributionPerPath(String pathPattern, Metric metric, double maxMs) {
+    var compiledPathPattern = Pattern.compile(pathPattern);
+    var messages = RbelMessageRetriever.getInstance().getMessageHistory().getMessages();
+    var distribution = responseTimeDistribution(messages, request -> firstValue(request, "$.path")
+        .filter(path -> path.equals(pathPattern) || compiledPathPattern.matcher(path).find())
+        .map(path -> path.contains("?") ? path.substring(0, path.indexOf('?')) : path)
+        .orElse(null));
+    assertDistribution(distribution, metric, maxMs, "path '" + pathPattern + "'");
+  }
+
+  /**
+   * Verifies the response-time distribution of all recorded request/response pairs, grouped by the
+   * value of an RBEL path in the request (e.g. {@code $.header.[~'x-client-id']}). Requests without
+   * that node are ignored. A latency table of all groups is attached to the report.
+   *
+   * @param rbelPath RBEL path evaluated on each request
+   * @param metric   pNN, min, max or avg
+   * @param maxMs    maximum allowed value in milliseconds per node value
+   * @throws AssertionError if no pair was measured or a group exceeds the threshold
+   */
+  @Dann("prüfe, dass für alle Nachrichtenpaare je Wert des Knotens {tigerResolvedString} der {metric}-Wert der Antwortzeit höchstens {double} ms beträgt")
+  @Then("verify that for all message pairs per value of node {tigerResolvedString} the {metric} response time is at most {double} ms")
+  public void verifyResponseTimeDistributionPerNode(String rbelPath, Metric metric, double maxMs) {
+    var messages = RbelMessageRetriever.getInstance().getMessageHistory().getMessages();
+    var distribution = responseTimeDistribution(messages, request -> firstValue(request, rbelPath).orElse(null));
+    assertDistribution(distribution, metric, maxMs, "node '" + rbelPath + "'");
+  }
+
+  /**
+   * Builds response-time histograms for all request/response pairs of a message history in one pass.
+   * Each pair is counted once, even if both messages carry the {@link TracingMessagePairFacet}.
+   *
+   * @param messages the recorded messages; may be {@code null}
+   * @param groupKey maps a request to its group, or to {@code null} to ignore the pair
+   * @return response times per group
+   */
+  public LatencyDistribution responseTimeDistribution(Collection<RbelElement> messages,
+      Function<RbelElement, String> groupKey) {
+    var distribution = new LatencyDistribution();
+    if (messages == null) {
+      return distribution;
+    }
+    var seenRequests = new HashSet<String>();
+    for (var message : messages) {
+      var pair = message == null ? null : message.getFacet(TracingMessagePairFacet.class).orElse(null);
+      if (pair == null || pair.getRequest() == null || pair.getResponse() == null
+          || !seenRequests.add(pair.getRequest().getUuid())) {
+        continue;
+      }
+      var group = groupKey.apply(pair.getRequest());
+      if (group == null) {
+        continue;
+      }
+      var requestTiming = pair.getRequest().getFacet(RbelMessageTimingFacet.class);
+      var responseTiming = pair.getResponse().getFacet(RbelMessageTimingFacet.class);
+      if (requestTiming.isEmpty() || responseTiming.isEmpty()) {
+        distribution.skip();
+        continue;
+      }
+      distribution.record(group, Duration.between(requestTiming.get().getTransmissionTime(),
+          responseTiming.get().getTransmissionTime()));
+    }
+    return distribution;
+  }
+
+  private void assertDistribution(LatencyDistribution distribution, Metric metric, double maxMs,
+      String selection) {
+    if (distribution.count() == 0) {
+      throw new AssertionError("No timed request/response pair recorded for " + selection + ".");
+    }
+    var description = distribution.describe();
+    SerenityReportUtils.addCustomData("Response time distribution for " + selection, description);
+    log.info(description);
+    var violations = distribution.violations(metric, maxMs);
+    if (!violations.isEmpty()) {
+      throw new AssertionError("Response times for " + selection + " exceed the limit:"
+          + System.lineSeparator() + String.join(System.lineSeparator(), violations));
+    }
+  }
+
+  private static Optional<String> firstValue(RbelElement message, String rbelPath) {
+    return message.findRbelPathMembers(rbelPath).stream()
+        .map(RbelElement::getRawStringContent)
+        .filter(Objects::nonNull)
+        .map(String::trim)
+        .findFirst();
+  }
+
   /**
    * Finds the response message that belongs to a given request by inspecting the
-   * {@link TracingMessagePairFacet} of the provided messages.
+   * {@link TracingMessagePairFacet} of the provided messages. The messages are indexed
+   * incrementally, so repeated lookups on a growing history only visit new messages.
    *
    * @param messages the collection of RBEL messages to search
    * @param request  the request to find a response for
@@ -210,11 +319,7 @@ public class TimingGlue {
    */
   public RbelElement findResponseForRequest(@NonNull Collection<RbelElement> messages,
       @NonNull RbelElement request) {
-    return messages.isEmpty() ? null : messages.stream()
-        .map(m -> m.getFacet(TracingMessagePairFacet.class).orElse(null))
-        .filter(tracingMessagePairFacet -> tracingMessagePairFacet != null
-            && tracingMessagePairFacet.getRequest().getUuid().equals(request.getUuid()))
-        .findFirst().map(TracingMessagePairFacet::getResponse).orElse(null);
+    return messages.isEmpty() ? null : messageIndex.refresh(messages).responseFor(request);
   }
 
   /**
@@ -243,29 +348,18 @@ public class TimingGlue {
 
   private RbelElement findFirstRequestMatchingPathAndNode(Collection<RbelElement> messages, String pathPattern,
       String rbelPath, String expectedValueRegex) {
-    return messages.stream()
-        .filter(Objects::nonNull)
-        .filter(message -> matchesPath(message, pathPattern))
-        .filter(message -> matchesNodeValue(message, rbelPath, expectedValueRegex))
-        .findFirst()
-        .orElse(null);
-  }
-
-  private boolean matchesPath(RbelElement message, String pathPattern) {
-    return message.findRbelPathMembers("$.path").stream()
-        .map(RbelElement::getRawStringContent)
-        .filter(Objects::nonNull)
-        .map(String::trim)
-        .anyMatch(actualPath -> actualPath.equals(pathPattern) || Pattern.compile(pathPattern).matcher(actualPath).find());
+    var compiledPathPattern = Pattern.compile(pathPattern);
+    var valuePattern = Pattern.compile(expectedValueRegex);
+    return messageIndex.refresh(messages).firstWithPath(pathPattern, compiledPathPattern,
+        message -> matchesNodeValue(message, rbelPath, valuePattern));
   }
 
-  private boolean matchesNodeValue(RbelElement message, String rbelPath, String expectedValueRegex) {
-    Pattern pattern = Pattern.compile(expectedValueRegex);
+  private boolean matchesNodeValue(RbelElement message, String rbelPath, Pattern valuePattern) {
     return message.findRbelPathMembers(rbelPath).stream()
         .map(RbelElement::getRawStringContent)
         .filter(Objects::nonNull)
         .map(String::trim)
-        .anyMatch(actualValue -> pattern.matcher(actualValue).find());
+        .anyMatch(actualValue -> valuePattern.matcher(actualValue).find());
   }
 
 }
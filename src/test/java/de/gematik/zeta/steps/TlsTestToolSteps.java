@@ -25,6 +25,11 @@
 package de.gematik.zeta.steps;
 
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
+import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
+import de.gematik.zeta.perf.TlsHandshakeBenchmark;
+import de.gematik.zeta.services.SslConfigurationService;
+import de.gematik.zeta.services.TlsTestToolLog;
+import de.gematik.zeta.services.TlsTestToolMatrixRunner;
 import de.gematik.zeta.services.TlsTestToolServiceFactory;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.ParameterType;
@@ -47,6 +52,7 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -59,14 +65,11 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import net.serenitybdd.core.Serenity;
-import org.apache.commons.codec.DecoderException;
-import org.apache.commons.codec.binary.Hex;
 import org.assertj.core.api.Assertions;
 import org.bouncycastle.asn1.ASN1ObjectIdentifier;
 import org.bouncycastle.asn1.ASN1ParsingException;
@@ -141,38 +144,34 @@ public class TlsTestToolSteps {
   private static final int MIN_ALLOWED_RSA_KEY_LENGTH = 3000;
 
   /**
-   * Precompiled regex patterns.
-   */
-  private static final Pattern ALERT_LEVEL_PATTERN = Pattern.compile("Alert\\.level=([0-9a-fA-F]+)");
-  private static final Pattern ALERT_DESCRIPTION_PATTERN = Pattern.compile("Alert\\.description=([0-9a-fA-F]+)");
-  private static final Pattern TLS_HANDSHAKE_FAILED_PATTERN = Pattern.compile("TLS handshake failed:.*");
-  private static final Pattern TLS_CIPHER_SUITE_PATTERN = Pattern.compile("Cipher suite:\\s*(.+)");
-  private static final Pattern TLS_HASH_ALGORITHM_PATTERN = Pattern.compile("Server used HashAlgorithm\\s+(\\d+)");
-  private static final Pattern TLS_SIGNATURE_ALGORITHM_PATTERN = Pattern.compile("Server used SignatureAlgorithm\\s+(\\d+)");
-  private static final Pattern TLS_RENEGOTIATION_PHASE_PATTERN = Pattern.compile("=>\\s*renegotiate");
-  private static final Pattern TLS_CLIENT_HELLO_SENT_PATTERN = Pattern.compile("ClientHello message transmitted\\.");
-  private static final Pattern TLS_CLIENT_HELLO_WRITE_PATTERN = Pattern.compile("=>\\s*write client hello");
-  private static final Pattern CERTIFICATE_LIST_PATTERN = Pattern.compile("Certificate\\.certificate_list\\[0\\]=([0-9a-fA-F \\t]+)");
-  private static final Pattern HEX_BYTE_PATTERN = Pattern.compile("\\b[0-9a-fA-F]{2}\\b");
-  private static final Pattern SERVER_HELLO_EXTENSIONS_PATTERN =
-      Pattern.compile("ServerHello\\.extensions\\s*=\\s*([0-9a-fA-F]{2}(?:\\s+[0-9a-fA-F]{2})*)?");
-  private static final Pattern CLIENT_HELLO_EXTENSIONS_OPTIONAL_PATTERN =
-      Pattern.compile("(?m)^.*ClientHello\\.extensions\\s*=\\s*([0-9a-fA-F]{2}(?:[ \\t]+[0-9a-fA-F]{2})*)?[ \\t]*$");
-  private static final Pattern CLIENT_HELLO_EXTENSIONS_PATTERN =
-      Pattern.compile("(?m)^.*ClientHello\\.extensions=([0-9a-fA-F]{2}(?:[ \\t]+[0-9a-fA-F]{2})*)[ \\t]*$");
-  private static final Pattern CLIENT_HELLO_CIPHER_SUITES_PATTERN =
-      Pattern.compile("(?m)^.*ClientHello\\.cipher_suites=([0-9a-fA-F]{2}(?:[ \\t]+[0-9a-fA-F]{2})*)[ \\t]*$");
+   * Regex template matching a key of a generated configuration.
+   */
   private static final String CONFIG_LINE_PATTERN_TEMPLATE = "(?m)^%s=(.+)$";
 
   /**
-   * String for storing the TLS logs.
+   * Maximum run time of one TLS test tool process in a matrix run.
+   */
+  private static final Duration MATRIX_CASE_TIMEOUT = Duration.ofSeconds(60);
+
+  /**
+   * Connect and handshake timeout of one benchmark handshake.
+   */
+  private static final Duration HANDSHAKE_BENCHMARK_TIMEOUT = Duration.ofSeconds(10);
+
+  /**
+   * One cipher suite in tls-test-tool tuple notation, e.g. {@code (0xC0,0x2B)}.
+   */
+  private static final Pattern TLS_TOOL_CIPHER_SUITE_PATTERN = Pattern.compile("\\(0x[0-9a-fA-F]{2},0x[0-9a-fA-F]{2}\\)");
+
+  /**
+   * Structured TLS logs of the last run.
    */
-  private String tlsLogs;
+  private TlsTestToolLog tlsLog;
 
   /**
    * The TLS Test Tool process.
    */
-  private CompletableFuture<String> tlsLogsFuture;
+  private CompletableFuture<TlsTestToolLog> tlsLogsFuture;
 
   /**
    * Stores the TLS 1.2 hash algorithms that were intentionally offered in the previous setup step. This allows failure messages to explain
@@ -457,38 +456,15 @@ public class TlsTestToolSteps {
   /**
    * Extracts the certificate bytes from the log line with Certificate.certificate_list[0]=...
    *
-   * @param fullLog full TLS log content
+   * @param tlsLog parsed TLS log
    * @return DER certificate bytes or {@code null} if not present
    */
-  private static byte[] extractCertificateFromLog(String fullLog) {
-    if (fullLog == null || fullLog.isBlank()) {
-      return null;
-    }
-
-    var m = CERTIFICATE_LIST_PATTERN.matcher(fullLog);
-    if (!m.find()) {
-      return null;
-    }
-
-    var raw = m.group(1);
-    var b = HEX_BYTE_PATTERN.matcher(raw);
-    var byteCount = 0;
-    while (b.find()) {
-      byteCount++;
-    }
-    if (byteCount == 0) {
-      return null;
-    }
-    var normalized = new StringBuilder(byteCount * 2);
-    b.reset();
-    while (b.find()) {
-      normalized.append(b.group());
-    }
-    try {
-      return Hex.decodeHex(normalized.toString());
-    } catch (DecoderException e) {
+  private static byte[] extractCertificateFromLog(TlsTestToolLog tlsLog) {
+    if (tlsLog == null) {
       return null;
     }
+    var der = tlsLog.hexField("Certificate.certificate_list[0]");
+    return der == null || der.length == 0 ? null : der;
   }
 
   /**
@@ -720,7 +696,7 @@ public class TlsTestToolSteps {
 
     // Check the logs for the "Alert message received" and "Alert.level=02" alert messages
     Assertions
-        .assertThat(tlsLogs.contains("Alert message received"))
+        .assertThat(tlsLog.contains("Alert message received"))
         .withFailMessage(
             "'Alert' message not received from endpoint. %s %s",
             extractAlertSummary(),
@@ -728,14 +704,14 @@ public class TlsTestToolSteps {
         .isTrue();
     Assertions
         // Alert.level=02 indicates a fatal alert
-        .assertThat(tlsLogs.contains("Alert.level=02"))
+        .assertThat(tlsLog.alertLevels().contains("02"))
         .withFailMessage(
             "'Alert.level=02' not found in TLS logs. %s %s",
             extractAlertSummary(),
             buildHashNegotiationSummary())
         .isTrue();
     Assertions
-        .assertThat(tlsLogs.contains("Alert.description=" + descriptionId))
+        .assertThat(tlsLog.alertDescriptions().contains(descriptionId))
         .withFailMessage(
             "Alert.description=%s not found in TLS logs. %s %s",
             descriptionId,
@@ -764,19 +740,16 @@ public class TlsTestToolSteps {
   public void checkIfTheServerHelloIsNotReceived() {
     requireTlsLogs();
 
-    var p = Pattern.compile(
-        "ServerHello\\.cipher_suite\\s*=\\s*([0-9a-fA-F]{2})\\s+([0-9a-fA-F]{2})");
-    var m = p.matcher(tlsLogs);
-
+    var cipherSuite = tlsLog.hexField("ServerHello.cipher_suite");
     var hi = 0;
     var lo = 0;
-    if (m.find()) {
-      hi = Integer.parseInt(m.group(1), 16);
-      lo = Integer.parseInt(m.group(2), 16);
+    if (cipherSuite != null && cipherSuite.length >= 2) {
+      hi = cipherSuite[0] & 0xFF;
+      lo = cipherSuite[1] & 0xFF;
     }
 
     Assertions
-        .assertThat(!(tlsLogs.contains("ServerHello.cipher_suite")))
+        .assertThat(tlsLog.field("ServerHello.cipher_suite").isEmpty())
         .withFailMessage("ServerHello message received where not expected. "
             + "Server selected cipher suite (0x%x,0x%x).", hi, lo)
         .isTrue();
@@ -790,8 +763,8 @@ public class TlsTestToolSteps {
   public void checkIfTheServerKeyExchangeIsNotSent() {
     requireTlsLogs();
     Assertions
-        .assertThat(!(tlsLogs.contains("ServerKeyExchange.params.curve_params.namedcurve")
-            || tlsLogs.contains("Bad ServerKeyExchange message received")))
+        .assertThat(!(tlsLog.field("ServerKeyExchange.params.curve_params.namedcurve").isPresent()
+            || tlsLog.contains("Bad ServerKeyExchange message received")))
         .withFailMessage("ServerKeyExchange message received.")
         .isTrue();
   }
@@ -804,7 +777,7 @@ public class TlsTestToolSteps {
   public void checkIfTheServerKeyExchangeIsSent() {
     requireTlsLogs();
     Assertions
-        .assertThat(tlsLogs.contains("ServerKeyExchange.params.curve_params.namedcurve"))
+        .assertThat(tlsLog.field("ServerKeyExchange.params.curve_params.namedcurve").isPresent())
         .withFailMessage("ServerKeyExchange message not received.")
         .isTrue();
   }
@@ -1136,10 +1109,10 @@ public class TlsTestToolSteps {
   @Then("the server key exchange uses one of the supported hash functions")
   public void checkIfTheServerKeyExchangeUsesOneOfTheSupportedHashFunctions() {
     requireTlsLogs();
-    var matcher = TLS_HASH_ALGORITHM_PATTERN.matcher(tlsLogs);
+    var hashAlgorithmUsed = tlsLog.serverHashAlgorithm();
 
-    if (!matcher.find()) {
-      if (tlsLogs != null && tlsLogs.contains("TLS handshake failed")) {
+    if (hashAlgorithmUsed == null) {
+      if (tlsLog.contains("TLS handshake failed")) {
         throw new AssertionError(
             "The hash algorithm used for the Server Key exchange could not be found because the TLS handshake already failed. "
                 + extractAlertSummary() + " " + buildHashNegotiationSummary());
@@ -1147,7 +1120,6 @@ public class TlsTestToolSteps {
       throw new AssertionError("The hash algorithm used for the Server Key exchange could not be found. "
           + extractAlertSummary() + " " + buildHashNegotiationSummary());
     }
-    var hashAlgorithmUsed = Integer.parseInt(matcher.group(1));
     var selectedHashAlgorithm = TlsHashAlgorithm.fromValue(hashAlgorithmUsed);
     if (selectedHashAlgorithm.isSupportedByPolicy()) {
       log.info("The {} hash algorithm was used for the Server Key exchange.", selectedHashAlgorithm);
@@ -1262,13 +1234,207 @@ public class TlsTestToolSteps {
     }
   }
 
+  /**
+   * Runs a TLS 1.2 client matrix against a host with several concurrent TLS test tool processes and checks every handshake.
+   *
+   * <p>Each row defines one case with the columns {@code cipher_suite} (cipher suite profile id), {@code supported_group}
+   * (supported-group profile) and {@code handshake} ({@code erfolgreich}/{@code nicht erfolgreich}). Empty profile cells fall
+   * back to the defaults of the single-case steps. All cases are evaluated before the step fails, and the result table is
+   * attached to the report.</p>
+   *
+   * @param host        Host to be tested
+   * @param maxParallel maximum number of concurrently running TLS test tool processes
+   * @param matrix      matrix rows
+   */
+  @Dann("prüfe die TLS 1.2 TlsTestTool-Matrix für den Host {tigerResolvedString} mit höchstens {int} parallelen Prozessen:")
+  @Then("check the TLS 1.2 TlsTestTool matrix for the host {tigerResolvedString} with at most {int} parallel processes:")
+  public void checkTls12Matrix(String host, int maxParallel, DataTable matrix) {
+    checkHost(host);
+    var rows = matrix.asMaps();
+    if (rows.isEmpty()) {
+      throw new AssertionError("The TLS test tool matrix is empty.");
+    }
+
+    var cases = new ArrayList<TlsTestToolMatrixRunner.MatrixCase>();
+    var expectations = new ArrayList<TlsHandshakeExpectation>();
+    for (var row : rows) {
+      var cipherSuite = row.get("cipher_suite");
+      var supportedGroup = row.get("supported_group");
+      var tlsCipherSuites = cipherSuite == null || cipherSuite.isBlank()
+          ? getTlsTestValidEcdheCipherSuites()
+          : "tlsCipherSuites=" + TlsCipherSuite.fromCipherSuiteId(cipherSuite.trim()).getTlsTestToolCipherSuiteValue() + "\n";
+      var name = (cipherSuite == null || cipherSuite.isBlank() ? "default" : cipherSuite.trim())
+          + " / " + (supportedGroup == null || supportedGroup.isBlank() ? "default" : supportedGroup.trim());
+      var config = getTlsTestToolConfigBuffer(SUPPORTED_SIGNATURE_HASH_ALGOS, supportedGroupsExtension(supportedGroup), tlsCipherSuites, host);
+      cases.add(new TlsTestToolMatrixRunner.MatrixCase(name, config));
+      expectations.add(TlsHandshakeExpectation.fromValue(Objects.requireNonNull(row.get("handshake"), "handshake").trim()));
+    }
+
+    var isWindows = isWindowsOs();
+    var tlsTestToolLocation = resolveTlsToolLocation(isWindows, isWslEnvironment());
+    if (!Files.exists(Path.of(tlsTestToolLocation))) {
+      throw new AssertionError("The TLS test tool could not be found at: " + tlsTestToolLocation);
+    }
+    var toolLocation = isWindows ? toWslPath(tlsTestToolLocation) : tlsTestToolLocation;
+    var runner = new TlsTestToolMatrixRunner(maxParallel, MATRIX_CASE_TIMEOUT,
+        configFile -> buildTlsToolCommand(toolLocation, isWindows ? toWslPath(configFile.toString()) : configFile.toString(), isWindows));
+    var results = runner.run(cases);
+
+    var table = new StringBuilder("case | expected | result | cipher suite | ms\n");
+    var failures = new ArrayList<String>();
+    for (int i = 0; i < results.size(); i++) {
+      var result = results.get(i);
+      var caseLog = TlsTestToolLog.parse(result.logs());
+      var actual = matrixHandshakeOutcome(caseLog);
+      var cipherSuite = caseLog.relevantPhase().cipherSuite();
+      table.append(result.name()).append(" | ").append(expectations.get(i)).append(" | ").append(actual)
+          .append(" | ").append(cipherSuite != null ? cipherSuite : "-")
+          .append(" | ").append(result.elapsed().toMillis()).append('\n');
+      if (result.error() != null || actual != expectations.get(i)) {
+        failures.add(result.name() + ": expected " + expectations.get(i) + " but was "
+            + (result.error() != null ? result.error() : actual));
+        Serenity.recordReportData()
+            .withTitle("TLS Test Tool Logs: " + result.name())
+            .andContents(result.logs());
+      }
+    }
+    log.info("TLS test tool matrix for {}:\n{}", host, table);
+    Serenity.recordReportData()
+        .withTitle("TLS Test Tool Matrix")
+        .andContents(table.toString());
+
+    if (!failures.isEmpty()) {
+      throw new AssertionError(failures.size() + " of " + results.size() + " TLS test tool matrix cases failed:\n"
+          + String.join("\n", failures));
+    }
+  }
+
+  /**
+   * Builds the {@code supported_groups} extension for a matrix row.
+   *
+   * @param supportedGroup supported-group profile, or blank for the default groups
+   * @return supported-groups extension hex
+   */
+  private static String supportedGroupsExtension(String supportedGroup) {
+    if (supportedGroup == null || supportedGroup.isBlank()) {
+      return VALID_SUPPORTED_GROUPS;
+    }
+    var group = TlsSupportedGroup.fromDisplayName(supportedGroup);
+    if (group == TlsSupportedGroup.UNKNOWN) {
+      throw new AssertionError("The Supported Group value is unknown: " + supportedGroup);
+    }
+    return TlsSupportedGroup.buildSupportedGroupsExtension(
+        group == TlsSupportedGroup.UNSUPPORTED_MIX ? TlsSupportedGroup.forbiddenGroups() : List.of(group));
+  }
+
+  /**
+   * Classifies the handshake outcome of one matrix case with the same log markers as the single-case check.
+   *
+   * @param caseLog parsed log of the matrix case
+   * @return handshake outcome, or {@code null} if the logs contain neither marker
+   */
+  private static TlsHandshakeExpectation matrixHandshakeOutcome(TlsTestToolLog caseLog) {
+    if (caseLog.contains("Handshake successful")) {
+      return TlsHandshakeExpectation.ERFOLGREICH;
+    }
+    if (caseLog.contains("TLS handshake failed") || caseLog.contains("Handshake aborted")) {
+      return TlsHandshakeExpectation.NICHT_ERFOLGREICH;
+    }
+    return null;
+  }
+
+  /**
+   * Measures TLS handshake throughput and latency against a host with concurrent JSSE clients and reports the result.
+   *
+   * <p>TLS 1.2 offers the cipher suites of {@code getTlsTestValidCipherSuites}, TLS 1.3 the policy's TLS 1.3 suites;
+   * suites the JSSE provider does not implement are skipped. Mode {@code voll}/{@code full} measures full handshakes,
+   * {@code wiederaufnahme}/{@code resumption} measures session resumption (session id, ticket or PSK).</p>
+   *
+   * @param tlsVersion  {@code 1.2} or {@code 1.3}
+   * @param mode        handshake mode
+   * @param host        Host to be tested (host, host:port or URL)
+   * @param connections number of concurrent clients
+   * @param handshakes  measured handshakes per client
+   */
+  @Dann("messe den TLS-Handshake-Durchsatz für TLS {string} im Modus {string} gegen den Host {tigerResolvedString} mit {int} parallelen Verbindungen und je {int} Handshakes")
+  @Then("measure the TLS handshake throughput for TLS {string} in mode {string} against the host {tigerResolvedString} with {int} parallel connections and {int} handshakes each")
+  public void measureTlsHandshakeThroughput(String tlsVersion, String mode, String host, int connections, int handshakes) {
+    checkHost(host);
+    List<String> cipherSuites = switch (tlsVersion.trim()) {
+      case "1.2" -> jsseCipherSuiteNames(getTlsTestValidCipherSuites());
+      case "1.3" -> TlsCipherSuite.optionalTls13CipherSuites().stream().map(TlsCipherSuite::getCipherSuiteName).toList();
+      default -> throw new AssertionError("Unsupported TLS version for the handshake benchmark: " + tlsVersion);
+    };
+    var benchmark = new TlsHandshakeBenchmark(
+        normalizeHostForSni(host),
+        resolveTlsPort(host),
+        () -> {
+          try {
+            return SslConfigurationService.newTrustAllSslContext();
+          } catch (Exception e) {
+            throw new IllegalStateException("Could not create the TLS client context", e);
+          }
+        },
+        List.of("TLSv" + tlsVersion.trim()),
+        cipherSuites,
+        HANDSHAKE_BENCHMARK_TIMEOUT);
+
+    var result = benchmark.run(TlsHandshakeBenchmark.Mode.fromValue(mode), connections, handshakes);
+    SerenityReportUtils.addCustomData("TLS handshake benchmark against " + host, result.describe());
+    if (result.handshakes() == 0) {
+      throw new AssertionError("No TLS handshake succeeded against " + host + ": " + result.firstError());
+    }
+  }
+
+  /**
+   * Maps a tls-test-tool cipher-suite configuration line to the IANA names used by JSSE.
+   *
+   * @param tlsCipherSuites line such as {@code tlsCipherSuites=(0xC0,0x2B),(0xC0,0x2C)}
+   * @return cipher suite names in configuration order
+   */
+  private static List<String> jsseCipherSuiteNames(String tlsCipherSuites) {
+    var names = new ArrayList<String>();
+    var matcher = TLS_TOOL_CIPHER_SUITE_PATTERN.matcher(tlsCipherSuites);
+    while (matcher.find()) {
+      var value = matcher.group();
+      Arrays.stream(TlsCipherSuite.values())
+          .filter(suite -> suite.getTlsTestToolCipherSuiteValue().equalsIgnoreCase(value))
+          .findFirst()
+          .ifPresent(suite -> names.add(suite.getCipherSuiteName()));
+    }
+    return names;
+  }
+
+  /**
+   * Resolves the TLS port from host:port or URL notation.
+   *
+   * @param host raw host value from the scenario
+   * @return explicit port, or 443
+   */
+  private static int resolveTlsPort(String host) {
+    var candidate = host.trim();
+    if (candidate.contains("://")) {
+      try {
+        var port = new URI(candidate).getPort();
+        return port > 0 ? port : 443;
+      } catch (URISyntaxException e) {
+        throw new AssertionError("Invalid host URL: " + host, e);
+      }
+    }
+    var portSeparator = candidate.startsWith("[") ? candidate.indexOf("]:") + 1 : candidate.indexOf(':');
+    if (portSeparator > 0 && candidate.indexOf(':', portSeparator + 1) < 0) {
+      return Integer.parseInt(candidate.substring(portSeparator + 1));
+    }
+    return 443;
+  }
+
   /**
    * Checks whether the ClientHello only offers the supported curves.
    */
   @Dann("der ClientHello bietet nur die unterstützten Kurven an")
   @Then("the client hello only offers the supported curves")
   public void checkClientHelloForSupportedCurves() {
-    List<TlsSupportedGroup> supportedGroupsInClientHello = extractSupportedGroupsHex(tlsLogs);
+    List<TlsSupportedGroup> supportedGroupsInClientHello = extractSupportedGroupsHex(tlsLog);
     Assertions
         .assertThat(supportedGroupsInClientHello.isEmpty())
         .withFailMessage("No supported_groups extension entries found in ClientHello logs.")
@@ -1293,7 +1459,7 @@ public class TlsTestToolSteps {
   @Dann("der ClientHello bietet keine nicht unterstützten Signaturalgorithmen an")
   @Then("the client hello does not offer any unsupported signature algorithms")
   public void checkClientHelloForNoUnsupportedSignatureAlgorithms() {
-    List<TlsSignatureAlgorithm> signatureAlgorithmsInClientHello = extractSignatureAlgorithmsHex(tlsLogs);
+    List<TlsSignatureAlgorithm> signatureAlgorithmsInClientHello = extractSignatureAlgorithmsHex(tlsLog);
     Assertions
         .assertThat(signatureAlgorithmsInClientHello.isEmpty())
         .withFailMessage("No signature_algorithms entries found in ClientHello logs.")
@@ -1343,7 +1509,7 @@ public class TlsTestToolSteps {
   @Then("the TLS Server initiated renegotiation is successful")
   public void checkIfTlsServerInitiatedRenegotiationIsSuccessful() {
     Assertions
-        .assertThat(hasFinishedAfterRenegotiation(tlsLogs))
+        .assertThat(hasFinishedAfterRenegotiation(tlsLog))
         .withFailMessage("Server-initiated renegotiation was not completed successfully.")
         .isTrue();
   }
@@ -1371,7 +1537,7 @@ public class TlsTestToolSteps {
     if (expectedMessages.isEmpty()) {
       throw new AssertionError("No valid message to search for in TLS logs.");
     }
-    var containsAnyExpectedMessage = expectedMessages.stream().anyMatch(tlsLogs::contains);
+    var containsAnyExpectedMessage = expectedMessages.stream().anyMatch(tlsLog::contains);
 
     Assertions
         .assertThat(containsAnyExpectedMessage)
@@ -1389,53 +1555,18 @@ public class TlsTestToolSteps {
    * @return compact summary with alert details and relevant handshake metadata
    */
   private String extractAlertSummary() {
-    if (tlsLogs == null || tlsLogs.isBlank()) {
+    if (tlsLog == null || tlsLog.isBlank()) {
       return "TLS logs are empty.";
     }
-    var lines = Arrays.stream(tlsLogs.split("\\R")).toList();
-    var relevantPhase = determineRelevantLogPhase(lines);
-    var level = (String) null;
-    var description = (String) null;
-    var handshakeFailure = (String) null;
-    var selectedCipherSuite = (String) null;
-    var selectedHash = (TlsHashAlgorithm) null;
-    var selectedSignature = (TlsSignatureAlgorithm) null;
-    var handshakeSuccessful = false;
-    var lastLine = (String) null;
-
-    for (var line : lines.subList(relevantPhase.startInclusive(), relevantPhase.endExclusive())) {
-      var trimmedLine = line.trim();
-      if (!trimmedLine.isEmpty()) {
-        lastLine = trimmedLine;
-        if (trimmedLine.contains("Handshake successful.")) {
-          handshakeSuccessful = true;
-        }
-      }
-      var levelMatcher = ALERT_LEVEL_PATTERN.matcher(line);
-      if (levelMatcher.find()) {
-        level = levelMatcher.group(1);
-      }
-      var descriptionMatcher = ALERT_DESCRIPTION_PATTERN.matcher(line);
-      if (descriptionMatcher.find()) {
-        description = descriptionMatcher.group(1);
-      }
-      var handshakeFailureMatcher = TLS_HANDSHAKE_FAILED_PATTERN.matcher(line);
-      if (handshakeFailureMatcher.find()) {
-        handshakeFailure = handshakeFailureMatcher.group(0);
-      }
-      var selectedCipherSuiteMatcher = TLS_CIPHER_SUITE_PATTERN.matcher(line);
-      if (selectedCipherSuiteMatcher.find()) {
-        selectedCipherSuite = selectedCipherSuiteMatcher.group(1).trim();
-      }
-      var selectedHashMatcher = TLS_HASH_ALGORITHM_PATTERN.matcher(line);
-      if (selectedHashMatcher.find()) {
-        selectedHash = TlsHashAlgorithm.fromValue(Integer.parseInt(selectedHashMatcher.group(1)));
-      }
-      var selectedSignatureMatcher = TLS_SIGNATURE_ALGORITHM_PATTERN.matcher(line);
-      if (selectedSignatureMatcher.find()) {
-        selectedSignature = TlsSignatureAlgorithm.fromValue(Integer.parseInt(selectedSignatureMatcher.group(1)));
-      }
-    }
+    var phase = tlsLog.relevantPhase();
+    var level = phase.alertLevel();
+    var description = phase.alertDescription();
+    var handshakeFailure = phase.handshakeFailure();
+    var selectedCipherSuite = phase.cipherSuite();
+    var selectedHash = phase.hashAlgorithm() != null ? TlsHashAlgorithm.fromValue(phase.hashAlgorithm()) : null;
+    var selectedSignature = phase.signatureAlgorithm() != null ? TlsSignatureAlgorithm.fromValue(phase.signatureAlgorithm()) : null;
+    var handshakeSuccessful = phase.handshakeSuccessful();
+    var lastLine = phase.lastLine();
 
     var summary = new StringBuilder();
     summary.append("Alert summary:");
@@ -1473,44 +1604,6 @@ public class TlsTestToolSteps {
     return summary.toString();
   }
 
-  /**
-   * Determine the most relevant handshake phase in the TLS logs.
-   *
-   * <p>If a handshake failure is present, the phase ending at the last failure line is selected.
-   * Otherwise, the latest observed handshake phase is used.</p>
-   *
-   * @param lines TLS log lines
-   * @return selected handshake phase boundaries
-   */
-  private TlsLogPhase determineRelevantLogPhase(List<String> lines) {
-    var failureIndex = -1;
-    for (var i = 0; i < lines.size(); i++) {
-      if (TLS_HANDSHAKE_FAILED_PATTERN.matcher(lines.get(i)).find()) {
-        failureIndex = i;
-      }
-    }
-    var endExclusive = failureIndex >= 0 ? failureIndex + 1 : lines.size();
-    var startInclusive = 0;
-    for (var i = 0; i < endExclusive; i++) {
-      if (isHandshakePhaseBoundary(lines.get(i))) {
-        startInclusive = i + 1;
-      }
-    }
-    return new TlsLogPhase(startInclusive, endExclusive);
-  }
-
-  /**
-   * Checks whether a log line marks a new handshake phase boundary.
-   *
-   * @param line log line
-   * @return {@code true} if the line indicates start of a new handshake phase
-   */
-  private boolean isHandshakePhaseBoundary(String line) {
-    return TLS_RENEGOTIATION_PHASE_PATTERN.matcher(line).find()
-        || TLS_CLIENT_HELLO_SENT_PATTERN.matcher(line).find()
-        || TLS_CLIENT_HELLO_WRITE_PATTERN.matcher(line).find();
-  }
-
   /**
    * Build a short summary that explains which TLS1.2 hash algorithms were offered and whether the server selected a concrete hash algorithm
    * in the observed logs.
@@ -1541,15 +1634,10 @@ public class TlsTestToolSteps {
    * @return selected hash algorithm, or {@code null} if not present in the logs
    */
   private TlsHashAlgorithm extractSelectedTls12HashAlgorithm() {
-    if (tlsLogs == null || tlsLogs.isBlank()) {
+    if (tlsLog == null || tlsLog.serverHashAlgorithm() == null) {
       return null;
     }
-    var matcher = TLS_HASH_ALGORITHM_PATTERN.matcher(tlsLogs);
-    if (!matcher.find()) {
-      return null;
-    }
-    var id = Integer.parseInt(matcher.group(1));
-    return TlsHashAlgorithm.fromValue(id);
+    return TlsHashAlgorithm.fromValue(tlsLog.serverHashAlgorithm());
   }
 
   /**
@@ -1590,7 +1678,7 @@ public class TlsTestToolSteps {
    * Ensures TLS logs are available for assertions.
    */
   private void requireTlsLogs() {
-    if (tlsLogs == null || tlsLogs.isBlank()) {
+    if (tlsLog == null || tlsLog.isBlank()) {
       throw new AssertionError("The TLS log is empty or null.");
     }
   }
@@ -1636,7 +1724,7 @@ public class TlsTestToolSteps {
   public void x509CertificateReceivedAccordingToSpecification() {
 
     // Extract the certificate
-    var der = extractCertificateFromLog(tlsLogs);
+    var der = extractCertificateFromLog(tlsLog);
     if (der == null || der.length == 0) {
       throw new AssertionError("No certificate hex dump found in the log.");
     }
@@ -1772,20 +1860,22 @@ public class TlsTestToolSteps {
   }
 
   /**
-   * Starts the TLS test tool process and captures merged stdout/stderr asynchronously.
+   * Starts the TLS test tool process and parses merged stdout/stderr asynchronously while it is read.
    *
    * @param command process command line
-   * @return future with complete process logs
+   * @return future with the parsed process logs
    * @throws IOException if process startup fails
    */
-  private static CompletableFuture<String> startTlsToolAndCollectLogs(List<String> command) throws IOException {
+  private static CompletableFuture<TlsTestToolLog> startTlsToolAndCollectLogs(List<String> command) throws IOException {
     var processBuilder = new ProcessBuilder(command);
     processBuilder.redirectErrorStream(true);  // merge stderr into stdout
 
     var process = processBuilder.start();
     return CompletableFuture.supplyAsync(() -> {
       try (var reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-        return reader.lines().collect(Collectors.joining("\n"));
+        var parsedLog = new TlsTestToolLog();
+        reader.lines().forEach(parsedLog::accept);
+        return parsedLog;
       } catch (IOException e) {
         throw new CompletionException(e);
       }
@@ -1868,13 +1958,13 @@ public class TlsTestToolSteps {
     log.debug("TLS Test Tool configuration file path: {}", configFileLocation);
 
     // Clear the logs
-    tlsLogs = "";
+    tlsLog = null;
     clearTlsLogCollectors();
     try {
       List<String> command = buildTlsToolCommand(tlsTestToolLocation, configFileLocation, isWindows);
       tlsLogsFuture = startTlsToolAndCollectLogs(command)
           .thenApply(logs -> {
-            tlsLogs = logs;
+            tlsLog = logs;
             return logs;
           });
       completeSynchronouslyIfNeeded(mode);
@@ -1917,7 +2007,7 @@ public class TlsTestToolSteps {
     log.debug("TLS Test Tool service certificate file path: {}", certificateFile);
     log.debug("TLS Test Tool service private key file path: {}", privateKeyFile);
 
-    tlsLogs = "";
+    tlsLog = null;
     clearTlsLogCollectors();
     try {
       var tlsTestToolService = TlsTestToolServiceFactory.getInstance();
@@ -1936,12 +2026,13 @@ public class TlsTestToolSteps {
    */
   private void saveTlsLogsToSerenityReport() {
     requireTlsLogs();
+    var tlsLogText = tlsLog.text();
     log.debug("TLS Test Tool Logs:");
-    log.debug(tlsLogs);
+    log.debug(tlsLogText);
 
     Serenity.recordReportData()
         .withTitle("TLS Test Tool Logs:")
-        .andContents(tlsLogs);
+        .andContents(tlsLogText);
   }
 
   /**
@@ -1951,13 +2042,14 @@ public class TlsTestToolSteps {
   @Then("the TLS test tool server logs are retrieved")
   public void getTheTlsTestToolServerLogs() {
     try {
-      tlsLogs = TlsTestToolServiceFactory.getInstance().getLogs();
+      var tlsLogText = TlsTestToolServiceFactory.getInstance().getLogs();
+      tlsLog = TlsTestToolLog.parse(tlsLogText);
       log.debug("TLS Test Tool Logs:");
-      log.debug(tlsLogs);
+      log.debug(tlsLogText);
 
       Serenity.recordReportData()
           .withTitle("TLS Test Tool Logs:")
-          .andContents(tlsLogs);
+          .andContents(tlsLogText);
     } catch (AssertionError e) {
       throw new AssertionError("Error when retrieving TLS test tool server logs", e);
     }
@@ -2058,25 +2150,12 @@ public class TlsTestToolSteps {
   private boolean helloHasEmptyRenegotiationInfo(TlsEndpointRole role) {
     requireTlsLogs();
 
-    // Extract hex bytes after "ServerHello.extensions=" or "ClientHello.extensions=" depending on the role
-    var extensionsPattern = role == TlsEndpointRole.SERVER
-        ? SERVER_HELLO_EXTENSIONS_PATTERN
-        : CLIENT_HELLO_EXTENSIONS_OPTIONAL_PATTERN;
-    var m = extensionsPattern.matcher(tlsLogs);
-    if (!m.find()) {
+    // Hex bytes logged as "ServerHello.extensions=" or "ClientHello.extensions=" depending on the role
+    var bytes = tlsLog.hexField(role == TlsEndpointRole.SERVER ? "ServerHello.extensions" : "ClientHello.extensions");
+    if (bytes == null || bytes.length == 0) {
       return false;
     }
 
-    var extensionBytes = m.group(1);
-    if (extensionBytes == null || extensionBytes.isBlank()) {
-      return false;
-    }
-    var hexBytes = extensionBytes.trim().split("\\s+");
-    var bytes = new byte[hexBytes.length];
-    for (var i = 0; i < hexBytes.length; i++) {
-      bytes[i] = (byte) Integer.parseInt(hexBytes[i], 16);
-    }
-
     // Parse TLS extensions: type(2) | length(2) | data(length)
     var offset = 0;
     while (offset + 4 <= bytes.length) {
@@ -2103,23 +2182,22 @@ public class TlsTestToolSteps {
   /**
    * Extracts ClientHello.cipher_suite.
    *
-   * @param tlsLog TLS log content
+   * @param tlsLog parsed TLS log
    * @return cipher suites pairs ["(0xC0,0x2C)", "(0xC0,0x30)", ...]
    * @throws AssertionError if {@code tlsLog} is {@code null} or blank
    */
-  private static List<String> extractClientHelloCipherSuitesAsPairs(String tlsLog) {
+  private static List<String> extractClientHelloCipherSuitesAsPairs(TlsTestToolLog tlsLog) {
     if (tlsLog == null || tlsLog.isBlank()) {
       throw new AssertionError("The TLS log is empty or null.");
     }
-    Matcher m = CLIENT_HELLO_CIPHER_SUITES_PATTERN.matcher(tlsLog);
-    if (!m.find()) {
+    var bytes = tlsLog.hexField("ClientHello.cipher_suites");
+    if (bytes == null) {
       return List.of();
     }
 
-    String[] bytes = m.group(1).trim().split("\\s+");
     List<String> pairs = new ArrayList<>(bytes.length / 2);
     for (int i = 0; i + 1 < bytes.length; i += 2) {
-      pairs.add("(0x" + bytes[i].toUpperCase(Locale.ROOT) + ",0x" + bytes[i + 1].toUpperCase(Locale.ROOT) + ")");
+      pairs.add("(0x%02X,0x%02X)".formatted(bytes[i] & 0xFF, bytes[i + 1] & 0xFF));
     }
     return pairs;
   }
@@ -2134,7 +2212,7 @@ public class TlsTestToolSteps {
 
     // Checks if the client supports TLS 1.2
     Assertions
-        .assertThat(tlsLogs.contains("ClientHello.client_version=03 03"))
+        .assertThat(tlsLog.field("ClientHello.client_version").filter(version -> version.startsWith("03 03")).isPresent())
         .withFailMessage("TLS 1.2 is not supported by the client.")
         .isTrue();
   }
@@ -2148,7 +2226,7 @@ public class TlsTestToolSteps {
   public void onlySupportedCipherSuitesArePresent() {
     requireTlsLogs();
 
-    List<String> offered = extractClientHelloCipherSuitesAsPairs(tlsLogs);
+    List<String> offered = extractClientHelloCipherSuitesAsPairs(tlsLog);
     Assertions
         .assertThat(offered.isEmpty())
         .withFailMessage("No ClientHello.cipher_suites found in log.")
@@ -2182,7 +2260,7 @@ public class TlsTestToolSteps {
   public void scsvCipherSuiteOrRenegotiationInfoArePresent() {
     requireTlsLogs();
 
-    List<String> offered = extractClientHelloCipherSuitesAsPairs(tlsLogs);
+    List<String> offered = extractClientHelloCipherSuitesAsPairs(tlsLog);
     Assertions
         .assertThat(offered.isEmpty())
         .withFailMessage("No ClientHello.cipher_suites found in log.")
@@ -2791,13 +2869,6 @@ public class TlsTestToolSteps {
     }
   }
 
-  /**
-   * Inclusive-exclusive line range that represents one selected handshake phase in TLS logs.
-   */
-  private record TlsLogPhase(int startInclusive, int endExclusive) {
-
-  }
-
   /**
    * The sync and async execution modes for the TLS Test Tool.
    */
@@ -2841,32 +2912,21 @@ public class TlsTestToolSteps {
    * Extracts the {@code supported_groups} (extension {@code 0x000A}) list from a TLS ClientHello
    * contained in the given tool log and returns it as a list of {@link TlsSupportedGroup}.
    *
-   * @param fullLog complete TLS test tool log output containing {@code ClientHello.extensions=...}
+   * @param tlsLog parsed TLS test tool log containing {@code ClientHello.extensions=...}
    * @return list of extracted supported groups in the order they appear in the ClientHello;
    *         empty list if not present or malformed
-   * @throws AssertionError if {@code fullLog} is {@code null/blank} or if no {@code ClientHello.extensions}
+   * @throws AssertionError if {@code tlsLog} is {@code null/blank} or if no {@code ClientHello.extensions}
    *                        section is present in the log
    */
-  private static List<TlsSupportedGroup> extractSupportedGroupsHex(String fullLog) {
+  private static List<TlsSupportedGroup> extractSupportedGroupsHex(TlsTestToolLog tlsLog) {
 
-    if (fullLog == null || fullLog.isBlank()) {
+    if (tlsLog == null || tlsLog.isBlank()) {
       throw new AssertionError("The TLS log is empty or null.");
     }
 
     // Extract the client hello extension
-    Matcher m = CLIENT_HELLO_EXTENSIONS_PATTERN.matcher(fullLog);
-    if (!m.find()) {
-      throw new AssertionError("Client hello extension not present in the logs.");
-    }
-    var clientHelloExtensions = m.group(1).trim();
-    if (clientHelloExtensions.isBlank()) {
-      return List.of();
-    }
-
-    byte[] extensions;
-    try {
-      extensions = parseHexBytes(clientHelloExtensions);
-    } catch (NumberFormatException e) {
+    var extensions = clientHelloExtensions(tlsLog);
+    if (extensions.length == 0) {
       return List.of();
     }
     byte[] sg = findExtensionData(extensions, 0x000A); // supported_groups
@@ -2890,31 +2950,20 @@ public class TlsTestToolSteps {
    * Extracts the {@code signature_algorithms} (extension {@code 0x000D}) list from a TLS ClientHello
    * contained in the given tool log and returns signature algorithms as a list of {@link TlsSignatureAlgorithm}.
    *
-   * @param fullLog complete TLS test tool log output containing {@code ClientHello.extensions=...}
+   * @param tlsLog parsed TLS test tool log containing {@code ClientHello.extensions=...}
    * @return list of extracted signature algorithms in the order they appear in the ClientHello;
    *         empty list if the extension payload is malformed
-   * @throws AssertionError if {@code fullLog} is {@code null/blank} or if no {@code ClientHello.extensions}
+   * @throws AssertionError if {@code tlsLog} is {@code null/blank} or if no {@code ClientHello.extensions}
    *                        section is present in the log, or if no {@code signature_algorithms}
    *                        extension is present in the extracted extensions block
    */
-  private static List<TlsSignatureAlgorithm> extractSignatureAlgorithmsHex(String fullLog) {
-    if (fullLog == null || fullLog.isBlank()) {
+  private static List<TlsSignatureAlgorithm> extractSignatureAlgorithmsHex(TlsTestToolLog tlsLog) {
+    if (tlsLog == null || tlsLog.isBlank()) {
       throw new AssertionError("The TLS log is empty or null.");
     }
 
-    Matcher m = CLIENT_HELLO_EXTENSIONS_PATTERN.matcher(fullLog);
-    if (!m.find()) {
-      throw new AssertionError("Client hello extension not present in the logs.");
-    }
-    var clientHelloExtensions = m.group(1).trim();
-    if (clientHelloExtensions.isBlank()) {
-      return List.of();
-    }
-
-    byte[] extensions;
-    try {
-      extensions = parseHexBytes(clientHelloExtensions);
-    } catch (NumberFormatException e) {
+    var extensions = clientHelloExtensions(tlsLog);
+    if (extensions.length == 0) {
       return List.of();
     }
 
@@ -2937,26 +2986,18 @@ public class TlsTestToolSteps {
   }
 
   /**
-   * Parses a whitespace-separated hex string into a byte array.
+   * Returns the raw ClientHello extensions block of a parsed TLS log.
    *
-   * @param hexWithSpaces whitespace-separated hex bytes (e.g., {@code "c0 2f 00 ff"})
-   * @return parsed bytes in the same order as provided
-   * @throws NullPointerException if {@code hexWithSpaces} is {@code null}
-   * @throws NumberFormatException if any token is not valid hexadecimal
+   * @param tlsLog parsed TLS test tool log
+   * @return concatenated ClientHello extensions
+   * @throws AssertionError if no {@code ClientHello.extensions} hex dump is present in the log
    */
-  private static byte[] parseHexBytes(String hexWithSpaces) {
-    var text = hexWithSpaces.trim();
-    if (text.isEmpty()) {
-      return new byte[0];
-    }
-    String normalized = text.replaceAll("\\s+", "");
-    try {
-      return Hex.decodeHex(normalized);
-    } catch (DecoderException e) {
-      NumberFormatException ex = new NumberFormatException("Invalid hex token");
-      ex.initCause(e);
-      throw ex;
+  private static byte[] clientHelloExtensions(TlsTestToolLog tlsLog) {
+    var extensions = tlsLog.hexField("ClientHello.extensions");
+    if (extensions == null) {
+      throw new AssertionError("Client hello extension not present in the logs.");
     }
+    return extensions;
   }
 
   /**
@@ -3059,21 +3100,15 @@ public class TlsTestToolSteps {
    * Checks whether the TLS log contains a successful handshake completion message
    * <em>after</em> a renegotiation has been initiated.
    *
-   * @param fullLog the complete TLS log as a single string
+   * @param tlsLog the parsed TLS log
    * @return {@code true} if {@code FINISHED_MARKER} appears after {@code RENEG_MARKER}; otherwise {@code false}
    */
-  private static boolean hasFinishedAfterRenegotiation(String fullLog) {
-    if (fullLog == null || fullLog.isBlank()) {
+  private static boolean hasFinishedAfterRenegotiation(TlsTestToolLog tlsLog) {
+    if (tlsLog == null || tlsLog.isBlank()) {
       throw new AssertionError("The TLS log is empty or null.");
     }
 
-    int renegIdx = fullLog.indexOf(RENEG_MARKER);
-    if (renegIdx < 0) {
-      return false;
-    }
-
-    int finishedIdx = fullLog.indexOf(FINISHED_MARKER, renegIdx + RENEG_MARKER.length());
-    return finishedIdx >= 0;
+    return tlsLog.containsAfter(FINISHED_MARKER, RENEG_MARKER);
   }
 
 }
@@ -30,6 +30,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.gematik.test.tiger.common.config.TigerGlobalConfiguration;
+import de.gematik.test.tiger.lib.reports.SerenityReportUtils;
 import de.gematik.zeta.services.StompSessionManager;
 import de.gematik.zeta.services.WebSocketClientFactory;
 import io.cucumber.java.de.Dann;
@@ -57,12 +58,16 @@ public class WebSocketStompSteps {
    * Manages STOMP session lifecycle and message handling.
    */
   private final StompSessionManager sessionManager;
+  /**
+   * Creates the STOMP clients and holds the heartbeat scheduler they run on.
+   */
+  private final WebSocketClientFactory clientFactory;
 
   /**
    * Constructs WebSocketStompSteps with default client factory.
    */
   public WebSocketStompSteps() {
-    var clientFactory = new WebSocketClientFactory();
+    this.clientFactory = new WebSocketClientFactory();
     this.sessionManager = new StompSessionManager(clientFactory);
   }
 
@@ -357,6 +362,27 @@ public class WebSocketStompSteps {
     sessionManager.close();
   }
 
+  /**
+   * Verifies that STOMP heartbeats were scheduled on time and no server heartbeat was missed. The metrics belong to
+   * this scenario's client factory, so only heartbeats of the current scenario are checked.
+   *
+   * @param maxLagMs maximum tolerated scheduling lag of a heartbeat tick in milliseconds
+   */
+  @Dann("ist die STOMP Heartbeat Verzögerung höchstens {int} Millisekunden und kein Heartbeat wurde verpasst")
+  @Then("the STOMP heartbeat lag is at most {int} milliseconds and no heartbeat was missed")
+  public void verifyHeartbeatLag(int maxLagMs) {
+    var metrics = clientFactory.getHeartbeatMonitor().snapshot();
+    SerenityReportUtils.addCustomData("STOMP heartbeat metrics", metrics.describe());
+    log.info("STOMP heartbeat metrics: {}", metrics.describe());
+
+    assertThat(metrics.maxLagMs())
+        .as("Maximum STOMP heartbeat lag in ms")
+        .isLessThanOrEqualTo(maxLagMs);
+    assertThat(metrics.missedHeartbeats())
+        .as("Missed STOMP heartbeats")
+        .isZero();
+  }
+
   @SuppressWarnings("unchecked")
   private Map<String, Object> castToMap(Object payloadElement) {
     assertThat(payloadElement)
@@ -25,6 +25,8 @@
 package de.gematik.zeta.steps.unit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import de.gematik.zeta.steps.SchemaValidationSteps;
@@ -32,6 +34,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -189,4 +192,29 @@ class SchemaValidationStepsTest {
             POPP_TOKEN_GEMSPEC_POPP_SCHEMA));
 
   }
+
+  /**
+   * Verifies that batch validation counts valid, invalid and undecodable values.
+   */
+  @Test
+  void batchValidation_aggregatesErrors() {
+    var result = steps.validateAll(List.of(EXAMPLE_ACCESS_TOKEN, EXAMPLE_ACCESS_TOKEN,
+        EXAMPLE_ACCESS_TOKEN_INVALID_PAYLOAD, "no token"), ACCESS_TOKEN_SCHEMA);
+
+    assertEquals(4, result.validated());
+    assertEquals(2, result.invalid());
+    assertEquals(1L, result.errorCounts().get("value is neither JSON nor a signed JWT"));
+    assertFalse(result.describe().isBlank());
+  }
+
+  /**
+   * Verifies that batch validation decodes JWTs, including values carrying an authorization scheme.
+   */
+  @Test
+  void batchValidation_decodesJwts() {
+    var result = steps.validateAll(List.of(ENCODED_CLIENT_ASSERTION_JWT, "Bearer " + ENCODED_CLIENT_ASSERTION_JWT),
+        CLIENT_ASSERTION_JWT_SCHEMA);
+
+    assertEquals(0, result.invalid(), result.describe());
+  }
 }
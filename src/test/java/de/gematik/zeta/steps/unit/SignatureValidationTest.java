@@ -25,12 +25,15 @@
 package de.gematik.zeta.steps.unit;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import de.gematik.zeta.steps.JwtSteps;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -40,6 +43,62 @@ class SignatureValidationTest {
 
   private static final String ENCODED_POPP_TOKEN_RESOURCE = "mocks/popp-token_gemspec-popp_encoded.jwt";
 
+  private static final String CERTS_RESPONSE = """
+      {
+        "keys": [
+          {
+            "kid": "3Uc_qfgy3NM9l_k0Fs3ExYeDt3Fl8rCM7JyUcaMPI7k",
+            "kty": "EC",
+            "alg": "ES256",
+            "use": "sig",
+            "crv": "P-256",
+            "x": "648xZLyAJcbWJeAqXW-E8-8YoqMfM9_JHwjyHXR9j1g",
+            "y": "-RhgANrdzCawTwdNRnuQFRuO0l9wXbmDkEthqRhUiVk"
+          }
+        ]
+      }
+      """;
+
+  private static final String ACCESS_TOKEN_JWT =
+      "eyJhbGciOiJFUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICIzVWNfcWZneTNOTTlsX2swRnMzRXhZZUR0M0ZsOH"
+          + "JDTTdKeVVjYU1QSTdrIn0"
+          + ".eyJleHAiOjE3NzMyMzYwMDIsImlhdCI6MTc3MzIzNTcwMiwianRpIjoib25ydHRlOmNh"
+          + "YjEwZTI0LTJjOWQtNTRkYy05ZDRkLWEyMWYzODg4NzY3ZCIsImlzcyI6Imh0dHBzOi8vemV0YS1raW5kLmxvY2FsL2"
+          + "F1dGgvcmVhbG1zL3pldGEtZ3VhcmQiLCJhdWQiOiJodHRwczovL3pldGEta2luZC5sb2NhbCIsInN1YiI6IjEtMjAw"
+          + "MTQwNjA2MjUiLCJ0eXAiOiJEUG9QIiwiYXpwIjoiYTg4MTk0NTMtNzIyZC00NjI0LTk1N2UtNjE4MmQ5Y2YxMmQzIi"
+          + "wic2lkIjoiNkNfbjlGdU9ibngydld0dk9hY3dRc01QIiwiYWNyIjoiMSIsImNuZiI6eyJqa3QiOiJMV2VlVU9wTEZC"
+          + "UmlkdVJMakQ5bzZ6VDFNemlHeFpGV3g1enN0MHVncHEwIn0sInNjb3BlIjoiemVybzphdWRpZW5jZSBwcm9maWxlIG"
+          + "VtYWlsIiwiZW1haWxfdmVyaWZpZWQiOmZhbHNlLCJ1ZGF0Ijp7InRlbGlkIjoiMS0yMDAxNDA2MDYyNSIsInByb2Yi"
+          + "OiIxLjIuMjc2LjAuNzYuNC41MCJ9LCJuYW1lIjoiY0wtYzhsc2FXWTc4YlhlQ0lXcGdWM3RfYl9WemgxTUg5T29INm"
+          + "ltcEU4VSBjTC1jOGxzYVdZNzhiWGVDSVdwZ1YzdF9iX1Z6aDFNSDlPb0g2aW1wRThVIiwiY2RhdCI6eyJuYW1lIjoi"
+          + "IiwiY2xpZW50X2lkIjoiYTg4MTk0NTMtNzIyZC00NjI0LTk1N2UtNjE4MmQ5Y2YxMmQzIiwibWFudWZhY3R1cmVyX2"
+          + "lkIjoiIiwibWFudWZhY3R1cmVyX25hbWUiOiIiLCJvd25lcl9tYWlsIjoidGVzdEBlbWFpbHRlc3QuZGUiLCJyZWdp"
+          + "c3RyYXRpb25fdGltZXN0YW1wIjoxNzczMjM1NzAxLCJwbGF0Zm9ybV9wcm9kdWN0X2lkIjp7InBsYXRmb3JtIjoibG"
+          + "ludXgiLCJwYWNrYWdpbmdfdHlwZSI6InBhY2thZ2luZ1R5cGUiLCJhcHBsaWNhdGlvbl9pZCI6InRlc3QtZHJpdmVy"
+          + "In19LCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJjbC1jOGxzYXd5NzhieGVjaXdwZ3YzdF9iX3Z6aDFtaDlvb2g2aW1wZT"
+          + "h1IiwiZ2l2ZW5fbmFtZSI6ImNMLWM4bHNhV1k3OGJYZUNJV3BnVjN0X2JfVnpoMU1IOU9vSDZpbXBFOFUiLCJmYW1p"
+          + "bHlfbmFtZSI6ImNMLWM4bHNhV1k3OGJYZUNJV3BnVjN0X2JfVnpoMU1IOU9vSDZpbXBFOFUiLCJlbWFpbCI6ImNsLW"
+          + "M4bHNhd3k3OGJ4ZWNpd3BndjN0X2JfdnpoMW1oOW9vaDZpbXBlOHVAZ2VtYXRpay5kZSJ9"
+          + ".fhQ3PnRmc60a9FdvPQ6"
+          + "HrRT6OFxxGxcpZytSVd4mjTEoHXNx-Gdd_yD-AHPNTOzhZT4yH3fg06GJcq0eXAsyhA";
+
+  private static final String RSA_CERTS_RESPONSE = """
+      {
+        "keys": [
+          {
+            "kid": "3Uc_qfgy3NM9l_k0Fs3ExYeDt3Fl8rCM7JyUcaMPI7k",
+            "kty": "RSA",
+            "e": "AQAB",
+            "n": "%s"
+          }
+        ]
+      }
+      """.formatted(
+          "43Hu59zr2B6nugfgYOwDU3nJKrWPY8lxFrFIeFPmrO_LtYHc9Xco-eHI_u-OVOU9JotApS1u1QQbNKOAtnU1qK_fyO"
+          + "Uwj-14oPPDx2x3Sz15Ynb915RJe86YNF9MWCK6JI-Uigt3AWFWQTp-HwbqH6utmeZdapGbBLzCv8VgBPRzMmku6VKL"
+          + "rWZNvbBTSymXMPKos0zqEUOFtuTfCL_8qbFDZlfXygMrxH_eeZ1lNlJONXztncQ-UP4evfO8Cq8jjib86mip70UugJ"
+          + "hcWtWU8Ggq39HjdNA-tIdf_oFI6Ce9lWoarPRPMfgLSJbK8xjszwysDUJMFfdbCW96p0X-4w");
+
   private final JwtSteps validator = new JwtSteps();
 
   @Test
@@ -89,6 +148,34 @@ class SignatureValidationTest {
 
   }
 
+  /**
+   * Verifies that bulk verification reuses the cached key set and counts failures per reason.
+   */
+  @Test
+  void testBulkVerifyJwtSignaturesFromKid() {
+    var tampered = ACCESS_TOKEN_JWT.replace(".eyJleHAiOjE3", ".eyJleHAiOjE4");
+
+    var result = validator.verifyAllFromKid(
+        List.of(ACCESS_TOKEN_JWT, "DPoP " + ACCESS_TOKEN_JWT, ACCESS_TOKEN_JWT, tampered), CERTS_RESPONSE);
+
+    assertEquals(4, result.verified());
+    assertEquals(1, result.failed(), result.describe());
+    assertEquals(1L, result.failureCounts().get(
+        "Signature does not verify with key '3Uc_qfgy3NM9l_k0Fs3ExYeDt3Fl8rCM7JyUcaMPI7k'"));
+  }
+
+  @Test
+  void testBulkVerificationRequiresEs256AndEcKeys() {
+    var rs256Header = "eyJhbGciOiJSUzI1NiIsImtpZCI6IjNVY19xZmd5M05NOWxfazBGczNFeFllRHQzRmw4ckNNN0p5VWNhTVBJN2sifQ";
+    var rs256Token = rs256Header + ACCESS_TOKEN_JWT.substring(ACCESS_TOKEN_JWT.indexOf('.'));
+
+    var wrongAlg = validator.verifyAllFromKid(List.of(rs256Token), CERTS_RESPONSE);
+    var rsaKey = validator.verifyAllFromKid(List.of(ACCESS_TOKEN_JWT), RSA_CERTS_RESPONSE);
+
+    assertEquals(Map.of("JWT alg RS256 is not ES256", 1L), wrongAlg.failureCounts());
+    assertEquals(Map.of("Key '3Uc_qfgy3NM9l_k0Fs3ExYeDt3Fl8rCM7JyUcaMPI7k' is not an EC key", 1L), rsaKey.failureCounts());
+  }
+
 
   /**
    * Verifies the method "verifyWithEcPublicKey".
@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.steps.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.steps.SoftAssertionsContext;
+import de.gematik.zeta.steps.SoftFailureCollector;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SoftFailureCollector}.
+ */
+class SoftFailureCollectorTest {
+
+  private final SoftFailureCollector collector = new SoftFailureCollector();
+
+  /**
+   * Ensures repeated failures with the same description and root cause class are counted in one group.
+   */
+  @Test
+  void groupsFailuresByDescriptionAndRootCauseClass() {
+    for (int i = 0; i < 1000; i++) {
+      collector.record("Schema validation failed", new RuntimeException("wrapped", new AssertionError("missing 'exp'")));
+    }
+    collector.record("Schema validation failed", new IllegalStateException("schema not found"));
+
+    assertEquals(1001, collector.total());
+    assertEquals(2, collector.distinct());
+    String summary = collector.describe();
+    assertTrue(summary.startsWith("1001 failures in 2 groups:"), summary);
+    assertTrue(summary.contains("Schema validation failed (1000x)"), summary);
+    assertTrue(summary.contains("AssertionError: missing 'exp'"), summary);
+    assertTrue(summary.contains("IllegalStateException: schema not found"), summary);
+  }
+
+  /**
+   * Ensures a group keeps only a bounded number of distinct, single-line sample messages.
+   */
+  @Test
+  void keepsBoundedDistinctSamples() {
+    for (int i = 0; i < 50; i++) {
+      collector.record("Node check", new AssertionError("value\n  " + (i % 5)));
+    }
+
+    String summary = collector.describe();
+    assertTrue(summary.contains("AssertionError: value 0"), summary);
+    assertTrue(summary.contains("AssertionError: value 2"), summary);
+    assertFalse(summary.contains("AssertionError: value 3"), summary);
+    assertEquals(1, summary.split("value 0", -1).length - 1, summary);
+  }
+
+  /**
+   * Ensures failures beyond the group limit are still counted.
+   */
+  @Test
+  void countsFailuresBeyondGroupLimit() {
+    for (int i = 0; i < 150; i++) {
+      collector.record("Check " + i, new AssertionError("failed"));
+    }
+
+    assertEquals(150, collector.total());
+    assertEquals(100, collector.distinct());
+    assertTrue(collector.describe().endsWith("50 further failures beyond 100 groups"), collector.describe());
+  }
+
+  /**
+   * Ensures long messages are truncated and missing causes are reported.
+   */
+  @Test
+  void truncatesLongMessagesAndHandlesMissingCause() {
+    collector.record("Long", new AssertionError("x".repeat(2000)));
+    collector.record("Unknown", null);
+
+    String summary = collector.describe();
+    assertTrue(summary.contains("AssertionError: " + "x".repeat(484) + " ..."), summary);
+    assertTrue(summary.contains("Unknown\n     unknown failure"), summary);
+    assertFalse(collector.isEmpty());
+  }
+
+  /**
+   * Ensures a failure recorded first on a worker thread is visible to the scenario thread once the context was
+   * prepared at scenario start.
+   */
+  @Test
+  void failureRecordedFirstOnWorkerThreadReachesScenario() throws Exception {
+    SoftAssertionsContext.prepare();
+    try {
+      var worker = new Thread(() -> SoftAssertionsContext.recordSoftFailure("worker check", new AssertionError("boom")));
+      worker.start();
+      worker.join();
+
+      assertEquals(1, SoftAssertionsContext.failures().total());
+    } finally {
+      SoftAssertionsContext.reset();
+    }
+  }
+}
@@ -25,9 +25,12 @@
 package de.gematik.zeta.steps.unit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import de.gematik.zeta.services.TlsTestToolLog;
 import de.gematik.zeta.steps.TlsTestToolSteps;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
@@ -50,9 +53,9 @@ class TlsTestToolStepsTest {
   private static void setTlsLogs(TlsTestToolSteps tlsSteps, String value) {
     try {
       var field = getTlsLogsField();
-      field.set(tlsSteps, value);
+      field.set(tlsSteps, TlsTestToolLog.parse(value));
     } catch (IllegalAccessException e) {
-      throw new RuntimeException("Unable to set tlsLogs for test setup", e);
+      throw new RuntimeException("Unable to set tlsLog for test setup", e);
     }
   }
 
@@ -74,17 +77,17 @@ class TlsTestToolStepsTest {
   }
 
   /**
-   * Returns reflective access to the private {@code tlsLogs} field.
+   * Returns reflective access to the private {@code tlsLog} field.
    *
    * @return reflective field handle
    */
   private static Field getTlsLogsField() {
     try {
-      var field = TlsTestToolSteps.class.getDeclaredField("tlsLogs");
+      var field = TlsTestToolSteps.class.getDeclaredField("tlsLog");
       field.setAccessible(true);
       return field;
     } catch (NoSuchFieldException e) {
-      throw new RuntimeException("Test setup failed, tlsLogs field not found", e);
+      throw new RuntimeException("Test setup failed, tlsLog field not found", e);
     }
   }
 
@@ -105,7 +108,7 @@ class TlsTestToolStepsTest {
 
   private static Method getExtractSupportedGroupsHexMethod() {
     try {
-      var method = TlsTestToolSteps.class.getDeclaredMethod("extractSupportedGroupsHex", String.class);
+      var method = TlsTestToolSteps.class.getDeclaredMethod("extractSupportedGroupsHex", TlsTestToolLog.class);
       method.setAccessible(true);
       return method;
     } catch (NoSuchMethodException e) {
@@ -115,7 +118,7 @@ class TlsTestToolStepsTest {
 
   private static Method getExtractClientHelloCipherSuitesAsPairsMethod() {
     try {
-      var method = TlsTestToolSteps.class.getDeclaredMethod("extractClientHelloCipherSuitesAsPairs", String.class);
+      var method = TlsTestToolSteps.class.getDeclaredMethod("extractClientHelloCipherSuitesAsPairs", TlsTestToolLog.class);
       method.setAccessible(true);
       return method;
     } catch (NoSuchMethodException e) {
@@ -126,7 +129,7 @@ class TlsTestToolStepsTest {
   @SuppressWarnings("unchecked")
   private static List<TlsTestToolSteps.TlsSupportedGroup> invokeExtractSupportedGroupsHex(String fullLog) {
     try {
-      return (List<TlsTestToolSteps.TlsSupportedGroup>) getExtractSupportedGroupsHexMethod().invoke(null, fullLog);
+      return (List<TlsTestToolSteps.TlsSupportedGroup>) getExtractSupportedGroupsHexMethod().invoke(null, TlsTestToolLog.parse(fullLog));
     } catch (InvocationTargetException e) {
       throw new RuntimeException("extractSupportedGroupsHex invocation failed", e.getCause());
     } catch (IllegalAccessException e) {
@@ -137,7 +140,7 @@ class TlsTestToolStepsTest {
   @SuppressWarnings("unchecked")
   private static List<String> invokeExtractClientHelloCipherSuitesAsPairs(String fullLog) {
     try {
-      return (List<String>) getExtractClientHelloCipherSuitesAsPairsMethod().invoke(null, fullLog);
+      return (List<String>) getExtractClientHelloCipherSuitesAsPairsMethod().invoke(null, TlsTestToolLog.parse(fullLog));
     } catch (InvocationTargetException e) {
       throw new RuntimeException("extractClientHelloCipherSuitesAsPairs invocation failed", e.getCause());
     } catch (IllegalAccessException e) {
@@ -306,4 +309,29 @@ class TlsTestToolStepsTest {
 
     tlsSteps.onlySupportedCipherSuitesArePresent();
   }
+
+  @Test
+  void renegotiationStepsAcceptLogWithRenegotiation() {
+    var tlsSteps = new TlsTestToolSteps();
+    setTlsLogs(tlsSteps, """
+        2026-03-17T08:26:38.499Z\tHIGH\tTLS(TlsClient.cpp:120)\tHandshake successful.
+        2026-03-17T08:26:38.512Z\tHIGH\tTLS(TlsClient.cpp:141)\tPerforming renegotiation.
+        2026-03-17T08:26:38.513Z\tHIGH\tmbedTLS(ssl_tls.c:5012)\t=> renegotiate
+        2026-03-17T08:26:38.540Z\tHIGH\tmbedTLS(ssl_tls.c:4210)\t<= handshake
+        2026-03-17T08:26:38.541Z\tHIGH\tmbedTLS(ssl_tls.c:5068)\t<= renegotiate
+        """);
+
+    assertDoesNotThrow(tlsSteps::checkIfTlsRenegotiationIsTriggered);
+    assertDoesNotThrow(tlsSteps::checkIfTlsRenegotiationIsSuccessful);
+  }
+
+  @Test
+  void renegotiationTriggeredStepFailsWithoutRenegotiation() {
+    var tlsSteps = new TlsTestToolSteps();
+    setTlsLogs(tlsSteps, """
+        2026-03-17T08:26:38.499Z\tHIGH\tTLS(TlsClient.cpp:120)\tHandshake successful.
+        """);
+
+    assertThrows(AssertionError.class, tlsSteps::checkIfTlsRenegotiationIsTriggered);
+  }
 }
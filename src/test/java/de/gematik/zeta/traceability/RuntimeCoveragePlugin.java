@@ -24,19 +24,28 @@
 
 package de.gematik.zeta.traceability;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.cucumber.plugin.ConcurrentEventListener;
 import io.cucumber.plugin.event.EventPublisher;
 import io.cucumber.plugin.event.TestCaseFinished;
 import io.cucumber.plugin.event.TestRunFinished;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
@@ -49,6 +58,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -66,21 +76,18 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   private static final Pattern TEST_ASPECT_TAG = Pattern.compile(
       "^TA_(?:[A-Z0-9]+-)?A_\\d+(?:-\\d+)?_\\d+$",
       Pattern.CASE_INSENSITIVE);
-  private static final Pattern TEST_ASPECT_REQUIREMENT = Pattern.compile(
-      "TA_((?:[A-Z0-9]+-)?A_\\d+(?:-\\d+)?)(?:_\\d+)?",
-      Pattern.CASE_INSENSITIVE);
   private static final String DEFAULT_OUTPUT = "target/traceability/runtime_coverage.csv";
   private static final Path PRODUCT_STATUS_CSV =
       Path.of("docs/asciidoc/tables/source/product_implementation.csv");
   private static final Path TEST_ASPECTS_ROOT = Path.of("docs/asciidoc/testaspekte");
+  private static final Path TEST_ASPECT_CATALOG_CACHE = Path.of("target/traceability/testaspect_catalog.bin");
   private static final String CUCUMBER_OUTPUT_DIR_PROPERTY = "zeta.cucumber.outputDirectory";
   private static final String DEFAULT_CUCUMBER_OUTPUT_DIR = "target/cucumber-parallel";
-  private static final String REQUIREMENT_STATE_FILE = "runtime_coverage_state_afo.csv";
-  private static final String TEST_ASPECT_STATE_FILE = "runtime_coverage_state_ta.csv";
-  private static final String ERROR_STATE_FILE = "runtime_coverage_state_errors.csv";
-  private static final String META_STATE_FILE = "runtime_coverage_state_meta.csv";
-  private static final String LOCK_FILE = "runtime_coverage.lock";
-  private static final String RUN_COUNTER_FILE = "runtime_coverage_run_count.txt";
+  private static final String FRAGMENT_GLOB = "runtime_coverage_fragment_*.bin";
+  private static final String RUN_MARKER_GLOB = "runtime_coverage_run_*.active";
+  private static final String MERGE_CLAIM_FILE = "runtime_coverage_merge.claim";
+  private static final Duration UNREADABLE_MARKER_MAX_AGE = Duration.ofHours(12);
+  private static final int FRAGMENT_MAGIC = 0x52434631;
   private static final String META_OUTPUT_FILE = "runtime_coverage_meta.csv";
   private static final String TEST_ASPECT_OUTPUT_FILE = "runtime_coverage_testaspects.csv";
   private static final String META_TOTAL_ID = "__ALL_SCENARIOS__";
@@ -130,9 +137,10 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   private final Rollup totalStats = new Rollup();
   private final Rollup untaggedStats = new Rollup();
   private final Map<String, ProductInfo> productInfo = new LinkedHashMap<>();
-  private final Map<String, TestAspectInfo> testAspectCatalog = new LinkedHashMap<>();
+  private final TestAspectCatalog testAspectCatalog;
   private final Path outputPath;
   private final ObjectMapper objectMapper = new ObjectMapper();
+  private final String runId = UUID.randomUUID().toString();
 
   /**
    * Creates the plugin using the resolved default output location.
@@ -149,7 +157,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   public RuntimeCoveragePlugin(String outputPath) {
     this.outputPath = Path.of(outputPath);
     loadProductInfo();
-    loadTestAspectCatalog();
+    this.testAspectCatalog = TestAspectCatalog.load(TEST_ASPECTS_ROOT, TEST_ASPECT_CATALOG_CACHE);
     registerRunInstance();
   }
 
@@ -192,82 +200,11 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
     };
   }
 
-  /**
-   * Update the shared run counter and return the new value.
-   *
-   * @param counterPath counter file path
-   * @param delta       delta to apply
-   * @return updated counter value
-   */
-  private static int updateRunCounter(Path counterPath, int delta) throws IOException {
-    var current = readRunCounter(counterPath);
-    var next = Math.max(0, current + delta);
-    Files.createDirectories(counterPath.toAbsolutePath().getParent());
-    try (var writer = Files.newBufferedWriter(counterPath, StandardCharsets.UTF_8)) {
-      writer.write(Integer.toString(next));
-    }
-    return next;
-  }
-
-  /**
-   * Read the current run counter value.
-   *
-   * @param counterPath counter file path
-   * @return current counter value
-   */
-  private static int readRunCounter(Path counterPath) throws IOException {
-    if (!Files.exists(counterPath)) {
-      return 0;
-    }
-    try (var reader = Files.newBufferedReader(counterPath, StandardCharsets.UTF_8)) {
-      return parseInt(reader.readLine());
-    }
-  }
-
-  /**
-   * Delete temporary aggregation state files once the run completes.
-   *
-   * @param requirementStatePath AFO state file path
-   * @param testAspectStatePath  test aspect state file path
-   * @param counterPath          run counter file path
-   */
-  private static void cleanupStateFiles(Path requirementStatePath,
-      Path testAspectStatePath,
-      Path errorStatePath,
-      Path counterPath) {
-    try {
-      Files.deleteIfExists(requirementStatePath);
-      Files.deleteIfExists(testAspectStatePath);
-      Files.deleteIfExists(errorStatePath);
-      Files.deleteIfExists(counterPath);
-    } catch (IOException exception) {
-      log.warn("Unable to delete runtime coverage state files.", exception);
-    }
-  }
-
-  /**
-   * Extract the test aspect title from its Asciidoc header.
-   */
-  private static String readTestAspectTitle(Path path, String id) {
-    try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
-      String line;
-      for (var i = 0; i < 5 && (line = reader.readLine()) != null; i++) {
-        if (line.contains(id) && line.contains(" - ")) {
-          return line.substring(line.indexOf(" - ") + 3).trim();
-        }
-      }
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to read test aspect title from " + path, exception);
-    }
-    return "";
-  }
-
   /**
    * Resolve the AFO id from a TA identifier.
    */
   private static Optional<String> resolveRequirementFromTestAspect(String testAspectId) {
-    var matcher = TEST_ASPECT_REQUIREMENT.matcher(testAspectId);
-    return matcher.find() ? Optional.ofNullable(matcher.group(1)) : Optional.empty();
+    return TestAspectCatalog.requirementOf(testAspectId);
   }
 
   /**
@@ -284,13 +221,6 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
     return tagName == null ? "" : stripTagPrefix(tagName.trim()).toUpperCase();
   }
 
-  /**
-   * Remove the suffix if present.
-   */
-  private static String stripSuffix(String value, String suffix) {
-    return value.endsWith(suffix) ? value.substring(0, value.length() - suffix.length()) : value;
-  }
-
   /**
    * Find a header value ignoring case.
    */
@@ -380,139 +310,121 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   }
 
   /**
-   * Read aggregated run state from disk.
+   * Write this driver's results as a binary fragment. The fragment appears atomically under its final name, so the
+   * merging driver never sees a partial file.
+   *
+   * @param fragmentPath final fragment path
+   * @param requirements per-requirement stats
+   * @param testAspects  per-test-aspect stats
+   * @param meta         run meta stats
+   * @param errors       per-requirement error summaries
    */
-  private static Map<String, Rollup> readState(Path stateFile) {
-    if (!Files.exists(stateFile)) {
-      return new LinkedHashMap<>();
-    }
-    Map<String, Rollup> state = new LinkedHashMap<>();
-    try (var reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
-      var header = reader.readLine();
-      if (header == null) {
-        return state;
-      }
-      String line;
-      while ((line = reader.readLine()) != null) {
-        var fields = parseCsvLine(line);
-        if (fields.size() < 5) {
-          continue;
+  private static void writeFragment(Path fragmentPath,
+      Map<String, Rollup> requirements,
+      Map<String, Rollup> testAspects,
+      Map<String, Rollup> meta,
+      Map<String, Set<String>> errors) throws IOException {
+    var tempFile = fragmentPath.resolveSibling(fragmentPath.getFileName() + ".tmp");
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+      out.writeInt(FRAGMENT_MAGIC);
+      writeRollups(out, requirements);
+      writeRollups(out, testAspects);
+      writeRollups(out, meta);
+      out.writeInt(errors.size());
+      for (var entry : errors.entrySet()) {
+        var messages = List.copyOf(entry.getValue());
+        writeString(out, entry.getKey());
+        out.writeInt(messages.size());
+        for (var message : messages) {
+          writeString(out, message);
         }
-        var id = fields.get(0);
-        if (id == null || id.isBlank()) {
-          continue;
-        }
-        var total = parseInt(fields.get(1));
-        var passed = parseInt(fields.get(2));
-        var failed = parseInt(fields.get(3));
-        var skipped = parseInt(fields.get(4));
-        state.put(id, Rollup.fromCounts(total, passed, failed, skipped));
       }
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to read runtime coverage state", exception);
     }
-    return state;
+    Files.move(tempFile, fragmentPath, StandardCopyOption.ATOMIC_MOVE);
   }
 
   /**
-   * Persist aggregated run state to disk.
+   * Stream one fragment into the merged state.
+   *
+   * @param fragmentPath fragment written by {@link #writeFragment}
+   * @param merged       merge target
    */
-  private static void writeState(Path stateFile, Map<String, Rollup> state) {
-    try {
-      Files.createDirectories(stateFile.toAbsolutePath().getParent());
-      try (var writer = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8)) {
-        writer.write("id,gesamt,bestanden,fehlgeschlagen,uebersprungen");
-        writer.write(System.lineSeparator());
-        for (var entry : state.entrySet()) {
-          var rollup = entry.getValue();
-          writer.append(csv(entry.getKey())).append(',')
-              .append(Integer.toString(rollup.total())).append(',')
-              .append(Integer.toString(rollup.passed())).append(',')
-              .append(Integer.toString(rollup.failed())).append(',')
-              .append(Integer.toString(rollup.skipped()))
-              .append(System.lineSeparator());
+  private static void mergeFragment(Path fragmentPath, MergedCoverage merged) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(fragmentPath)))) {
+      if (in.readInt() != FRAGMENT_MAGIC) {
+        log.warn("Ignoring runtime coverage fragment with unknown format: {}", fragmentPath);
+        return;
+      }
+      mergeRollups(in, merged.requirements());
+      mergeRollups(in, merged.testAspects());
+      mergeRollups(in, merged.meta());
+      var errorIds = in.readInt();
+      for (var i = 0; i < errorIds; i++) {
+        var errors = merged.errors().computeIfAbsent(readString(in), key -> new LinkedHashSet<>());
+        var messages = in.readInt();
+        for (var j = 0; j < messages; j++) {
+          errors.add(readString(in));
         }
       }
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to write runtime coverage state", exception);
     }
   }
 
   /**
-   * Merge per-run stats into the shared state map.
+   * Write a rollup map as id and four counters per entry.
    */
-  private static void mergeState(Map<String, Rollup> target, Map<String, Rollup> additions) {
-    for (var entry : additions.entrySet()) {
-      var rollup = target.computeIfAbsent(entry.getKey(), key -> new Rollup());
-      rollup.add(entry.getValue());
+  private static void writeRollups(DataOutputStream out, Map<String, Rollup> rollups) throws IOException {
+    var snapshot = new LinkedHashMap<>(rollups);
+    out.writeInt(snapshot.size());
+    for (var entry : snapshot.entrySet()) {
+      var rollup = entry.getValue().copy();
+      writeString(out, entry.getKey());
+      out.writeInt(rollup.total());
+      out.writeInt(rollup.passed());
+      out.writeInt(rollup.failed());
+      out.writeInt(rollup.skipped());
     }
   }
 
   /**
-   * Read stored error summaries from disk (per requirement).
+   * Read a rollup map written by {@link #writeRollups} and add it to the target.
    */
-  private static Map<String, Set<String>> readErrors(Path stateFile) {
-    if (!Files.exists(stateFile)) {
-      return new LinkedHashMap<>();
+  private static void mergeRollups(DataInputStream in, Map<String, Rollup> target) throws IOException {
+    var entries = in.readInt();
+    for (var i = 0; i < entries; i++) {
+      var id = readString(in);
+      var rollup = Rollup.fromCounts(in.readInt(), in.readInt(), in.readInt(), in.readInt());
+      target.computeIfAbsent(id, key -> new Rollup()).add(rollup);
     }
-    Map<String, Set<String>> errors = new LinkedHashMap<>();
-    try (var reader = Files.newBufferedReader(stateFile, StandardCharsets.UTF_8)) {
-      var header = reader.readLine();
-      if (header == null) {
-        return errors;
-      }
-      String line;
-      while ((line = reader.readLine()) != null) {
-        var fields = parseCsvLine(line);
-        if (fields.size() < 2) {
-          continue;
-        }
-        var id = defaultString(fields.get(0)).trim();
-        var error = defaultString(fields.get(1)).trim();
-        if (!id.isBlank() && !error.isBlank()) {
-          errors.computeIfAbsent(id, key -> new LinkedHashSet<>()).add(error);
-        }
-      }
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to read runtime coverage errors", exception);
-    }
-    return errors;
   }
 
   /**
-   * Persist error summaries to disk (per requirement).
+   * Write a length-prefixed UTF-8 string; unlike {@code writeUTF} it has no 64 KiB limit.
    */
-  private static void writeErrors(Path stateFile, Map<String, Set<String>> errors) {
-    try {
-      Files.createDirectories(stateFile.toAbsolutePath().getParent());
-      try (var writer = Files.newBufferedWriter(stateFile, StandardCharsets.UTF_8)) {
-        writer.write("id,error");
-        writer.write(System.lineSeparator());
-        for (var entry : errors.entrySet()) {
-          var id = entry.getKey();
-          for (var error : entry.getValue()) {
-            writer.append(csv(id)).append(',')
-                .append(csv(error))
-                .append(System.lineSeparator());
-          }
-        }
-      }
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to write runtime coverage errors", exception);
-    }
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    var bytes = defaultString(value).getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
   }
 
   /**
-   * Merge error summaries (per requirement).
+   * Read a string written by {@link #writeString}.
    */
-  private static void mergeErrors(Map<String, Set<String>> target,
-      Map<String, Set<String>> additions) {
-    if (additions == null || additions.isEmpty()) {
-      return;
+  private static String readString(DataInputStream in) throws IOException {
+    var bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * List the files of a directory matching the glob, sorted by name.
+   */
+  private static List<Path> listFiles(Path directory, String glob) throws IOException {
+    var files = new ArrayList<Path>();
+    try (var stream = Files.newDirectoryStream(directory, glob)) {
+      stream.forEach(files::add);
     }
-    additions.forEach(
-        (key1, value) -> target.computeIfAbsent(key1, key -> new LinkedHashSet<>())
-            .addAll(value));
+    files.sort(null);
+    return files;
   }
 
   /**
@@ -663,48 +575,49 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   }
 
   /**
-   * Merge per-driver state and write the consolidated CSV output.
+   * Write this driver's fragment and, if it is the last active driver, merge all fragments into the CSV output.
+   *
+   * <p>Drivers never block each other: each one writes its own fragment and removes its run marker. The driver that
+   * finds no markers left wins an atomic merge claim and reads every fragment exactly once.</p>
    */
   private void mergeAndWriteCsv() {
     try {
       tryPopulateFromCucumberJson();
       var outputDir = resolveOutputDir();
-      var requirementStatePath = outputDir.resolve(REQUIREMENT_STATE_FILE);
-      var testAspectStatePath = outputDir.resolve(TEST_ASPECT_STATE_FILE);
-      var errorStatePath = outputDir.resolve(ERROR_STATE_FILE);
-      var metaStatePath = outputDir.resolve(META_STATE_FILE);
-      var lockPath = outputDir.resolve(LOCK_FILE);
-      var counterPath = outputDir.resolve(RUN_COUNTER_FILE);
-
-      try (var channel = FileChannel.open(lockPath,
-          StandardOpenOption.CREATE, StandardOpenOption.WRITE);
-          var ignored = channel.lock()) {
-        var mergedRequirements = readState(requirementStatePath);
-        mergeState(mergedRequirements, requirementStats);
-        writeState(requirementStatePath, mergedRequirements);
-
-        var mergedTestAspects = readState(testAspectStatePath);
-        mergeState(mergedTestAspects, testAspectStats);
-        writeState(testAspectStatePath, mergedTestAspects);
-
-        var mergedErrors = readErrors(errorStatePath);
-        mergeErrors(mergedErrors, runErrors);
-        writeErrors(errorStatePath, mergedErrors);
-
-        var mergedMeta = readState(metaStatePath);
-        mergeState(mergedMeta, buildMetaStats());
-        writeState(metaStatePath, mergedMeta);
-
-        writeCsv(outputPath, mergedRequirements, mergedTestAspects, mergedErrors, mergedMeta);
-        writeTestAspectCsv(outputDir.resolve(TEST_ASPECT_OUTPUT_FILE), mergedTestAspects);
-        writeMetaCsv(outputDir.resolve(META_OUTPUT_FILE), mergedMeta);
-        log.info("Runtime coverage CSV written to {}", outputPath);
-
-        var remainingRuns = updateRunCounter(counterPath, -1);
-        if (remainingRuns == 0) {
-          cleanupStateFiles(requirementStatePath, testAspectStatePath, errorStatePath, counterPath);
-          Files.deleteIfExists(metaStatePath);
+      writeFragment(outputDir.resolve("runtime_coverage_fragment_" + runId + ".bin"),
+          requirementStats, testAspectStats, buildMetaStats(), runErrors);
+      Files.deleteIfExists(runMarker(outputDir));
+      if (!activeRunMarkers(outputDir).isEmpty()) {
+        log.debug("Runtime coverage fragment written; a driver still running will merge it.");
+        return;
+      }
+
+      var claimPath = outputDir.resolve(MERGE_CLAIM_FILE);
+      if (!claimMerge(claimPath)) {
+        log.debug("Runtime coverage merge already claimed by another driver.");
+        return;
+      }
+      try {
+        var fragments = listFiles(outputDir, FRAGMENT_GLOB);
+        if (fragments.isEmpty()) {
+          return;
+        }
+        var merged = new MergedCoverage(new LinkedHashMap<>(), new LinkedHashMap<>(), new LinkedHashMap<>(),
+            new LinkedHashMap<>());
+        for (var fragment : fragments) {
+          mergeFragment(fragment, merged);
         }
+
+        writeCsv(outputPath, merged.requirements(), merged.testAspects(), merged.errors(), merged.meta());
+        writeTestAspectCsv(outputDir.resolve(TEST_ASPECT_OUTPUT_FILE), merged.testAspects());
+        writeMetaCsv(outputDir.resolve(META_OUTPUT_FILE), merged.meta());
+        log.info("Runtime coverage CSV written to {} ({} driver fragments)", outputPath, fragments.size());
+
+        for (var fragment : fragments) {
+          Files.deleteIfExists(fragment);
+        }
+      } finally {
+        Files.deleteIfExists(claimPath);
       }
     } catch (IOException exception) {
       throw new UncheckedIOException("Failed to write runtime coverage CSV", exception);
@@ -734,36 +647,23 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   }
 
   /**
-   * Parse one Cucumber JSON report file and record runtime coverage.
+   * Stream one Cucumber JSON report file and record runtime coverage. Only names, lines, tags, step statuses and error
+   * messages are materialized; attachments and other step payloads are skipped, so memory use does not grow with the
+   * report size.
    *
    * @param jsonPath path to the JSON report
    */
   private void readCucumberJson(Path jsonPath) {
-    try {
-      var root = objectMapper.readTree(jsonPath.toFile());
-      if (!root.isArray()) {
+    try (var parser = objectMapper.getFactory().createParser(jsonPath.toFile())) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
         return;
       }
-      for (var feature : root) {
-        var featureUri = feature.path("uri").asText("");
-        var elements = feature.path("elements");
-        if (!elements.isArray()) {
-          continue;
-        }
-        for (var element : elements) {
-          if (!"scenario".equals(element.path("type").asText())) {
-            continue;
-          }
-          var scenarioName = element.path("name").asText("");
-          var scenarioLine = element.path("line").isInt() ? element.path("line").asInt() : null;
-          var tagNames = extractJsonTagNames(element.path("tags"));
-          var scenarioKey = buildScenarioKey(featureUri, scenarioName, scenarioLine, tagNames);
-          if (!seenScenarioKeys.add(scenarioKey)) {
-            continue;
-          }
-          var status = deriveScenarioStatus(element);
-          var requirementIds = recordTagsFromJson(tagNames, status);
-          recordErrorFromJson(element, status, requirementIds);
+      JsonToken token;
+      while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+        if (token == JsonToken.START_OBJECT) {
+          readJsonFeature(parser);
+        } else {
+          parser.skipChildren();
         }
       }
     } catch (IOException exception) {
@@ -773,27 +673,153 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   }
 
   /**
-   * Derive a single scenario status from its step results.
+   * Read one feature object and record its scenarios once the feature URI is known.
    *
-   * @param element scenario JSON element
-   * @return derived scenario status
-   */
-  private ScenarioStatus deriveScenarioStatus(JsonNode element) {
-    var steps = element.path("steps");
-    if (!steps.isArray() || steps.isEmpty()) {
-      return ScenarioStatus.SKIPPED;
-    }
-    var sawSkipped = false;
-    for (var step : steps) {
-      var status = step.path("result").path("status").asText();
-      if ("failed".equalsIgnoreCase(status)) {
-        return ScenarioStatus.FAILED;
+   * @param parser parser positioned on the feature's START_OBJECT
+   */
+  private void readJsonFeature(JsonParser parser) throws IOException {
+    var featureUri = "";
+    var scenarios = new ArrayList<JsonScenario>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var field = parser.currentName();
+      var token = parser.nextToken();
+      if ("uri".equals(field)) {
+        featureUri = scalarText(parser, "");
+      } else if ("elements".equals(field) && token == JsonToken.START_ARRAY) {
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+          if (token == JsonToken.START_OBJECT) {
+            readJsonScenario(parser).ifPresent(scenarios::add);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
       }
-      if ("skipped".equalsIgnoreCase(status)) {
-        sawSkipped = true;
+    }
+    for (var scenario : scenarios) {
+      var scenarioKey = buildScenarioKey(featureUri, scenario.name(), scenario.line(), scenario.tags());
+      if (!seenScenarioKeys.add(scenarioKey)) {
+        continue;
+      }
+      var requirementIds = recordTagsFromJson(scenario.tags(), scenario.status());
+      recordErrorFromJson(scenario, requirementIds);
+    }
+  }
+
+  /**
+   * Read one feature element and derive its scenario status from the step results.
+   *
+   * @param parser parser positioned on the element's START_OBJECT
+   * @return the scenario, or empty for backgrounds and other element types
+   */
+  private Optional<JsonScenario> readJsonScenario(JsonParser parser) throws IOException {
+    var type = "";
+    var name = "";
+    Integer line = null;
+    List<String> tags = List.of();
+    var stepCount = 0;
+    var failed = false;
+    var skipped = false;
+    var error = "";
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var field = parser.currentName();
+      var token = parser.nextToken();
+      switch (field) {
+        case "type" -> type = scalarText(parser, "");
+        case "name" -> name = scalarText(parser, "");
+        case "line" -> {
+          if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT) {
+            line = parser.getIntValue();
+          }
+        }
+        case "tags" -> tags = extractJsonTagNames(objectMapper.readTree(parser));
+        case "steps" -> {
+          if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            continue;
+          }
+          while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+              parser.skipChildren();
+              continue;
+            }
+            var step = readJsonStep(parser);
+            stepCount++;
+            failed |= "failed".equalsIgnoreCase(step.status());
+            skipped |= "skipped".equalsIgnoreCase(step.status());
+            if (error.isBlank() && !step.errorMessage().isBlank()) {
+              error = summarizeJsonError(step.errorMessage(), step.name(), step.line());
+            }
+          }
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    if (!"scenario".equals(type)) {
+      return Optional.empty();
+    }
+    ScenarioStatus status;
+    if (stepCount == 0) {
+      status = ScenarioStatus.SKIPPED;
+    } else if (failed) {
+      status = ScenarioStatus.FAILED;
+    } else {
+      status = skipped ? ScenarioStatus.SKIPPED : ScenarioStatus.PASSED;
+    }
+    return Optional.of(new JsonScenario(name, line, tags, status, error));
+  }
+
+  /**
+   * Read the name, line, status and error message of one step; embeddings and arguments are skipped.
+   *
+   * @param parser parser positioned on the step's START_OBJECT
+   * @return step summary
+   */
+  private JsonStep readJsonStep(JsonParser parser) throws IOException {
+    var name = "";
+    var line = -1;
+    var status = "";
+    var errorMessage = "";
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      var field = parser.currentName();
+      var token = parser.nextToken();
+      if ("name".equals(field)) {
+        name = scalarText(parser, "");
+      } else if ("line".equals(field)) {
+        line = token.isNumeric() ? parser.getValueAsInt(-1) : -1;
+      } else if ("result".equals(field) && token == JsonToken.START_OBJECT) {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          var resultField = parser.currentName();
+          parser.nextToken();
+          if ("status".equals(resultField)) {
+            status = scalarText(parser, "");
+          } else if ("error_message".equals(resultField)) {
+            errorMessage = scalarText(parser, "");
+          } else {
+            parser.skipChildren();
+          }
+        }
+      } else {
+        parser.skipChildren();
       }
     }
-    return sawSkipped ? ScenarioStatus.SKIPPED : ScenarioStatus.PASSED;
+    return new JsonStep(name, line, status, errorMessage);
+  }
+
+  /**
+   * Return the current scalar value as text, skipping structured values.
+   *
+   * @param parser       parser positioned on a value token
+   * @param defaultValue value for null and structured values
+   * @return scalar text or the default
+   */
+  private static String scalarText(JsonParser parser, String defaultValue) throws IOException {
+    if (parser.currentToken().isScalarValue()) {
+      return parser.getValueAsString(defaultValue);
+    }
+    parser.skipChildren();
+    return defaultValue;
   }
 
   /**
@@ -850,43 +876,19 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   /**
    * Record scenario errors based on Cucumber JSON data.
    *
-   * @param element        scenario JSON element
-   * @param status         derived scenario status
+   * @param scenario       scenario read from the report
    * @param requirementIds resolved AFO identifiers
    */
-  private void recordErrorFromJson(JsonNode element,
-      ScenarioStatus status,
-      Set<String> requirementIds) {
-    if (status != ScenarioStatus.FAILED) {
+  private void recordErrorFromJson(JsonScenario scenario, Set<String> requirementIds) {
+    if (scenario.status() != ScenarioStatus.FAILED) {
       return;
     }
     if (requirementIds == null || requirementIds.isEmpty()) {
       return;
     }
-    var scenarioName = element.path("name").asText("");
-    var error = "";
-    var steps = element.path("steps");
-    if (steps.isArray()) {
-      for (var step : steps) {
-        var stepError = step.path("result").path("error_message").asText();
-        if (!stepError.isBlank()) {
-          var stepName = step.path("name").asText("");
-          var stepLine = step.path("line").asInt(-1);
-          error = summarizeJsonError(stepError, stepName, stepLine);
-          break;
-        }
-      }
-    }
-    if (error.isBlank()) {
-      error = "Unbekannter Fehler";
-    }
-    if (!scenarioName.isBlank()) {
-      var summary = scenarioName + " -> " + error;
-      requirementIds.forEach(id -> addError(id, summary));
-    } else {
-      var summary = error;
-      requirementIds.forEach(id -> addError(id, summary));
-    }
+    var error = scenario.error().isBlank() ? "Unbekannter Fehler" : scenario.error();
+    var summary = scenario.name().isBlank() ? error : scenario.name() + " -> " + error;
+    requirementIds.forEach(id -> addError(id, summary));
   }
 
   /**
@@ -952,7 +954,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
           .append(Integer.toString(untagged.total()))
           .append(System.lineSeparator());
     }
-    Files.move(tempFile, outputFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
   }
 
   /**
@@ -1004,23 +1006,136 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
   }
 
   /**
-   * Register this plugin instance as active for cleanup coordination.
+   * Register this plugin instance as active by creating its run marker. The first driver of a run also removes
+   * fragments and merge claims left behind by an aborted earlier run.
    */
   private void registerRunInstance() {
     try {
       var outputDir = resolveOutputDir();
-      var lockPath = outputDir.resolve(LOCK_FILE);
-      var counterPath = outputDir.resolve(RUN_COUNTER_FILE);
-      try (var channel = FileChannel.open(lockPath,
-          StandardOpenOption.CREATE, StandardOpenOption.WRITE);
-          var ignored = channel.lock()) {
-        updateRunCounter(counterPath, 1);
+      writeOwnerFile(runMarker(outputDir));
+      if (activeRunMarkers(outputDir).size() == 1) {
+        for (var staleFragment : listFiles(outputDir, FRAGMENT_GLOB)) {
+          Files.deleteIfExists(staleFragment);
+        }
+        Files.deleteIfExists(outputDir.resolve(MERGE_CLAIM_FILE));
       }
     } catch (IOException exception) {
       throw new UncheckedIOException("Failed to register runtime coverage run", exception);
     }
   }
 
+  /**
+   * List the run markers of drivers that are still alive. Markers of JVMs that were killed or aborted before the
+   * run finished are deleted, so they cannot block the merge of later runs.
+   *
+   * @param outputDir coverage output directory
+   * @return markers of live drivers
+   */
+  private static List<Path> activeRunMarkers(Path outputDir) throws IOException {
+    var active = new ArrayList<Path>();
+    for (var marker : listFiles(outputDir, RUN_MARKER_GLOB)) {
+      if (isStale(marker)) {
+        log.info("Removing stale runtime coverage run marker {}", marker.getFileName());
+        Files.deleteIfExists(marker);
+      } else {
+        active.add(marker);
+      }
+    }
+    return active;
+  }
+
+  /**
+   * Atomically claim the merge. A claim left behind by a driver that died while merging is removed and claimed again.
+   *
+   * @param claimPath merge claim file
+   * @return {@code true} if this driver owns the claim
+   */
+  private static boolean claimMerge(Path claimPath) throws IOException {
+    try {
+      writeOwnerFile(claimPath);
+      return true;
+    } catch (FileAlreadyExistsException alreadyClaimed) {
+      if (!isStale(claimPath)) {
+        return false;
+      }
+      log.info("Removing stale runtime coverage merge claim {}", claimPath.getFileName());
+      Files.deleteIfExists(claimPath);
+      try {
+        writeOwnerFile(claimPath);
+        return true;
+      } catch (FileAlreadyExistsException claimedMeanwhile) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Create a marker or claim file that records the PID and start time of the owning JVM.
+   *
+   * @param path file to create
+   * @throws FileAlreadyExistsException if the file already exists
+   */
+  private static void writeOwnerFile(Path path) throws IOException {
+    var self = ProcessHandle.current();
+    var content = "pid=" + self.pid() + System.lineSeparator()
+        + "started=" + self.info().startInstant().map(Instant::toEpochMilli).orElse(0L) + System.lineSeparator();
+    Files.writeString(path, content, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+  }
+
+  /**
+   * Decide whether a marker or claim file belongs to a JVM that no longer runs. The owner is identified by PID and
+   * start time, so a reused PID does not keep a marker alive. Files without readable owner information, e.g. from an
+   * older plugin version or caught mid-write, only expire after {@link #UNREADABLE_MARKER_MAX_AGE}.
+   *
+   * @param path marker or claim file
+   * @return {@code true} if the owner is gone
+   */
+  private static boolean isStale(Path path) throws IOException {
+    var owner = new Properties();
+    try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      owner.load(reader);
+    } catch (NoSuchFileException removed) {
+      return false;
+    }
+    Long pid = parseLong(owner.getProperty("pid"));
+    Long started = parseLong(owner.getProperty("started"));
+    if (pid == null) {
+      try {
+        var age = Duration.between(Files.getLastModifiedTime(path).toInstant(), Instant.now());
+        return age.compareTo(UNREADABLE_MARKER_MAX_AGE) > 0;
+      } catch (NoSuchFileException removed) {
+        return false;
+      }
+    }
+    var owningProcess = ProcessHandle.of(pid)
+        .filter(ProcessHandle::isAlive)
+        .filter(process -> started == null || started == 0L || process.info().startInstant()
+            .map(instant -> instant.toEpochMilli() == started)
+            .orElse(true));
+    return owningProcess.isEmpty();
+  }
+
+  private static Long parseLong(String value) {
+    if (value == null || value.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.valueOf(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Resolve the run marker of this plugin instance.
+   *
+   * @param outputDir coverage output directory
+   * @return marker path
+   */
+  private Path runMarker(Path outputDir) {
+    return outputDir.resolve("runtime_coverage_run_" + runId + ".active");
+  }
+
   /**
    * Resolve and create the output directory for coverage artifacts.
    *
@@ -1055,7 +1170,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
 
       writeRequirements(writer, mergedRequirements, mergedTestAspects, mergedErrors, mergedMeta);
     }
-    Files.move(tempFile, outputFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
   }
 
   /**
@@ -1072,7 +1187,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
       writer.write(String.join(",", TEST_ASPECT_HEADERS));
       writer.write(System.lineSeparator());
 
-      Set<String> ids = new LinkedHashSet<>(testAspectCatalog.keySet());
+      Set<String> ids = new LinkedHashSet<>(testAspectCatalog.ids());
       mergedTestAspects.keySet().stream()
           .filter(id -> !ids.contains(id))
           .sorted()
@@ -1095,7 +1210,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
             .append(System.lineSeparator());
       }
     }
-    Files.move(tempFile, outputFile, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    Files.move(tempFile, outputFile, StandardCopyOption.REPLACE_EXISTING);
   }
 
   /**
@@ -1253,28 +1368,6 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
     }
   }
 
-  /**
-   * Load the test aspect catalog from generated Asciidoc files.
-   */
-  private void loadTestAspectCatalog() {
-    if (!Files.exists(TEST_ASPECTS_ROOT)) {
-      return;
-    }
-    try (var paths = Files.walk(TEST_ASPECTS_ROOT)) {
-      paths.filter(Files::isRegularFile)
-          .filter(path -> path.getFileName().toString().startsWith("TA_"))
-          .filter(path -> path.getFileName().toString().endsWith(".adoc"))
-          .forEach(path -> {
-            var id = stripSuffix(path.getFileName().toString(), ".adoc");
-            var title = readTestAspectTitle(path, id);
-            var requirementId = resolveRequirementFromTestAspect(id).orElse("");
-            testAspectCatalog.put(id, new TestAspectInfo(id, title, requirementId));
-          });
-    } catch (IOException exception) {
-      throw new UncheckedIOException("Unable to read test aspect catalog", exception);
-    }
-  }
-
   /**
    * Compute the passed/total test aspect coverage for an AFO.
    */
@@ -1285,10 +1378,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
     }
     var total = 0;
     var passed = 0;
-    for (var info : testAspectCatalog.values()) {
-      if (!Objects.equals(requirementId, info.requirementId())) {
-        continue;
-      }
+    for (var info : testAspectCatalog.forRequirement(requirementId)) {
       total++;
       var rollup = mergedTestAspects.getOrDefault(info.id(), Rollup.empty());
       if (rollup.isPassed()) {
@@ -1310,10 +1400,7 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
       return null;
     }
     var implemented = 0;
-    for (var info : testAspectCatalog.values()) {
-      if (!Objects.equals(requirementId, info.requirementId())) {
-        continue;
-      }
+    for (var info : testAspectCatalog.forRequirement(requirementId)) {
       var rollup = mergedTestAspects.getOrDefault(info.id(), Rollup.empty());
       if (rollup.total() > 0) {
         implemented++;
@@ -1461,6 +1548,47 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
     }
   }
 
+  /**
+   * Scenario summary streamed from a Cucumber JSON report.
+   *
+   * @param name   scenario name
+   * @param line   scenario line, if reported
+   * @param tags   scenario tag names
+   * @param status derived scenario status
+   * @param error  summary of the first step error, empty if none
+   */
+  private record JsonScenario(String name, Integer line, List<String> tags, ScenarioStatus status, String error) {
+
+  }
+
+  /**
+   * Step summary streamed from a Cucumber JSON report.
+   *
+   * @param name         step text
+   * @param line         step line or -1
+   * @param status       step result status
+   * @param errorMessage step error message, empty if none
+   */
+  private record JsonStep(String name, int line, String status, String errorMessage) {
+
+  }
+
+  /**
+   * Coverage state merged from all driver fragments.
+   *
+   * @param requirements per-requirement stats
+   * @param testAspects  per-test-aspect stats
+   * @param meta         run meta stats
+   * @param errors       per-requirement error summaries
+   */
+  private record MergedCoverage(
+      Map<String, Rollup> requirements,
+      Map<String, Rollup> testAspects,
+      Map<String, Rollup> meta,
+      Map<String, Set<String>> errors) {
+
+  }
+
   /**
    * Stores product implementation metadata per requirement.
    *
@@ -1497,40 +1625,6 @@ public final class RuntimeCoveragePlugin implements ConcurrentEventListener {
 
   }
 
-  /**
-   * Stores metadata for a test aspect entry.
-   *
-   * @param id            test aspect identifier
-   * @param title         test aspect title
-   * @param requirementId linked requirement identifier
-   */
-  private record TestAspectInfo(
-      String id,
-      String title,
-      String requirementId) {
-
-    /**
-     * Return the test aspect identifier.
-     *
-     * @return test aspect identifier
-     */
-    @Override
-    public String id() {
-      return id;
-    }
-
-    /**
-     * Return the linked requirement identifier.
-     *
-     * @return linked requirement identifier
-     */
-    @Override
-    public String requirementId() {
-      return requirementId;
-    }
-
-  }
-
   /**
    * Summarizes test aspect coverage counts.
    *
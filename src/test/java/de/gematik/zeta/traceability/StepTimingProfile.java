@@ -0,0 +1,299 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Aggregates step and hook durations of a test run by step-definition pattern and writes a ranked profile.
+ *
+ * <p>Three files are written: {@value #CSV_FILE} and {@value #JSON_FILE} rank patterns by their total wall-clock time,
+ * the JSON additionally carries a latency histogram per pattern. {@value #FOLDED_FILE} contains
+ * {@code feature;scenario;step micros} lines that flame-graph tools consume directly.</p>
+ */
+@Slf4j
+public final class StepTimingProfile {
+
+  public static final String CSV_FILE = "step_profile.csv";
+  public static final String JSON_FILE = "step_profile.json";
+  public static final String FOLDED_FILE = "step_profile.folded";
+
+  private static final long[] HISTOGRAM_BOUNDS_MS = {10, 50, 100, 500, 1_000, 5_000, 10_000, 30_000, 60_000};
+  private static final long NANOS_PER_MILLI = 1_000_000L;
+  private static final StepTimingProfile SHARED = new StepTimingProfile();
+
+  private final Map<String, StepStats> stats = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> foldedMicros = new ConcurrentHashMap<>();
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  /**
+   * Returns the JVM-wide profile so runs split across several Cucumber drivers end up in one report.
+   *
+   * @return shared profile
+   */
+  public static StepTimingProfile shared() {
+    return SHARED;
+  }
+
+  /**
+   * Records one finished step or hook.
+   *
+   * @param kind     {@code step} or the hook type, e.g. {@code before}
+   * @param key      step-definition pattern or hook location
+   * @param feature  feature the step belongs to
+   * @param scenario scenario the step belongs to
+   * @param nanos    measured duration in nanoseconds
+   * @param failed   whether the step failed
+   */
+  public void record(String kind, String key, String feature, String scenario, long nanos, boolean failed) {
+    stats.computeIfAbsent(kind + '\u0000' + key, ignored -> new StepStats(kind, key)).add(nanos, failed);
+    foldedMicros.computeIfAbsent(frame(feature) + ';' + frame(scenario) + ';' + frame(key), ignored -> new LongAdder())
+        .add(nanos / 1_000);
+  }
+
+  /**
+   * Returns all patterns ranked by total time, slowest first.
+   *
+   * @return ranked profile entries
+   */
+  public List<Entry> entries() {
+    return stats.values().stream()
+        .map(StepStats::toEntry)
+        .sorted(Comparator.comparingLong(Entry::totalNanos).reversed())
+        .toList();
+  }
+
+  /**
+   * Writes the CSV, JSON and folded-stack files into the given directory, replacing earlier versions.
+   *
+   * @param outputDir target directory (created if missing)
+   * @throws IOException if a file cannot be written
+   */
+  public void write(Path outputDir) throws IOException {
+    Files.createDirectories(outputDir);
+    var entries = entries();
+    long runNanos = entries.stream().mapToLong(Entry::totalNanos).sum();
+    writeCsv(outputDir.resolve(CSV_FILE), entries, runNanos);
+    writeJson(outputDir.resolve(JSON_FILE), entries, runNanos);
+    writeFolded(outputDir.resolve(FOLDED_FILE));
+    log.info("Step timing profile written to {} ({} patterns, {} ms total)",
+        outputDir, entries.size(), runNanos / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Writes the ranked CSV.
+   *
+   * @param file     target file
+   * @param entries  ranked entries
+   * @param runNanos summed duration of all entries
+   * @throws IOException if writing fails
+   */
+  private void writeCsv(Path file, List<Entry> entries, long runNanos) throws IOException {
+    CSVFormat format = CSVFormat.DEFAULT.builder()
+        .setHeader("rank", "kind", "step", "count", "failures", "total_ms", "share_pct", "mean_ms", "p50_ms",
+            "p90_ms", "p99_ms", "max_ms")
+        .build();
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        CSVPrinter printer = format.print(writer)) {
+      int rank = 1;
+      for (Entry entry : entries) {
+        printer.printRecord(
+            rank++,
+            entry.kind(),
+            entry.key(),
+            entry.count(),
+            entry.failures(),
+            millis(entry.totalNanos()),
+            String.format(Locale.ROOT, "%.2f", share(entry.totalNanos(), runNanos)),
+            millis(entry.totalNanos() / Math.max(1, entry.count())),
+            millis(entry.p50Nanos()),
+            millis(entry.p90Nanos()),
+            millis(entry.p99Nanos()),
+            millis(entry.maxNanos()));
+      }
+    }
+  }
+
+  /**
+   * Writes the ranked JSON including histograms.
+   *
+   * @param file     target file
+   * @param entries  ranked entries
+   * @param runNanos summed duration of all entries
+   * @throws IOException if writing fails
+   */
+  private void writeJson(Path file, List<Entry> entries, long runNanos) throws IOException {
+    List<Map<String, Object>> steps = new ArrayList<>();
+    for (Entry entry : entries) {
+      Map<String, Object> step = new LinkedHashMap<>();
+      step.put("kind", entry.kind());
+      step.put("step", entry.key());
+      step.put("count", entry.count());
+      step.put("failures", entry.failures());
+      step.put("totalNanos", entry.totalNanos());
+      step.put("sharePct", share(entry.totalNanos(), runNanos));
+      step.put("minNanos", entry.minNanos());
+      step.put("p50Nanos", entry.p50Nanos());
+      step.put("p90Nanos", entry.p90Nanos());
+      step.put("p99Nanos", entry.p99Nanos());
+      step.put("maxNanos", entry.maxNanos());
+      List<Map<String, Object>> histogram = new ArrayList<>();
+      for (int i = 0; i < entry.histogram().length; i++) {
+        Map<String, Object> bucket = new LinkedHashMap<>();
+        bucket.put("leMs", i < HISTOGRAM_BOUNDS_MS.length ? HISTOGRAM_BOUNDS_MS[i] : null);
+        bucket.put("count", entry.histogram()[i]);
+        histogram.add(bucket);
+      }
+      step.put("histogram", histogram);
+      steps.add(step);
+    }
+
+    Map<String, Object> root = new LinkedHashMap<>();
+    root.put("generatedAt", Instant.now().toString());
+    root.put("totalNanos", runNanos);
+    root.put("steps", steps);
+    objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), root);
+  }
+
+  /**
+   * Writes the folded stacks, sorted for stable diffs between runs.
+   *
+   * @param file target file
+   * @throws IOException if writing fails
+   */
+  private void writeFolded(Path file) throws IOException {
+    List<String> lines = new ArrayList<>();
+    new TreeMap<>(foldedMicros).forEach((stack, micros) -> lines.add(stack + ' ' + micros.sum()));
+    Files.write(file, lines, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Makes a name usable as a folded-stack frame, which must not contain separators or line breaks.
+   *
+   * @param name frame name
+   * @return sanitized frame
+   */
+  private static String frame(String name) {
+    return name == null || name.isBlank()
+        ? "<unknown>"
+        : name.replace(';', ',').replace('\n', ' ').replace('\r', ' ').trim();
+  }
+
+  private static String millis(long nanos) {
+    return String.format(Locale.ROOT, "%.3f", nanos / (double) NANOS_PER_MILLI);
+  }
+
+  private static double share(long nanos, long runNanos) {
+    return runNanos == 0 ? 0.0 : 100.0 * nanos / runNanos;
+  }
+
+  /**
+   * Ranked timing of one step pattern or hook.
+   *
+   * @param kind       {@code step} or hook type
+   * @param key        step-definition pattern or hook location
+   * @param count      number of executions
+   * @param failures   failed executions
+   * @param totalNanos summed duration
+   * @param minNanos   shortest duration
+   * @param p50Nanos   median duration
+   * @param p90Nanos   90th percentile
+   * @param p99Nanos   99th percentile
+   * @param maxNanos   longest duration
+   * @param histogram  execution counts per {@link #HISTOGRAM_BOUNDS_MS} bucket, last bucket unbounded
+   */
+  public record Entry(String kind, String key, int count, int failures, long totalNanos, long minNanos,
+                      long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos, long[] histogram) {
+
+  }
+
+  /**
+   * Raw samples of one pattern. Runs have at most a few thousand steps, so exact samples are kept.
+   */
+  private static final class StepStats {
+
+    private final String kind;
+    private final String key;
+    private long[] samples = new long[8];
+    private int count;
+    private int failures;
+
+    private StepStats(String kind, String key) {
+      this.kind = kind;
+      this.key = key;
+    }
+
+    private synchronized void add(long nanos, boolean failed) {
+      if (count == samples.length) {
+        samples = Arrays.copyOf(samples, count * 2);
+      }
+      samples[count++] = nanos;
+      if (failed) {
+        failures++;
+      }
+    }
+
+    private synchronized Entry toEntry() {
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      long[] histogram = new long[HISTOGRAM_BOUNDS_MS.length + 1];
+      long total = 0;
+      for (long nanos : sorted) {
+        total += nanos;
+        int bucket = 0;
+        while (bucket < HISTOGRAM_BOUNDS_MS.length && nanos > HISTOGRAM_BOUNDS_MS[bucket] * NANOS_PER_MILLI) {
+          bucket++;
+        }
+        histogram[bucket]++;
+      }
+      return new Entry(kind, key, count, failures, total, sorted[0], percentile(sorted, 0.50),
+          percentile(sorted, 0.90), percentile(sorted, 0.99), sorted[count - 1], histogram);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+      int index = Math.min((int) Math.ceil(percentile * sorted.length) - 1, sorted.length - 1);
+      return sorted[Math.max(0, index)];
+    }
+  }
+}
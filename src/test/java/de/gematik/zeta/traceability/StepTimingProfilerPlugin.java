@@ -0,0 +1,173 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability;
+
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.HookTestStep;
+import io.cucumber.plugin.event.PickleStepTestStep;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestStep;
+import io.cucumber.plugin.event.TestStepFinished;
+import io.cucumber.plugin.event.TestStepStarted;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Measures every step and hook with {@link System#nanoTime()} and writes a ranked step profile when the run finishes.
+ *
+ * <p>Durations are aggregated by step-definition pattern in the JVM-wide {@link StepTimingProfile}, so the profile
+ * covers all features even when Maven splits them across several drivers. Output goes to
+ * {@code zeta.step.profile.dir} / {@code ZETA_STEP_PROFILE_DIR}, default {@value #DEFAULT_OUTPUT_DIR}.</p>
+ */
+@Slf4j
+public final class StepTimingProfilerPlugin implements ConcurrentEventListener {
+
+  private static final String DEFAULT_OUTPUT_DIR = "target/step-profile";
+  private static final String STEP_KIND = "step";
+
+  private final Map<StepKey, Long> startedNanos = new ConcurrentHashMap<>();
+  private final StepTimingProfile profile;
+  private final Path outputDir;
+
+  /**
+   * Creates the plugin writing the shared profile to the resolved output directory.
+   */
+  public StepTimingProfilerPlugin() {
+    this(StepTimingProfile.shared(), resolveOutputDir());
+  }
+
+  /**
+   * Creates the plugin with an explicit profile and output directory.
+   *
+   * @param profile   aggregation target
+   * @param outputDir directory receiving the profile files
+   */
+  public StepTimingProfilerPlugin(StepTimingProfile profile, Path outputDir) {
+    this.profile = profile;
+    this.outputDir = outputDir;
+  }
+
+  /**
+   * Resolve the output directory from system properties or the environment.
+   */
+  private static Path resolveOutputDir() {
+    return Path.of(Optional.ofNullable(System.getProperty("zeta.step.profile.dir"))
+        .filter(value -> !value.isBlank())
+        .orElseGet(() -> Optional.ofNullable(System.getenv("ZETA_STEP_PROFILE_DIR"))
+            .filter(value -> !value.isBlank())
+            .orElse(DEFAULT_OUTPUT_DIR)));
+  }
+
+  /**
+   * Register the plugin handlers with the Cucumber event publisher.
+   *
+   * @param publisher event publisher provided by Cucumber
+   */
+  @Override
+  public void setEventPublisher(EventPublisher publisher) {
+    log.debug("Step timing profiler registered (output: {}).", outputDir);
+    publisher.registerHandlerFor(TestStepStarted.class, this::handleTestStepStarted);
+    publisher.registerHandlerFor(TestStepFinished.class, this::handleTestStepFinished);
+    publisher.registerHandlerFor(TestRunFinished.class, this::handleTestRunFinished);
+  }
+
+  /**
+   * Remember the start of a step or hook.
+   *
+   * @param event started test step event
+   */
+  private void handleTestStepStarted(TestStepStarted event) {
+    startedNanos.put(StepKey.of(event.getTestCase(), event.getTestStep()), System.nanoTime());
+  }
+
+  /**
+   * Record the duration of an executed step or hook. Skipped and undefined steps did not run and are ignored.
+   *
+   * @param event finished test step event
+   */
+  private void handleTestStepFinished(TestStepFinished event) {
+    long finishedNanos = System.nanoTime();
+    Long started = startedNanos.remove(StepKey.of(event.getTestCase(), event.getTestStep()));
+    Status status = event.getResult().getStatus();
+    if (started == null || status == Status.SKIPPED || status == Status.UNDEFINED) {
+      return;
+    }
+
+    TestCase testCase = event.getTestCase();
+    TestStep step = event.getTestStep();
+    String kind = STEP_KIND;
+    String key;
+    if (step instanceof PickleStepTestStep pickleStep) {
+      key = Optional.ofNullable(pickleStep.getPattern()).orElse(pickleStep.getStep().getText());
+    } else if (step instanceof HookTestStep hookStep) {
+      kind = hookStep.getHookType().name().toLowerCase(Locale.ROOT);
+      key = kind + " hook " + hookStep.getCodeLocation();
+    } else {
+      key = step.getCodeLocation();
+    }
+    profile.record(kind, key, featureName(testCase), testCase.getName(), finishedNanos - started,
+        status == Status.FAILED);
+  }
+
+  /**
+   * Write the profile; later drivers in the same JVM overwrite it with the extended aggregate.
+   *
+   * @param event test run finished event
+   */
+  private void handleTestRunFinished(TestRunFinished event) {
+    try {
+      profile.write(outputDir);
+    } catch (IOException exception) {
+      log.warn("Unable to write step timing profile to {}.", outputDir, exception);
+    }
+  }
+
+  /**
+   * Derive a short feature name from the test case URI.
+   */
+  private static String featureName(TestCase testCase) {
+    if (testCase.getUri() == null) {
+      return "";
+    }
+    String path = testCase.getUri().toString();
+    return path.substring(path.lastIndexOf('/') + 1);
+  }
+
+  private record StepKey(UUID testCase, UUID testStep) {
+
+    private static StepKey of(TestCase testCase, TestStep testStep) {
+      return new StepKey(testCase.getId(), testStep.getId());
+    }
+  }
+}
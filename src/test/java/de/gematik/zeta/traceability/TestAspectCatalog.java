@@ -0,0 +1,272 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Catalog of test aspects parsed from the generated {@code TA_*.adoc} files, indexed by id and by requirement.
+ *
+ * <p>Parsing opens every aspect file, so the result is cached in a binary file. The cache is keyed by the number
+ * of aspect files and the latest modification time in the catalog tree; a stat-only walk decides whether it is still
+ * valid. On a miss the files are parsed in parallel.</p>
+ */
+@Slf4j
+public final class TestAspectCatalog {
+
+  private static final Pattern TEST_ASPECT_REQUIREMENT = Pattern.compile(
+      "TA_((?:[A-Z0-9]+-)?A_\\d+(?:-\\d+)?)(?:_\\d+)?",
+      Pattern.CASE_INSENSITIVE);
+  private static final int CACHE_MAGIC = 0x54414331;
+  private static final int TITLE_SEARCH_LINES = 5;
+  private static final TestAspectCatalog EMPTY = new TestAspectCatalog(List.of());
+
+  private final Map<String, Entry> byId = new LinkedHashMap<>();
+  private final Map<String, List<Entry>> byRequirement = new LinkedHashMap<>();
+
+  private TestAspectCatalog(List<Entry> entries) {
+    for (var entry : entries) {
+      byId.put(entry.id(), entry);
+      byRequirement.computeIfAbsent(entry.requirementId(), key -> new ArrayList<>()).add(entry);
+    }
+  }
+
+  /**
+   * Returns an empty catalog.
+   *
+   * @return catalog without aspects
+   */
+  public static TestAspectCatalog empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Loads the catalog below {@code root}, reusing {@code cacheFile} if the tree is unchanged since it was written.
+   *
+   * @param root      directory containing {@code TA_*.adoc} files (searched recursively)
+   * @param cacheFile cache location; rewritten after a miss
+   * @return loaded catalog, empty if {@code root} does not exist
+   */
+  public static TestAspectCatalog load(Path root, Path cacheFile) {
+    if (!Files.exists(root)) {
+      return EMPTY;
+    }
+    var scan = scan(root);
+    var cached = readCache(cacheFile, root, scan);
+    if (cached.isPresent()) {
+      log.debug("Test aspect catalog loaded from cache {} ({} aspects).", cacheFile, cached.get().size());
+      return new TestAspectCatalog(cached.get());
+    }
+
+    var entries = scan.files().parallelStream()
+        .map(TestAspectCatalog::parse)
+        .toList();
+    writeCache(cacheFile, root, scan, entries);
+    log.debug("Test aspect catalog parsed from {} ({} aspects).", root, entries.size());
+    return new TestAspectCatalog(entries);
+  }
+
+  /**
+   * Resolves the requirement a test aspect belongs to, e.g. {@code A_12345} for {@code TA_A_12345_01}.
+   *
+   * @param testAspectId test aspect identifier
+   * @return requirement identifier if the id follows the naming scheme
+   */
+  public static Optional<String> requirementOf(String testAspectId) {
+    var matcher = TEST_ASPECT_REQUIREMENT.matcher(testAspectId);
+    return matcher.find() ? Optional.ofNullable(matcher.group(1)) : Optional.empty();
+  }
+
+  /**
+   * Returns whether the catalog contains no aspects.
+   *
+   * @return {@code true} if empty
+   */
+  public boolean isEmpty() {
+    return byId.isEmpty();
+  }
+
+  /**
+   * Returns all aspect ids in catalog order.
+   *
+   * @return aspect ids
+   */
+  public Set<String> ids() {
+    return Collections.unmodifiableSet(byId.keySet());
+  }
+
+  /**
+   * Looks up one aspect.
+   *
+   * @param id test aspect identifier
+   * @return aspect or {@code null} if unknown
+   */
+  public Entry get(String id) {
+    return byId.get(id);
+  }
+
+  /**
+   * Returns the aspects of one requirement.
+   *
+   * @param requirementId requirement identifier
+   * @return aspects in catalog order, empty if none
+   */
+  public List<Entry> forRequirement(String requirementId) {
+    return byRequirement.getOrDefault(requirementId, List.of());
+  }
+
+  /**
+   * Collect aspect files and the cache key with a stat-only walk.
+   */
+  private static Scan scan(Path root) {
+    var files = new ArrayList<Path>();
+    long latestModified = 0;
+    try (Stream<Path> paths = Files.walk(root)) {
+      for (var path : (Iterable<Path>) paths::iterator) {
+        latestModified = Math.max(latestModified, Files.getLastModifiedTime(path).toMillis());
+        var name = path.getFileName().toString();
+        if (name.startsWith("TA_") && name.endsWith(".adoc") && Files.isRegularFile(path)) {
+          files.add(path);
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read test aspect catalog", exception);
+    }
+    return new Scan(files, latestModified);
+  }
+
+  /**
+   * Parse one aspect file.
+   */
+  private static Entry parse(Path path) {
+    var fileName = path.getFileName().toString();
+    var id = fileName.substring(0, fileName.length() - ".adoc".length());
+    return new Entry(id, readTitle(path, id), requirementOf(id).orElse(""));
+  }
+
+  /**
+   * Extract the test aspect title from its Asciidoc header.
+   */
+  private static String readTitle(Path path, String id) {
+    try (var reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+      String line;
+      for (var i = 0; i < TITLE_SEARCH_LINES && (line = reader.readLine()) != null; i++) {
+        if (line.contains(id) && line.contains(" - ")) {
+          return line.substring(line.indexOf(" - ") + 3).trim();
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read test aspect title from " + path, exception);
+    }
+    return "";
+  }
+
+  /**
+   * Read the cached entries if the cache was written for the same tree state.
+   */
+  private static Optional<List<Entry>> readCache(Path cacheFile, Path root, Scan scan) {
+    if (!Files.isRegularFile(cacheFile)) {
+      return Optional.empty();
+    }
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+      if (in.readInt() != CACHE_MAGIC
+          || !root.toAbsolutePath().normalize().toString().equals(in.readUTF())
+          || in.readInt() != scan.files().size()
+          || in.readLong() != scan.latestModified()) {
+        return Optional.empty();
+      }
+      var size = scan.files().size();
+      var entries = new ArrayList<Entry>(size);
+      for (var i = 0; i < size; i++) {
+        entries.add(new Entry(in.readUTF(), in.readUTF(), in.readUTF()));
+      }
+      return Optional.of(entries);
+    } catch (IOException exception) {
+      log.debug("Ignoring unreadable test aspect catalog cache {}.", cacheFile, exception);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Write the cache; failures only cost the next run a re-parse.
+   */
+  private static void writeCache(Path cacheFile, Path root, Scan scan, List<Entry> entries) {
+    try {
+      var parent = cacheFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      var tempFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp");
+      try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(CACHE_MAGIC);
+        out.writeUTF(root.toAbsolutePath().normalize().toString());
+        out.writeInt(entries.size());
+        out.writeLong(scan.latestModified());
+        for (var entry : entries) {
+          out.writeUTF(entry.id());
+          out.writeUTF(entry.title());
+          out.writeUTF(entry.requirementId());
+        }
+      }
+      Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      log.warn("Unable to write test aspect catalog cache {}.", cacheFile, exception);
+    }
+  }
+
+  /**
+   * Metadata of one test aspect.
+   *
+   * @param id            test aspect identifier
+   * @param title         test aspect title
+   * @param requirementId linked requirement identifier, empty if the id does not name one
+   */
+  public record Entry(String id, String title, String requirementId) {
+
+  }
+
+  private record Scan(List<Path> files, long latestModified) {
+
+  }
+}
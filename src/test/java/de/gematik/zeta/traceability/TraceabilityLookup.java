@@ -28,12 +28,19 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -43,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 import lombok.extern.slf4j.Slf4j;
@@ -50,18 +58,13 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Immutable container for the aggregated traceability data produced by the docs pipeline.
+ *
+ * <p>The generated JSON is compiled into a compact binary index on first use and memory-mapped by later loads, so
+ * every driver JVM after the first skips JSON parsing. Rendered tables are memoized per tag combination because
+ * most scenarios of a use case share the same tags.</p>
  */
 @Slf4j
-public record TraceabilityLookup(
-    Map<String, RequirementInfo> requirements,
-    Map<String, TestAspectInfo> testAspects,
-    Map<String, UseCaseInfo> useCases,
-    Map<TraceabilityKey, TraceabilityLinkInfo> linksByKey,
-    Map<String, List<TraceabilityLinkInfo>> linksByUseCase,
-    Map<String, List<TraceabilityLinkInfo>> linksByScenario,
-    Map<String, String> anchorIndex,
-    boolean available
-) {
+public final class TraceabilityLookup {
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(
       new JsonFactory().enable(JsonParser.Feature.AUTO_CLOSE_SOURCE));
@@ -72,17 +75,40 @@ public record TraceabilityLookup(
       Paths.get("target/site/serenity/traceability.json")
   );
 
+  private static final Path DEFAULT_INDEX_FILE = Paths.get("target/traceability/traceability_index.bin");
+  private static final int INDEX_MAGIC = 0x54524931;
+
+  private final Map<String, RequirementInfo> requirements;
+  private final Map<String, TestAspectInfo> testAspects;
+  private final Map<String, UseCaseInfo> useCases;
+  private final Map<TraceabilityKey, TraceabilityLinkInfo> linksByKey;
+  private final Map<String, List<TraceabilityLinkInfo>> linksByUseCase;
+  private final Map<String, List<TraceabilityLinkInfo>> linksByScenario;
+  private final Map<String, String> anchorIndex;
+  private final boolean available;
+  private final Map<List<String>, Optional<String>> reportsByTags = new ConcurrentHashMap<>();
+
+  /**
+   * Build all lookup indexes from a parsed snapshot.
+   */
+  private TraceabilityLookup(Snapshot snapshot, boolean available) {
+    this.requirements = Map.copyOf(snapshot.requirements());
+    this.testAspects = Map.copyOf(snapshot.testAspects());
+    this.useCases = Map.copyOf(snapshot.useCases());
+    this.linksByKey = Map.copyOf(buildLinkIndex(snapshot.links()));
+    this.linksByUseCase = immutableListMap(buildUseCaseIndex(snapshot.links()));
+    this.linksByScenario = immutableListMap(buildScenarioIndex(snapshot.links()));
+    this.anchorIndex = Map.copyOf(buildAnchorIndex(snapshot.useCases()));
+    this.available = available;
+  }
+
   /**
-   * Canonical constructor that defensively copies all collection inputs.
+   * Return the lookup shared by all scenarios of this JVM, loading it on first access.
+   *
+   * @return shared lookup
    */
-  public TraceabilityLookup {
-    requirements = Map.copyOf(requirements);
-    testAspects = Map.copyOf(testAspects);
-    useCases = Map.copyOf(useCases);
-    linksByKey = Map.copyOf(linksByKey);
-    linksByUseCase = immutableListMap(linksByUseCase);
-    linksByScenario = immutableListMap(linksByScenario);
-    anchorIndex = Map.copyOf(anchorIndex);
+  public static @NotNull TraceabilityLookup shared() {
+    return SharedHolder.INSTANCE;
   }
 
   /**
@@ -94,25 +120,182 @@ public record TraceabilityLookup(
       log.warn("Traceability JSON not found – Serenity traceability blocks will be skipped.");
       return unavailable();
     }
-    try (Reader reader = Files.newBufferedReader(jsonPath, StandardCharsets.UTF_8)) {
-      var root = OBJECT_MAPPER.readTree(reader);
-      var requirements = parseRequirements(root.path("requirements"));
-      var testAspects = parseTestAspects(root.path("test_aspects"));
-      var useCases = parseUseCases(root.path("use_cases"));
-      var links = parseLinks(root.path("traceability"));
-      var linksByKey = buildLinkIndex(links);
-      var linksByUseCase = buildUseCaseIndex(links);
-      var linksByScenario = buildScenarioIndex(links);
-      var anchorIndex = buildAnchorIndex(useCases);
-      log.info("Loaded {} traceability links from {}", links.size(), jsonPath);
-      return new TraceabilityLookup(requirements, testAspects, useCases, linksByKey,
-          linksByUseCase, linksByScenario, anchorIndex, true);
+    return load(jsonPath, DEFAULT_INDEX_FILE);
+  }
+
+  /**
+   * Load a traceability snapshot, reusing the binary index if it was compiled from the same JSON file state.
+   *
+   * @param jsonPath  traceability JSON written by the docs pipeline
+   * @param indexFile binary index location; rewritten when stale
+   * @return loaded lookup, unavailable if the JSON cannot be read
+   */
+  public static @NotNull TraceabilityLookup load(Path jsonPath, Path indexFile) {
+    try {
+      var key = IndexKey.of(jsonPath);
+      var indexed = readIndex(indexFile, key);
+      if (indexed.isPresent()) {
+        log.info("Loaded {} traceability links from index {}", indexed.get().links().size(), indexFile);
+        return new TraceabilityLookup(indexed.get(), true);
+      }
+      var snapshot = parseJson(jsonPath);
+      writeIndex(indexFile, key, snapshot);
+      log.info("Loaded {} traceability links from {}", snapshot.links().size(), jsonPath);
+      return new TraceabilityLookup(snapshot, true);
     } catch (IOException exception) {
       log.warn("Unable to read traceability data from {}", jsonPath, exception);
       return unavailable();
     }
   }
 
+  /**
+   * Parse the traceability JSON into a snapshot.
+   */
+  private static Snapshot parseJson(Path jsonPath) throws IOException {
+    try (Reader reader = Files.newBufferedReader(jsonPath, StandardCharsets.UTF_8)) {
+      var root = OBJECT_MAPPER.readTree(reader);
+      return new Snapshot(parseRequirements(root.path("requirements")),
+          parseTestAspects(root.path("test_aspects")),
+          parseUseCases(root.path("use_cases")),
+          parseLinks(root.path("traceability")));
+    }
+  }
+
+  /**
+   * Memory-map the binary index and decode it if it was compiled from the same JSON file state.
+   */
+  private static Optional<Snapshot> readIndex(Path indexFile, IndexKey key) {
+    if (!Files.isRegularFile(indexFile)) {
+      return Optional.empty();
+    }
+    try (var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != INDEX_MAGIC
+          || !key.path().equals(readString(buffer))
+          || buffer.getLong() != key.size()
+          || buffer.getLong() != key.lastModified()) {
+        return Optional.empty();
+      }
+      Map<String, RequirementInfo> requirements = new LinkedHashMap<>();
+      for (var i = buffer.getInt(); i > 0; i--) {
+        var requirement = new RequirementInfo(readString(buffer), readString(buffer));
+        requirements.put(requirement.id(), requirement);
+      }
+      Map<String, TestAspectInfo> testAspects = new LinkedHashMap<>();
+      for (var i = buffer.getInt(); i > 0; i--) {
+        var testAspect = new TestAspectInfo(readString(buffer), readString(buffer), readString(buffer));
+        testAspects.put(testAspect.id(), testAspect);
+      }
+      Map<String, UseCaseInfo> useCases = new LinkedHashMap<>();
+      for (var i = buffer.getInt(); i > 0; i--) {
+        var useCase = new UseCaseInfo(readString(buffer), readString(buffer), readString(buffer),
+            readString(buffer), readStrings(buffer));
+        useCases.put(useCase.anchorId(), useCase);
+      }
+      var links = new ArrayList<TraceabilityLinkInfo>();
+      for (var i = buffer.getInt(); i > 0; i--) {
+        links.add(new TraceabilityLinkInfo(readString(buffer), readString(buffer), readString(buffer),
+            buffer.get() != 0, buffer.get() != 0, readStrings(buffer)));
+      }
+      return Optional.of(new Snapshot(requirements, testAspects, useCases, links));
+    } catch (IOException | BufferUnderflowException | IllegalArgumentException exception) {
+      log.debug("Ignoring unreadable traceability index {}.", indexFile, exception);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Compile the snapshot into the binary index; failures only cost the next load a JSON parse.
+   */
+  private static void writeIndex(Path indexFile, IndexKey key, Snapshot snapshot) {
+    try {
+      var parent = indexFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      var tempFile = indexFile.resolveSibling(indexFile.getFileName() + "." + ProcessHandle.current().pid() + ".tmp");
+      try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(INDEX_MAGIC);
+        writeString(out, key.path());
+        out.writeLong(key.size());
+        out.writeLong(key.lastModified());
+        out.writeInt(snapshot.requirements().size());
+        for (var requirement : snapshot.requirements().values()) {
+          writeString(out, requirement.id());
+          writeString(out, requirement.title());
+        }
+        out.writeInt(snapshot.testAspects().size());
+        for (var testAspect : snapshot.testAspects().values()) {
+          writeString(out, testAspect.id());
+          writeString(out, testAspect.title());
+          writeString(out, testAspect.requirementId());
+        }
+        out.writeInt(snapshot.useCases().size());
+        for (var useCase : snapshot.useCases().values()) {
+          writeString(out, useCase.anchorId());
+          writeString(out, useCase.tagId());
+          writeString(out, useCase.title());
+          writeString(out, useCase.userStoryId());
+          writeStrings(out, useCase.featureFiles());
+        }
+        out.writeInt(snapshot.links().size());
+        for (var link : snapshot.links()) {
+          writeString(out, link.requirementId());
+          writeString(out, link.testAspectId());
+          writeString(out, link.useCaseAnchor());
+          out.writeBoolean(link.implemented());
+          out.writeBoolean(link.productImplemented());
+          writeStrings(out, link.scenarios());
+        }
+      }
+      Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException exception) {
+      log.warn("Unable to write traceability index {}.", indexFile, exception);
+    }
+  }
+
+  /**
+   * Write a length-prefixed UTF-8 string; {@code null} is encoded as length -1.
+   */
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (var value : values) {
+      writeString(out, value);
+    }
+  }
+
+  /**
+   * Read a string written by {@link #writeString(DataOutputStream, String)}.
+   */
+  private static String readString(ByteBuffer buffer) {
+    var length = buffer.getInt();
+    if (length < 0) {
+      return null;
+    }
+    var bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readStrings(ByteBuffer buffer) {
+    var size = buffer.getInt();
+    var values = new ArrayList<String>(size);
+    for (var i = 0; i < size; i++) {
+      values.add(readString(buffer));
+    }
+    return values;
+  }
+
   /**
    * Render the collected entries as a Markdown table consumed by Serenity. Uses a plain pipe table
    * to keep Serenity's Markdown rendering stable.
@@ -339,8 +522,7 @@ public record TraceabilityLookup(
    * @return lookup placeholder with {@code available=false}
    */
   private static TraceabilityLookup unavailable() {
-    return new TraceabilityLookup(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
-        Map.of(), false);
+    return new TraceabilityLookup(new Snapshot(Map.of(), Map.of(), Map.of(), List.of()), false);
   }
 
   /**
@@ -373,6 +555,15 @@ public record TraceabilityLookup(
     return value == null || value.isBlank() ? null : value;
   }
 
+  /**
+   * Returns whether traceability data was loaded.
+   *
+   * @return {@code false} if no traceability JSON was found or it could not be read
+   */
+  public boolean available() {
+    return available;
+  }
+
   /**
    * Creates the Markdown snippet for the current scenario if matching links exist.
    */
@@ -380,23 +571,37 @@ public record TraceabilityLookup(
     if (!available || rawTags == null) {
       return Optional.empty();
     }
-    var entries = findEntries(scenarioName, rawTags);
+    var tagKey = List.copyOf(normaliseTags(rawTags));
+    var byTags = reportsByTags.computeIfAbsent(tagKey, tags -> {
+      var entries = findEntriesByTags(tags);
+      return entries.isEmpty() ? Optional.empty() : Optional.of(render(entries));
+    });
+    if (byTags.isPresent()) {
+      return byTags;
+    }
+    var entries = findEntriesByScenario(scenarioName);
     return entries.isEmpty() ? Optional.empty() : Optional.of(render(entries));
   }
 
   /**
-   * Resolve all matching traceability links for the current scenario context.
+   * Resolve the traceability links selected by the scenario tags.
    *
-   * @param scenarioName serenity scenario name
-   * @param rawTags      cucumber tags (possibly including {@code @})
+   * @param tags normalised cucumber tags without {@code @}
    * @return immutable list of entries to render
    */
-  private List<TraceabilityEntry> findEntries(String scenarioName, Collection<String> rawTags) {
-    var normalisedTags = normaliseTags(rawTags);
-
-    var useCaseTags = collectTagsWithPrefix(normalisedTags, "UseCase");
-    var testAspectTags = collectTagsWithPrefix(normalisedTags, "TA_");
-    var requirementTags = collectTagsWithPrefix(normalisedTags, "A_");
+  private List<TraceabilityEntry> findEntriesByTags(List<String> tags) {
+    var useCaseTags = new LinkedHashSet<String>();
+    var testAspectTags = new LinkedHashSet<String>();
+    var requirementTags = new LinkedHashSet<String>();
+    for (var tag : tags) {
+      if (tag.startsWith("UseCase")) {
+        useCaseTags.add(tag);
+      } else if (tag.startsWith("TA_")) {
+        testAspectTags.add(tag);
+      } else if (tag.startsWith("A_")) {
+        requirementTags.add(tag);
+      }
+    }
 
     var useCaseAnchors = resolveUseCaseAnchors(useCaseTags);
     var result = new LinkedHashMap<TraceabilityKey, TraceabilityEntry>();
@@ -421,17 +626,23 @@ public record TraceabilityLookup(
       }
     }
 
-    List<TraceabilityLinkInfo> scenarioLinks = List.of();
-    if (scenarioName != null && !scenarioName.isBlank()) {
-      scenarioLinks = linksByScenario.getOrDefault(scenarioName, List.of());
-    }
+    return List.copyOf(result.values());
+  }
 
-    if (result.isEmpty() && !scenarioLinks.isEmpty()) {
-      for (var link : scenarioLinks) {
-        putEntryIfPresent(result, link, link.testAspectId(), link.useCaseAnchor());
-      }
+  /**
+   * Resolve traceability links by scenario name, used when the tags select nothing.
+   *
+   * @param scenarioName serenity scenario name
+   * @return immutable list of entries to render
+   */
+  private List<TraceabilityEntry> findEntriesByScenario(String scenarioName) {
+    if (scenarioName == null || scenarioName.isBlank()) {
+      return List.of();
+    }
+    var result = new LinkedHashMap<TraceabilityKey, TraceabilityEntry>();
+    for (var link : linksByScenario.getOrDefault(scenarioName, List.of())) {
+      putEntryIfPresent(result, link, link.testAspectId(), link.useCaseAnchor());
     }
-
     return List.copyOf(result.values());
   }
 
@@ -448,19 +659,6 @@ public record TraceabilityLookup(
         .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 
-  /**
-   * Collect all tags that share a given prefix.
-   *
-   * @param tags   normalised tags
-   * @param prefix expected prefix (e.g. {@code UseCase})
-   * @return ordered set of matching tags
-   */
-  private Set<String> collectTagsWithPrefix(Set<String> tags, String prefix) {
-    return tags.stream()
-        .filter(tag -> tag.startsWith(prefix))
-        .collect(Collectors.toCollection(LinkedHashSet::new));
-  }
-
   /**
    * Resolve use-case tags to the canonical anchors known to the documentation pipeline.
    *
@@ -591,6 +789,42 @@ public record TraceabilityLookup(
 
   }
 
+  /**
+   * Raw traceability data as read from the JSON or the binary index.
+   *
+   * @param requirements requirements by id
+   * @param testAspects  test aspects by id
+   * @param useCases     use cases by anchor
+   * @param links        requirement/test-aspect/use-case links
+   */
+  private record Snapshot(Map<String, RequirementInfo> requirements, Map<String, TestAspectInfo> testAspects,
+                          Map<String, UseCaseInfo> useCases, List<TraceabilityLinkInfo> links) {
+
+  }
+
+  /**
+   * JSON file state an index was compiled from.
+   *
+   * @param path         absolute JSON path
+   * @param size         file size in bytes
+   * @param lastModified modification time in milliseconds
+   */
+  private record IndexKey(String path, long size, long lastModified) {
+
+    private static IndexKey of(Path jsonPath) throws IOException {
+      return new IndexKey(jsonPath.toAbsolutePath().normalize().toString(), Files.size(jsonPath),
+          Files.getLastModifiedTime(jsonPath).toMillis());
+    }
+  }
+
+  /**
+   * Lazily loads the shared lookup on first access.
+   */
+  private static final class SharedHolder {
+
+    private static final TraceabilityLookup INSTANCE = load();
+  }
+
   /**
    * Map key describing a single test-aspect/use-case combination.
    *
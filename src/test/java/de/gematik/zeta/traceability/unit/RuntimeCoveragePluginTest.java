@@ -0,0 +1,206 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gematik.zeta.traceability.RuntimeCoveragePlugin;
+import io.cucumber.plugin.event.EventHandler;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Location;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for the multi-driver fragment merge of {@link RuntimeCoveragePlugin}.
+ */
+class RuntimeCoveragePluginTest {
+
+  private static final String CUCUMBER_OUTPUT_DIR_PROPERTY = "zeta.cucumber.outputDirectory";
+  private static final String REQUIREMENT = "A_99001";
+
+  @TempDir
+  Path tempDir;
+
+  private String previousCucumberOutputDir;
+
+  @BeforeEach
+  void isolateCucumberJsonFallback() {
+    previousCucumberOutputDir = System.getProperty(CUCUMBER_OUTPUT_DIR_PROPERTY);
+    System.setProperty(CUCUMBER_OUTPUT_DIR_PROPERTY, tempDir.resolve("no-cucumber-json").toString());
+  }
+
+  @AfterEach
+  void restoreCucumberJsonFallback() {
+    if (previousCucumberOutputDir == null) {
+      System.clearProperty(CUCUMBER_OUTPUT_DIR_PROPERTY);
+    } else {
+      System.setProperty(CUCUMBER_OUTPUT_DIR_PROPERTY, previousCucumberOutputDir);
+    }
+  }
+
+  /**
+   * Ensures the last finishing driver merges the fragments of all drivers into one CSV.
+   */
+  @Test
+  void lastDriverMergesAllFragments() throws IOException {
+    var first = new Driver(outputPath());
+    var second = new Driver(outputPath());
+
+    first.finishScenario("Token holen", Status.PASSED);
+    second.finishScenario("Token erneuern", Status.SKIPPED);
+
+    first.finishRun();
+    assertFalse(Files.exists(outputPath()), "a driver still running must merge the fragments");
+
+    second.finishRun();
+    assertEquals(",2,1,0,1,", countsOf(requirementRow()));
+    assertTrue(listFiles("runtime_coverage_fragment_*.bin").isEmpty());
+    assertTrue(listFiles("runtime_coverage_run_*.active").isEmpty());
+  }
+
+  /**
+   * Ensures markers and fragments of a killed JVM neither block the merge nor leak into the next run.
+   */
+  @Test
+  void staleMarkersOfAbortedRunsDoNotBlockMerge() throws IOException {
+    Files.writeString(tempDir.resolve("runtime_coverage_run_dead.active"), "pid=" + Long.MAX_VALUE + "\nstarted=1\n");
+    var legacyMarker = Files.writeString(tempDir.resolve("runtime_coverage_run_legacy.active"), "");
+    Files.setLastModifiedTime(legacyMarker, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+    Files.writeString(tempDir.resolve("runtime_coverage_merge.claim"), "pid=" + Long.MAX_VALUE + "\nstarted=1\n");
+    Files.writeString(tempDir.resolve("runtime_coverage_fragment_dead.bin"), "partial");
+
+    var driver = new Driver(outputPath());
+    assertFalse(Files.exists(tempDir.resolve("runtime_coverage_fragment_dead.bin")));
+
+    driver.finishScenario("Token holen", Status.PASSED);
+    driver.finishRun();
+
+    assertEquals(",1,1,0,0,", countsOf(requirementRow()));
+    assertTrue(listFiles("runtime_coverage_run_*.active").isEmpty());
+    assertFalse(Files.exists(tempDir.resolve("runtime_coverage_merge.claim")));
+  }
+
+  /**
+   * Ensures a recent marker without owner information is still treated as a running driver.
+   */
+  @Test
+  void recentMarkerWithoutOwnerKeepsDriverActive() throws IOException {
+    Files.writeString(tempDir.resolve("runtime_coverage_run_starting.active"), "");
+
+    var driver = new Driver(outputPath());
+    driver.finishScenario("Token holen", Status.PASSED);
+    driver.finishRun();
+
+    assertFalse(Files.exists(outputPath()));
+    assertEquals(1, listFiles("runtime_coverage_fragment_*.bin").size());
+  }
+
+  private Path outputPath() {
+    return tempDir.resolve("runtime_coverage.csv");
+  }
+
+  private String requirementRow() throws IOException {
+    return Files.readAllLines(outputPath()).stream()
+        .filter(line -> line.startsWith(REQUIREMENT + ","))
+        .findFirst()
+        .orElseThrow(() -> new AssertionError("No CSV row for " + REQUIREMENT));
+  }
+
+  private static String countsOf(String row) {
+    var fields = row.split(",", -1);
+    return "," + String.join(",", List.of(fields).subList(4, 8)) + ",";
+  }
+
+  private List<Path> listFiles(String glob) throws IOException {
+    try (var stream = Files.newDirectoryStream(tempDir, glob)) {
+      var files = new ArrayList<Path>();
+      stream.forEach(files::add);
+      return files;
+    }
+  }
+
+  /**
+   * One plugin instance with the handlers it registered, standing in for one Cucumber driver.
+   */
+  private static final class Driver implements EventPublisher {
+
+    private final Map<Class<?>, EventHandler<?>> handlers = new HashMap<>();
+
+    Driver(Path outputPath) {
+      new RuntimeCoveragePlugin(outputPath.toString()).setEventPublisher(this);
+    }
+
+    void finishScenario(String name, Status status) {
+      var testCase = mock(TestCase.class);
+      when(testCase.getName()).thenReturn(name);
+      when(testCase.getUri()).thenReturn(URI.create("classpath:features/token.feature"));
+      when(testCase.getLocation()).thenReturn(new Location(name.length(), 1));
+      when(testCase.getTags()).thenReturn(List.of("@" + REQUIREMENT));
+      publish(TestCaseFinished.class, new TestCaseFinished(Instant.now(), testCase, new Result(status, Duration.ZERO, null)));
+    }
+
+    void finishRun() {
+      publish(TestRunFinished.class, new TestRunFinished(Instant.now(), new Result(Status.PASSED, Duration.ZERO, null)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void publish(Class<T> type, T event) {
+      ((EventHandler<T>) handlers.get(type)).receive(event);
+    }
+
+    @Override
+    public <T> void registerHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+      handlers.put(eventType, handler);
+    }
+
+    @Override
+    public <T> void removeHandlerFor(Class<T> eventType, EventHandler<T> handler) {
+      handlers.remove(eventType, handler);
+    }
+  }
+}
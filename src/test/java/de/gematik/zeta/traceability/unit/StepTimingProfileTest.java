@@ -0,0 +1,93 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability.unit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.gematik.zeta.traceability.StepTimingProfile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link StepTimingProfile}.
+ */
+class StepTimingProfileTest {
+
+  private static final long MS = 1_000_000L;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void ranksPatternsByTotalTimeWithPercentilesAndHistogram() {
+    var profile = new StepTimingProfile();
+    profile.record("step", "warte {int} Sekunden", "a.feature", "A", 5_000 * MS, false);
+    profile.record("step", "TGR sende eine leere GET Anfrage an {tigerResolvedString}", "a.feature", "A", 20 * MS, false);
+    profile.record("step", "TGR sende eine leere GET Anfrage an {tigerResolvedString}", "b.feature", "B", 40 * MS, true);
+    profile.record("before", "before hook Hooks.clearRecordedMessages()", "a.feature", "A", 2 * MS, false);
+
+    List<StepTimingProfile.Entry> entries = profile.entries();
+
+    assertEquals(List.of("warte {int} Sekunden", "TGR sende eine leere GET Anfrage an {tigerResolvedString}",
+        "before hook Hooks.clearRecordedMessages()"), entries.stream().map(StepTimingProfile.Entry::key).toList());
+    var request = entries.get(1);
+    assertEquals(2, request.count());
+    assertEquals(1, request.failures());
+    assertEquals(60 * MS, request.totalNanos());
+    assertEquals(20 * MS, request.p50Nanos());
+    assertEquals(40 * MS, request.p99Nanos());
+    assertArrayEquals(new long[] {0, 2, 0, 0, 0, 0, 0, 0, 0, 0}, request.histogram());
+    assertEquals(1, entries.getFirst().histogram()[5]);
+  }
+
+  @Test
+  void writesCsvJsonAndFoldedStacks() throws Exception {
+    var profile = new StepTimingProfile();
+    profile.record("step", "setze {string}; dann {string}", "x/a.feature", "Szenario A", 3 * MS, false);
+    profile.record("step", "setze {string}; dann {string}", "x/a.feature", "Szenario A", 1 * MS, false);
+    profile.record("after", "after hook Hooks.verifySoftAssertions()", "x/a.feature", "Szenario A", 500_000, false);
+
+    profile.write(tempDir);
+
+    List<String> csv = Files.readAllLines(tempDir.resolve(StepTimingProfile.CSV_FILE));
+    assertEquals("rank,kind,step,count,failures,total_ms,share_pct,mean_ms,p50_ms,p90_ms,p99_ms,max_ms", csv.get(0));
+    assertTrue(csv.get(1).startsWith("1,step,setze {string}; dann {string},2,0,4.000,88.89,2.000,"), csv.get(1));
+
+    var json = new ObjectMapper().readTree(tempDir.resolve(StepTimingProfile.JSON_FILE).toFile());
+    assertEquals(4_500_000L, json.path("totalNanos").asLong());
+    assertEquals("after", json.path("steps").get(1).path("kind").asText());
+
+    assertEquals(List.of(
+            "x/a.feature;Szenario A;after hook Hooks.verifySoftAssertions() 500",
+            "x/a.feature;Szenario A;setze {string}, dann {string} 4000"),
+        Files.readAllLines(tempDir.resolve(StepTimingProfile.FOLDED_FILE)));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.traceability.TestAspectCatalog;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TestAspectCatalog}.
+ */
+class TestAspectCatalogTest {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void indexesAspectsByRequirement() throws Exception {
+    Path root = tempDir.resolve("testaspekte");
+    writeAspect(root.resolve("gemSpec_ZETA"), "TA_A_25001_01", "Erster Aspekt");
+    writeAspect(root.resolve("gemSpec_ZETA"), "TA_A_25001_02", "Zweiter Aspekt");
+    writeAspect(root.resolve("gemSpec_Krypt"), "TA_GS-A_4384-03_01", "TLS");
+    Files.writeString(root.resolve("readme.adoc"), "= Testaspekte\n");
+
+    var catalog = TestAspectCatalog.load(root, tempDir.resolve("cache.bin"));
+
+    assertEquals(3, catalog.ids().size());
+    assertEquals(List.of("TA_A_25001_01", "TA_A_25001_02"),
+        catalog.forRequirement("A_25001").stream().map(TestAspectCatalog.Entry::id).sorted().toList());
+    assertEquals("GS-A_4384-03", catalog.get("TA_GS-A_4384-03_01").requirementId());
+    assertEquals("TLS", catalog.get("TA_GS-A_4384-03_01").title());
+    assertTrue(catalog.forRequirement("A_99999").isEmpty());
+  }
+
+  @Test
+  void reusesCacheUntilTheTreeChanges() throws Exception {
+    Path root = tempDir.resolve("testaspekte");
+    Path aspect = writeAspect(root, "TA_A_25002_01", "Alter Titel");
+    Path cache = tempDir.resolve("cache.bin");
+    FileTime modified = Files.getLastModifiedTime(aspect);
+
+    assertEquals("Alter Titel", TestAspectCatalog.load(root, cache).get("TA_A_25002_01").title());
+    assertTrue(Files.exists(cache));
+
+    Files.writeString(aspect, header("TA_A_25002_01", "Neuer Titel"));
+    Files.setLastModifiedTime(aspect, modified);
+    assertEquals("Alter Titel", TestAspectCatalog.load(root, cache).get("TA_A_25002_01").title());
+
+    Files.setLastModifiedTime(aspect, FileTime.fromMillis(modified.toMillis() + 60_000));
+    assertEquals("Neuer Titel", TestAspectCatalog.load(root, cache).get("TA_A_25002_01").title());
+  }
+
+  @Test
+  void resolvesRequirementFromAspectId() {
+    assertEquals("A_12345", TestAspectCatalog.requirementOf("TA_A_12345_01").orElseThrow());
+    assertTrue(TestAspectCatalog.requirementOf("SMOKE").isEmpty());
+  }
+
+  private static Path writeAspect(Path directory, String id, String title) throws Exception {
+    Files.createDirectories(directory);
+    return Files.writeString(directory.resolve(id + ".adoc"), header(id, title));
+  }
+
+  private static String header(String id, String title) {
+    return "[#" + id + "]\n===== " + id + " - " + title + "\n\nText\n";
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.traceability.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.zeta.traceability.TraceabilityLookup;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link TraceabilityLookup}.
+ */
+class TraceabilityLookupTest {
+
+  private static final String JSON = """
+      {
+        "requirements": {"A_25001": {"title": "Token ausstellen"}},
+        "test_aspects": {"TA_A_25001_01": {"title": "Gültiges Token", "requirement_id": "A_25001"}},
+        "use_cases": {"UC_01_02": {"tag_id": "UseCase_01_02", "title": "Token anfordern", "user_story_id": "US_01",
+          "feature_files": ["features/UserStory_01/UseCase_02/token.feature"]}},
+        "traceability": [
+          {"requirement": "A_25001", "test_aspect": "TA_A_25001_01", "use_case": "UC_01_02",
+           "implemented": true, "scenarios": ["Token holen"]}
+        ]
+      }
+      """;
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void resolvesEntriesByTagsAndScenarioName() throws Exception {
+    var lookup = TraceabilityLookup.load(Files.writeString(tempDir.resolve("traceability.json"), JSON),
+        tempDir.resolve("index.bin"));
+
+    var byTestAspect = lookup.buildReport("Anderes Szenario", List.of("@UseCase_02", "@TA_A_25001_01"));
+    assertTrue(byTestAspect.orElseThrow().contains("| `A_25001` Token ausstellen | `TA_A_25001_01` Gültiges Token | [US_01] Token anfordern |"));
+    assertEquals(byTestAspect, lookup.buildReport("Noch ein Szenario", List.of("@UseCase_02", "@TA_A_25001_01")));
+    assertEquals(byTestAspect, lookup.buildReport("Anderes Szenario", List.of("@UseCase_01_02", "@A_25001")));
+    assertEquals(byTestAspect, lookup.buildReport("Token holen", List.of("@smoke")));
+    assertFalse(lookup.buildReport("Unbekannt", List.of("@smoke")).isPresent());
+  }
+
+  @Test
+  void reusesIndexUntilTheJsonChanges() throws Exception {
+    Path json = Files.writeString(tempDir.resolve("traceability.json"), JSON);
+    Path index = tempDir.resolve("index.bin");
+    FileTime modified = Files.getLastModifiedTime(json);
+    var tags = List.of("@UseCase_02", "@TA_A_25001_01");
+
+    var fromJson = TraceabilityLookup.load(json, index).buildReport("", tags);
+    assertTrue(Files.exists(index));
+    assertEquals(fromJson, TraceabilityLookup.load(json, index).buildReport("", tags));
+
+    Files.writeString(json, JSON.replace("Token ausstellen", "Token erneuern"));
+    Files.setLastModifiedTime(json, FileTime.fromMillis(modified.toMillis() + 60_000));
+    assertTrue(TraceabilityLookup.load(json, index).buildReport("", tags).orElseThrow().contains("Token erneuern"));
+  }
+
+  @Test
+  void isUnavailableForUnreadableJson() throws Exception {
+    var lookup = TraceabilityLookup.load(Files.writeString(tempDir.resolve("traceability.json"), "{"),
+        tempDir.resolve("index.bin"));
+
+    assertFalse(lookup.available());
+    assertFalse(lookup.buildReport("Token holen", List.of("@TA_A_25001_01")).isPresent());
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.gematik.zeta.FailureCounts;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link FailureCounts}.
+ */
+class FailureCountsTest {
+
+  @Test
+  void ordersByCountThenReason() {
+    var lines = FailureCounts.lines(Map.of("b", 2L, "a", 2L, "c", 5L));
+
+    assertEquals(List.of(" - 5x c", " - 2x a", " - 2x b"), lines);
+  }
+
+  @Test
+  void describeUsesPlatformLineSeparator() {
+    var nl = System.lineSeparator();
+
+    assertEquals("summary" + nl + " - 1x a", FailureCounts.describe("summary", Map.of("a", 1L)));
+    assertEquals("summary", FailureCounts.describe("summary", Map.of()));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * #%L
+ * ZETA Testsuite
+ * %%
+ * (C) achelos GmbH, 2025, licensed for gematik GmbH
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ * #L%
+ */
+
+package de.gematik.zeta.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Guards the tags parallel execution derives its exclusive resources from: every scenario either stays off the shared
+ * Tiger proxy ({@code @no_proxy}) or takes the proxy lock ({@code @tiger_proxy}), never neither or both.
+ */
+class ParallelExecutionTagsTest {
+
+  private static final String NO_PROXY = "@no_proxy";
+  private static final String TIGER_PROXY = "@tiger_proxy";
+  private static final Pattern KEYWORD = Pattern.compile("^\\s*(Funktionalität|Szenario|Szenariogrundriss|Beispiele|Grundlage)\\b[^:]*:");
+
+  @Test
+  void everyScenarioDeclaresWhetherItUsesTheTigerProxy() throws IOException, URISyntaxException {
+    var features = Path.of(ParallelExecutionTagsTest.class.getClassLoader().getResource("features").toURI());
+    var violations = new ArrayList<String>();
+    try (Stream<Path> files = Files.walk(features)) {
+      for (var file : files.filter(path -> path.toString().endsWith(".feature")).sorted().toList()) {
+        violations.addAll(violations(features.relativize(file).toString(), Files.readAllLines(file, StandardCharsets.UTF_8)));
+      }
+    }
+
+    assertEquals(List.of(), violations, "Tag each scenario with exactly one of " + NO_PROXY + " or " + TIGER_PROXY);
+  }
+
+  @Test
+  void detectsOutlineExamplesWithoutProxyTag() {
+    var lines = List.of(
+        "@UseCase",
+        "Funktionalität: Beispiel",
+        "  Szenariogrundriss: Nonce",
+        "    Beispiele: Integration",
+        "      | url |",
+        "    @no_proxy",
+        "    Beispiele: Komponententest",
+        "      | url |");
+
+    assertEquals(List.of("example.feature:4 Beispiele: Integration"), violations("example.feature", lines));
+    assertEquals(List.of(), violations("example.feature", List.of("@tiger_proxy", "Funktionalität: F", "  Szenario: S")));
+  }
+
+  /**
+   * Collects the scenarios and example blocks whose inherited tags contain neither or both proxy tags. Outlines are
+   * checked per example block, since each block may carry its own proxy tag.
+   */
+  private static List<String> violations(String file, List<String> lines) {
+    var result = new ArrayList<String>();
+    var pendingTags = new ArrayList<String>();
+    List<String> featureTags = List.of();
+    List<String> scenarioTags = null;
+    String scenario = null;
+    var exampleBlocks = 0;
+    for (var i = 0; i < lines.size(); i++) {
+      var line = lines.get(i).strip();
+      if (line.startsWith("@")) {
+        pendingTags.addAll(Arrays.asList(line.split("\\s+")));
+        continue;
+      }
+      var keyword = KEYWORD.matcher(lines.get(i));
+      if (!keyword.find()) {
+        if (!line.isEmpty() && !line.startsWith("#")) {
+          pendingTags.clear();
+        }
+        continue;
+      }
+      var location = file + ":" + (i + 1) + " " + line;
+      switch (keyword.group(1)) {
+        case "Funktionalität" -> featureTags = List.copyOf(pendingTags);
+        case "Szenario", "Szenariogrundriss" -> {
+          checkScenario(scenario, scenarioTags, exampleBlocks, result);
+          scenarioTags = concat(featureTags, pendingTags);
+          scenario = location;
+          exampleBlocks = 0;
+        }
+        case "Beispiele" -> {
+          exampleBlocks++;
+          check(location, concat(scenarioTags, pendingTags), result);
+        }
+        default -> {
+          // Background steps inherit the tags of each scenario
+        }
+      }
+      pendingTags.clear();
+    }
+    checkScenario(scenario, scenarioTags, exampleBlocks, result);
+    return result;
+  }
+
+  private static void checkScenario(String scenario, List<String> tags, int exampleBlocks, List<String> result) {
+    if (scenario != null && exampleBlocks == 0) {
+      check(scenario, tags, result);
+    }
+  }
+
+  private static void check(String location, List<String> tags, List<String> result) {
+    if (tags.contains(NO_PROXY) == tags.contains(TIGER_PROXY)) {
+      result.add(location);
+    }
+  }
+
+  private static List<String> concat(List<String> first, List<String> second) {
+    var tags = new ArrayList<>(first);
+    tags.addAll(second);
+    return tags;
+  }
+}
@@ -41,6 +41,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @TA_A_28422_03
   @TA_A_28464_01
   @TA_A_26641_01
+  @tiger_proxy
   Szenario: well-known zu oauth-protected-resource
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -84,6 +85,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @TA_A_28422_01
   @TA_A_28422_03
   @TA_A_28422_06
+  @tiger_proxy
   Szenario: well-known zu oauth-authorization-server
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -140,6 +142,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @TA_A_28421-01_03
   @TA_A_28421-01_04
   @TA_A_28421-01_05
+  @tiger_proxy
   Szenariogrundriss: etag wird bei der Abfrage der well-known Dokumente verwendet
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
 
@@ -227,6 +230,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @TA_A_28421-01_03
   @TA_A_28421-01_04
   @TA_A_28421-01_05
+  @tiger_proxy
   Szenariogrundriss: etag wird bei der Abfrage der well-known Dokumente vom ZETA Guard bereitgestellt (Komponententest)
     # Erste Anfrage: Finde aktuellen etag heraus
     Wenn TGR sende eine leere GET Anfrage an "${paths.guard.baseUrl}<expected_path>"
@@ -301,6 +305,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @TA_A_26668-01_42
   @TA_A_26668-01_43
   @TA_A_26668-01_44
+  @tiger_proxy
   Szenario: Rate-Limit Header an relevanten Endpunkten vorhanden
     # Voraussetzung: Rate-Limit ist auf jedem geprüften Endpunkt konfiguriert.
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
@@ -341,6 +346,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
   @A_28465
   @TA_A_26661_10
   @TA_A_28465_02
+  @tiger_proxy
   Szenario: Client erfolgreich registrieren (Integrationstest)
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
 
@@ -369,6 +375,7 @@ Funktionalität: Client_initiale_registrierung_stationaer_SC_201
 
   @A_25738
   @TA_A_25738_08
+  @tiger_proxy
   Szenario: Telemetrie protokolliert Status/Ergebnis der Client-Registrierung (Platzhalter)
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
 
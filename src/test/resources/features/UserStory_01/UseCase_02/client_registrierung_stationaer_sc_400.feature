@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_02
+@tiger_proxy
 Funktionalität: client_registrierung_stationaer_sc_400
 
   @dev
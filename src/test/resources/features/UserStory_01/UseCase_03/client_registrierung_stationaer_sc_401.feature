@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_03
+@tiger_proxy
 Funktionalität: client_registrierung_stationaer_sc_401
 
   @dev
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_04
+@tiger_proxy
 Funktionalität: client_registrierung_stationaer_sc_403
 
   @dev
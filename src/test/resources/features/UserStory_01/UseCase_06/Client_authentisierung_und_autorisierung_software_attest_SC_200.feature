@@ -38,6 +38,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @require_kubectl
   @A_28432
   @TA_A_28432_01
+  @tiger_proxy
   Szenario: Ingress ist vorhanden und wird für den Client-Pfad verwendet
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Und ermittle aus den Pods im Namespace "${zetaDeploymentConfig.namespace}" den Wert aus der Spalte "IP" der Zeile mit "ingress" und speichere in der Variable "INGRESS_IP"
@@ -59,6 +60,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
     Und TGR speichere Wert des Knotens "$.body" der aktuellen Antwort in der Variable "NONCE"
     Und decodiere Base64Url "${NONCE}" und prüfe das die Länge 128 bit ist
 
+    @tiger_proxy
     Beispiele: Integration
       | request_url               |
       | ${paths.client.helloZeta} |
@@ -83,6 +85,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
     Und TGR prüfe aktuelle Antwort stimmt im Knoten "$.responseCode" überein mit "200"
     Und TGR prüfe aktuelle Antwort stimmt im Knoten "$.body" nicht überein mit "${NONCE}"
 
+    @tiger_proxy
     Beispiele: Integration
       | request_url               |
       | ${paths.client.helloZeta} |
@@ -108,6 +111,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_26661_01
   @TA_A_26944_01
   @TA_A_27007_01
+  @tiger_proxy
   Szenario: Die Komponente Authorization Server MUSS Access Token mit Attributen gemäß [access-token.yaml] und Refresh Token ausstellen (Integrationstest)
     Gegeben sei TGR sende eine leere "GET" Anfrage an "${paths.guard.baseUrl}${paths.guard.certsEndpointPath}"
     Dann TGR finde die letzte Anfrage mit dem Pfad "${paths.guard.certsEndpointPath}"
@@ -141,6 +145,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_27401_01
   @TA_A_28527_01
   @TA_A_28527_02
+  @tiger_proxy
   Szenario: Policy Decision - Token Ausgabe mit korrekter Laufzeit gemäß OPA
     # TTL Werte als Variablen definieren
     Gegeben sei TGR setze lokale Variable "accessTokenTtl" auf "60"
@@ -208,6 +213,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_28440
   @TA_A_28440_01
+  @tiger_proxy
   Szenario: Client-IP Adresse wird aus Forwarded-Header übernommen
     Gegeben sei TGR setze lokale Variable "clientIp" auf "198.51.100.60"
     Und TGR setze lokale Variable "forwardedHeader" auf "for=${clientIp}"
@@ -240,6 +246,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @A_25662
   @TA_A_25649_01
   @TA_A_25662_03
+  @tiger_proxy
   Szenario: Neue Authentisierung nach Ablauf der Refresh Token Gültigkeitsdauer
     # TTL-Werte als Variablen definieren (in Sekunden)
     Wenn TGR setze lokale Variable "accessTokenTtl" auf "30"
@@ -326,6 +333,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_25649
   @TA_A_25649_01
+  @tiger_proxy
   Szenario: Neue Session ohne neue Attestation (Negativtest)
     # TTL-Werte als Variablen definieren (in Sekunden)
     Wenn TGR setze lokale Variable "accessTokenTtl" auf "30"
@@ -396,6 +404,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_25644
   @TA_A_25644_06
+  @tiger_proxy
   Szenario: Plattformwechsel nach Ablauf des Refresh Tokens wird abgelehnt (Negativtest)
     # TTL-Werte als Variablen definieren (in Sekunden)
     Wenn TGR setze lokale Variable "accessTokenTtl" auf "5"
@@ -453,6 +462,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_25766_02
   @TA_A_25767_02
   @TA_A_27802-02_03
+  @tiger_proxy
   Szenario: DPoP Token Request - Client sendet DPoP Header und erhält DPoP-gebundenen Access Token
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -517,6 +527,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_26661_02
   @TA_A_27802-02_03
   @TA_A_27007_02
+  @tiger_proxy
   Szenariogrundriss: DPoP JWT Manipulation Test - Token Request
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -568,6 +579,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_25767_01
   @TA_A_26661_01
   @TA_A_27007_01
+  @tiger_proxy
   Szenario: Prüfe client-assertion-jwt im Token Exchange Request Body
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -624,6 +636,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_25338-01_02
   @TA_A_25338-01_03
   @TA_A_25644_06
+  @tiger_proxy
   Szenario: Client Assertion JWT enthält Software Attestation für Linux
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -678,6 +691,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_25644
   @TA_A_25644_06
+  @tiger_proxy
   Szenario: Software Attestation (Linux) - ungültige attestation_challenge wird abgelehnt (Negativtest)
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Und TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -700,6 +714,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_25644
   @TA_A_25644_03
+  @tiger_proxy
   Szenario: Client Assertion JWT enthält TPM Attestation für Linux
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -732,6 +747,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @dev
   @A_25644
   @TA_A_25644_03
+  @tiger_proxy
   Szenario: TPM Attestation - ungültige Quote wird abgelehnt (Negativtest)
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -755,6 +771,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @A_27802-02
   @TA_A_27802-02_01
   @TA_A_27802-02_02
+  @tiger_proxy
   Szenariogrundriss: Client Assertion JWT Manipulation Test - Token Request
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
@@ -805,6 +822,7 @@ Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_200
   @TA_A_26972-02_02
   @TA_A_26972-02_03
   @TA_A_26972-02_04
+  @tiger_proxy
   Szenario: PDP Client Registrierung - TI-Identität in Attestation - Bindung TelematikID
     Gegeben sei TGR sende eine leere GET Anfrage an "${paths.client.reset}"
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
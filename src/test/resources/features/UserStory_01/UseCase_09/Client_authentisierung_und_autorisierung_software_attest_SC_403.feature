@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_09
+@tiger_proxy
 Funktionalität: Client_authentisierung_und_autorisierung_software_attest_SC_403
 
   @dev
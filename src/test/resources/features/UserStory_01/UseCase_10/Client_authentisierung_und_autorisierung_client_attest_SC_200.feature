@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_10
+@tiger_proxy
 Funktionalität: Client_authentisierung_und_autorisierung_client_attest_SC_200
 
 
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_12
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_SC_200_integrationstest
 
   @A_26639
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_15
+@tiger_proxy
 Funktionalität: client_ressource_anfrage_fachdienst_sc_400
 
   @A_26477
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_17
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_PoPP-Header_SC_403
 
   @A_25660
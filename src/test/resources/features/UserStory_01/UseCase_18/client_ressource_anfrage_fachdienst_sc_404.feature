@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_18
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_SC_404
 
   @A_28426
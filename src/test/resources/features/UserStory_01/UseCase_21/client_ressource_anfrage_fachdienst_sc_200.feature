@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_21
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_SC_200
 
   Grundlage:
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_22
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_PoPP-Header_SC_200
 
   @A_25669-01
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_23
+@tiger_proxy
 Funktionalität: client_ressource_anfrage_fachdienst_clientdaten_header_sc_200_integrationstest
 
   @dev
@@ -42,9 +42,6 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
     Gegeben sei TGR lösche aufgezeichnete Nachrichten
     Und TGR setze lokale Variable "jdurationS" auf "300"
     Und TGR setze lokale Variable "jtargetRps" auf "310"
-    Und TGR setze lokale Variable "prometheusCollectorDelayS" auf "90"
-    Und TGR setze lokale Variable "prometheusInitBufferS" auf "180"
-    Und TGR setze lokale Variable "prometheusWindowS" auf "!{${jdurationS} + 2*${prometheusCollectorDelayS} + ${prometheusInitBufferS}}"
 #    Und deaktiviere den Additional Security Layer im Zeta Deployment
     Wenn 301 WebSocket Verbindungen zu "${paths.client.websocketBaseUrl}" aufgebaut werden
     Dann sind mindestens 301 WebSocket Verbindungen offen
@@ -80,17 +77,17 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
 
     Dann erstelle die JMeter-Zusammenfassung aus "out/pep-performance-load-driver.jtl" nach "out/pep-performance-load-driver-summary.csv"
     Dann stelle sicher, dass im JMeter-Summary "out/pep-performance-load-driver-summary.csv" das Label "ZetaGuard Request" rps > ${jtargetRps}
-    Und warte "${prometheusCollectorDelayS}" Sekunden
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden und Divisor "${jdurationS}" Sekunden die Rate >= 300 pro Sekunde ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden die Fehlerrate <= "1.0" Prozent ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 7.5 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 10 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 15 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 100 ms ist
+    Und der Prometheus-Snapshot für Service "unknown_service:nginx", Spans "/pep/,/.well-known/" auf den letzten Lastlauf ausgerichtet wird
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum die Rate >= 300 pro Sekunde ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum die Fehlerrate <= "1.0" Prozent ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der avg-Wert <= 7.5 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p90-Wert <= 10 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p95-Wert <= 15 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p99-Wert <= 100 ms ist
     Und sind mindestens 301 WebSocket Verbindungen offen
     Und werden alle aufgebauten WebSocket Verbindungen geschlossen
 #    Und aktiviere den Additional Security Layer im Zeta Deployment
@@ -108,9 +105,6 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
     Gegeben sei TGR lösche aufgezeichnete Nachrichten
     Und TGR setze lokale Variable "jdurationS" auf "60"
     Und TGR setze lokale Variable "jtargetRps" auf "310"
-    Und TGR setze lokale Variable "prometheusCollectorDelayS" auf "90"
-    Und TGR setze lokale Variable "prometheusInitBufferS" auf "180"
-    Und TGR setze lokale Variable "prometheusWindowS" auf "!{${jdurationS} + 2*${prometheusCollectorDelayS} + ${prometheusInitBufferS}}"
     Wenn 301 WebSocket Verbindungen zu "${paths.client.websocketBaseUrl}" aufgebaut werden
     Dann sind mindestens 301 WebSocket Verbindungen offen
     Wenn ich JMeter mit dem Plan "perf/jmeter/parameterized-http-test.jmx" starte
@@ -145,22 +139,22 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
 
     Dann erstelle die JMeter-Zusammenfassung aus "out/pep-performance-asl-load-driver.jtl" nach "out/pep-performance-asl-load-driver-summary.csv"
     Dann stelle sicher, dass im JMeter-Summary "out/pep-performance-asl-load-driver-summary.csv" das Label "ZetaGuard Request" rps > ${jtargetRps}
-    Und warte "${prometheusCollectorDelayS}" Sekunden
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden und Divisor "${jdurationS}" Sekunden die Rate >= 300 pro Sekunde ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden die Fehlerrate <= "1.0" Prozent ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 7.5 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 10 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 15 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 100 ms ist
+    Und der Prometheus-Snapshot für Service "unknown_service:nginx", Spans "/pep/,/.well-known/,/ASL/" auf den letzten Lastlauf ausgerichtet wird
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum die Rate >= 300 pro Sekunde ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum die Fehlerrate <= "1.0" Prozent ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der avg-Wert <= 7.5 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p90-Wert <= 10 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p95-Wert <= 15 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p99-Wert <= 100 ms ist
     # /ASL wird hier nur auf Latenz geprüft; der fachliche Durchsatz wird weiterhin über /pep/ bewertet.
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/ASL/" im Lastzeitraum der p99-Wert <= 1000 ms ist
 
     Und sind mindestens 301 WebSocket Verbindungen offen
     Und werden alle aufgebauten WebSocket Verbindungen geschlossen
@@ -183,8 +177,6 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
     Gegeben sei TGR lösche aufgezeichnete Nachrichten
     Und TGR setze lokale Variable "jdurationS" auf "60"
     Und TGR setze lokale Variable "jtargetRps" auf "160"
-    Und TGR setze lokale Variable "prometheusCollectorDelayS" auf "90"
-    Und TGR setze lokale Variable "prometheusInitBufferS" auf "180"
     Wenn ich JMeter mit dem Plan "perf/jmeter/pdp-auth-cycle-test.jmx" starte
       | -JLOAD_DRIVER_BASE_URL         | https://${zeta_base_url}                               |
       | -JLOAD_PATH_TEMPLATE           | /loaddriver-api/{id}{proxyPath}                        |
@@ -213,22 +205,21 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
 
     Dann erstelle die JMeter-Zusammenfassung aus "out/pdp-performance-load-driver.jtl" nach "out/pdp-performance-load-driver-summary.csv"
     Dann stelle sicher, dass im JMeter-Summary "out/pdp-performance-load-driver-summary.csv" das Label "PDP Authenticate" rps > ${jtargetRps}
-    Und TGR setze lokale Variable "prometheusWindowS" auf "!{${jdurationS} + 2*${prometheusCollectorDelayS} + ${prometheusInitBufferS}}"
-    Und warte "${prometheusCollectorDelayS}" Sekunden
-    # AFO A_26491: nach dem Lastlauf festen Collector-Delay abwarten; das größere Fenster enthält
-    # auch verzögert exportierte Span-Metriken, die Rate bleibt aber auf die eigentliche Lastdauer normiert
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Spans "NonceProvider.createNonce,POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden und Divisor "${jdurationS}" Sekunden die kombinierte Rate >= 300 pro Sekunde ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden die Fehlerrate <= "1.0" Prozent ist
+    Und der Prometheus-Snapshot für Service "keycloak", Spans "NonceProvider.createNonce,POST /realms/{realm}/protocol/{protocol}/token" auf den letzten Lastlauf ausgerichtet wird
+    # AFO A_26491: der Snapshot wartet, bis der Collector alle Span-Metriken des Lastlaufs exportiert hat;
+    # die Rate wird auf die aufgezeichnete Lastdauer normiert
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Spans "NonceProvider.createNonce,POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum die kombinierte Rate >= 300 pro Sekunde ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum die Fehlerrate <= "1.0" Prozent ist
     # PDP /token: interne Keycloak-Latenz für Token-Exchange
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p99-Wert <= 1000 ms ist
     # PDP /nonce: interne Keycloak-Latenz für Nonce-Erzeugung
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p99-Wert <= 1000 ms ist
 
   @no_proxy
   @dev
@@ -245,9 +236,6 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
     Gegeben sei TGR lösche aufgezeichnete Nachrichten
     Und TGR setze lokale Variable "jdurationS" auf "60"
     Und TGR setze lokale Variable "jtargetRps" auf "310"
-    Und TGR setze lokale Variable "prometheusCollectorDelayS" auf "90"
-    Und TGR setze lokale Variable "prometheusInitBufferS" auf "180"
-    Und TGR setze lokale Variable "prometheusWindowS" auf "!{${jdurationS} + 2*${prometheusCollectorDelayS} + ${prometheusInitBufferS}}"
     Wenn 300 WebSocket Verbindungen zu "${paths.client.websocketBaseUrl}" aufgebaut werden
     Dann sind mindestens 300 WebSocket Verbindungen offen
     Wenn ich JMeter mit dem Plan "perf/jmeter/parameterized-http-test.jmx" starte
@@ -283,34 +271,36 @@ Funktionalität: Client_ressource_anfrage_Performance_SC_200
     Dann stelle sicher, dass im JMeter-Summary "out/pep-performance-rotation-load-driver-summary.csv" das Label "ZetaGuard Request" errorRate <= 1
     Dann stelle sicher, dass im JMeter-Summary "out/pep-performance-rotation-load-driver-summary.csv" das Label "ZetaGuard Request" rps > ${jtargetRps}
     Dann stelle sicher, dass im JMeter-Summary "out/pep-performance-rotation-load-driver-summary.csv" das Label "ZetaGuard Request" p99_ms <= 1000
-    Und warte "${prometheusCollectorDelayS}" Sekunden
+    Und der Prometheus-Snapshot auf den letzten Lastlauf ausgerichtet wird für:
+      | unknown_service:nginx | /pep/,/.well-known/                                                                                                           |
+      | keycloak              | NonceProvider.createNonce,POST /realms/{realm}/clients-registrations/{provider},POST /realms/{realm}/protocol/{protocol}/token |
     # AFO A_26491: kombinierte PDP-Rate nonce + token >= 300/s (Background-Reset erzwingt erneute PDP-Last bei jeder zurückgesetzten Instanz)
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Spans "NonceProvider.createNonce,POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden und Divisor "${jdurationS}" Sekunden die kombinierte Rate >= 300 pro Sekunde ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Spans "NonceProvider.createNonce,POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum die kombinierte Rate >= 300 pro Sekunde ist
     # PEP: interne nginx-Latenz
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/pep/" im Lastzeitraum der p99-Wert <= 1000 ms ist
     # Well-known: Discovery-Requests werden im Rotationsszenario durch re-initialisierte Clients erneut ausgelöst
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 7.5 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 10 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 15 ms ist
-    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der avg-Wert <= 7.5 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p90-Wert <= 10 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p95-Wert <= 15 ms ist
+    Und stelle sicher, dass in Prometheus für Service "unknown_service:nginx", Span "/.well-known/" im Lastzeitraum der p99-Wert <= 100 ms ist
     # PDP /nonce: interne Keycloak-Latenz für Nonce-Erzeugung
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "NonceProvider.createNonce" im Lastzeitraum der p99-Wert <= 1000 ms ist
     # PDP /register: Latenz für Client-Registrierung in Keycloak
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/clients-registrations/{provider}" im Lastzeitraum der p99-Wert <= 1000 ms ist
     # PDP /token: Latenz für Token-Exchange in Keycloak
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der avg-Wert <= 75 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p90-Wert <= 100 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p95-Wert <= 150 ms ist
-    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token", Fenster "${prometheusWindowS}" Sekunden der p99-Wert <= 1000 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der avg-Wert <= 75 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p90-Wert <= 100 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p95-Wert <= 150 ms ist
+    Und stelle sicher, dass in Prometheus für Service "keycloak", Span "POST /realms/{realm}/protocol/{protocol}/token" im Lastzeitraum der p99-Wert <= 1000 ms ist
     Und sind mindestens 300 WebSocket Verbindungen offen
     Und werden alle aufgebauten WebSocket Verbindungen geschlossen
     
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_25
+@tiger_proxy
 Funktionalität: Client_authentisierung_und_autorisierung_refresh_token_without_attest_SC_403
 
 
@@ -25,6 +25,7 @@
 #language:de
 
 @UseCase_01_26
+@tiger_proxy
 Funktionalität: Client_ressource_anfrage_fachdienst_SC_500
 
   @A_26560
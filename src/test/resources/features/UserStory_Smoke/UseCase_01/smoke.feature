@@ -79,6 +79,7 @@ Funktionalität: Smoke Test
   @smoke
   @Ignore
   @popp_deployment_toggle
+  @tiger_proxy
   Szenario: Einfache Ressource-Anfrage mit PoPP Toggle im Deployment
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
     Und TGR finde die letzte Anfrage mit dem Pfad "${paths.guard.helloZetaPath}"
@@ -104,6 +105,7 @@ Funktionalität: Smoke Test
   @smoke
   @Ignore
   @popp_deployment_toggle
+  @tiger_proxy
   Szenario: Einfache Ressource-Anfrage mit PoPP Toggle und impliziter Wiederherstellung der Konfiguration
     Wenn TGR sende eine leere GET Anfrage an "${paths.client.helloZeta}"
     Und TGR finde die letzte Anfrage mit dem Pfad "${paths.guard.helloZetaPath}"
@@ -41,6 +41,7 @@ Funktionalität: Telemetrie-Tests ohne dedizierten Trigger
 
   @dev
   @A_26988
+  @tiger_proxy
   Szenariogrundriss: Telemetrie-Daten Service - Fehlermeldungen
     Wenn TGR sende eine GET Anfrage an "${paths.openSearch.baseUrl}${paths.openSearch.openTelemetryLogsSearchPath}" mit folgenden Daten:
       | q                                                                                                                                                                                 | size |
@@ -118,6 +119,7 @@ Funktionalität: Telemetrie-Tests ohne dedizierten Trigger
 
   @dev
   @A_27264
+  @tiger_proxy
   Szenariogrundriss: OpenTelemetry Logs für ZETA Guard Komponenten (ohne Datenbanken)
     Wenn TGR sende eine GET Anfrage an "${paths.openSearch.baseUrl}${paths.openSearch.openTelemetryLogsSearchPath}" mit folgenden Daten:
       | q                                                                                                                                              | size |
@@ -184,6 +186,7 @@ Funktionalität: Telemetrie-Tests ohne dedizierten Trigger
 
   @dev
   @A_27264
+  @tiger_proxy
   Szenariogrundriss: OpenTelemetry Traces für ZETA Guard Komponenten (ohne Datenbanken)
     Wenn TGR sende eine GET Anfrage an "${paths.jaeger.baseUrl}${paths.jaeger.jaegerTracesSearchPath}" mit folgenden Daten:
       | service   | lookback | limit |
@@ -247,6 +250,7 @@ Funktionalität: Telemetrie-Tests ohne dedizierten Trigger
 
   @dev
   @A_27264
+  @tiger_proxy
   Szenariogrundriss: OpenTelemetry Metrics für ZETA Guard Komponenten (ohne Datenbanken)
     Wenn TGR sende eine GET Anfrage an "${paths.prometheus.baseUrl}${paths.prometheus.prometheusMetricsSearchPath}" mit folgenden Daten:
       | query                                                 |
@@ -314,6 +318,7 @@ Funktionalität: Telemetrie-Tests ohne dedizierten Trigger
 
   @dev
   @A_27492-02
+  @tiger_proxy
   Szenariogrundriss: OpenTelemetry Unterstützung von HTTP Proxy, Authorization Server, Policy Engine und Notification Service
     Wenn TGR sende eine GET Anfrage an "${paths.openSearch.baseUrl}${paths.openSearch.openTelemetryLogsSearchPath}" mit folgenden Daten:
       | q                                                                                                                                              | size |